@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# 서블릿 / 리액티브 프로필 부하 비교
+# 같은 스텁 지연 분포와 부하 조건으로 두 프로필을 차례로 측정하고 결과를 나란히 출력
+#
+# 사용법: scripts/compare-web-stacks.sh [scenario] [concurrency] [duration] [latency]
+#   scripts/compare-web-stacks.sh chat-message 2000 60 lognormal:800:0.5
+set -euo pipefail
+
+SCENARIO=${1:-chat-message}
+CONCURRENCY=${2:-1000}
+DURATION=${3:-60}
+LATENCY=${4:-lognormal:800:0.5}
+OUT_DIR=build/reports/loadtest
+
+cd "$(dirname "$0")/.."
+
+for profile in servlet reactive; do
+    ./gradlew -q loadTest -PloadTestArgs="--profile=${profile} --scenario=${SCENARIO} \
+        --concurrency=${CONCURRENCY} --duration=${DURATION} --warmup=10 --latency=${LATENCY} \
+        --output=${OUT_DIR}/compare-${profile}.json"
+done
+
+printf '\n%-10s %10s %8s %9s %9s %9s\n' profile "req/s" errors "p50(ms)" "p95(ms)" "p99(ms)"
+for profile in servlet reactive; do
+    jq -r --arg p "$profile" \
+        '[$p, (.total.throughput|floor), .total.errors, .total.latencyMillis.p50, .total.latencyMillis.p95, .total.latencyMillis.p99] | @tsv' \
+        "${OUT_DIR}/compare-${profile}.json" \
+        | awk -F'\t' '{ printf "%-10s %10s %8s %9s %9s %9s\n", $1, $2, $3, $4, $5, $6 }'
+done
@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# 기동 시간 비교 (일반 이미지 / 빠른 기동 이미지)
+# 컨테이너 시작부터 /api/chat/health가 처음 200을 응답할 때까지의 시간을 반복 측정해 중앙값/최소/최대 출력
+# 두 이미지 모두 같은 PostgreSQL 컨테이너, 같은 CPU/메모리 제한으로 측정
+#
+# 사용법: scripts/measure-startup.sh [runs] [cpus] [memory]
+#   scripts/measure-startup.sh 5 2 1g
+set -euo pipefail
+
+RUNS=${1:-5}
+CPUS=${2:-2}
+MEMORY=${3:-1g}
+NETWORK=chatboat-startup
+DB=chatboat-startup-db
+APP=chatboat-startup-app
+PORT=28080
+OUT_DIR=build/reports/startup
+
+cd "$(dirname "$0")/.."
+mkdir -p "${OUT_DIR}"
+
+cleanup() {
+    docker rm -f "${APP}" "${DB}" >/dev/null 2>&1 || true
+    docker network rm "${NETWORK}" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker build -q -t chatboat:standard . >/dev/null
+docker build -q --build-arg FAST_STARTUP=true -t chatboat:fast . >/dev/null
+
+docker network create "${NETWORK}" >/dev/null
+docker run -d --name "${DB}" --network "${NETWORK}" \
+    -e POSTGRES_DB=chatboat -e POSTGRES_USER=chatboat -e POSTGRES_PASSWORD=chatboat123 \
+    postgres:15-alpine >/dev/null
+until docker exec "${DB}" pg_isready -U chatboat -d chatboat >/dev/null 2>&1; do sleep 1; done
+
+now_ms() { perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000'; }
+
+measure() {
+    local image=$1
+    local start end
+    start=$(now_ms)
+    docker run -d --name "${APP}" --network "${NETWORK}" --cpus="${CPUS}" --memory="${MEMORY}" \
+        -e DB_HOST="${DB}" -e OPENAI_API_KEY=startup-test -p "${PORT}:2800" "${image}" >/dev/null
+    until curl -sf "http://localhost:${PORT}/api/chat/health" >/dev/null 2>&1; do
+        if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+            echo "기동 시간 초과: ${image}" >&2
+            docker logs "${APP}" | tail -20 >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(now_ms)
+    docker rm -f "${APP}" >/dev/null
+    echo $(( end - start ))
+}
+
+printf '%-18s %8s %8s %8s\n' image "p50(ms)" "min(ms)" "max(ms)"
+for image in chatboat:standard chatboat:fast; do
+    result="${OUT_DIR}/${image#chatboat:}.txt"
+    : > "${result}"
+    # 첫 실행은 이미지/DB 캐시 워밍업으로 버림
+    measure "${image}" >/dev/null
+    for _ in $(seq "${RUNS}"); do
+        measure "${image}" >> "${result}"
+    done
+    sort -n "${result}" | awk -v name="${image}" '
+        { v[NR] = $1 }
+        END { printf "%-18s %8d %8d %8d\n", name, v[int((NR + 1) / 2)], v[1], v[NR] }'
+done
@@ -0,0 +1,60 @@
+package com.app.chatboat.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 벤치마크 공용 픽스처
+ * 실제 업로드 문서와 비슷한 형태의 텍스트와 샘플 PDF를 제공
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SAMPLE_PDF_RESOURCE = "/pdf/sample.pdf";
+
+    private static final String PARAGRAPH = """
+            제3장 주문 처리 절차
+            주문 생성 시 재고를 확인하고, 품절 상품(SOLDOUT_YN='Y')은 주문할 수 없습니다.
+            결제 대기(WAIT) 상태에서는 결제 완료, 결제 실패, 주문 취소가 가능합니다.
+            The order service validates the payment amount against the order total before
+            transitioning the order to DONE. Failed payments move the order to FAIL and the
+            customer may retry the payment or cancel the order.
+            에러 코드 1050은 상품 재고가 부족한 경우에 반환됩니다.
+
+            """;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 지정한 크기(MB, UTF-8 기준)에 근접한 문서 텍스트 생성
+     */
+    public static String documentText(int megabytes) {
+        int targetBytes = megabytes * 1024 * 1024;
+        int paragraphBytes = PARAGRAPH.getBytes(java.nio.charset.StandardCharsets.UTF_8).length;
+        int repeat = Math.max(1, targetBytes / paragraphBytes);
+
+        var builder = new StringBuilder(repeat * PARAGRAPH.length());
+        for (int i = 0; i < repeat; i++) {
+            builder.append(PARAGRAPH);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 클래스패스의 샘플 PDF를 임시 파일로 복사
+     */
+    public static Path copySamplePdf() throws IOException {
+        Path target = Files.createTempFile("chatboat-bench-", ".pdf");
+        target.toFile().deleteOnExit();
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(SAMPLE_PDF_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("샘플 PDF를 찾을 수 없습니다: " + SAMPLE_PDF_RESOURCE);
+            }
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+}
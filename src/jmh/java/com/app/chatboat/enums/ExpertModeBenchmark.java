@@ -0,0 +1,28 @@
+package com.app.chatboat.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExpertMode.fromCode 조회 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpertModeBenchmark {
+
+    @Param({"java", "javascript", "general", "invalid"})
+    private String code;
+
+    @Benchmark
+    public ExpertMode fromCode() {
+        return ExpertMode.fromCode(code);
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.chatboat.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 도메인 컨텍스트 생성 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderDomainKnowledgeBenchmark {
+
+    @Param({"ORDER_STATUS", "ERROR_CODE", "UNRELATED", "LONG_MIXED"})
+    private String messageType;
+
+    private OrderDomainKnowledgeService service;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        service = new OrderDomainKnowledgeService();
+        message = switch (messageType) {
+            case "ORDER_STATUS" -> "결제대기(WAIT) 상태에서 주문 취소가 가능한가요?";
+            case "ERROR_CODE" -> "주문할 때 error 1050 오류가 발생했는데 무슨 뜻인가요?";
+            case "UNRELATED" -> "Spring Boot에서 JPA 영속성 컨텍스트는 어떻게 동작하나요?";
+            case "LONG_MIXED" -> ("장바구니에 담은 상품을 주문하려는데 재고 수량이 부족하다고 나오고 "
+                    + "결제 금액도 맞지 않는 것 같습니다. payment amount mismatch error가 있나요? ").repeat(6);
+            default -> throw new IllegalArgumentException("알 수 없는 메시지 유형: " + messageType);
+        };
+    }
+
+    @Benchmark
+    public String buildDomainContext() {
+        return service.buildDomainContext(message);
+    }
+    
+    /**
+     * 비교 기준: 카테고리별 stream 스캔 + 매 호출 문자열 재조립 방식
+     */
+    @Benchmark
+    public String buildDomainContextLegacyBaseline() {
+        return LegacyDomainContext.build(message);
+    }
+    
+    /**
+     * Aho-Corasick 도입 이전 구현 (벤치마크 비교용)
+     */
+    static final class LegacyDomainContext {
+        
+        static String build(String message) {
+            var contextBuilder = new StringBuilder();
+            if (containsAny(message, "주문", "상태", "생성", "결제", "완료", "실패", "취소", "order", "status")) {
+                contextBuilder.append("\n[주문 상태 관리]\n주문 상태 플로우:\n")
+                        .append(render(OrderDomainKnowledgeService.ORDER_STATUS_FLOW))
+                        .append("\n상태별 가능한 액션:\n")
+                        .append(OrderDomainKnowledgeService.STATUS_ACTIONS.entrySet().stream()
+                                .map(entry -> String.format("- %s: %s", entry.getKey(), String.join(", ", entry.getValue())))
+                                .reduce((a, b) -> a + "\n" + b)
+                                .orElse(""));
+            }
+            if (containsAny(message, "재고", "품절", "수량", "stock", "soldout", "quantity")) {
+                contextBuilder.append("\n[재고 관리 규칙]\n");
+            }
+            if (containsAny(message, "결제", "금액", "payment", "amount", "pg")) {
+                contextBuilder.append("\n[결제 처리 규칙]\n");
+            }
+            if (containsAny(message, "장바구니", "카트", "cart", "바구니")) {
+                contextBuilder.append("\n[장바구니 관리]\n");
+            }
+            if (containsAny(message, "에러", "오류", "실패", "error", "fail", "exception")) {
+                contextBuilder.append("\n[에러 코드 및 해결 방법]\n")
+                        .append(render(OrderDomainKnowledgeService.ERROR_CODES));
+            }
+            return contextBuilder.toString();
+        }
+        
+        private static boolean containsAny(String message, String... keywords) {
+            return List.of(keywords).stream().anyMatch(message::contains);
+        }
+        
+        private static String render(Map<String, String> entries) {
+            return entries.entrySet().stream()
+                    .map(entry -> String.format("- %s: %s", entry.getKey(), entry.getValue()))
+                    .reduce((a, b) -> a + "\n" + b)
+                    .orElse("");
+        }
+    }
+}
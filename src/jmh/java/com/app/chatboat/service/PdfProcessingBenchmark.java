@@ -0,0 +1,56 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.benchmark.BenchmarkFixtures;
+import com.app.chatboat.config.OpenAiProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번들된 샘플 PDF 기반 텍스트 추출 / 기본 요약 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PdfProcessingBenchmark {
+
+    private PdfProcessingService pdfProcessingService;
+    private Path samplePdf;
+    private String sampleText;
+
+    @Setup
+    public void setUp() throws IOException {
+        pdfProcessingService = new PdfProcessingService(
+                null,
+                new OpenAiProperties("bench-key", "gpt-4o", 2000, 0.7),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+        samplePdf = BenchmarkFixtures.copySamplePdf();
+        sampleText = pdfProcessingService.extractTextFromPdf(samplePdf.toString());
+    }
+
+    @Benchmark
+    public String extractTextFromPdf() throws IOException {
+        return pdfProcessingService.extractTextFromPdf(samplePdf.toString());
+    }
+
+    @Benchmark
+    public String generateBasicSummary() {
+        return pdfProcessingService.generateBasicSummary(sampleText);
+    }
+}
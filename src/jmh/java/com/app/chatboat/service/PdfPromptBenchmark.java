@@ -0,0 +1,73 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.benchmark.BenchmarkFixtures;
+import com.app.chatboat.config.FastPathProperties;
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.enums.ExpertMode;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF 참조 채팅의 시스템 프롬프트 조립 벤치마크 (1~5MB 문서)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PdfPromptBenchmark {
+
+    @Param({"1", "5"})
+    private int documentMegabytes;
+
+    @Param({"general", "java"})
+    private String expertMode;
+
+    private ChatGptService chatGptService;
+    private PdfDocument pdfDocument;
+    private ExpertMode mode;
+
+    @Setup
+    public void setUp() {
+        chatGptService = new ChatGptService(
+                new OpenAiProperties("bench-key", "gpt-4o", 2000, 0.7),
+                null,
+                new OrderDomainKnowledgeService(),
+                new OrderFastPathService(new FastPathProperties(null, null, null), new SimpleMeterRegistry()),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+        pdfDocument = PdfDocument.builder()
+                .id(1L)
+                .fileName("bench.pdf")
+                .originalFileName("주문-운영-매뉴얼.pdf")
+                .filePath("/tmp/bench.pdf")
+                .fileSize((long) documentMegabytes * 1024 * 1024)
+                .extractedText(BenchmarkFixtures.documentText(documentMegabytes))
+                .summary("주문 처리 절차와 에러 코드를 설명하는 운영 매뉴얼입니다.")
+                .uploadedAt(LocalDateTime.of(2025, 9, 1, 10, 0))
+                .status(PdfDocument.ProcessingStatus.COMPLETED)
+                .build();
+        mode = ExpertMode.fromCode(expertMode);
+    }
+
+    @Benchmark
+    public List<ChatMessage> buildPdfPrompt() {
+        return chatGptService.buildPdfPrompt(mode, pdfDocument, "주문 취소는 어떤 상태에서 가능한가요?").toMessages();
+    }
+}
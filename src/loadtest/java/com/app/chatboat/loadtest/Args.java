@@ -0,0 +1,29 @@
+package com.app.chatboat.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형식의 명령행 인자 파서
+ */
+final class Args {
+
+    private Args() {
+    }
+
+    static Map<String, String> parse(String[] args) {
+        var parsed = new LinkedHashMap<String, String>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                parsed.put(arg.substring(2), "true");
+            } else {
+                parsed.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.chatboat.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 응답 지연 분포
+ * 형식: fixed:&lt;ms&gt; | uniform:&lt;minMs&gt;:&lt;maxMs&gt; | lognormal:&lt;medianMs&gt;:&lt;sigma&gt;
+ */
+public sealed interface LatencyDistribution {
+
+    long sampleMillis();
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":");
+        return switch (parts[0]) {
+            case "fixed" -> new Fixed(Long.parseLong(parts[1]));
+            case "uniform" -> new Uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            case "lognormal" -> new LogNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            default -> throw new IllegalArgumentException("지원하지 않는 지연 분포입니다: " + spec);
+        };
+    }
+
+    record Fixed(long millis) implements LatencyDistribution {
+        @Override
+        public long sampleMillis() {
+            return millis;
+        }
+    }
+
+    record Uniform(long minMillis, long maxMillis) implements LatencyDistribution {
+        @Override
+        public long sampleMillis() {
+            return ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+        }
+    }
+
+    /**
+     * 중앙값 medianMillis, 로그 표준편차 sigma의 로그정규 분포 (LLM 응답 시간의 긴 꼬리 재현)
+     */
+    record LogNormal(double medianMillis, double sigma) implements LatencyDistribution {
+        @Override
+        public long sampleMillis() {
+            double gaussian = ThreadLocalRandom.current().nextGaussian();
+            return Math.round(medianMillis * Math.exp(sigma * gaussian));
+        }
+    }
+}
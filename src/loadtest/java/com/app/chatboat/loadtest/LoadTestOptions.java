@@ -0,0 +1,53 @@
+package com.app.chatboat.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ *
+ * @param scenario    실행할 시나리오
+ * @param rps         목표 초당 요청 수 (0보다 크면 open-loop, 아니면 closed-loop)
+ * @param concurrency closed-loop 동시 사용자 수 / open-loop 최대 동시 요청 수
+ * @param duration    측정 시간
+ * @param warmup      측정 전 워밍업 시간 (결과에서 제외)
+ * @param profile     애플리케이션 웹 스택 프로필 (servlet | reactive)
+ * @param target      이미 실행 중인 애플리케이션 주소 (null이면 스텁 + 애플리케이션을 직접 기동)
+ * @param output      JSON 결과 파일 경로
+ * @param stub        OpenAI 스텁 서버 설정
+ */
+public record LoadTestOptions(
+        Scenario scenario,
+        int rps,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        String profile,
+        String target,
+        Path output,
+        StubOptions stub
+) {
+
+    public static LoadTestOptions from(Map<String, String> args) {
+        return new LoadTestOptions(
+                Scenario.fromCode(args.getOrDefault("scenario", "mixed")),
+                Integer.parseInt(args.getOrDefault("rps", "0")),
+                Integer.parseInt(args.getOrDefault("concurrency", "32")),
+                Duration.ofSeconds(Long.parseLong(args.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(args.getOrDefault("warmup", "10"))),
+                args.getOrDefault("profile", "servlet"),
+                args.get("target"),
+                Path.of(args.getOrDefault("output", "build/reports/loadtest/result.json")),
+                StubOptions.from(args)
+        );
+    }
+
+    public boolean isReactive() {
+        return "reactive".equals(profile);
+    }
+
+    public boolean isOpenLoop() {
+        return rps > 0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.app.chatboat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 결과 집계
+ * 지연 시간은 마이크로초 단위 HdrHistogram (유효 자릿수 3)으로 기록
+ */
+public class LoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int TRANSPORT_ERROR = -1;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Endpoint total = new Endpoint();
+
+    /**
+     * @param status HTTP 상태 코드 (연결/타임아웃 등 전송 오류는 -1)
+     */
+    public void record(Scenario scenario, int status, long latencyNanos) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        endpoints.computeIfAbsent(scenario.getCode(), key -> new Endpoint()).record(status, micros);
+        total.record(status, micros);
+    }
+
+    public void recordTransportError(Scenario scenario, long latencyNanos) {
+        record(scenario, TRANSPORT_ERROR, latencyNanos);
+    }
+
+    public void print(LoadTestOptions options, double elapsedSeconds) {
+        System.out.printf("%n=== 부하 테스트 결과: %s [%s] (%s, %.1fs) ===%n",
+                options.scenario().getCode(), options.profile(), mode(options), elapsedSeconds);
+        System.out.printf("%-14s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> printRow(name, endpoint, elapsedSeconds));
+        printRow("total", total, elapsedSeconds);
+        System.out.println("status: " + total.statusCounts());
+    }
+
+    public void write(LoadTestOptions options, double elapsedSeconds) throws IOException {
+        var mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("scenario", options.scenario().getCode());
+        root.put("mode", mode(options));
+        root.put("profile", options.profile());
+        root.put("durationSeconds", elapsedSeconds);
+        root.put("stubLatency", options.stub().latency().toString());
+        root.set("total", total.toJson(mapper, elapsedSeconds));
+        ObjectNode byEndpoint = root.putObject("endpoints");
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> byEndpoint.set(name, endpoint.toJson(mapper, elapsedSeconds)));
+
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        mapper.writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), root);
+        System.out.println("결과 저장: " + options.output().toAbsolutePath());
+    }
+
+    private static String mode(LoadTestOptions options) {
+        return options.isOpenLoop()
+                ? "open-loop " + options.rps() + " rps"
+                : "closed-loop " + options.concurrency() + " users";
+    }
+
+    private static void printRow(String name, Endpoint endpoint, double elapsedSeconds) {
+        Histogram histogram = endpoint.histogram;
+        System.out.printf("%-14s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / elapsedSeconds,
+                endpoint.errorCount(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Endpoint {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        void record(int status, long micros) {
+            histogram.recordValue(micros);
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+
+        long errorCount() {
+            return statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 400)
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+        }
+
+        Map<String, Long> statusCounts() {
+            var counts = new TreeMap<String, Long>();
+            statuses.forEach((status, count) ->
+                    counts.put(status == TRANSPORT_ERROR ? "transport-error" : String.valueOf(status), count.sum()));
+            return counts;
+        }
+
+        ObjectNode toJson(ObjectMapper mapper, double elapsedSeconds) {
+            ObjectNode node = mapper.createObjectNode();
+            node.put("requests", histogram.getTotalCount());
+            node.put("throughput", histogram.getTotalCount() / elapsedSeconds);
+            node.put("errors", errorCount());
+            node.set("status", mapper.valueToTree(statusCounts()));
+            ObjectNode latency = node.putObject("latencyMillis");
+            latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+            latency.put("p95", millis(histogram.getValueAtPercentile(95)));
+            latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+            latency.put("max", millis(histogram.getMaxValue()));
+            latency.put("mean", histogram.getMean() / 1000.0);
+            return node;
+        }
+    }
+}
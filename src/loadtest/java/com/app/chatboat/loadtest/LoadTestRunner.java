@@ -0,0 +1,294 @@
+package com.app.chatboat.loadtest;
+
+import com.app.chatboat.ChatboatApplication;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 테스트 실행기
+ * OpenAI 스텁 서버와 애플리케이션(H2)을 같은 JVM에서 기동한 뒤 /api/chat/*, /api/pdf/*에 부하를 발생시킴
+ * --profile=reactive로 WebFlux 프로필을 기동해 서블릿 프로필과 같은 조건으로 비교할 수 있음
+ *
+ * - open-loop (--rps): 목표 발사 시각 기준으로 지연 시간을 측정 (coordinated omission 방지)
+ * - closed-loop (--concurrency): 동시 사용자 수만큼 요청을 연속 실행
+ */
+public class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(120);
+    private static final int SAMPLE_PAGES = 5;
+    private static final int SAMPLE_LINES_PER_PAGE = 45;
+
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadTestOptions.from(Args.parse(args));
+        new LoadTestRunner(options).run();
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        if (options.target() != null) {
+            execute(URI.create(withTrailingSlash(options.target())), null);
+            return;
+        }
+
+        try (var stub = new OpenAiStubServer(options.stub())) {
+            stub.start();
+            try (var app = startApplication(stub.baseUrl())) {
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                execute(URI.create("http://127.0.0.1:" + port + "/"), app);
+            }
+            System.out.printf("스텁 호출: %d건 (주입 오류 %d건)%n", stub.requestCount(), stub.injectedErrorCount());
+        }
+    }
+
+    private void execute(URI baseUri, ConfigurableApplicationContext app) throws Exception {
+        long pdfId = options.scenario().requiresPdf() ? preparePdf(baseUri, app) : 0L;
+
+        if (!options.warmup().isZero()) {
+            System.out.printf("워밍업 %ds...%n", options.warmup().toSeconds());
+            drive(baseUri, pdfId, options.warmup(), new LoadTestReport());
+        }
+
+        System.out.printf("측정 %ds...%n", options.duration().toSeconds());
+        var report = new LoadTestReport();
+        long started = System.nanoTime();
+        drive(baseUri, pdfId, options.duration(), report);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        report.print(options, elapsedSeconds);
+        report.write(options, elapsedSeconds);
+    }
+
+    private void drive(URI baseUri, long pdfId, Duration duration, LoadTestReport report) throws InterruptedException {
+        if (options.isOpenLoop()) {
+            openLoop(baseUri, pdfId, duration, report);
+        } else {
+            closedLoop(baseUri, pdfId, duration, report);
+        }
+    }
+
+    /**
+     * 고정 간격으로 요청을 발사하고, 응답 지연은 실제 전송 시각이 아닌 목표 발사 시각부터 측정
+     * 동시 요청이 concurrency를 넘으면 발사가 밀리며, 밀린 시간도 지연에 포함됨
+     */
+    private void openLoop(URI baseUri, long pdfId, Duration duration, LoadTestReport report) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rps();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        var inFlight = new Semaphore(options.concurrency());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended += intervalNanos) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                inFlight.acquire();
+                long intendedStart = intended;
+                executor.execute(() -> {
+                    try {
+                        send(baseUri, pdfId, intendedStart, report);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void closedLoop(URI baseUri, long pdfId, Duration duration, LoadTestReport report) {
+        long end = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.concurrency(); user++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        send(baseUri, pdfId, System.nanoTime(), report);
+                    }
+                });
+            }
+        }
+    }
+
+    private void send(URI baseUri, long pdfId, long startNanos, LoadTestReport report) {
+        Scenario scenario = options.scenario().pick();
+        HttpRequest request = HttpRequest.newBuilder(scenario.request(baseUri, pdfId), (name, value) -> true)
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            report.record(scenario, response.statusCode(), System.nanoTime() - startNanos);
+        } catch (IOException e) {
+            report.recordTransportError(scenario, System.nanoTime() - startNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 스텁 서버를 바라보는 애플리케이션 기동 (H2 메모리 DB, 임시 업로드 디렉토리)
+     */
+    private ConfigurableApplicationContext startApplication(String stubBaseUrl) throws IOException {
+        var properties = new HashMap<String, Object>();
+        properties.put("server.port", 0);
+        properties.put("openai.api-key", "load-test-key");
+        properties.put("openai.base-url", stubBaseUrl);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("app.jobs.claim-mode", "compare-and-set");
+        properties.put("app.pdf.upload-dir", Files.createTempDirectory("chatboat-loadtest").toString());
+        properties.put("logging.level.root", "WARN");
+
+        return new SpringApplicationBuilder(ChatboatApplication.class)
+                .profiles(options.isReactive() ? new String[]{"reactive"} : new String[0])
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * 시나리오용 PDF 준비
+     * 리액티브 프로필은 PDF 업로드 API가 없으므로 같은 JVM의 리포지토리에 직접 저장
+     */
+    private long preparePdf(URI baseUri, ConfigurableApplicationContext app) throws IOException, InterruptedException {
+        if (app instanceof ReactiveWebApplicationContext) {
+            return seedPdf(app.getBean(PdfDocumentRepository.class));
+        }
+        return awaitProcessed(baseUri, uploadPdf(baseUri));
+    }
+
+    private long seedPdf(PdfDocumentRepository repository) {
+        var text = new StringBuilder();
+        for (int pageNumber = 1; pageNumber <= SAMPLE_PAGES; pageNumber++) {
+            for (int line = 1; line <= SAMPLE_LINES_PER_PAGE; line++) {
+                text.append(sampleLine(pageNumber, line)).append('\n');
+            }
+        }
+        var document = PdfDocument.builder()
+                .fileName("loadtest.pdf")
+                .originalFileName("loadtest.pdf")
+                .filePath("loadtest.pdf")
+                .fileSize((long) text.length())
+                .extractedText(text.toString())
+                .summary("부하 테스트용 주문 처리 매뉴얼")
+                .uploadedAt(LocalDateTime.now())
+                .processedAt(LocalDateTime.now())
+                .status(PdfDocument.ProcessingStatus.COMPLETED)
+                .build();
+        return repository.save(document).getId();
+    }
+
+    /**
+     * 시나리오용 PDF 업로드 후 문서 ID 반환
+     */
+    private long uploadPdf(URI baseUri) throws IOException, InterruptedException {
+        String boundary = "loadtest-" + UUID.randomUUID();
+        var body = new ByteArrayOutputStream();
+        body.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"loadtest.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(samplePdf());
+        body.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        var request = HttpRequest.newBuilder(baseUri.resolve("api/pdf/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("PDF 업로드 실패: " + response.statusCode() + " " + response.body());
+        }
+        return new ObjectMapper().readTree(response.body()).path("id").asLong();
+    }
+
+    /**
+     * 업로드된 PDF는 작업 큐 워커가 처리하므로 COMPLETED가 될 때까지 대기
+     */
+    private long awaitProcessed(URI baseUri, long pdfId) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        var request = HttpRequest.newBuilder(baseUri.resolve("api/pdf/" + pdfId)).GET().timeout(REQUEST_TIMEOUT).build();
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            String status = new ObjectMapper().readTree(response.body()).path("status").asText();
+            if ("COMPLETED".equals(status)) {
+                return pdfId;
+            }
+            if ("FAILED".equals(status)) {
+                throw new IllegalStateException("PDF 처리 실패: " + response.body());
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("PDF 처리 대기 시간 초과: " + pdfId);
+    }
+
+    private static byte[] samplePdf() throws IOException {
+        try (var document = new PDDocument(); var out = new ByteArrayOutputStream()) {
+            for (int pageNumber = 1; pageNumber <= SAMPLE_PAGES; pageNumber++) {
+                var page = new PDPage();
+                document.addPage(page);
+                try (var content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 11);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 1; line <= SAMPLE_LINES_PER_PAGE; line++) {
+                        content.showText(sampleLine(pageNumber, line));
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static String sampleLine(int pageNumber, int line) {
+        return "Order processing manual page " + pageNumber + " line " + line
+                + ": WAIT orders can be cancelled, DONE orders require a refund.";
+    }
+
+    private static String withTrailingSlash(String url) {
+        return url.endsWith("/") ? url : url + "/";
+    }
+}
@@ -0,0 +1,241 @@
+package com.app.chatboat.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OpenAI 호환 스텁 서버 (POST /v1/chat/completions)
+ * - 설정한 분포로 응답 지연 주입, 429/5xx 오류 주입
+ * - usage 반환 (prompt_tokens ≈ 문자 수 / 4, 이전에 본 system prefix는 cached_tokens로 집계)
+ * - stream=true 요청은 SSE 청크로 응답
+ */
+public class OpenAiStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int MIN_CACHEABLE_TOKENS = 1024;   // OpenAI 프롬프트 캐시 최소 길이
+
+    private final StubOptions options;
+    private final HttpServer server;
+    private final Set<String> seenPrefixes = ConcurrentHashMap.newKeySet();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    public OpenAiStubServer(StubOptions options) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", options.port()), 512);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/v1/chat/completions", this::handle);
+    }
+
+    public static void main(String[] args) throws IOException {
+        var stub = new OpenAiStubServer(StubOptions.from(Args.parse(args)));
+        stub.start();
+        System.out.printf("OpenAI 스텁 서버 실행 중: %s (지연 %s)%n", stub.baseUrl(), stub.options.latency());
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "invalid_request_error", "Method not allowed");
+                return;
+            }
+
+            JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+            if (injectError(exchange)) {
+                return;
+            }
+
+            Usage usage = usageOf(request);
+            long latency = options.latency().sampleMillis();
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, request, usage, latency);
+            } else {
+                sleep(latency);
+                sendJson(exchange, 200, completion(request, usage));
+            }
+        }
+    }
+
+    private boolean injectError(HttpExchange exchange) throws IOException {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < options.rateLimitRatio()) {
+            injectedErrors.increment();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, 429, "rate_limit_exceeded", "Rate limit reached (stub)");
+            return true;
+        }
+        if (roll < options.rateLimitRatio() + options.serverErrorRatio()) {
+            injectedErrors.increment();
+            int status = ThreadLocalRandom.current().nextBoolean() ? 500 : 503;
+            sendError(exchange, status, "server_error", "The server had an error (stub)");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 프롬프트 토큰 추정 및 캐시 적중 시뮬레이션
+     * 마지막 user 메시지 이전의 system 메시지 묶음을 prefix로 보고, 이미 본 prefix면 캐시 적중으로 처리
+     */
+    private Usage usageOf(JsonNode request) {
+        var prefix = new StringBuilder();
+        int totalChars = 0;
+        for (JsonNode message : request.path("messages")) {
+            String content = message.path("content").asText("");
+            totalChars += content.length();
+            if ("system".equals(message.path("role").asText())) {
+                prefix.append(content).append('\0');
+            }
+        }
+
+        int promptTokens = Math.max(1, totalChars / CHARS_PER_TOKEN);
+        int prefixTokens = prefix.length() / CHARS_PER_TOKEN;
+        int cachedTokens = 0;
+        if (prefixTokens >= MIN_CACHEABLE_TOKENS && !seenPrefixes.add(prefix.toString())) {
+            cachedTokens = prefixTokens - prefixTokens % 128;   // OpenAI는 128 토큰 단위로 캐시
+        }
+        return new Usage(promptTokens, cachedTokens, options.completionTokens());
+    }
+
+    private ObjectNode completion(JsonNode request, Usage usage) {
+        ObjectNode response = MAPPER.createObjectNode();
+        response.put("id", "chatcmpl-stub-" + UUID.randomUUID());
+        response.put("object", "chat.completion");
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("model", request.path("model").asText("stub"));
+
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message")
+                .put("role", "assistant")
+                .put("content", answerText(usage.completionTokens()));
+        choice.put("finish_reason", "stop");
+
+        response.set("usage", usageNode(usage));
+        return response;
+    }
+
+    private static ObjectNode usageNode(Usage usage) {
+        ObjectNode usageNode = MAPPER.createObjectNode();
+        usageNode.put("prompt_tokens", usage.promptTokens());
+        usageNode.put("completion_tokens", usage.completionTokens());
+        usageNode.put("total_tokens", usage.promptTokens() + usage.completionTokens());
+        usageNode.putObject("prompt_tokens_details").put("cached_tokens", usage.cachedTokens());
+        return usageNode;
+    }
+
+    /**
+     * SSE 스트리밍 응답 - 전체 지연 시간을 청크 수로 나눠 토큰 생성 속도를 흉내냄
+     */
+    private void stream(HttpExchange exchange, JsonNode request, Usage usage, long latency) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        int chunks = Math.max(1, options.streamChunks());
+        String text = answerText(usage.completionTokens());
+        int chunkSize = Math.max(1, text.length() / chunks);
+        long interval = latency / chunks;
+        String id = "chatcmpl-stub-" + UUID.randomUUID();
+
+        OutputStream body = exchange.getResponseBody();
+        for (int start = 0; start < text.length(); start += chunkSize) {
+            sleep(interval);
+            String piece = text.substring(start, Math.min(text.length(), start + chunkSize));
+            ObjectNode chunk = MAPPER.createObjectNode();
+            chunk.put("id", id);
+            chunk.put("object", "chat.completion.chunk");
+            chunk.put("model", request.path("model").asText("stub"));
+            ObjectNode choice = chunk.putArray("choices").addObject();
+            choice.put("index", 0);
+            choice.putObject("delta").put("content", piece);
+            choice.putNull("finish_reason");
+            writeEvent(body, chunk.toString());
+        }
+        if (request.path("stream_options").path("include_usage").asBoolean(false)) {
+            ObjectNode usageChunk = MAPPER.createObjectNode();
+            usageChunk.put("id", id);
+            usageChunk.put("object", "chat.completion.chunk");
+            usageChunk.putArray("choices");
+            usageChunk.set("usage", usageNode(usage));
+            writeEvent(body, usageChunk.toString());
+        }
+        writeEvent(body, "[DONE]");
+    }
+
+    private static void writeEvent(OutputStream body, String data) throws IOException {
+        body.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+
+    private static String answerText(int completionTokens) {
+        return "스텁 응답입니다. ".repeat(Math.max(1, completionTokens * CHARS_PER_TOKEN / 10));
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String type, String message) throws IOException {
+        ObjectNode error = MAPPER.createObjectNode();
+        error.putObject("error")
+                .put("message", message)
+                .put("type", type)
+                .putNull("param")
+                .put("code", type);
+        sendJson(exchange, status, error);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Usage(int promptTokens, int cachedTokens, int completionTokens) {}
+}
@@ -0,0 +1,102 @@
+package com.app.chatboat.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 시나리오
+ * mixed는 실제 트래픽 비율을 흉내낸 가중치 조합
+ */
+public enum Scenario {
+
+    CHAT_MESSAGE("chat-message", 40),
+    CHAT_EXPERT("chat-expert", 20),
+    CHAT_PDF("chat-pdf", 20),
+    PDF_LIST("pdf-list", 15),
+    PDF_SUMMARIZE("pdf-summarize", 5),
+    CHAT_STREAM("chat-stream", 0),          // 리액티브 프로필 전용 SSE 스트리밍
+    MIXED("mixed", 0);
+
+    private static final List<String> MESSAGES = List.of(
+            "안녕하세요! 오늘 날씨 이야기를 해볼까요?",
+            "에러 1050이 무슨 뜻이야?",                   // 주문 Fast-path 적중
+            "WAIT 상태에서 취소 가능?",                    // 주문 Fast-path 적중
+            "주문 상태가 바뀌는 흐름을 자세히 설명해주세요.",
+            "Spring Boot에서 트랜잭션 전파 옵션을 설명해주세요."
+    );
+
+    private static final List<String> EXPERT_MODES = List.of("java", "python", "javascript", "general");
+
+    private final String code;
+    private final int mixWeight;
+
+    Scenario(String code, int mixWeight) {
+        this.code = code;
+        this.mixWeight = mixWeight;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static Scenario fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 시나리오입니다: " + code));
+    }
+
+    /**
+     * PDF 문서가 필요한 시나리오 여부
+     */
+    public boolean requiresPdf() {
+        return this == CHAT_PDF || this == PDF_SUMMARIZE || this == MIXED;
+    }
+
+    /**
+     * 실제로 실행할 단일 시나리오 선택 (mixed는 가중치에 따라 선택)
+     */
+    public Scenario pick() {
+        if (this != MIXED) {
+            return this;
+        }
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        for (Scenario scenario : values()) {
+            roll -= scenario.mixWeight;
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return CHAT_MESSAGE;
+    }
+
+    public HttpRequest request(URI baseUri, long pdfId) {
+        var random = ThreadLocalRandom.current();
+        String message = MESSAGES.get(random.nextInt(MESSAGES.size()));
+        return switch (this) {
+            case CHAT_MESSAGE -> post(baseUri, "api/chat/message", """
+                    {"role": "user", "content": "%s"}""".formatted(message));
+            case CHAT_EXPERT -> post(baseUri, "api/chat/expert", """
+                    {"role": "user", "message": "%s", "expertMode": "%s"}"""
+                    .formatted(message, EXPERT_MODES.get(random.nextInt(EXPERT_MODES.size()))));
+            case CHAT_PDF -> post(baseUri, "api/chat/pdf", """
+                    {"role": "user", "message": "%s", "pdfId": %d}""".formatted(message, pdfId));
+            case CHAT_STREAM -> post(baseUri, "api/chat/message/stream", """
+                    {"role": "user", "content": "%s"}""".formatted(message));
+            case PDF_LIST -> HttpRequest.newBuilder(baseUri.resolve("api/pdf/list")).GET().build();
+            case PDF_SUMMARIZE -> post(baseUri, "api/pdf/" + pdfId + "/summarize", """
+                    {"pdfId": %d}""".formatted(pdfId));
+            case MIXED -> throw new IllegalStateException("mixed 시나리오는 pick() 후 요청을 생성해야 합니다.");
+        };
+    }
+
+    private static HttpRequest post(URI baseUri, String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.app.chatboat.loadtest;
+
+import java.util.Map;
+
+/**
+ * OpenAI 스텁 서버 설정
+ *
+ * @param port             리스닝 포트 (0이면 임의 포트)
+ * @param latency          응답 지연 분포 (스트리밍 시 전체 생성 시간)
+ * @param rateLimitRatio   429 응답 비율 (0.0 ~ 1.0)
+ * @param serverErrorRatio 5xx 응답 비율 (0.0 ~ 1.0)
+ * @param completionTokens 응답당 생성 토큰 수
+ * @param streamChunks     스트리밍 응답 청크 수
+ */
+public record StubOptions(
+        int port,
+        LatencyDistribution latency,
+        double rateLimitRatio,
+        double serverErrorRatio,
+        int completionTokens,
+        int streamChunks
+) {
+
+    public static StubOptions from(Map<String, String> args) {
+        return new StubOptions(
+                Integer.parseInt(args.getOrDefault("port", "0")),
+                LatencyDistribution.parse(args.getOrDefault("latency", "lognormal:800:0.5")),
+                Double.parseDouble(args.getOrDefault("rate-limit-ratio", "0.0")),
+                Double.parseDouble(args.getOrDefault("server-error-ratio", "0.0")),
+                Integer.parseInt(args.getOrDefault("completion-tokens", "150")),
+                Integer.parseInt(args.getOrDefault("stream-chunks", "30"))
+        );
+    }
+}
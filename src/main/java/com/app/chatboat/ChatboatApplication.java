@@ -1,14 +1,54 @@
 package com.app.chatboat;
 
+import com.app.chatboat.config.AdmissionProperties;
+import com.app.chatboat.config.AnswerCacheProperties;
+import com.app.chatboat.config.BatchChatProperties;
+import com.app.chatboat.config.BulkImportProperties;
+import com.app.chatboat.config.ChatSocketProperties;
+import com.app.chatboat.config.ChunkedUploadProperties;
+import com.app.chatboat.config.DocumentContextCacheProperties;
+import com.app.chatboat.config.FastPathProperties;
+import com.app.chatboat.config.IngestPipelineProperties;
+import com.app.chatboat.config.JobQueueProperties;
+import com.app.chatboat.config.LlmSchedulerProperties;
+import com.app.chatboat.config.ModelRoutingProperties;
 import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.config.ReactiveChatProperties;
+import com.app.chatboat.config.RetrievalProperties;
+import com.app.chatboat.config.SummaryCacheProperties;
+import com.app.chatboat.config.TextNormalizationProperties;
+import com.app.chatboat.config.TracingProperties;
+import com.app.chatboat.config.UsageProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(OpenAiProperties.class)
+@EnableConfigurationProperties({
+        OpenAiProperties.class,
+        FastPathProperties.class,
+        ReactiveChatProperties.class,
+        BatchChatProperties.class,
+        RetrievalProperties.class,
+        ChunkedUploadProperties.class,
+        JobQueueProperties.class,
+        AnswerCacheProperties.class,
+        DocumentContextCacheProperties.class,
+        TextNormalizationProperties.class,
+        UsageProperties.class,
+        TracingProperties.class,
+        AdmissionProperties.class,
+        LlmSchedulerProperties.class,
+        ModelRoutingProperties.class,
+        ChatSocketProperties.class,
+        SummaryCacheProperties.class,
+        IngestPipelineProperties.class,
+        BulkImportProperties.class
+})
 @EnableJpaRepositories
+@EnableScheduling
 public class ChatboatApplication {
 
     public static void main(String[] args) {
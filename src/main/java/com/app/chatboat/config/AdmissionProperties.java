@@ -0,0 +1,42 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+
+/**
+ * 채팅 / PDF 요청 수락 제어 설정
+ * - interactivePaths: 채팅 요청 (동시 처리 한도 초과 시 maxQueueWait까지 대기)
+ * - heavyPaths: 요약/일괄/업로드 등 무거운 요청 (대기 없이, 대기 중인 채팅 요청이 없을 때만 heavyMaxInFlight까지 수락)
+ * - 그 외 요청(목록, 상태, 헬스 체크)은 제한하지 않음
+ * initialServiceTime은 처리 시간 측정값이 쌓이기 전 Retry-After 계산에 쓰는 추정값
+ */
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionProperties(
+        Boolean enabled,
+        Integer maxInFlight,
+        Integer maxQueueLength,
+        Duration maxQueueWait,
+        Integer heavyMaxInFlight,
+        Duration initialServiceTime,
+        Duration maxRetryAfter,
+        List<String> interactivePaths,
+        List<String> heavyPaths
+) {
+    
+    // 기본값을 가진 생성자
+    public AdmissionProperties {
+        if (enabled == null) enabled = true;
+        if (maxInFlight == null) maxInFlight = 64;
+        if (maxQueueLength == null) maxQueueLength = 128;
+        if (maxQueueWait == null) maxQueueWait = Duration.ofSeconds(2);
+        if (heavyMaxInFlight == null) heavyMaxInFlight = 8;
+        if (initialServiceTime == null) initialServiceTime = Duration.ofSeconds(5);
+        if (maxRetryAfter == null) maxRetryAfter = Duration.ofSeconds(60);
+        if (interactivePaths == null) interactivePaths = List.of("/api/chat/message", "/api/chat/expert", "/api/chat/pdf");
+        if (heavyPaths == null) heavyPaths = List.of("/api/chat/pdf/multi", "/api/chat/batch", "/api/pdf/*/summarize",
+                "/api/pdf/upload", "/api/pdf/uploads/*/complete");
+    }
+}
@@ -0,0 +1,29 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+
+/**
+ * 응답 캐시 설정 (인스턴스 로컬 L1 + PostgreSQL 공유 L2)
+ * 쓰기 주기/만료 정리 주기는 @Scheduled에서 직접 읽음 (flush-interval, purge-interval)
+ */
+@ConfigurationProperties(prefix = "app.chat.answer-cache")
+public record AnswerCacheProperties(
+        Boolean enabled,
+        Duration ttl,
+        Integer l1MaxEntries,
+        Integer writeBatchSize,
+        Integer writeQueueCapacity
+) {
+    
+    // 기본값을 가진 생성자
+    public AnswerCacheProperties {
+        if (enabled == null) enabled = true;
+        if (ttl == null) ttl = Duration.ofHours(6);
+        if (l1MaxEntries == null) l1MaxEntries = 1000;
+        if (writeBatchSize == null) writeBatchSize = 100;
+        if (writeQueueCapacity == null) writeQueueCapacity = 10000;
+    }
+}
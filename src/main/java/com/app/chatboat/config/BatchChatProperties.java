@@ -0,0 +1,23 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * 일괄 채팅 설정
+ * maxConcurrency는 모든 일괄 요청이 공유하는 업스트림 동시 호출 한도 (OpenAI 요청 한도 기준)
+ */
+@ConfigurationProperties(prefix = "app.chat.batch")
+public record BatchChatProperties(
+        Integer maxItems,
+        Integer defaultConcurrency,
+        Integer maxConcurrency
+) {
+    
+    // 기본값을 가진 생성자
+    public BatchChatProperties {
+        if (maxItems == null) maxItems = 100;
+        if (defaultConcurrency == null) defaultConcurrency = 4;
+        if (maxConcurrency == null) maxConcurrency = 8;
+    }
+}
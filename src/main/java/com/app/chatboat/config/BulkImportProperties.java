@@ -0,0 +1,30 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+
+/**
+ * 서버 디렉토리 PDF 일괄 가져오기 설정
+ * - rootDir: 가져올 수 있는 디렉토리의 루트 (요청 경로는 이 안으로 제한, 없으면 업로드 디렉토리 아래 import)
+ * - concurrency: 인스턴스 전체에서 동시에 복사/등록하는 파일 수
+ * - staleAfter: 이 시간 동안 갱신되지 않은 처리 중 파일은 중단된 것으로 보고 다시 대기 상태로
+ */
+@ConfigurationProperties(prefix = "app.pdf.bulk-import")
+public record BulkImportProperties(
+        String rootDir,
+        Integer concurrency,
+        Integer batchSize,
+        Boolean resumeOnStartup,
+        Duration staleAfter
+) {
+    
+    // 기본값을 가진 생성자
+    public BulkImportProperties {
+        if (concurrency == null) concurrency = 4;
+        if (batchSize == null) batchSize = 100;
+        if (resumeOnStartup == null) resumeOnStartup = true;
+        if (staleAfter == null) staleAfter = Duration.ofMinutes(10);
+    }
+}
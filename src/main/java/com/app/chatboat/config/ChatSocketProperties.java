@@ -0,0 +1,40 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * WebSocket 채팅 설정
+ * - maxExchanges: 연결 하나에서 동시에 진행할 수 있는 교환(채팅 + PDF 상태 구독) 수
+ * - outboundQueueSize, sendTimeout: 연결별 송신 대기 프레임 수 한도와, 한도에 걸린 교환이 기다리는 최대 시간
+ *   (그동안 클라이언트가 프레임을 가져가지 않으면 느린 클라이언트로 보고 연결 종료)
+ * - pdfStatusInterval, pdfStatusTimeout: PDF 처리 상태 조회 주기와 구독 최대 유지 시간
+ */
+@ConfigurationProperties(prefix = "app.chat.websocket")
+public record ChatSocketProperties(
+        Boolean enabled,
+        String path,
+        List<String> allowedOrigins,
+        Integer maxExchanges,
+        Integer outboundQueueSize,
+        Duration sendTimeout,
+        Integer maxTextMessageSize,
+        Duration pdfStatusInterval,
+        Duration pdfStatusTimeout
+) {
+    
+    // 기본값을 가진 생성자
+    public ChatSocketProperties {
+        if (enabled == null) enabled = true;
+        if (path == null || path.isBlank()) path = "/ws/chat";
+        if (allowedOrigins == null || allowedOrigins.isEmpty()) allowedOrigins = List.of("*");
+        if (maxExchanges == null) maxExchanges = 8;
+        if (outboundQueueSize == null) outboundQueueSize = 256;
+        if (sendTimeout == null) sendTimeout = Duration.ofSeconds(10);
+        if (maxTextMessageSize == null) maxTextMessageSize = 64 * 1024;
+        if (pdfStatusInterval == null) pdfStatusInterval = Duration.ofSeconds(1);
+        if (pdfStatusTimeout == null) pdfStatusTimeout = Duration.ofMinutes(10);
+    }
+}
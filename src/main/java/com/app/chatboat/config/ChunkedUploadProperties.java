@@ -0,0 +1,32 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+
+/**
+ * 분할(재개 가능) 업로드 설정
+ * - cleanupInterval: 만료 세션 정리 주기 (@Scheduled는 같은 키를 읽으므로 ISO-8601 형식, 예: PT1H)
+ */
+@ConfigurationProperties(prefix = "app.pdf.chunked-upload")
+public record ChunkedUploadProperties(
+        DataSize maxFileSize,
+        DataSize defaultChunkSize,
+        DataSize minChunkSize,
+        DataSize maxChunkSize,
+        Duration sessionTtl,
+        Duration cleanupInterval
+) {
+    
+    // 기본값을 가진 생성자
+    public ChunkedUploadProperties {
+        if (maxFileSize == null) maxFileSize = DataSize.ofMegabytes(500);
+        if (defaultChunkSize == null) defaultChunkSize = DataSize.ofMegabytes(8);
+        if (minChunkSize == null) minChunkSize = DataSize.ofKilobytes(256);
+        if (maxChunkSize == null) maxChunkSize = DataSize.ofMegabytes(32);
+        if (sessionTtl == null) sessionTtl = Duration.ofHours(24);
+        if (cleanupInterval == null) cleanupInterval = Duration.ofHours(1);
+    }
+}
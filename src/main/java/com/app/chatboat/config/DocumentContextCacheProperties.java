@@ -0,0 +1,28 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+
+/**
+ * PDF 문서 컨텍스트 캐시 설정
+ * maxSize는 항목 수가 아닌 보관 중인 문자열의 바이트 기준
+ */
+@ConfigurationProperties(prefix = "app.chat.document-cache")
+public record DocumentContextCacheProperties(
+        Boolean enabled,
+        DataSize maxSize,
+        DataSize maxEntrySize,
+        Duration ttl
+) {
+    
+    // 기본값을 가진 생성자
+    public DocumentContextCacheProperties {
+        if (enabled == null) enabled = true;
+        if (maxSize == null) maxSize = DataSize.ofMegabytes(256);
+        if (maxEntrySize == null) maxEntrySize = DataSize.ofMegabytes(32);
+        if (ttl == null) ttl = Duration.ofMinutes(10);
+    }
+}
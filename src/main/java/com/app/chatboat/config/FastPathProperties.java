@@ -0,0 +1,23 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * 주문 질문 Fast-path 설정
+ * 신뢰도가 minConfidence 미만이면 LLM으로 위임
+ */
+@ConfigurationProperties(prefix = "app.chat.fast-path")
+public record FastPathProperties(
+        Boolean enabled,
+        Double minConfidence,
+        Integer maxMessageLength
+) {
+    
+    // 기본값을 가진 생성자
+    public FastPathProperties {
+        if (enabled == null) enabled = true;
+        if (minConfidence == null) minConfidence = 0.8;
+        if (maxMessageLength == null) maxMessageLength = 80;
+    }
+}
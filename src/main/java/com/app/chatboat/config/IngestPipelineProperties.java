@@ -0,0 +1,55 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+
+/**
+ * PDF 수집 파이프라인 설정
+ * - stages: 단계별 워커 수 / 대기 큐 크기 (extract, normalize, index, summarize, persist)
+ *   설정하지 않은 단계는 기본값 사용 - CPU 단계(extract, normalize)는 코어 수, LLM 호출(summarize)은 업스트림 동시 호출 수 기준
+ * - enabled=false면 작업 워커 스레드에서 모든 단계를 순서대로 실행
+ */
+@ConfigurationProperties(prefix = "app.pdf.pipeline")
+public record IngestPipelineProperties(
+        Boolean enabled,
+        Map<String, StageSettings> stages
+) {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    private static final Map<String, StageSettings> DEFAULTS = Map.of(
+            "extract", new StageSettings(CORES, 16),
+            "normalize", new StageSettings(CORES, 16),
+            "index", new StageSettings(4, 32),
+            "summarize", new StageSettings(8, 64),
+            "persist", new StageSettings(2, 64)
+    );
+
+    // 기본값을 가진 생성자
+    public IngestPipelineProperties {
+        if (enabled == null) enabled = true;
+        if (stages == null) stages = Map.of();
+    }
+
+    /**
+     * 단계 설정 (항목별로 설정이 없으면 기본값)
+     */
+    public StageSettings stage(String name) {
+        var defaults = DEFAULTS.getOrDefault(name, new StageSettings(1, 16));
+        var configured = stages.get(name);
+        if (configured == null) {
+            return defaults;
+        }
+        return new StageSettings(
+                configured.workers() != null ? Math.max(1, configured.workers()) : defaults.workers(),
+                configured.queueCapacity() != null ? Math.max(1, configured.queueCapacity()) : defaults.queueCapacity());
+    }
+
+    /**
+     * @param workers       단계 전용 워커 수
+     * @param queueCapacity 단계 대기 큐 크기 (가득 차면 앞 단계가 대기)
+     */
+    public record StageSettings(Integer workers, Integer queueCapacity) {}
+}
@@ -0,0 +1,41 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+
+/**
+ * PDF 처리 작업 큐 설정
+ * 폴링/하트비트 주기는 @Scheduled에서 직접 읽음 (app.jobs.poll-interval, app.jobs.heartbeat-interval)
+ */
+@ConfigurationProperties(prefix = "app.jobs")
+public record JobQueueProperties(
+        Boolean workerEnabled,
+        ClaimMode claimMode,
+        Integer workerConcurrency,
+        Duration leaseDuration,
+        Integer maxAttempts,
+        Duration retryBackoff,
+        Duration maxRetryBackoff
+) {
+    
+    // 기본값을 가진 생성자
+    public JobQueueProperties {
+        if (workerEnabled == null) workerEnabled = true;
+        if (claimMode == null) claimMode = ClaimMode.SKIP_LOCKED;
+        if (workerConcurrency == null) workerConcurrency = 4;
+        if (leaseDuration == null) leaseDuration = Duration.ofMinutes(2);
+        if (maxAttempts == null) maxAttempts = 5;
+        if (retryBackoff == null) retryBackoff = Duration.ofSeconds(10);
+        if (maxRetryBackoff == null) maxRetryBackoff = Duration.ofMinutes(10);
+    }
+    
+    /**
+     * 작업 점유 방식
+     */
+    public enum ClaimMode {
+        SKIP_LOCKED,      // SELECT ... FOR UPDATE SKIP LOCKED (PostgreSQL)
+        COMPARE_AND_SET   // 버전 비교 갱신 (H2 등 SKIP LOCKED 미지원 DB, 테스트용)
+    }
+}
@@ -0,0 +1,39 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 업스트림 LLM 호출 스케줄러 설정
+ * - maxConcurrency: 모든 호출이 공유하는 업스트림 동시 호출 수
+ * - reservedInteractive: 채팅 전용 슬롯 (요약/백그라운드 호출은 maxConcurrency - reservedInteractive까지만 사용)
+ * - weights: 대기 중인 호출끼리의 가중 공정 큐 가중치 (interactive, summary, background)
+ * - maxQueueWait: 채팅/요청형 요약의 최대 대기 시간 (백그라운드 호출은 제한 없음)
+ */
+@ConfigurationProperties(prefix = "app.llm.scheduler")
+public record LlmSchedulerProperties(
+        Boolean enabled,
+        Integer maxConcurrency,
+        Integer reservedInteractive,
+        Map<String, Integer> weights,
+        Duration maxQueueWait
+) {
+    
+    // 기본값을 가진 생성자
+    public LlmSchedulerProperties {
+        if (enabled == null) enabled = true;
+        if (maxConcurrency == null) maxConcurrency = 16;
+        if (reservedInteractive == null) reservedInteractive = 4;
+        if (weights == null) weights = Map.of("interactive", 8, "summary", 3, "background", 1);
+        if (maxQueueWait == null) maxQueueWait = Duration.ofSeconds(30);
+    }
+    
+    /**
+     * 호출 종류의 가중치 (설정이 없으면 1)
+     */
+    public int weightOf(String priority) {
+        return Math.max(1, weights.getOrDefault(priority, 1));
+    }
+}
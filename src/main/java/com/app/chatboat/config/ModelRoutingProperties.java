@@ -0,0 +1,57 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모델 라우팅 설정
+ * - smallModel / largeModel: 간단한 질문용 모델 / 그 외 질문용 모델 (largeModel이 없으면 openai.model)
+ * - modes: 전문가 모드 코드별 라우팅 정책 (없는 모드는 defaultPolicy)
+ * - simpleMaxLength, complexKeywords: AUTO 정책에서 간단한 질문으로 볼 길이 한도와 복잡한 질문 신호
+ * - escalate, lowConfidencePhrases: 작은 모델 답변이 잘렸거나 확신이 낮으면 큰 모델로 다시 호출
+ */
+@ConfigurationProperties(prefix = "app.llm.routing")
+public record ModelRoutingProperties(
+        Boolean enabled,
+        String smallModel,
+        String largeModel,
+        Map<String, Policy> modes,
+        Policy defaultPolicy,
+        Integer simpleMaxLength,
+        List<String> complexKeywords,
+        Boolean escalate,
+        List<String> lowConfidencePhrases
+) {
+    
+    // 기본값을 가진 생성자
+    public ModelRoutingProperties {
+        if (enabled == null) enabled = true;
+        if (smallModel == null || smallModel.isBlank()) smallModel = "gpt-4o-mini";
+        if (modes == null) modes = Map.of("general", Policy.AUTO);
+        if (defaultPolicy == null) defaultPolicy = Policy.AUTO;
+        if (simpleMaxLength == null) simpleMaxLength = 200;
+        if (complexKeywords == null) complexKeywords = List.of(
+                "설계", "아키텍처", "비교", "분석", "최적화", "리팩토링", "성능", "디버깅", "원인", "왜", "장단점", "코드 리뷰");
+        if (escalate == null) escalate = true;
+        if (lowConfidencePhrases == null) lowConfidencePhrases = List.of(
+                "잘 모르겠", "확실하지 않", "정확하지 않을 수", "답변드리기 어렵", "I'm not sure", "I don't know");
+    }
+    
+    /**
+     * 전문가 모드의 라우팅 정책
+     */
+    public Policy policyOf(String expertMode) {
+        return modes.getOrDefault(expertMode, defaultPolicy);
+    }
+    
+    /**
+     * 라우팅 정책
+     */
+    public enum Policy {
+        AUTO,   // 길이, 문서 여부, 코드/키워드 신호로 판단
+        SMALL,  // 항상 작은 모델
+        LARGE   // 항상 큰 모델
+    }
+}
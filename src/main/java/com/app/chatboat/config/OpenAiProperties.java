@@ -1,6 +1,7 @@
 package com.app.chatboat.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 
 @ConfigurationProperties(prefix = "openai")
@@ -8,14 +9,25 @@ public record OpenAiProperties(
         String apiKey,
         String model,
         Integer maxTokens,
-        Double temperature
+        Double temperature,
+        String baseUrl
 ) {
     
+    public static final String DEFAULT_BASE_URL = "https://api.openai.com/";
+    
     // 기본값을 가진 생성자
+    @ConstructorBinding
     public OpenAiProperties {
         if (model == null) model = "gpt-4o";
         if (maxTokens == null) maxTokens = 2000;
         if (temperature == null) temperature = 0.7;
+        if (baseUrl == null || baseUrl.isBlank()) baseUrl = DEFAULT_BASE_URL;
+        if (!baseUrl.endsWith("/")) baseUrl = baseUrl + "/";
+    }
+    
+    // base-url 없이 생성 (기본 OpenAI 엔드포인트)
+    public OpenAiProperties(String apiKey, String model, Integer maxTokens, Double temperature) {
+        this(apiKey, model, maxTokens, temperature, null);
     }
     
     // 유효성 검증 메서드
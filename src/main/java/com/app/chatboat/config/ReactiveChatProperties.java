@@ -0,0 +1,21 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * 리액티브(WebFlux) 프로필의 OpenAI 클라이언트 설정
+ * 스트리밍 채팅 하나가 업스트림 연결 하나를 점유하므로 동시 스트림 수만큼 연결 풀을 잡아야 함
+ */
+@ConfigurationProperties(prefix = "app.chat.reactive")
+public record ReactiveChatProperties(
+        Integer maxConnections,
+        Integer pendingAcquireMaxCount
+) {
+    
+    // 기본값을 가진 생성자
+    public ReactiveChatProperties {
+        if (maxConnections == null) maxConnections = 2000;
+        if (pendingAcquireMaxCount == null) pendingAcquireMaxCount = 20000;
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * 다중 문서 검색 설정
+ * 문서별 후보 구절을 병렬로 뽑은 뒤 전체 상위 topK개를 tokenBudget 안에서 선택
+ */
+@ConfigurationProperties(prefix = "app.chat.retrieval")
+public record RetrievalProperties(
+        Integer topK,
+        Integer tokenBudget,
+        Integer passageChars,
+        Integer maxDocuments
+) {
+    
+    // 기본값을 가진 생성자
+    public RetrievalProperties {
+        if (topK == null) topK = 8;
+        if (tokenBudget == null) tokenBudget = 3000;
+        if (passageChars == null) passageChars = 800;
+        if (maxDocuments == null) maxDocuments = 10;
+    }
+}
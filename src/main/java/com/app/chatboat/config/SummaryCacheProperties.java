@@ -0,0 +1,19 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * 사용자 정의 요약 결과 캐시 설정 (PostgreSQL summary_results 테이블)
+ * 결과는 문서 삭제/재처리 시에만 무효화되므로 만료 시간 없음
+ */
+@ConfigurationProperties(prefix = "app.pdf.summary-cache")
+public record SummaryCacheProperties(
+        Boolean enabled
+) {
+    
+    // 기본값을 가진 생성자
+    public SummaryCacheProperties {
+        if (enabled == null) enabled = true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * PDF 추출 텍스트 정규화 설정
+ * 페이지 위/아래 edgeLines 줄 안에서 minRepeatRatio 이상의 페이지(최소 minRepeatPages)에 반복되는 줄을 머리글/바닥글로 보고 제거
+ */
+@ConfigurationProperties(prefix = "app.pdf.normalization")
+public record TextNormalizationProperties(
+        Boolean enabled,
+        Integer edgeLines,
+        Double minRepeatRatio,
+        Integer minRepeatPages
+) {
+    
+    // 기본값을 가진 생성자
+    public TextNormalizationProperties {
+        if (enabled == null) enabled = true;
+        if (edgeLines == null) edgeLines = 3;
+        if (minRepeatRatio == null) minRepeatRatio = 0.5;
+        if (minRepeatPages == null) minRepeatPages = 3;
+    }
+}
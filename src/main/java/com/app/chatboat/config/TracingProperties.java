@@ -0,0 +1,21 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * 트레이싱 파일 내보내기 설정
+ * OTLP 내보내기는 management.otlp.tracing.* 설정을 사용하고, 파일 내보내기는 수집기 없이 로컬에서 span을 확인할 때 사용
+ */
+@ConfigurationProperties(prefix = "app.tracing")
+public record TracingProperties(
+        Boolean fileExport,
+        String filePath
+) {
+    
+    // 기본값을 가진 생성자
+    public TracingProperties {
+        if (fileExport == null) fileExport = false;
+        if (filePath == null) filePath = "./logs/spans.jsonl";
+    }
+}
@@ -0,0 +1,70 @@
+package com.app.chatboat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * 클라이언트별 토큰 사용량 집계 / 일일 예산 설정
+ * 클라이언트는 서버가 발급한 API 키(apiKeys: 클라이언트 ID → 키)로만 식별하고, 키가 없거나 등록되지 않은 요청은 모두 anonymous 하나로 집계
+ * dailyTokenBudget이 0 이하이면 예산 제한 없음 (clientBudgets로 클라이언트별 덮어쓰기)
+ * 저장 주기는 @Scheduled에서 직접 읽음 (app.usage.flush-interval)
+ */
+@ConfigurationProperties(prefix = "app.usage")
+public record UsageProperties(
+        Boolean enabled,
+        String apiKeyHeader,
+        Map<String, String> apiKeys,
+        Long dailyTokenBudget,
+        Map<String, Long> clientBudgets,
+        List<String> adminClients,
+        Integer maxTrackedClients,
+        List<String> enforcedPaths
+) {
+    
+    // 기본값을 가진 생성자
+    public UsageProperties {
+        if (enabled == null) enabled = true;
+        if (apiKeyHeader == null) apiKeyHeader = "X-Api-Key";
+        if (apiKeys == null) apiKeys = Map.of();
+        if (dailyTokenBudget == null) dailyTokenBudget = 0L;
+        if (clientBudgets == null) clientBudgets = Map.of();
+        if (adminClients == null) adminClients = List.of();
+        if (maxTrackedClients == null) maxTrackedClients = 1000;
+        if (enforcedPaths == null) enforcedPaths = List.of("/api/chat/**", "/api/pdf/*/summarize");
+    }
+    
+    /**
+     * 클라이언트의 일일 토큰 예산 (0 이하면 제한 없음)
+     */
+    public long budgetFor(String clientId) {
+        return clientBudgets.getOrDefault(clientId, dailyTokenBudget);
+    }
+    
+    /**
+     * API 키에 해당하는 클라이언트 ID (등록되지 않은 키면 null)
+     */
+    public String clientIdFor(String apiKey) {
+        if (apiKey == null || apiKey.isBlank()) {
+            return null;
+        }
+        byte[] presented = apiKey.strip().getBytes(StandardCharsets.UTF_8);
+        for (var entry : apiKeys.entrySet()) {
+            if (MessageDigest.isEqual(presented, entry.getValue().getBytes(StandardCharsets.UTF_8))) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 전체 클라이언트 사용량을 조회할 수 있는 클라이언트인지
+     */
+    public boolean isAdmin(String clientId) {
+        return adminClients.contains(clientId);
+    }
+}
@@ -1,16 +1,39 @@
 package com.app.chatboat.controller;
 
+import com.app.chatboat.dto.BatchChatRequest;
+import com.app.chatboat.dto.BatchChatResponse;
 import com.app.chatboat.dto.ChatMessage;
 import com.app.chatboat.dto.ChatRequest;
+import com.app.chatboat.dto.MultiPdfChatRequest;
+import com.app.chatboat.dto.MultiPdfChatResponse;
 import com.app.chatboat.dto.PdfChatRequest;
+import com.app.chatboat.entity.TokenUsage;
 import com.app.chatboat.enums.ExpertMode;
+import com.app.chatboat.logging.LogText;
+import com.app.chatboat.service.AdmissionController;
+import com.app.chatboat.service.AnswerCacheService;
+import com.app.chatboat.service.BatchChatService;
 import com.app.chatboat.service.ChatGptService;
+import com.app.chatboat.service.ClientContext;
+import com.app.chatboat.service.DocumentContextCache;
+import com.app.chatboat.service.LlmCallScheduler;
+import com.app.chatboat.service.ModelRouter;
+import com.app.chatboat.service.MultiDocumentChatService;
+import com.app.chatboat.service.OrderFastPathService;
+import com.app.chatboat.service.PromptCacheMetrics;
+import com.app.chatboat.service.TokenUsageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 
 
@@ -24,9 +47,22 @@ import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/chat")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ChatController {
 
     private final ChatGptService chatGptService;
+    private final OrderFastPathService orderFastPathService;
+    private final PromptCacheMetrics promptCacheMetrics;
+    private final BatchChatService batchChatService;
+    private final MultiDocumentChatService multiDocumentChatService;
+    private final AnswerCacheService answerCacheService;
+    private final DocumentContextCache documentContextCache;
+    private final TokenUsageService tokenUsageService;
+    private final AdmissionController admissionController;
+    private final LlmCallScheduler llmCallScheduler;
+    private final ModelRouter modelRouter;
+
+    private static final long BATCH_STREAM_TIMEOUT_MILLIS = 10 * 60 * 1000L;
 
     @PostMapping("/message")
     public ResponseEntity<ChatMessage> sendMessage(@RequestBody ChatMessage request) {
@@ -79,14 +115,71 @@ public class ChatController {
         };
     }
 
+    /**
+     * 여러 PDF 문서를 참조한 채팅 (문서별 구절 검색 후 전체 상위 구절만 사용)
+     */
+    @PostMapping("/pdf/multi")
+    public ResponseEntity<MultiPdfChatResponse> sendMultiPdfMessage(@Valid @RequestBody MultiPdfChatRequest request) {
+        try {
+            log.debug("다중 PDF 참조 메시지 수신: {} (PDF ID: {})", LogText.summary(request.message()), request.pdfIds());
+            return ResponseEntity.ok(multiDocumentChatService.sendMessageWithDocuments(request));
+        } catch (RuntimeException e) {
+            log.warn("다중 PDF 참조 요청 처리 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(MultiPdfChatResponse.failure(e.getMessage()));
+        }
+    }
+
+    /**
+     * 일괄 채팅 - 모든 항목 처리 후 요청 순서대로 결과 반환
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchChatResponse> sendBatch(@Valid @RequestBody BatchChatRequest request) {
+        try {
+            return ResponseEntity.ok(batchChatService.execute(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 일괄 채팅 (NDJSON 스트리밍) - 항목이 완료되는 순서대로 한 줄씩 전송
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamBatch(@Valid @RequestBody BatchChatRequest request) {
+        try {
+            batchChatService.validateSize(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var emitter = new ResponseBodyEmitter(BATCH_STREAM_TIMEOUT_MILLIS);
+        Thread.ofVirtual().name("batch-chat-stream").start(() -> {
+            try {
+                batchChatService.stream(request, result -> {
+                    try {
+                        emitter.send(result, MediaType.APPLICATION_JSON);
+                        emitter.send("\n", MediaType.TEXT_PLAIN);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                emitter.complete();
+            } catch (Exception e) {
+                log.error("일괄 채팅 스트리밍 중 오류 발생", e);
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+
     private ResponseEntity<ChatMessage> processValidRequest(ChatMessage request) {
         try {
-            log.info("사용자 메시지 수신: {}", request.content());
+            log.debug("사용자 메시지 수신: {}", LogText.summary(request.content()));
 
             String response = chatGptService.sendMessage(request.content());
             ChatMessage responseMessage = ChatMessage.assistant(response);
 
-            log.info("AI 응답 생성 완료");
+            log.debug("AI 응답 생성 완료");
             return ResponseEntity.ok(responseMessage);
 
         } catch (Exception e) {
@@ -99,12 +192,12 @@ public class ChatController {
 
     private ResponseEntity<ChatMessage> processExpertRequest(ChatRequest request) {
         try {
-            log.info("전문가 모드 메시지 수신: {} (모드: {})", request.message(), request.expertMode());
+            log.debug("전문가 모드 메시지 수신: {} (모드: {})", LogText.summary(request.message()), request.expertMode());
 
             String response = chatGptService.sendMessageWithExpertMode(request);
             ChatMessage responseMessage = ChatMessage.assistant(response);
 
-            log.info("전문가 모드 AI 응답 생성 완료");
+            log.debug("전문가 모드 AI 응답 생성 완료");
             return ResponseEntity.ok(responseMessage);
 
         } catch (Exception e) {
@@ -117,12 +210,12 @@ public class ChatController {
     
     private ResponseEntity<ChatMessage> processPdfRequest(PdfChatRequest request) {
         try {
-            log.info("PDF 참조 메시지 수신: {} (PDF ID: {})", request.message(), request.pdfId());
+            log.debug("PDF 참조 메시지 수신: {} (PDF ID: {})", LogText.summary(request.message()), request.pdfId());
 
             String response = chatGptService.sendMessageWithPdf(request);
             ChatMessage responseMessage = ChatMessage.assistant(response);
 
-            log.info("PDF 참조 AI 응답 생성 완료");
+            log.debug("PDF 참조 AI 응답 생성 완료");
             return ResponseEntity.ok(responseMessage);
 
         } catch (Exception e) {
@@ -174,6 +267,78 @@ public class ChatController {
         return new PdfValidationResult.Valid();
     }
 
+    /**
+     * 주문 질문 Fast-path 적중률 조회
+     */
+    @GetMapping("/fast-path/stats")
+    public ResponseEntity<OrderFastPathService.FastPathStats> getFastPathStats() {
+        return ResponseEntity.ok(orderFastPathService.getStats());
+    }
+
+    /**
+     * 응답 캐시(L1/L2) 적중률 조회
+     */
+    @GetMapping("/answer-cache/stats")
+    public ResponseEntity<AnswerCacheService.AnswerCacheStats> getAnswerCacheStats() {
+        return ResponseEntity.ok(answerCacheService.getStats());
+    }
+    
+    /**
+     * PDF 문서 컨텍스트 캐시 적중률 / 보관 바이트 조회
+     */
+    @GetMapping("/document-cache/stats")
+    public ResponseEntity<DocumentContextCache.DocumentCacheStats> getDocumentCacheStats() {
+        return ResponseEntity.ok(documentContextCache.getStats());
+    }
+    
+    /**
+     * 오늘 전문가 모드별 토큰 사용량 (저장 주기 기준) - 관리 클라이언트(admin-clients)만 전체 클라이언트 조회
+     */
+    @GetMapping("/usage")
+    public ResponseEntity<List<TokenUsage>> getTodayUsage() {
+        return ResponseEntity.ok(tokenUsageService.getTodayUsage(ClientContext.currentClientId()));
+    }
+    
+    /**
+     * 요청한 클라이언트(API 키)의 오늘 토큰 예산 상태
+     */
+    @GetMapping("/usage/budget")
+    public ResponseEntity<TokenUsageService.BudgetStatus> getBudget() {
+        return ResponseEntity.ok(tokenUsageService.getBudget(ClientContext.currentClientId()));
+    }
+    
+    /**
+     * 요청 수락 제어 상태 (처리 중 / 대기 중 요청 수, 종류별 평균 처리 시간)
+     */
+    @GetMapping("/admission/stats")
+    public ResponseEntity<AdmissionController.AdmissionStats> getAdmissionStats() {
+        return ResponseEntity.ok(admissionController.getStats());
+    }
+    
+    /**
+     * LLM 호출 스케줄러 상태 (종류별 실행 중 / 대기 중 / 완료 호출 수)
+     */
+    @GetMapping("/llm-scheduler/stats")
+    public ResponseEntity<LlmCallScheduler.SchedulerStats> getLlmSchedulerStats() {
+        return ResponseEntity.ok(llmCallScheduler.getStats());
+    }
+    
+    /**
+     * 모델 라우팅 결정 / 승격 횟수 / 모델별 지연 시간 조회
+     */
+    @GetMapping("/model-routing/stats")
+    public ResponseEntity<ModelRouter.RoutingStats> getModelRoutingStats() {
+        return ResponseEntity.ok(modelRouter.getStats());
+    }
+    
+    /**
+     * 업스트림 프롬프트 캐시 적중 토큰 조회
+     */
+    @GetMapping("/prompt-cache/stats")
+    public ResponseEntity<PromptCacheMetrics.PromptCacheStats> getPromptCacheStats() {
+        return ResponseEntity.ok(promptCacheMetrics.getStats());
+    }
+
     @GetMapping("/health")
     public ResponseEntity<HealthStatus> healthCheck() {
         return ResponseEntity.ok(new HealthStatus("ChatBot Service is running", true));
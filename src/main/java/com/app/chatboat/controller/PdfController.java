@@ -1,12 +1,25 @@
 package com.app.chatboat.controller;
 
+import com.app.chatboat.dto.BulkImportRequest;
+import com.app.chatboat.dto.BulkImportStatus;
+import com.app.chatboat.dto.ChunkUploadResponse;
+import com.app.chatboat.dto.ChunkedUploadInitRequest;
+import com.app.chatboat.dto.ChunkedUploadStatus;
+import com.app.chatboat.dto.PdfPagesResponse;
 import com.app.chatboat.dto.PdfSummaryRequest;
 import com.app.chatboat.dto.PdfUploadRequest;
 import com.app.chatboat.dto.PdfUploadResponse;
 import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.ProcessingJob;
+import com.app.chatboat.service.BulkImportService;
+import com.app.chatboat.service.ChunkedUploadService;
+import com.app.chatboat.service.PdfIngestPipeline;
 import com.app.chatboat.service.PdfProcessingService;
+import com.app.chatboat.service.ProcessingJobService;
+import com.app.chatboat.service.SummaryCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -25,9 +39,15 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 @RestController
 @RequestMapping("/api/pdf")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PdfController {
     
     private final PdfProcessingService pdfProcessingService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final ProcessingJobService processingJobService;
+    private final SummaryCacheService summaryCacheService;
+    private final PdfIngestPipeline pdfIngestPipeline;
+    private final BulkImportService bulkImportService;
     
     /**
      * PDF 파일 업로드
@@ -68,6 +88,135 @@ public class PdfController {
         }
     }
     
+    /**
+     * 분할 업로드 시작 (대용량 PDF)
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<ChunkedUploadStatus> initChunkedUpload(@Valid @RequestBody ChunkedUploadInitRequest request) {
+        try {
+            log.info("분할 업로드 시작 요청: {} ({}바이트)", request.fileName(), request.totalSize());
+            return ResponseEntity.ok(chunkedUploadService.initUpload(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("분할 업로드 시작 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("분할 업로드 시작 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * 청크 업로드 (청크 순서와 무관하게 병렬 전송 가능, 같은 청크 재전송 허용)
+     */
+    @PutMapping(value = "/uploads/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ChunkUploadResponse> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestHeader("X-Chunk-Sha256") String sha256,
+            InputStream body) {
+        
+        try {
+            return ResponseEntity.ok(chunkedUploadService.uploadChunk(uploadId, index, sha256, body));
+        } catch (IllegalArgumentException e) {
+            log.warn("청크 업로드 거절: {} #{} - {}", uploadId, index, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("청크 업로드 거절: {} #{} - {}", uploadId, index, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            log.warn("청크 업로드 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("청크 업로드 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * 분할 업로드 상태 조회 (재개 시 누락 청크 확인)
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<ChunkedUploadStatus> getChunkedUpload(@PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId));
+        } catch (RuntimeException e) {
+            log.warn("분할 업로드 조회 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 분할 업로드 완료 - 조립 검증 후 문서 처리
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<ChunkedUploadStatus> completeChunkedUpload(@PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(chunkedUploadService.completeUpload(uploadId));
+        } catch (IllegalStateException e) {
+            log.warn("분할 업로드 완료 실패: {} - {}", uploadId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            log.warn("분할 업로드 완료 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("분할 업로드 완료 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * 분할 업로드 중단
+     */
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<String> abortChunkedUpload(@PathVariable String uploadId) {
+        try {
+            chunkedUploadService.abortUpload(uploadId);
+            return ResponseEntity.ok("분할 업로드가 중단되었습니다.");
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("분할 업로드 중단 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 서버 디렉토리 PDF 일괄 가져오기 시작 (목록 작성/가져오기는 백그라운드에서 진행)
+     */
+    @PostMapping("/imports")
+    public ResponseEntity<BulkImportStatus> startBulkImport(@Valid @RequestBody BulkImportRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkImportService.start(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("일괄 가져오기 시작 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("일괄 가져오기 시작 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * 일괄 가져오기 진행 상태 / 처리량 조회
+     */
+    @GetMapping("/imports/{importId}")
+    public ResponseEntity<BulkImportStatus> getBulkImport(@PathVariable String importId) {
+        try {
+            return ResponseEntity.ok(bulkImportService.getStatus(importId));
+        } catch (RuntimeException e) {
+            log.warn("일괄 가져오기 조회 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 최근 일괄 가져오기 목록
+     */
+    @GetMapping("/imports")
+    public ResponseEntity<List<BulkImportStatus>> getBulkImports() {
+        return ResponseEntity.ok(bulkImportService.getRecent());
+    }
+    
     /**
      * PDF 문서 목록 조회
      */
@@ -99,6 +248,42 @@ public class PdfController {
         }
     }
     
+    /**
+     * PDF 페이지 범위 텍스트 조회 (from/to 생략 시 문서 처음/끝)
+     */
+    @GetMapping("/{id}/pages")
+    public ResponseEntity<PdfPagesResponse> getPdfPages(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer to) {
+        
+        try {
+            return ResponseEntity.ok(PdfPagesResponse.of(pdfProcessingService.getPdfPages(id, from, to)));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("PDF 페이지 조회 거절: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            log.warn("PDF 페이지 조회 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("PDF 페이지 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * PDF 처리 작업 이력 조회 (시도 횟수, 마지막 오류 포함)
+     */
+    @GetMapping("/{id}/jobs")
+    public ResponseEntity<List<ProcessingJob>> getPdfJobs(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(processingJobService.getJobs(id));
+        } catch (Exception e) {
+            log.error("PDF 처리 작업 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * PDF 문서 요약 (기본)
      */
@@ -156,6 +341,22 @@ public class PdfController {
         }
     }
     
+    /**
+     * 사용자 정의 요약 결과 캐시 적중률 조회
+     */
+    @GetMapping("/summary-cache/stats")
+    public ResponseEntity<SummaryCacheService.SummaryCacheStats> getSummaryCacheStats() {
+        return ResponseEntity.ok(summaryCacheService.getStats());
+    }
+    
+    /**
+     * PDF 수집 파이프라인 단계별 처리량 / 처리 시간 / 큐 깊이 조회
+     */
+    @GetMapping("/pipeline/stats")
+    public ResponseEntity<PdfIngestPipeline.PipelineStats> getPipelineStats() {
+        return ResponseEntity.ok(pdfIngestPipeline.getStats());
+    }
+    
     /**
      * PDF 문서 삭제
      */
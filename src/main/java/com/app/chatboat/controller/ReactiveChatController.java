@@ -0,0 +1,126 @@
+package com.app.chatboat.controller;
+
+import com.app.chatboat.dto.ChatMessage;
+import com.app.chatboat.dto.ChatRequest;
+import com.app.chatboat.dto.PdfChatRequest;
+import com.app.chatboat.enums.ExpertMode;
+import com.app.chatboat.service.OrderFastPathService;
+import com.app.chatboat.service.PromptCacheMetrics;
+import com.app.chatboat.service.ReactiveChatService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 채팅 API (리액티브 프로필)
+ * ChatController와 같은 경로/응답 형식을 유지하고, 스트리밍 엔드포인트(/stream)를 추가로 제공
+ */
+@Slf4j
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@RestController
+@RequestMapping("/api/chat")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveChatController {
+
+    private final ReactiveChatService reactiveChatService;
+    private final OrderFastPathService orderFastPathService;
+    private final PromptCacheMetrics promptCacheMetrics;
+
+    @PostMapping("/message")
+    public Mono<ResponseEntity<ChatMessage>> sendMessage(@RequestBody ChatMessage request) {
+        if (request.content() == null || request.content().isBlank()) {
+            return Mono.just(badRequest("메시지를 입력해주세요."));
+        }
+        return reactiveChatService.sendMessage(request.content())
+                .map(response -> ResponseEntity.ok(ChatMessage.assistant(response)));
+    }
+
+    @PostMapping(value = "/message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamMessage(@RequestBody ChatMessage request) {
+        return toEvents(reactiveChatService.streamMessage(request.content()));
+    }
+
+    /**
+     * 전문가 모드를 지원하는 메시지 전송 API
+     */
+    @PostMapping("/expert")
+    public Mono<ResponseEntity<ChatMessage>> sendExpertMessage(@Valid @RequestBody ChatRequest request) {
+        if (!isSupportedMode(request.expertMode())) {
+            return Mono.just(badRequest("지원하지 않는 전문가 모드입니다."));
+        }
+        return reactiveChatService.sendMessageWithExpertMode(request)
+                .map(response -> ResponseEntity.ok(ChatMessage.assistant(response)));
+    }
+
+    @PostMapping(value = "/expert/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamExpertMessage(@Valid @RequestBody ChatRequest request) {
+        return toEvents(reactiveChatService.streamMessageWithExpertMode(request));
+    }
+
+    /**
+     * 사용 가능한 전문가 모드 목록 조회
+     */
+    @GetMapping("/expert-modes")
+    public ResponseEntity<ExpertMode[]> getExpertModes() {
+        return ResponseEntity.ok(ExpertMode.getAvailableModes());
+    }
+
+    /**
+     * PDF 문서를 참조한 채팅
+     */
+    @PostMapping("/pdf")
+    public Mono<ResponseEntity<ChatMessage>> sendPdfMessage(@Valid @RequestBody PdfChatRequest request) {
+        return reactiveChatService.sendMessageWithPdf(request)
+                .map(response -> ResponseEntity.ok(ChatMessage.assistant(response)));
+    }
+
+    @PostMapping(value = "/pdf/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamPdfMessage(@Valid @RequestBody PdfChatRequest request) {
+        return toEvents(reactiveChatService.streamMessageWithPdf(request));
+    }
+
+    /**
+     * 주문 질문 Fast-path 적중률 조회
+     */
+    @GetMapping("/fast-path/stats")
+    public ResponseEntity<OrderFastPathService.FastPathStats> getFastPathStats() {
+        return ResponseEntity.ok(orderFastPathService.getStats());
+    }
+
+    /**
+     * 업스트림 프롬프트 캐시 적중 토큰 조회
+     */
+    @GetMapping("/prompt-cache/stats")
+    public ResponseEntity<PromptCacheMetrics.PromptCacheStats> getPromptCacheStats() {
+        return ResponseEntity.ok(promptCacheMetrics.getStats());
+    }
+
+    @GetMapping("/health")
+    public ResponseEntity<ChatController.HealthStatus> healthCheck() {
+        return ResponseEntity.ok(new ChatController.HealthStatus("ChatBot Service is running (reactive)", true));
+    }
+
+    /**
+     * 생성된 텍스트 조각을 SSE 이벤트로 변환하고 마지막에 done 이벤트 전송
+     */
+    private static Flux<ServerSentEvent<String>> toEvents(Flux<String> chunks) {
+        return chunks.map(chunk -> ServerSentEvent.builder(chunk).event("message").build())
+                .concatWith(Mono.just(ServerSentEvent.builder("").event("done").build()));
+    }
+
+    private static boolean isSupportedMode(String expertMode) {
+        return ExpertMode.fromCode(expertMode) != ExpertMode.GENERAL || "general".equals(expertMode);
+    }
+
+    private static ResponseEntity<ChatMessage> badRequest(String message) {
+        return ResponseEntity.badRequest().body(ChatMessage.assistant(message));
+    }
+}
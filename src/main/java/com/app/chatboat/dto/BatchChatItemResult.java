@@ -0,0 +1,42 @@
+package com.app.chatboat.dto;
+
+/**
+ * 일괄 채팅 항목별 결과 DTO
+ *
+ * @param index         요청 목록에서의 위치
+ * @param status        처리 결과 (SUCCESS, INVALID, FAILED)
+ * @param waitMillis    동시 실행 한도 때문에 대기한 시간
+ * @param elapsedMillis 실제 처리 시간
+ */
+public record BatchChatItemResult(
+    int index,
+    Status status,
+    String expertMode,
+    ChatMessage response,
+    String error,
+    long waitMillis,
+    long elapsedMillis
+) {
+    
+    public enum Status {
+        SUCCESS,    // 응답 생성 완료
+        INVALID,    // 요청 검증 실패
+        FAILED      // 처리 중 오류
+    }
+    
+    public static BatchChatItemResult success(int index, String expertMode, String content, long waitMillis, long elapsedMillis) {
+        return new BatchChatItemResult(index, Status.SUCCESS, expertMode, ChatMessage.assistant(content), null, waitMillis, elapsedMillis);
+    }
+    
+    public static BatchChatItemResult invalid(int index, String expertMode, String error) {
+        return new BatchChatItemResult(index, Status.INVALID, expertMode, null, error, 0, 0);
+    }
+    
+    public static BatchChatItemResult failed(int index, String expertMode, String error, long waitMillis, long elapsedMillis) {
+        return new BatchChatItemResult(index, Status.FAILED, expertMode, null, error, waitMillis, elapsedMillis);
+    }
+    
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
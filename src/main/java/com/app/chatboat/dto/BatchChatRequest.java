@@ -0,0 +1,28 @@
+package com.app.chatboat.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 일괄 채팅 요청 DTO
+ * 여러 질문(전문가 모드 지정 가능)을 한 번에 전송
+ * 항목별 검증 실패는 전체 요청을 거절하지 않고 해당 항목 결과(INVALID)로 반환
+ */
+public record BatchChatRequest(
+    @NotEmpty(message = "요청 목록은 비어 있을 수 없습니다")
+    List<ChatRequest> requests,
+    
+    Integer concurrency
+) {
+    
+    /**
+     * 같은 질문 목록을 여러 전문가 모드로 전개
+     */
+    public static BatchChatRequest of(List<String> messages, List<String> expertModes) {
+        var requests = expertModes.stream()
+                .flatMap(mode -> messages.stream().map(message -> ChatRequest.user(message, mode)))
+                .toList();
+        return new BatchChatRequest(requests, null);
+    }
+}
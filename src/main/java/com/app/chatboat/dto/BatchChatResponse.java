@@ -0,0 +1,20 @@
+package com.app.chatboat.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 채팅 응답 DTO
+ * results는 요청 순서와 동일
+ */
+public record BatchChatResponse(
+    List<BatchChatItemResult> results,
+    int succeeded,
+    int failed,
+    long elapsedMillis
+) {
+    
+    public static BatchChatResponse of(List<BatchChatItemResult> results, long elapsedMillis) {
+        int succeeded = (int) results.stream().filter(BatchChatItemResult::isSuccess).count();
+        return new BatchChatResponse(results, succeeded, results.size() - succeeded, elapsedMillis);
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.chatboat.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * PDF 일괄 가져오기 요청 DTO
+ *
+ * @param directory 가져오기 루트 디렉토리 기준 상대 경로 (하위 디렉토리 포함)
+ */
+public record BulkImportRequest(
+    @NotBlank(message = "디렉토리는 필수입니다")
+    String directory
+) {
+}
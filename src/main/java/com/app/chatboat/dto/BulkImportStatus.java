@@ -0,0 +1,55 @@
+package com.app.chatboat.dto;
+
+import com.app.chatboat.entity.BulkImport;
+
+import java.time.LocalDateTime;
+
+/**
+ * PDF 일괄 가져오기 진행 상태 DTO
+ * filesPerSecond / bytesPerSecond는 이 인스턴스에서 실행 중인 경우에만 제공 (재시작 이후 처리분 기준)
+ */
+public record BulkImportStatus(
+    String importId,
+    String directory,
+    String status,
+    Integer totalFiles,
+    Long totalBytes,
+    long pending,
+    long importing,
+    long imported,
+    long skipped,
+    long failed,
+    long processedBytes,
+    Double filesPerSecond,
+    Double bytesPerSecond,
+    LocalDateTime createdAt,
+    LocalDateTime completedAt,
+    String errorMessage
+) {
+    
+    public static BulkImportStatus of(BulkImport bulkImport, Counts counts, Double filesPerSecond, Double bytesPerSecond) {
+        return new BulkImportStatus(
+            bulkImport.getId(),
+            bulkImport.getDirectory(),
+            bulkImport.getStatus().name(),
+            bulkImport.getTotalFiles(),
+            bulkImport.getTotalBytes(),
+            counts.pending(),
+            counts.importing(),
+            counts.imported(),
+            counts.skipped(),
+            counts.failed(),
+            counts.processedBytes(),
+            filesPerSecond,
+            bytesPerSecond,
+            bulkImport.getCreatedAt(),
+            bulkImport.getCompletedAt(),
+            bulkImport.getErrorMessage()
+        );
+    }
+    
+    /**
+     * 파일 상태별 집계
+     */
+    public record Counts(long pending, long importing, long imported, long skipped, long failed, long processedBytes) {}
+}
@@ -0,0 +1,43 @@
+package com.app.chatboat.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * WebSocket 채팅 서버 → 클라이언트 프레임
+ * - token: 응답 조각, done: 교환 종료, error: 교환 실패 (retryAfterSeconds가 있으면 그 뒤에 재시도)
+ * - pdf-status: 구독한 PDF의 처리 상태 변경, pong: ping 응답
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatSocketEvent(
+    String type,
+    String id,
+    String text,
+    Long pdfId,
+    String status,
+    Long retryAfterSeconds
+) {
+    
+    public static ChatSocketEvent token(String id, String text) {
+        return new ChatSocketEvent("token", id, text, null, null, null);
+    }
+    
+    public static ChatSocketEvent done(String id) {
+        return new ChatSocketEvent("done", id, null, null, null, null);
+    }
+    
+    public static ChatSocketEvent error(String id, String message) {
+        return new ChatSocketEvent("error", id, message, null, null, null);
+    }
+    
+    public static ChatSocketEvent rejected(String id, String message, long retryAfterSeconds) {
+        return new ChatSocketEvent("error", id, message, null, null, retryAfterSeconds);
+    }
+    
+    public static ChatSocketEvent pdfStatus(String id, Long pdfId, String status) {
+        return new ChatSocketEvent("pdf-status", id, null, pdfId, status, null);
+    }
+    
+    public static ChatSocketEvent pong() {
+        return new ChatSocketEvent("pong", null, null, null, null, null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.app.chatboat.dto;
+
+/**
+ * WebSocket 채팅 클라이언트 → 서버 프레임
+ * - chat: 채팅 교환 시작 (id로 응답 프레임을 구분, pdfId가 있으면 PDF 참조)
+ * - cancel: 진행 중인 교환 중단
+ * - subscribe-pdf: PDF 처리 상태 변경 구독 (완료/실패 시 종료)
+ * - ping: 연결 확인
+ */
+public record ChatSocketFrame(
+    String type,
+    String id,
+    String message,
+    String expertMode,
+    Long pdfId,
+    Integer pageFrom,
+    Integer pageTo
+) {
+    
+    public static final String CHAT = "chat";
+    public static final String CANCEL = "cancel";
+    public static final String SUBSCRIBE_PDF = "subscribe-pdf";
+    public static final String PING = "ping";
+    
+    public ChatRequest toChatRequest() {
+        return ChatRequest.user(message, expertMode);
+    }
+    
+    public PdfChatRequest toPdfChatRequest() {
+        return new PdfChatRequest(message, "user", pdfId, expertMode, pageFrom, pageTo);
+    }
+}
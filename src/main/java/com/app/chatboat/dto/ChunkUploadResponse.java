@@ -0,0 +1,12 @@
+package com.app.chatboat.dto;
+
+/**
+ * 청크 수신 확인 DTO
+ */
+public record ChunkUploadResponse(
+    int index,
+    long offset,
+    int size,
+    String sha256
+) {
+}
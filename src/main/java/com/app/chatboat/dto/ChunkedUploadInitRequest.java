@@ -0,0 +1,27 @@
+package com.app.chatboat.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 분할 업로드 시작 요청 DTO
+ *
+ * @param chunkSize 청크 크기 (바이트, 생략 시 서버 기본값)
+ * @param sha256    전체 파일 SHA-256 (선택, 조립 후 검증에 사용)
+ */
+public record ChunkedUploadInitRequest(
+    @NotBlank(message = "파일명은 필수입니다")
+    String fileName,
+    
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    Long totalSize,
+    
+    Integer chunkSize,
+    
+    String sha256,
+    
+    String description
+) {
+}
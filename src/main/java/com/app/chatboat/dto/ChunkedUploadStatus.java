@@ -0,0 +1,36 @@
+package com.app.chatboat.dto;
+
+import com.app.chatboat.entity.UploadSession;
+
+import java.util.List;
+
+/**
+ * 분할 업로드 상태 DTO
+ * 재개 시 missingChunks만 다시 전송하면 됨
+ */
+public record ChunkedUploadStatus(
+    String uploadId,
+    String fileName,
+    Long totalSize,
+    Integer chunkSize,
+    Integer totalChunks,
+    String status,
+    List<Integer> receivedChunks,
+    List<Integer> missingChunks,
+    Long pdfId
+) {
+    
+    public static ChunkedUploadStatus of(UploadSession session, List<Integer> receivedChunks, List<Integer> missingChunks) {
+        return new ChunkedUploadStatus(
+            session.getId(),
+            session.getOriginalFileName(),
+            session.getTotalSize(),
+            session.getChunkSize(),
+            session.getTotalChunks(),
+            session.getStatus().name(),
+            receivedChunks,
+            missingChunks,
+            session.getPdfDocumentId()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.app.chatboat.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 다중 PDF 기반 채팅 요청 DTO
+ * 여러 문서에서 관련 구절을 검색해 하나의 질문에 답변
+ */
+public record MultiPdfChatRequest(
+    @NotBlank(message = "메시지는 필수입니다")
+    String message,
+    
+    @NotBlank(message = "역할은 필수입니다")
+    String role,
+    
+    @NotEmpty(message = "PDF ID 목록은 필수입니다")
+    List<Long> pdfIds,
+    
+    String expertMode,
+    
+    Integer topK
+) {
+    
+    /**
+     * 사용자 메시지 생성 (여러 PDF 참조)
+     */
+    public static MultiPdfChatRequest user(String message, List<Long> pdfIds) {
+        return new MultiPdfChatRequest(message, "user", pdfIds, "general", null);
+    }
+    
+    /**
+     * 전문가 모드가 지정되지 않은 경우 기본값 설정
+     */
+    public MultiPdfChatRequest {
+        if (expertMode == null || expertMode.isBlank()) {
+            expertMode = "general";
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.app.chatboat.dto;
+
+import java.util.List;
+
+/**
+ * 다중 PDF 기반 채팅 응답 DTO
+ * 답변과 함께 프롬프트에 사용된 구절의 출처(문서, 페이지) 반환
+ */
+public record MultiPdfChatResponse(
+    ChatMessage message,
+    List<Source> sources,
+    List<Long> skippedPdfIds
+) {
+    
+    /**
+     * 답변 근거 구절 출처
+     */
+    public record Source(Long pdfId, String fileName, int page, double score) {}
+    
+    public static MultiPdfChatResponse of(String content, List<Source> sources, List<Long> skippedPdfIds) {
+        return new MultiPdfChatResponse(ChatMessage.assistant(content), sources, skippedPdfIds);
+    }
+    
+    public static MultiPdfChatResponse failure(String content) {
+        return new MultiPdfChatResponse(ChatMessage.assistant(content), List.of(), List.of());
+    }
+}
@@ -2,10 +2,14 @@ package com.app.chatboat.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 /**
  * PDF 기반 채팅 요청 DTO
  * PDF 문서를 참조하여 채팅하는 기능
+ *
+ * @param pageFrom 참조할 시작 페이지 (선택, 생략 시 1페이지)
+ * @param pageTo   참조할 마지막 페이지 (선택, 생략 시 마지막 페이지)
  */
 public record PdfChatRequest(
     @NotBlank(message = "메시지는 필수입니다")
@@ -17,21 +21,34 @@ public record PdfChatRequest(
     @NotNull(message = "PDF ID는 필수입니다")
     Long pdfId,
     
-    String expertMode
+    String expertMode,
+    
+    @Positive(message = "시작 페이지는 1 이상이어야 합니다")
+    Integer pageFrom,
+    
+    @Positive(message = "마지막 페이지는 1 이상이어야 합니다")
+    Integer pageTo
 ) {
     
     /**
      * 사용자 메시지 생성 (PDF 참조)
      */
     public static PdfChatRequest user(String message, Long pdfId) {
-        return new PdfChatRequest(message, "user", pdfId, "general");
+        return new PdfChatRequest(message, "user", pdfId, "general", null, null);
     }
     
     /**
      * 사용자 메시지 생성 (PDF 참조 + 전문가 모드)
      */
     public static PdfChatRequest user(String message, Long pdfId, String expertMode) {
-        return new PdfChatRequest(message, "user", pdfId, expertMode);
+        return new PdfChatRequest(message, "user", pdfId, expertMode, null, null);
+    }
+    
+    /**
+     * 사용자 메시지 생성 (PDF 페이지 범위 참조)
+     */
+    public static PdfChatRequest user(String message, Long pdfId, Integer pageFrom, Integer pageTo) {
+        return new PdfChatRequest(message, "user", pdfId, "general", pageFrom, pageTo);
     }
     
     /**
@@ -56,5 +73,11 @@ public record PdfChatRequest(
     public boolean isExpertMode(String mode) {
         return expertMode != null && expertMode.equals(mode);
     }
+    
+    /**
+     * 페이지 범위 지정 여부 확인
+     */
+    public boolean hasPageRange() {
+        return pageFrom != null || pageTo != null;
+    }
 }
-
@@ -0,0 +1,34 @@
+package com.app.chatboat.dto;
+
+import com.app.chatboat.service.PdfPageService.PageSelection;
+
+import java.util.List;
+
+/**
+ * PDF 페이지 범위 텍스트 응답 DTO
+ */
+public record PdfPagesResponse(
+    Long pdfId,
+    String fileName,
+    Integer pageCount,
+    Integer from,
+    Integer to,
+    List<Page> pages
+) {
+    
+    public record Page(Integer pageNumber, String text) {
+    }
+    
+    public static PdfPagesResponse of(PageSelection selection) {
+        return new PdfPagesResponse(
+            selection.document().getId(),
+            selection.document().getOriginalFileName(),
+            selection.pageCount(),
+            selection.from(),
+            selection.to(),
+            selection.pages().stream()
+                .map(page -> new Page(page.getPageNumber(), page.getText()))
+                .toList()
+        );
+    }
+}
@@ -1,15 +1,28 @@
 package com.app.chatboat.dto;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 /**
  * PDF 요약 요청 DTO
+ *
+ * @param pageFrom 요약할 시작 페이지 (선택)
+ * @param pageTo   요약할 마지막 페이지 (선택)
+ * @param forceRefresh 저장된 요약 결과를 무시하고 새로 생성 (선택)
  */
 public record PdfSummaryRequest(
     @NotNull(message = "PDF ID는 필수입니다")
     Long pdfId,
     
-    String customPrompt
+    String customPrompt,
+    
+    @Positive(message = "시작 페이지는 1 이상이어야 합니다")
+    Integer pageFrom,
+    
+    @Positive(message = "마지막 페이지는 1 이상이어야 합니다")
+    Integer pageTo,
+    
+    Boolean forceRefresh
 ) {
     
     /**
@@ -39,5 +52,18 @@ public record PdfSummaryRequest(
     public String getEffectivePrompt() {
         return hasCustomPrompt() ? customPrompt : DEFAULT_SUMMARY_PROMPT;
     }
+    
+    /**
+     * 페이지 범위 지정 여부 확인
+     */
+    public boolean hasPageRange() {
+        return pageFrom != null || pageTo != null;
+    }
+    
+    /**
+     * 저장된 요약 결과 무시 여부 확인
+     */
+    public boolean isForceRefresh() {
+        return Boolean.TRUE.equals(forceRefresh);
+    }
 }
-
@@ -0,0 +1,58 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서버 디렉토리 PDF 일괄 가져오기 엔티티
+ * 파일 목록은 BulkImportItem으로 저장되므로 재시작 후 남은 파일부터 이어서 처리
+ */
+@Entity
+@Table(name = "bulk_imports")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImport {
+    
+    @Id
+    private String id;
+    
+    /** 가져오기 루트 디렉토리 기준 상대 경로 */
+    @Column(nullable = false, length = 1000)
+    private String directory;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+    
+    @Column
+    private Integer totalFiles;
+    
+    @Column
+    private Long totalBytes;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column
+    private LocalDateTime completedAt;
+    
+    @Column(length = 1000)
+    private String errorMessage;
+    
+    @Version
+    private Long version;
+    
+    public enum ImportStatus {
+        SCANNING,   // 파일 목록 작성 중
+        RUNNING,    // 파일 가져오는 중
+        COMPLETED,  // 모든 파일 처리 완료 (실패 파일 포함)
+        FAILED      // 디렉토리를 읽을 수 없음
+    }
+}
@@ -0,0 +1,63 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 가져오기 대상 파일
+ * PENDING → IMPORTING 전환은 조건부 갱신으로 점유하므로 여러 인스턴스가 같은 가져오기를 이어가도 한 번만 처리
+ */
+@Entity
+@Table(name = "bulk_import_items",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"importId", "relativePath"}),
+        indexes = @Index(name = "idx_bulk_import_items_import_status", columnList = "importId, status"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportItem {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String importId;
+    
+    /** 가져오기 디렉토리 기준 상대 경로 */
+    @Column(nullable = false, length = 1000)
+    private String relativePath;
+    
+    @Column(nullable = false)
+    private Long fileSize;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ItemStatus status;
+    
+    @Column(length = 64)
+    private String fileSha256;
+    
+    /** 생성된 문서 ID (SKIPPED면 같은 내용의 기존 문서 ID) */
+    @Column
+    private Long pdfDocumentId;
+    
+    @Column(length = 1000)
+    private String errorMessage;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public enum ItemStatus {
+        PENDING,    // 대기
+        IMPORTING,  // 복사/등록 중
+        IMPORTED,   // 문서 등록 및 처리 작업 등록 완료
+        SKIPPED,    // 같은 내용의 문서가 이미 있음
+        FAILED      // 읽기/복사 실패
+    }
+}
@@ -0,0 +1,42 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유(L2) 응답 캐시 항목
+ * 모든 인스턴스가 같은 테이블을 조회하므로 한 인스턴스에서 생성한 답변을 다른 인스턴스도 재사용
+ */
+@Entity
+@Table(name = "answer_cache",
+        indexes = @Index(name = "idx_answer_cache_expires_at", columnList = "expiresAt"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedAnswer {
+    
+    /**
+     * 정규화된 프롬프트(모델, 생성 옵션, 메시지)의 SHA-256
+     */
+    @Id
+    @Column(length = 64)
+    private String keyHash;
+    
+    @Column(nullable = false)
+    private String model;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String answer;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
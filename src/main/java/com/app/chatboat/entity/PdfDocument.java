@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
  * PDF 문서 엔티티
  */
 @Entity
-@Table(name = "pdf_documents")
+@Table(name = "pdf_documents",
+        indexes = @Index(name = "idx_pdf_documents_file_sha256", columnList = "fileSha256"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -35,12 +36,30 @@ public class PdfDocument {
     @Column(nullable = false)
     private Long fileSize;
     
+    // 원본 파일의 SHA-256 (일괄 가져오기 시 같은 내용의 파일 건너뜀)
+    @Column(length = 64)
+    private String fileSha256;
+    
     @Column(columnDefinition = "TEXT")
     private String extractedText;
     
     @Column(columnDefinition = "TEXT")
     private String summary;
     
+    // 정규화된 추출 텍스트의 SHA-256 (요약 결과 캐시 키)
+    @Column(length = 64)
+    private String contentHash;
+    
+    @Column
+    private Integer pageCount;
+    
+    // 정규화 전/후 추정 토큰 수 (머리글/바닥글, 공백 정리로 줄어든 양 확인용)
+    @Column
+    private Integer rawTokenCount;
+    
+    @Column
+    private Integer tokenCount;
+    
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
     
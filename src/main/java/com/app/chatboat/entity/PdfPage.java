@@ -0,0 +1,34 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PDF 페이지별 추출 텍스트
+ * 페이지 범위 요청 시 문서 전체 대신 해당 페이지 행만 조회
+ */
+@Entity
+@Table(name = "pdf_pages",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"pdfDocumentId", "pageNumber"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PdfPage {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long pdfDocumentId;
+    
+    @Column(nullable = false)
+    private Integer pageNumber;
+    
+    @Column(columnDefinition = "TEXT")
+    private String text;
+}
@@ -0,0 +1,80 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PDF 처리 작업 (DB 기반 작업 큐)
+ * 어느 인스턴스의 워커든 작업을 점유(lease)해 실행하고, 리스가 만료되면 다른 워커가 다시 가져감
+ */
+@Entity
+@Table(name = "processing_jobs",
+        indexes = @Index(name = "idx_processing_jobs_claim", columnList = "status, availableAt"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessingJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobType type;
+    
+    @Column(nullable = false)
+    private Long pdfDocumentId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status;
+    
+    @Column(nullable = false)
+    private Integer attempts;
+    
+    @Column(nullable = false)
+    private Integer maxAttempts;
+    
+    /**
+     * 실행 가능 시각 (재시도 시 백오프 적용)
+     */
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Column
+    private String leaseOwner;
+    
+    @Column
+    private LocalDateTime leaseExpiresAt;
+    
+    @Column(length = 1000)
+    private String lastError;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column
+    private LocalDateTime completedAt;
+    
+    @Version
+    private Long version;
+    
+    public enum JobType {
+        INGEST,     // 텍스트 추출 및 페이지 저장
+        SUMMARIZE   // 요약 생성
+    }
+    
+    public enum JobStatus {
+        PENDING,    // 대기
+        RUNNING,    // 실행 중 (리스 보유)
+        SUCCEEDED,  // 완료
+        DEAD        // 재시도 횟수 초과
+    }
+}
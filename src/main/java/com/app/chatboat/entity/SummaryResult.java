@@ -0,0 +1,54 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 정의 프롬프트 요약 결과
+ * 같은 문서 내용/프롬프트/모델/페이지 범위 요청은 GPT 호출 없이 저장된 결과를 반환
+ */
+@Entity
+@Table(name = "summary_results",
+        indexes = @Index(name = "idx_summary_results_pdf_document_id", columnList = "pdfDocumentId"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryResult {
+    
+    /**
+     * 문서 내용 해시, 페이지 범위, 프롬프트 해시, 모델의 SHA-256
+     */
+    @Id
+    @Column(length = 64)
+    private String keyHash;
+    
+    @Column(nullable = false)
+    private Long pdfDocumentId;
+    
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+    
+    @Column(nullable = false, length = 64)
+    private String promptHash;
+    
+    @Column(nullable = false)
+    private String model;
+    
+    @Column
+    private Integer pageFrom;
+    
+    @Column
+    private Integer pageTo;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String summary;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
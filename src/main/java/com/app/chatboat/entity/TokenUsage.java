@@ -0,0 +1,53 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 클라이언트별 일일 토큰 사용량
+ * 인스턴스마다 메모리에 모은 사용량을 주기적으로 더해 기록하므로 모든 인스턴스의 합계가 됨
+ */
+@Entity
+@Table(name = "token_usage",
+        uniqueConstraints = @UniqueConstraint(name = "uk_token_usage_day_client_scope",
+                columnNames = {"usageDate", "clientId", "scope"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenUsage {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private LocalDate usageDate;
+    
+    @Column(nullable = false, length = 100)
+    private String clientId;
+    
+    /**
+     * 전문가 모드 코드 또는 PDF 작업 구분 (pdf-summary, pdf-analysis)
+     */
+    @Column(nullable = false, length = 50)
+    private String scope;
+    
+    @Column(nullable = false)
+    private Long promptTokens;
+    
+    @Column(nullable = false)
+    private Long completionTokens;
+    
+    @Column(nullable = false)
+    private Long requests;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
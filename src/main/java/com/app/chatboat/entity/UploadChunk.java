@@ -0,0 +1,42 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신 완료된 업로드 청크 기록
+ * 청크마다 별도 행으로 삽입해 병렬 업로드 시 세션 행 갱신 경합이 없음
+ */
+@Entity
+@Table(name = "upload_chunks",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"uploadId", "chunkIndex"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadChunk {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String uploadId;
+    
+    @Column(nullable = false)
+    private Integer chunkIndex;
+    
+    @Column(nullable = false)
+    private Integer size;
+    
+    @Column(nullable = false, length = 64)
+    private String sha256;
+    
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+}
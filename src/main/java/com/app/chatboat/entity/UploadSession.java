@@ -0,0 +1,74 @@
+package com.app.chatboat.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할(재개 가능) 업로드 세션 엔티티
+ * 업로드 중인 파일은 totalSize만큼 미리 할당된 임시 파일에 청크 오프셋 위치로 기록됨
+ */
+@Entity
+@Table(name = "upload_sessions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+    
+    @Id
+    private String id;
+    
+    @Column(nullable = false)
+    private String originalFileName;
+    
+    @Column(nullable = false)
+    private Long totalSize;
+    
+    @Column(nullable = false)
+    private Integer chunkSize;
+    
+    @Column(nullable = false)
+    private Integer totalChunks;
+    
+    /** 클라이언트가 알려준 전체 파일 SHA-256 (선택) */
+    @Column(length = 64)
+    private String fileSha256;
+    
+    @Column(nullable = false)
+    private String tempPath;
+    
+    @Column(length = 1000)
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UploadStatus status;
+    
+    /** 조립 완료 후 생성된 PDF 문서 ID */
+    @Column
+    private Long pdfDocumentId;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column
+    private LocalDateTime completedAt;
+    
+    /** 완료/중단 요청이 동시에 들어와도 한 번만 처리되도록 낙관적 잠금 */
+    @Version
+    private Long version;
+    
+    public enum UploadStatus {
+        ACTIVE,      // 청크 수신 중
+        ASSEMBLING,  // 조립 검증 중
+        COMPLETED,   // 조립 완료 및 문서 등록
+        FAILED,      // 문서 등록 실패 후 조립 파일 복구 불가
+        ABORTED,     // 사용자 중단
+        EXPIRED      // 보관 기간 만료
+    }
+}
@@ -0,0 +1,73 @@
+package com.app.chatboat.filter;
+
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.logging.RequestTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청마다 요약 로그 한 줄 (chatboat.access 로거)
+ * 메서드, 경로, 상태, 클라이언트, 전체 소요 시간과 처리 단계별 소요 시간(phase.*.ms)을 구조화 필드로 기록
+ * 요청/응답 본문은 기록하지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "app.logging", name = "access-log", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("chatboat.access");
+
+    private final UsageProperties usageProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var timings = RequestTimings.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            log(request, response, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), timings);
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long durationMs, RequestTimings timings) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+        String clientId = usageProperties.clientIdFor(request.getHeader(usageProperties.apiKeyHeader()));
+        var event = ACCESS_LOG.atInfo()
+                .addKeyValue("http.method", request.getMethod())
+                .addKeyValue("http.path", request.getRequestURI())
+                .addKeyValue("http.status", response.getStatus())
+                .addKeyValue("client.id", clientId == null ? "anonymous" : clientId)
+                .addKeyValue("duration.ms", durationMs)
+                .addKeyValue("db.calls", timings.count("db"));
+        for (var phase : timings.millis().entrySet()) {
+            event = event.addKeyValue("phase." + phase.getKey() + ".ms", phase.getValue());
+        }
+        event.log("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), response.getStatus(), durationMs);
+    }
+}
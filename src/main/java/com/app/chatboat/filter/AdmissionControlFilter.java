@@ -0,0 +1,125 @@
+package com.app.chatboat.filter;
+
+import com.app.chatboat.config.AdmissionProperties;
+import com.app.chatboat.service.AdmissionController;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 채팅 / PDF 요청 수락 제어 필터
+ * 한도를 넘은 요청은 컨트롤러에 들어가기 전에 바로 429 + Retry-After로 거절하고,
+ * 수락한 요청의 슬롯은 응답이 끝날 때 반납 (비동기 응답은 완료 시점에 반납)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final AdmissionProperties admissionProperties;
+    private final AdmissionController admissionController;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdmissionController.Admission admission;
+        try {
+            admission = admissionController.tryAdmit(classify(request));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        if (!admission.accepted()) {
+            log.warn("과부하로 요청 거절 ({}): {} {}", admission.reason(), request.getMethod(), request.getRequestURI());
+            reject(response, admission);
+            return;
+        }
+
+        var permit = admission.permit();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit));
+            } else {
+                permit.close();
+            }
+        }
+    }
+
+    AdmissionController.RequestClass classify(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return AdmissionController.RequestClass.CHEAP;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (matches(admissionProperties.heavyPaths(), path)) {
+            return AdmissionController.RequestClass.HEAVY;
+        }
+        if (matches(admissionProperties.interactivePaths(), path)) {
+            return AdmissionController.RequestClass.INTERACTIVE;
+        }
+        return AdmissionController.RequestClass.CHEAP;
+    }
+
+    private static boolean matches(List<String> patterns, String path) {
+        return patterns.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    private static void reject(HttpServletResponse response, AdmissionController.Admission admission) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(admission.retryAfter().toSeconds()));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 많아 지금은 처리할 수 없습니다. " + admission.retryAfter().toSeconds() + "초 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 비동기 응답(스트리밍)이 끝날 때 슬롯 반납
+     */
+    private record ReleaseOnComplete(AdmissionController.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
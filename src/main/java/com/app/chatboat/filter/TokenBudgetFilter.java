@@ -0,0 +1,84 @@
+package com.app.chatboat.filter;
+
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.service.ClientContext;
+import com.app.chatboat.service.TokenUsageService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 클라이언트 식별 및 일일 토큰 예산 확인 필터
+ * - API 키 헤더(기본 X-Api-Key)로 찾은 클라이언트를 ClientContext에 설정 (없거나 등록되지 않은 키는 anonymous)
+ * - 예산 대상 경로의 POST 요청은 컨트롤러에 들어가기 전에 예산을 확인해 초과 시 바로 429 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TokenBudgetFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final UsageProperties usageProperties;
+    private final TokenUsageService tokenUsageService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = clientId(request);
+        ClientContext.set(clientId);
+        try {
+            if (isEnforced(request)) {
+                var budget = tokenUsageService.checkBudget(clientId);
+                if (budget.exceeded()) {
+                    log.warn("일일 토큰 예산 초과로 요청 거절: {} ({} / {})", clientId, budget.usedTokens(), budget.dailyBudget());
+                    reject(response, budget);
+                    return;
+                }
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientContext.clear();
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String clientId = usageProperties.clientIdFor(request.getHeader(usageProperties.apiKeyHeader()));
+        return clientId != null ? clientId : ClientContext.ANONYMOUS;
+    }
+
+    private boolean isEnforced(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return usageProperties.enforcedPaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    private static void reject(HttpServletResponse response, TokenUsageService.BudgetStatus budget) throws IOException {
+        long untilMidnight = Duration.between(LocalDateTime.now(), LocalDate.now().plusDays(1).atStartOfDay()).toSeconds();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, untilMidnight)));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("오늘 사용 가능한 토큰 한도(" + budget.dailyBudget() + ")를 초과했습니다. 내일 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,42 @@
+package com.app.chatboat.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 로그에 남기는 사용자 입력 요약
+ * 원문 대신 앞부분 일부와 길이, 해시만 남김 (같은 질문끼리는 해시로 묶어 볼 수 있음)
+ */
+public final class LogText {
+
+    static final int PREVIEW_LENGTH = 20;
+
+    private LogText() {
+    }
+
+    /**
+     * 예: "배송 정책 알려줘…" (len=42, #1a2b3c4d)
+     */
+    public static String summary(String text) {
+        if (text == null) {
+            return "(null)";
+        }
+        String flat = text.strip().replaceAll("\\s+", " ");
+        String preview = flat.length() > PREVIEW_LENGTH ? flat.substring(0, PREVIEW_LENGTH) + "…" : flat;
+        return "\"" + preview + "\" (len=" + text.length() + ", #" + hash(text) + ")";
+    }
+
+    /**
+     * SHA-256 앞 8자리
+     */
+    public static String hash(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
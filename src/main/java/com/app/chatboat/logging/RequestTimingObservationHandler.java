@@ -0,0 +1,53 @@
+package com.app.chatboat.logging;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 관측(채팅 단계, LLM 호출, 리포지토리 호출)의 소요 시간을 현재 요청의 RequestTimings에 누적
+ * - chatboat.chat.phase → phase 값 (validate, context-load, prompt-build, upstream)
+ * - chatboat.llm.call → llm, chatboat.repository → db
+ */
+@Component
+public class RequestTimingObservationHandler implements ObservationHandler<Observation.Context> {
+
+    private static final String START_NANOS = RequestTimingObservationHandler.class.getName() + ".start";
+
+    @Override
+    public void onStart(Observation.Context context) {
+        if (RequestTimings.current() != null && phase(context) != null) {
+            context.put(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Long start = context.get(START_NANOS);
+        var timings = RequestTimings.current();
+        if (start != null && timings != null) {
+            timings.add(phase(context), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    static String phase(Observation.Context context) {
+        if (context.getName() == null) {
+            return null;
+        }
+        return switch (context.getName()) {
+            case "chatboat.chat.phase" -> {
+                KeyValue phase = context.getLowCardinalityKeyValue("phase");
+                yield phase == null ? null : phase.getValue();
+            }
+            case "chatboat.llm.call" -> "llm";
+            case "chatboat.repository" -> "db";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.chatboat.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드에서 완료된 처리 단계별 소요 시간 (요청 요약 로그용)
+ * 요청 스레드에서만 기록하므로 동기화하지 않음 (일괄 채팅 가상 스레드의 단계는 포함되지 않음)
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, long[]> phases = new LinkedHashMap<>();
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings start() {
+        var timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 단계 소요 시간 누적 (같은 단계가 여러 번이면 합산하고 횟수 기록)
+     */
+    public void add(String phase, long nanos) {
+        long[] total = phases.computeIfAbsent(phase, key -> new long[2]);
+        total[0] += nanos;
+        total[1]++;
+    }
+
+    /**
+     * 단계별 누적 시간(ms)
+     */
+    public Map<String, Long> millis() {
+        var result = new LinkedHashMap<String, Long>();
+        phases.forEach((phase, total) -> result.put(phase, TimeUnit.NANOSECONDS.toMillis(total[0])));
+        return result;
+    }
+
+    public long count(String phase) {
+        long[] total = phases.get(phase);
+        return total == null ? 0 : total[1];
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.BulkImportItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 가져오기 대상 파일 리포지토리
+ */
+@Repository
+public interface BulkImportItemRepository extends JpaRepository<BulkImportItem, Long> {
+    
+    /**
+     * 이미 목록에 있는 파일 경로 (목록 작성 도중 재시작된 경우 중복 등록 방지)
+     */
+    @Query("SELECT i.relativePath FROM BulkImportItem i WHERE i.importId = :importId")
+    List<String> findRelativePaths(@Param("importId") String importId);
+    
+    /**
+     * 상태별 파일 조회 (ID 순)
+     */
+    List<BulkImportItem> findByImportIdAndStatusOrderById(String importId, BulkImportItem.ItemStatus status, Pageable pageable);
+    
+    long countByImportIdAndStatus(String importId, BulkImportItem.ItemStatus status);
+    
+    /**
+     * 대기 중인 파일 점유 (다른 인스턴스가 먼저 점유했으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE BulkImportItem i
+            SET i.status = com.app.chatboat.entity.BulkImportItem.ItemStatus.IMPORTING, i.updatedAt = :now
+            WHERE i.id = :id AND i.status = com.app.chatboat.entity.BulkImportItem.ItemStatus.PENDING
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    /**
+     * 처리 도중 중단된(오래된) 파일을 다시 대기 상태로
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE BulkImportItem i
+            SET i.status = com.app.chatboat.entity.BulkImportItem.ItemStatus.PENDING
+            WHERE i.importId = :importId
+              AND i.status = com.app.chatboat.entity.BulkImportItem.ItemStatus.IMPORTING
+              AND i.updatedAt < :before
+            """)
+    int resetStale(@Param("importId") String importId, @Param("before") LocalDateTime before);
+    
+    /**
+     * 상태별 파일 수 / 바이트 합계
+     */
+    @Query("""
+            SELECT i.status AS status, COUNT(i) AS files, COALESCE(SUM(i.fileSize), 0) AS bytes
+            FROM BulkImportItem i
+            WHERE i.importId = :importId
+            GROUP BY i.status
+            """)
+    List<StatusCount> countByStatus(@Param("importId") String importId);
+    
+    interface StatusCount {
+        
+        BulkImportItem.ItemStatus getStatus();
+        
+        Long getFiles();
+        
+        Long getBytes();
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.BulkImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일괄 가져오기 리포지토리
+ */
+@Repository
+public interface BulkImportRepository extends JpaRepository<BulkImport, String> {
+    
+    /**
+     * 진행 중인 가져오기 조회 (재시작 시 이어서 실행)
+     */
+    List<BulkImport> findByStatusIn(Collection<BulkImport.ImportStatus> statuses);
+    
+    /**
+     * 최근 가져오기 목록
+     */
+    List<BulkImport> findTop20ByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,26 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.CachedAnswer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 응답 캐시 리포지토리
+ */
+@Repository
+public interface CachedAnswerRepository extends JpaRepository<CachedAnswer, String> {
+    
+    /**
+     * 만료된 항목 일괄 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CachedAnswer c WHERE c.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.PdfDocument;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문(extractedText) 없이 조회하는 PDF 문서 메타데이터 프로젝션
+ */
+public interface PdfDocumentInfo {
+    
+    Long getId();
+    
+    String getOriginalFileName();
+    
+    LocalDateTime getUploadedAt();
+    
+    String getSummary();
+    
+    PdfDocument.ProcessingStatus getStatus();
+    
+    Integer getPageCount();
+    
+    String getContentHash();
+}
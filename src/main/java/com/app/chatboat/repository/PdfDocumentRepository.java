@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,22 @@ public interface PdfDocumentRepository extends JpaRepository<PdfDocument, Long>
      */
     Optional<PdfDocument> findByFileName(String fileName);
     
+    /**
+     * 메타데이터만 조회 (문서 본문 제외)
+     */
+    Optional<PdfDocumentInfo> findInfoById(Long id);
+    
+    /**
+     * 여러 문서의 메타데이터만 조회 (문서 본문 제외)
+     */
+    List<PdfDocumentInfo> findInfoByIdIn(Collection<Long> ids);
+    
+    /**
+     * 같은 내용(원본 파일 SHA-256)의 문서 ID 조회
+     */
+    @Query("SELECT p.id FROM PdfDocument p WHERE p.fileSha256 = :fileSha256 ORDER BY p.id")
+    List<Long> findIdsByFileSha256(@Param("fileSha256") String fileSha256);
+    
     /**
      * 처리 완료된 문서들 조회
      */
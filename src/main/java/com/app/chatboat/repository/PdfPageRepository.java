@@ -0,0 +1,36 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.PdfPage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * PDF 페이지 리포지토리
+ */
+@Repository
+public interface PdfPageRepository extends JpaRepository<PdfPage, Long> {
+    
+    /**
+     * 페이지 범위 조회 (양 끝 포함)
+     */
+    List<PdfPage> findByPdfDocumentIdAndPageNumberBetweenOrderByPageNumber(Long pdfDocumentId, Integer from, Integer to);
+    
+    /**
+     * 문서의 전체 페이지 조회
+     */
+    List<PdfPage> findByPdfDocumentIdOrderByPageNumber(Long pdfDocumentId);
+    
+    /**
+     * 문서의 페이지 일괄 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PdfPage p WHERE p.pdfDocumentId = :pdfDocumentId")
+    void deleteByPdfDocumentId(@Param("pdfDocumentId") Long pdfDocumentId);
+}
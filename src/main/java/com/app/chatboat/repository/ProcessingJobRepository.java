@@ -0,0 +1,86 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.ProcessingJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PDF 처리 작업 리포지토리
+ */
+@Repository
+public interface ProcessingJobRepository extends JpaRepository<ProcessingJob, Long> {
+    
+    /**
+     * 실행 가능한 작업을 잠그며 조회 (PostgreSQL)
+     * 다른 트랜잭션이 잠근 행은 건너뛰므로 여러 워커가 같은 작업을 두고 대기하지 않음
+     */
+    @Query(value = """
+            SELECT * FROM processing_jobs
+            WHERE (status = 'PENDING' AND available_at <= :now)
+               OR (status = 'RUNNING' AND lease_expires_at < :now)
+            ORDER BY available_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ProcessingJob> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    /**
+     * 실행 가능한 작업 후보 조회 (잠금 없음, 점유는 버전 비교로 결정)
+     */
+    @Query("""
+            SELECT j FROM ProcessingJob j
+            WHERE (j.status = com.app.chatboat.entity.ProcessingJob.JobStatus.PENDING AND j.availableAt <= :now)
+               OR (j.status = com.app.chatboat.entity.ProcessingJob.JobStatus.RUNNING AND j.leaseExpiresAt < :now)
+            ORDER BY j.availableAt
+            """)
+    List<ProcessingJob> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * 리스 소유자의 실행 중 작업만 리스 연장 (리스를 잃었으면 0)
+     * 버전을 올리므로 만료된 리스를 보고 점유하려던 다른 워커의 버전 비교 갱신은 실패
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ProcessingJob j
+            SET j.leaseExpiresAt = :leaseExpiresAt, j.version = j.version + 1
+            WHERE j.id = :id
+              AND j.status = com.app.chatboat.entity.ProcessingJob.JobStatus.RUNNING
+              AND j.leaseOwner = :owner
+            """)
+    int extendLease(@Param("id") Long id, @Param("owner") String owner,
+                    @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+    
+    /**
+     * 리스 소유자의 실행 중 작업만 완료 처리 (리스를 잃었으면 0)
+     * 행을 읽지 않고 조건부로 갱신하므로 같은 시점의 하트비트와 버전 충돌이 나지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ProcessingJob j
+            SET j.status = com.app.chatboat.entity.ProcessingJob.JobStatus.SUCCEEDED,
+                j.leaseOwner = NULL, j.leaseExpiresAt = NULL, j.completedAt = :completedAt,
+                j.version = j.version + 1
+            WHERE j.id = :id
+              AND j.status = com.app.chatboat.entity.ProcessingJob.JobStatus.RUNNING
+              AND j.leaseOwner = :owner
+            """)
+    int markSucceeded(@Param("id") Long id, @Param("owner") String owner,
+                      @Param("completedAt") LocalDateTime completedAt);
+    
+    /**
+     * 문서의 작업 목록 조회
+     */
+    List<ProcessingJob> findByPdfDocumentIdOrderByCreatedAt(Long pdfDocumentId);
+    
+    long countByStatus(ProcessingJob.JobStatus status);
+}
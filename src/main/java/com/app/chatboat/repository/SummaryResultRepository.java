@@ -0,0 +1,24 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.SummaryResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 정의 요약 결과 리포지토리
+ */
+@Repository
+public interface SummaryResultRepository extends JpaRepository<SummaryResult, String> {
+    
+    /**
+     * 문서의 요약 결과 일괄 삭제 (문서 삭제/재처리 시)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SummaryResult s WHERE s.pdfDocumentId = :pdfDocumentId")
+    int deleteByPdfDocumentId(@Param("pdfDocumentId") Long pdfDocumentId);
+}
@@ -0,0 +1,54 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.TokenUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 토큰 사용량 리포지토리
+ */
+@Repository
+public interface TokenUsageRepository extends JpaRepository<TokenUsage, Long> {
+    
+    /**
+     * 기존 행에 사용량 누적 (다른 인스턴스와 동시에 더해도 유실되지 않도록 DB에서 더함)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TokenUsage u SET u.promptTokens = u.promptTokens + :promptTokens, " +
+           "u.completionTokens = u.completionTokens + :completionTokens, u.requests = u.requests + :requests, " +
+           "u.updatedAt = :now " +
+           "WHERE u.usageDate = :usageDate AND u.clientId = :clientId AND u.scope = :scope")
+    int addUsage(@Param("usageDate") LocalDate usageDate,
+                 @Param("clientId") String clientId,
+                 @Param("scope") String scope,
+                 @Param("promptTokens") long promptTokens,
+                 @Param("completionTokens") long completionTokens,
+                 @Param("requests") long requests,
+                 @Param("now") LocalDateTime now);
+    
+    /**
+     * 클라이언트의 하루 사용 토큰 합계 (프롬프트 + 생성)
+     */
+    @Query("SELECT COALESCE(SUM(u.promptTokens + u.completionTokens), 0) FROM TokenUsage u " +
+           "WHERE u.usageDate = :usageDate AND u.clientId = :clientId")
+    long sumTokens(@Param("usageDate") LocalDate usageDate, @Param("clientId") String clientId);
+    
+    /**
+     * 하루 사용량 목록
+     */
+    List<TokenUsage> findByUsageDateOrderByClientIdAscScopeAsc(LocalDate usageDate);
+    
+    /**
+     * 클라이언트의 하루 사용량 목록
+     */
+    List<TokenUsage> findByUsageDateAndClientIdOrderByScopeAsc(LocalDate usageDate, String clientId);
+}
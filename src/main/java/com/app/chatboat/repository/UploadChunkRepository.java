@@ -0,0 +1,31 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.UploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 청크 리포지토리
+ */
+@Repository
+public interface UploadChunkRepository extends JpaRepository<UploadChunk, Long> {
+    
+    List<UploadChunk> findByUploadIdOrderByChunkIndex(String uploadId);
+    
+    Optional<UploadChunk> findByUploadIdAndChunkIndex(String uploadId, Integer chunkIndex);
+    
+    /**
+     * 세션의 청크 기록 일괄 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadChunk c WHERE c.uploadId = :uploadId")
+    void deleteByUploadId(@Param("uploadId") String uploadId);
+}
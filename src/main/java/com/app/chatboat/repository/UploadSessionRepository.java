@@ -0,0 +1,20 @@
+package com.app.chatboat.repository;
+
+import com.app.chatboat.entity.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분할 업로드 세션 리포지토리
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    
+    /**
+     * 보관 기간이 지난 세션 조회
+     */
+    List<UploadSession> findByStatusAndCreatedAtBefore(UploadSession.UploadStatus status, LocalDateTime createdAt);
+}
@@ -0,0 +1,243 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 수락 제어 (과부하 시 업스트림 타임아웃까지 줄 세우지 않고 바로 거절)
+ * - 채팅 요청: 동시 처리 수(maxInFlight)까지 바로 수락, 초과분은 대기열 길이와 예상 대기 시간이 한도 안일 때만 maxQueueWait까지 대기
+ * - 무거운 요청: 대기하지 않고, 대기 중인 채팅 요청이 없고 빈 슬롯이 있을 때만 heavyMaxInFlight까지 수락 (채팅 우선)
+ * - 처리 시간은 종류별 지수 이동 평균으로 측정해 예상 대기 시간과 Retry-After 계산에 사용
+ */
+@Service
+public class AdmissionController {
+
+    private static final double EWMA_WEIGHT = 0.2;
+
+    private final AdmissionProperties properties;
+    private final Semaphore permits;
+    private final Semaphore heavyPermits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ServiceTime interactiveServiceTime;
+    private final ServiceTime heavyServiceTime;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxInFlight(), true);
+        this.heavyPermits = new Semaphore(properties.heavyMaxInFlight());
+        this.interactiveServiceTime = new ServiceTime(properties.initialServiceTime().toMillis());
+        this.heavyServiceTime = new ServiceTime(properties.initialServiceTime().toMillis());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("chatboat.admission.in-flight", this, controller -> controller.inFlight())
+                .description("수락되어 처리 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("chatboat.admission.waiting", waiting, AtomicInteger::get)
+                .description("슬롯을 기다리는 채팅 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 수락 여부 결정 (수락 시 Admission.permit을 요청 완료 후 반드시 닫아야 함)
+     */
+    public Admission tryAdmit(RequestClass requestClass) throws InterruptedException {
+        if (!properties.enabled() || requestClass == RequestClass.CHEAP) {
+            return Admission.admitted(Permit.NONE);
+        }
+        return requestClass == RequestClass.HEAVY ? admitHeavy() : admitInteractive();
+    }
+
+    private Admission admitInteractive() throws InterruptedException {
+        // 공정 세마포어 - 대기 중인 요청이 있으면 새 요청이 앞지르지 않음
+        if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+            return admit(RequestClass.INTERACTIVE, new Permit(this, false, interactiveServiceTime));
+        }
+
+        int ahead = waiting.get();
+        if (ahead >= properties.maxQueueLength()) {
+            return reject(RequestClass.INTERACTIVE, "queue-full", ahead);
+        }
+        // 앞선 대기 요청이 모두 빠질 때까지 걸릴 예상 시간이 대기 한도를 넘으면 기다리지 않고 거절
+        if (expectedWaitMillis(ahead) > properties.maxQueueWait().toMillis()) {
+            return reject(RequestClass.INTERACTIVE, "expected-wait", ahead);
+        }
+
+        waiting.incrementAndGet();
+        try {
+            if (permits.tryAcquire(properties.maxQueueWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                return admit(RequestClass.INTERACTIVE, new Permit(this, false, interactiveServiceTime));
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+        return reject(RequestClass.INTERACTIVE, "wait-timeout", waiting.get());
+    }
+
+    private Admission admitHeavy() throws InterruptedException {
+        if (waiting.get() > 0) {
+            return reject(RequestClass.HEAVY, "interactive-priority", waiting.get());
+        }
+        if (!heavyPermits.tryAcquire()) {
+            return reject(RequestClass.HEAVY, "heavy-limit", 0);
+        }
+        if (!permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+            heavyPermits.release();
+            return reject(RequestClass.HEAVY, "in-flight-limit", 0);
+        }
+        return admit(RequestClass.HEAVY, new Permit(this, true, heavyServiceTime));
+    }
+
+    /**
+     * ahead개의 대기 요청이 모두 처리될 때까지의 예상 시간 - 동시 처리 수만큼 병렬로 빠진다고 가정
+     */
+    long expectedWaitMillis(int ahead) {
+        return (long) Math.ceil((double) (ahead + 1) * interactiveServiceTime.millis() / properties.maxInFlight());
+    }
+
+    private Admission admit(RequestClass requestClass, Permit permit) {
+        admitted.increment();
+        counter(requestClass, "admitted").increment();
+        return Admission.admitted(permit);
+    }
+
+    private Admission reject(RequestClass requestClass, String reason, int ahead) {
+        rejected.increment();
+        counter(requestClass, reason).increment();
+        return Admission.rejected(reason, retryAfter(requestClass, ahead));
+    }
+
+    /**
+     * 다시 시도할 때까지의 시간 - 채팅은 현재 대기열이 빠질 예상 시간, 무거운 요청은 처리 중인 요청 하나가 끝날 예상 시간
+     */
+    Duration retryAfter(RequestClass requestClass, int ahead) {
+        long millis = requestClass == RequestClass.HEAVY
+                ? heavyServiceTime.millis() / properties.heavyMaxInFlight()
+                : expectedWaitMillis(ahead);
+        long seconds = Math.clamp((long) Math.ceil(millis / 1000.0), 1, properties.maxRetryAfter().toSeconds());
+        return Duration.ofSeconds(seconds);
+    }
+
+    public int inFlight() {
+        return properties.maxInFlight() - permits.availablePermits();
+    }
+
+    public AdmissionStats getStats() {
+        return new AdmissionStats(
+                admitted.sum(),
+                rejected.sum(),
+                inFlight(),
+                properties.maxInFlight(),
+                properties.heavyMaxInFlight() - heavyPermits.availablePermits(),
+                waiting.get(),
+                interactiveServiceTime.millis(),
+                heavyServiceTime.millis()
+        );
+    }
+
+    private void release(Permit permit) {
+        permits.release();
+        if (permit.heavy) {
+            heavyPermits.release();
+        }
+    }
+
+    private Counter counter(RequestClass requestClass, String result) {
+        return Counter.builder("chatboat.admission")
+                .description("요청 수락 제어 결과")
+                .tag("class", requestClass.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 비용 등급
+     */
+    public enum RequestClass {
+        CHEAP, INTERACTIVE, HEAVY
+    }
+
+    public record Admission(boolean accepted, Permit permit, String reason, Duration retryAfter) {
+
+        static Admission admitted(Permit permit) {
+            return new Admission(true, permit, null, Duration.ZERO);
+        }
+
+        static Admission rejected(String reason, Duration retryAfter) {
+            return new Admission(false, Permit.NONE, reason, retryAfter);
+        }
+    }
+
+    /**
+     * 수락된 요청의 슬롯 (닫을 때 반납하고 처리 시간 기록, 여러 번 닫아도 한 번만 반납)
+     */
+    public static final class Permit implements AutoCloseable {
+
+        static final Permit NONE = new Permit(null, false, null);
+
+        private final AdmissionController owner;
+        private final boolean heavy;
+        private final ServiceTime serviceTime;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(AdmissionController owner, boolean heavy, ServiceTime serviceTime) {
+            this.owner = owner;
+            this.heavy = heavy;
+            this.serviceTime = serviceTime;
+        }
+
+        @Override
+        public void close() {
+            if (owner == null || !closed.compareAndSet(false, true)) {
+                return;
+            }
+            serviceTime.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            owner.release(this);
+        }
+    }
+
+    /**
+     * 처리 시간 지수 이동 평균
+     */
+    private static final class ServiceTime {
+
+        private double millis;
+
+        private ServiceTime(long initialMillis) {
+            this.millis = initialMillis;
+        }
+
+        synchronized void record(long sampleMillis) {
+            millis = millis * (1 - EWMA_WEIGHT) + sampleMillis * EWMA_WEIGHT;
+        }
+
+        synchronized long millis() {
+            return Math.round(millis);
+        }
+    }
+
+    public record AdmissionStats(
+            long admitted,
+            long rejected,
+            int inFlight,
+            int maxInFlight,
+            int heavyInFlight,
+            int waiting,
+            long interactiveServiceMillis,
+            long heavyServiceMillis
+    ) {}
+}
@@ -0,0 +1,293 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.AnswerCacheProperties;
+import com.app.chatboat.entity.CachedAnswer;
+import com.app.chatboat.repository.CachedAnswerRepository;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 2단계 응답 캐시
+ * - L1: 인스턴스 로컬 LRU (크기 제한)
+ * - L2: PostgreSQL answer_cache 테이블 - 모든 인스턴스가 공유하므로 새로 뜬 인스턴스도 바로 적중
+ * - 키: 모델, 생성 옵션, 정규화된 메시지의 SHA-256
+ * - 만료: 조회 시 만료 여부 확인(지연 만료) + 주기적 일괄 삭제
+ * - 쓰기: 요청 스레드는 L1에만 쓰고, L2 쓰기는 큐에 모아 일괄 저장(write-behind)
+ * L2 장애 시에는 캐시 미적중으로 처리해 채팅 요청에 영향을 주지 않음
+ */
+@Slf4j
+@Service
+public class AnswerCacheService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final CachedAnswerRepository cachedAnswerRepository;
+    private final AnswerCacheProperties properties;
+    private final Map<String, Entry> l1;
+    private final BlockingQueue<CachedAnswer> pendingWrites;
+    private final Set<String> expiredKeys = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder droppedWrites = new LongAdder();
+
+    private final Counter l1HitCounter;
+    private final Counter l2HitCounter;
+    private final Counter missCounter;
+
+    public AnswerCacheService(CachedAnswerRepository cachedAnswerRepository,
+                              AnswerCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.cachedAnswerRepository = cachedAnswerRepository;
+        this.properties = properties;
+        this.l1 = lru(properties.l1MaxEntries());
+        this.pendingWrites = new ArrayBlockingQueue<>(properties.writeQueueCapacity());
+        this.l1HitCounter = counter(meterRegistry, "l1-hit");
+        this.l2HitCounter = counter(meterRegistry, "l2-hit");
+        this.missCounter = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * 캐시된 답변을 반환하고, 없으면 loader로 생성해 캐시 (loader 예외는 캐시하지 않고 그대로 전달)
+     */
+    public String getOrCompute(ChatCompletionRequest request, Supplier<String> loader) {
+        return getOrCompute(request, loader, answer -> true);
+    }
+
+    /**
+     * getOrCompute와 같고, 생성한 답변은 cacheable이 허용할 때만 캐시 (다른 요청에 재사용하면 안 되는 답변 제외용)
+     */
+    public String getOrCompute(ChatCompletionRequest request, Supplier<String> loader, Predicate<String> cacheable) {
+        if (!properties.enabled()) {
+            return loader.get();
+        }
+
+        String key = key(request);
+        var cached = lookup(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String answer = loader.get();
+        if (answer != null && !answer.isBlank() && cacheable.test(answer)) {
+            put(key, request.getModel(), answer);
+        }
+        return answer;
+    }
+
+    private Optional<String> lookup(String key) {
+        var now = LocalDateTime.now();
+
+        Entry entry;
+        synchronized (l1) {
+            entry = l1.get(key);
+        }
+        if (entry != null && entry.expiresAt().isAfter(now)) {
+            l1Hits.increment();
+            l1HitCounter.increment();
+            return Optional.of(entry.answer());
+        }
+
+        try {
+            var stored = cachedAnswerRepository.findById(key);
+            if (stored.isPresent()) {
+                if (stored.get().getExpiresAt().isAfter(now)) {
+                    synchronized (l1) {
+                        l1.put(key, new Entry(stored.get().getAnswer(), stored.get().getExpiresAt()));
+                    }
+                    l2Hits.increment();
+                    l2HitCounter.increment();
+                    return Optional.of(stored.get().getAnswer());
+                }
+                // 지연 만료 - 다음 쓰기 주기에 삭제
+                expiredKeys.add(key);
+            }
+        } catch (DataAccessException e) {
+            log.warn("공유 응답 캐시 조회 실패 - 미적중으로 처리: {}", e.getMessage());
+        }
+
+        misses.increment();
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    private void put(String key, String model, String answer) {
+        var now = LocalDateTime.now();
+        var expiresAt = now.plus(properties.ttl());
+        synchronized (l1) {
+            l1.put(key, new Entry(answer, expiresAt));
+        }
+        expiredKeys.remove(key);
+
+        var row = CachedAnswer.builder()
+                .keyHash(key)
+                .model(model)
+                .answer(answer)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build();
+        if (!pendingWrites.offer(row)) {
+            // 큐가 가득 차면 L2 쓰기만 포기 (L1에는 이미 저장됨)
+            droppedWrites.increment();
+        }
+    }
+
+    /**
+     * 대기 중인 L2 쓰기를 일괄 저장하고 지연 만료된 키 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.chat.answer-cache.flush-interval:PT1S}")
+    public void flush() {
+        while (true) {
+            // 저장소가 넘겨받은 목록을 보관할 수 있으므로 배치마다 새 목록 사용
+            var batch = new ArrayList<CachedAnswer>(properties.writeBatchSize());
+            if (pendingWrites.drainTo(batch, properties.writeBatchSize()) == 0) {
+                break;
+            }
+            write(batch);
+        }
+
+        if (!expiredKeys.isEmpty()) {
+            var keys = List.copyOf(expiredKeys);
+            try {
+                cachedAnswerRepository.deleteAllByIdInBatch(keys);
+                keys.forEach(expiredKeys::remove);
+            } catch (DataAccessException e) {
+                log.warn("만료된 응답 캐시 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 만료 항목 주기적 정리 (조회되지 않는 항목용)
+     */
+    @Scheduled(fixedDelayString = "${app.chat.answer-cache.purge-interval:PT10M}")
+    public void purgeExpired() {
+        try {
+            int deleted = cachedAnswerRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료된 응답 캐시 {}건 삭제", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("만료된 응답 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public AnswerCacheStats getStats() {
+        long l1 = l1Hits.sum();
+        long l2 = l2Hits.sum();
+        long miss = misses.sum();
+        long total = l1 + l2 + miss;
+        int l1Size;
+        synchronized (this.l1) {
+            l1Size = this.l1.size();
+        }
+        return new AnswerCacheStats(l1, l2, miss, total == 0 ? 0.0 : (double) (l1 + l2) / total,
+                l1Size, pendingWrites.size(), droppedWrites.sum());
+    }
+
+    /**
+     * 캐시 키 - 모델, 생성 옵션, 역할과 정규화된(앞뒤 공백 제거, 연속 공백 축약) 메시지 내용의 SHA-256
+     */
+    static String key(ChatCompletionRequest request) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            update(digest, request.getModel());
+            update(digest, String.valueOf(request.getMaxTokens()));
+            update(digest, String.valueOf(request.getTemperature()));
+            for (ChatMessage message : request.getMessages()) {
+                update(digest, message.getRole());
+                update(digest, normalize(message.getContent()));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    static String normalize(String content) {
+        return content == null ? "" : WHITESPACE.matcher(content.strip()).replaceAll(" ");
+    }
+
+    private void write(List<CachedAnswer> batch) {
+        try {
+            cachedAnswerRepository.saveAll(batch);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키를 먼저 저장한 경우 - 행 단위로 다시 시도
+            for (CachedAnswer row : batch) {
+                try {
+                    cachedAnswerRepository.save(row);
+                } catch (DataAccessException rowError) {
+                    log.debug("응답 캐시 저장 건너뜀: {}", row.getKeyHash());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("공유 응답 캐시 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static Map<String, Entry> lru(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chatboat.chat.answer-cache")
+                .description("응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(String answer, LocalDateTime expiresAt) {}
+
+    public record AnswerCacheStats(
+            long l1Hits,
+            long l2Hits,
+            long misses,
+            double hitRatio,
+            int l1Size,
+            int pendingWrites,
+            long droppedWrites
+    ) {}
+}
@@ -0,0 +1,166 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.BatchChatProperties;
+import com.app.chatboat.dto.BatchChatItemResult;
+import com.app.chatboat.dto.BatchChatRequest;
+import com.app.chatboat.dto.BatchChatResponse;
+import com.app.chatboat.dto.ChatRequest;
+import com.app.chatboat.enums.ExpertMode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 일괄 채팅 서비스
+ * - 항목마다 가상 스레드에서 실행하고, 요청별 동시 실행 수와 서비스 전체 업스트림 동시 호출 수를 세마포어로 제한
+ * - 전체 한도(maxConcurrency)는 동시에 들어온 일괄 요청끼리도 공유되어 OpenAI 요청 한도를 넘지 않음
+ */
+@Slf4j
+@Service
+public class BatchChatService {
+
+    private final ChatGptService chatGptService;
+    private final BatchChatProperties batchChatProperties;
+    private final Semaphore upstreamPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BatchChatService(ChatGptService chatGptService, BatchChatProperties batchChatProperties) {
+        this.chatGptService = chatGptService;
+        this.batchChatProperties = batchChatProperties;
+        this.upstreamPermits = new Semaphore(batchChatProperties.maxConcurrency(), true);
+    }
+
+    /**
+     * 모든 항목을 처리한 뒤 요청 순서대로 결과 반환
+     */
+    public BatchChatResponse execute(BatchChatRequest batchRequest) {
+        long started = System.nanoTime();
+        var results = new BatchChatItemResult[batchRequest.requests().size()];
+        run(batchRequest, result -> results[result.index()] = result);
+        return BatchChatResponse.of(Arrays.asList(results), elapsedMillis(started));
+    }
+
+    /**
+     * 항목이 완료되는 순서대로 결과 전달 (콜백은 한 번에 하나씩 호출됨)
+     */
+    public void stream(BatchChatRequest batchRequest, Consumer<BatchChatItemResult> onResult) {
+        run(batchRequest, onResult);
+    }
+
+    /**
+     * 요청 항목 수 검증 (초과 시 예외)
+     */
+    public void validateSize(BatchChatRequest batchRequest) {
+        if (batchRequest.requests().size() > batchChatProperties.maxItems()) {
+            throw new IllegalArgumentException(
+                    "한 번에 최대 " + batchChatProperties.maxItems() + "개까지 요청할 수 있습니다.");
+        }
+    }
+
+    private void run(BatchChatRequest batchRequest, Consumer<BatchChatItemResult> onResult) {
+        validateSize(batchRequest);
+
+        var requests = batchRequest.requests();
+        var batchPermits = new Semaphore(concurrencyOf(batchRequest));
+        var remaining = new CountDownLatch(requests.size());
+        Object callbackLock = new Object();
+
+        log.info("일괄 채팅 처리 시작: {}건 (동시 {}건)", requests.size(), batchPermits.availablePermits());
+
+        for (int index = 0; index < requests.size(); index++) {
+            int itemIndex = index;
+            ChatRequest request = requests.get(index);
+            executor.execute(() -> {
+                try {
+                    var result = process(itemIndex, request, batchPermits);
+                    synchronized (callbackLock) {
+                        onResult.accept(result);
+                    }
+                } catch (Exception e) {
+                    log.warn("일괄 채팅 결과 전달 실패 (index: {})", itemIndex, e);
+                } finally {
+                    remaining.countDown();
+                }
+            });
+        }
+
+        try {
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("일괄 채팅 처리가 중단되었습니다.", e);
+        }
+    }
+
+    private BatchChatItemResult process(int index, ChatRequest request, Semaphore batchPermits) {
+        String invalidReason = validateItem(request);
+        if (invalidReason != null) {
+            return BatchChatItemResult.invalid(index, request != null ? request.expertMode() : null, invalidReason);
+        }
+
+        long queued = System.nanoTime();
+        try {
+            batchPermits.acquire();
+            try {
+                upstreamPermits.acquire();
+                long started = System.nanoTime();
+                try {
+                    // 업스트림 오류/대기 시간 초과/429는 예외로 받아 FAILED로 보고 (안내 문구가 답변으로 섞이지 않도록)
+                    String response = chatGptService.answerWithExpertMode(request);
+                    return BatchChatItemResult.success(index, request.expertMode(), response,
+                            TimeUnit.NANOSECONDS.toMillis(started - queued), elapsedMillis(started));
+                } catch (Exception e) {
+                    log.error("일괄 채팅 항목 처리 중 오류 발생 (index: {})", index, e);
+                    return BatchChatItemResult.failed(index, request.expertMode(), e.getMessage(),
+                            TimeUnit.NANOSECONDS.toMillis(started - queued), elapsedMillis(started));
+                } finally {
+                    upstreamPermits.release();
+                }
+            } finally {
+                batchPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BatchChatItemResult.failed(index, request.expertMode(), "처리가 중단되었습니다.",
+                    elapsedMillis(queued), 0);
+        }
+    }
+
+    private String validateItem(ChatRequest request) {
+        if (request == null || request.message() == null || request.message().isBlank()) {
+            return "메시지를 입력해주세요.";
+        }
+        if (request.message().length() > ChatGptService.MAX_MESSAGE_LENGTH) {
+            return "메시지가 너무 깁니다. " + ChatGptService.MAX_MESSAGE_LENGTH + "자 이내로 입력해주세요.";
+        }
+        var expertMode = ExpertMode.fromCode(request.expertMode());
+        if (expertMode == ExpertMode.GENERAL && !"general".equals(request.expertMode())) {
+            return "지원하지 않는 전문가 모드입니다.";
+        }
+        return null;
+    }
+
+    private int concurrencyOf(BatchChatRequest batchRequest) {
+        int requested = batchRequest.concurrency() != null
+                ? batchRequest.concurrency()
+                : batchChatProperties.defaultConcurrency();
+        return Math.clamp(requested, 1, batchChatProperties.maxConcurrency());
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,385 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.BulkImportProperties;
+import com.app.chatboat.dto.BulkImportRequest;
+import com.app.chatboat.dto.BulkImportStatus;
+import com.app.chatboat.entity.BulkImport;
+import com.app.chatboat.entity.BulkImportItem;
+import com.app.chatboat.repository.BulkImportItemRepository;
+import com.app.chatboat.repository.BulkImportRepository;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 서버 디렉토리 PDF 일괄 가져오기 서비스
+ * - 목록 작성: 디렉토리(하위 포함)의 PDF를 bulk_import_items에 PENDING으로 저장
+ * - 가져오기: 파일을 점유(PENDING → IMPORTING)한 뒤 SHA-256 계산 → 같은 내용의 문서가 있으면 건너뜀
+ *   → 업로드 디렉토리로 복사해 문서 등록 및 INGEST 작업 등록 (추출/요약은 작업 큐와 수집 파이프라인이 처리)
+ * - 동시 복사/등록 수는 인스턴스 전체에서 concurrency로 제한
+ * - 진행 상태는 DB에 있으므로 재시작 후 SCANNING/RUNNING 가져오기를 남은 파일부터 이어서 실행
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(5);
+
+    private final BulkImportRepository bulkImportRepository;
+    private final BulkImportItemRepository bulkImportItemRepository;
+    private final PdfDocumentRepository pdfDocumentRepository;
+    private final PdfProcessingService pdfProcessingService;
+    private final BulkImportProperties properties;
+    private final Semaphore slots;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Progress> running = new ConcurrentHashMap<>();
+
+    private final Counter importedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Counter bytesCounter;
+
+    public BulkImportService(BulkImportRepository bulkImportRepository,
+                             BulkImportItemRepository bulkImportItemRepository,
+                             PdfDocumentRepository pdfDocumentRepository,
+                             PdfProcessingService pdfProcessingService,
+                             BulkImportProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.bulkImportRepository = bulkImportRepository;
+        this.bulkImportItemRepository = bulkImportItemRepository;
+        this.pdfDocumentRepository = pdfDocumentRepository;
+        this.pdfProcessingService = pdfProcessingService;
+        this.properties = properties;
+        this.slots = new Semaphore(properties.concurrency());
+        this.importedCounter = counter(meterRegistry, "imported");
+        this.skippedCounter = counter(meterRegistry, "skipped");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.bytesCounter = Counter.builder("chatboat.pdf.bulk-import.bytes")
+                .description("일괄 가져오기로 처리한 파일 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chatboat.pdf.bulk-import.in-flight", slots, s -> properties.concurrency() - s.availablePermits())
+                .description("복사/등록 중인 파일 수")
+                .register(meterRegistry);
+        Gauge.builder("chatboat.pdf.bulk-import.running", running, Map::size)
+                .description("이 인스턴스에서 실행 중인 일괄 가져오기 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가져오기 시작 - 디렉토리 확인 후 목록 작성/가져오기는 백그라운드에서 실행
+     */
+    public BulkImportStatus start(BulkImportRequest request) {
+        Path directory = resolveDirectory(request.directory());
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("디렉토리를 찾을 수 없습니다: " + request.directory());
+        }
+
+        BulkImport bulkImport = bulkImportRepository.save(BulkImport.builder()
+                .id(UUID.randomUUID().toString())
+                .directory(request.directory())
+                .status(BulkImport.ImportStatus.SCANNING)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        log.info("PDF 일괄 가져오기 시작: {} ({})", request.directory(), bulkImport.getId());
+        launch(bulkImport.getId());
+        return toStatus(bulkImport);
+    }
+
+    /**
+     * 재시작 시 진행 중이던 가져오기 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeImports() {
+        if (!properties.resumeOnStartup()) {
+            return;
+        }
+        var unfinished = bulkImportRepository.findByStatusIn(
+                List.of(BulkImport.ImportStatus.SCANNING, BulkImport.ImportStatus.RUNNING));
+        for (BulkImport bulkImport : unfinished) {
+            log.info("PDF 일괄 가져오기 재개: {} ({})", bulkImport.getDirectory(), bulkImport.getId());
+            launch(bulkImport.getId());
+        }
+    }
+
+    public BulkImportStatus getStatus(String importId) {
+        return toStatus(bulkImportRepository.findById(importId)
+                .orElseThrow(() -> new RuntimeException("일괄 가져오기를 찾을 수 없습니다.")));
+    }
+
+    public List<BulkImportStatus> getRecent() {
+        return bulkImportRepository.findTop20ByOrderByCreatedAtDesc().stream().map(this::toStatus).toList();
+    }
+
+    private void launch(String importId) {
+        executor.execute(() -> run(importId));
+    }
+
+    /**
+     * 가져오기 실행 - 목록 작성(필요 시) 후 대기 파일이 없을 때까지 일정 크기씩 점유해 병렬 처리
+     * 다른 인스턴스가 처리 중인 파일이 남아 있으면 끝날 때까지(또는 staleAfter가 지나 다시 대기 상태가 될 때까지) 기다림
+     */
+    void run(String importId) {
+        var progress = new Progress();
+        if (running.putIfAbsent(importId, progress) != null) {
+            return;
+        }
+        try {
+            BulkImport bulkImport = bulkImportRepository.findById(importId).orElse(null);
+            if (bulkImport == null) {
+                return;
+            }
+            Path directory = resolveDirectory(bulkImport.getDirectory());
+            if (bulkImport.getStatus() == BulkImport.ImportStatus.SCANNING) {
+                bulkImport = scan(bulkImport, directory);
+            }
+
+            while (!Thread.currentThread().isInterrupted()) {
+                var batch = bulkImportItemRepository.findByImportIdAndStatusOrderById(
+                        importId, BulkImportItem.ItemStatus.PENDING, PageRequest.of(0, properties.batchSize()));
+                if (!batch.isEmpty()) {
+                    importBatch(directory, batch, progress);
+                    continue;
+                }
+                if (bulkImportItemRepository.countByImportIdAndStatus(importId, BulkImportItem.ItemStatus.IMPORTING) == 0) {
+                    bulkImport = bulkImportRepository.findById(importId).orElse(bulkImport);
+                    bulkImport.setStatus(BulkImport.ImportStatus.COMPLETED);
+                    bulkImport.setCompletedAt(LocalDateTime.now());
+                    bulkImportRepository.save(bulkImport);
+                    log.info("PDF 일괄 가져오기 완료: {} - 가져옴 {}, 건너뜀 {}, 실패 {}", importId,
+                            progress.imported.sum(), progress.skipped.sum(), progress.failed.sum());
+                    return;
+                }
+                bulkImportItemRepository.resetStale(importId, LocalDateTime.now().minus(properties.staleAfter()));
+                Thread.sleep(POLL_INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            // 종료 중 - 처리 중이던 파일은 staleAfter 후 다른 실행이 다시 가져옴
+            Thread.currentThread().interrupt();
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            fail(importId, e);
+        } catch (RuntimeException e) {
+            // DB 장애 등 - 상태를 바꾸지 않고 다음 재시작 때 재개
+            log.error("PDF 일괄 가져오기 중 오류 발생: {}", importId, e);
+        } finally {
+            running.remove(importId, progress);
+        }
+    }
+
+    /**
+     * 디렉토리(하위 포함)의 PDF 목록 저장 - 이미 저장된 경로는 건너뛰므로 목록 작성 도중 재시작해도 안전
+     */
+    private BulkImport scan(BulkImport bulkImport, Path directory) throws IOException {
+        Set<String> known = new HashSet<>(bulkImportItemRepository.findRelativePaths(bulkImport.getId()));
+        var items = new ArrayList<BulkImportItem>();
+        var now = LocalDateTime.now();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String relativePath = directory.relativize(file).toString();
+                if (!Files.isRegularFile(file) || !isPdf(file) || known.contains(relativePath)) {
+                    continue;
+                }
+                items.add(BulkImportItem.builder()
+                        .importId(bulkImport.getId())
+                        .relativePath(relativePath)
+                        .fileSize(Files.size(file))
+                        .status(BulkImportItem.ItemStatus.PENDING)
+                        .updatedAt(now)
+                        .build());
+                if (items.size() >= properties.batchSize()) {
+                    bulkImportItemRepository.saveAll(items);
+                    items.clear();
+                }
+            }
+        }
+        bulkImportItemRepository.saveAll(items);
+
+        long totalFiles = 0;
+        long totalBytes = 0;
+        for (var count : bulkImportItemRepository.countByStatus(bulkImport.getId())) {
+            totalFiles += count.getFiles();
+            totalBytes += count.getBytes();
+        }
+        bulkImport.setTotalFiles(Math.toIntExact(totalFiles));
+        bulkImport.setTotalBytes(totalBytes);
+        bulkImport.setStatus(BulkImport.ImportStatus.RUNNING);
+        log.info("PDF 일괄 가져오기 목록 작성: {} - 파일 {}개", bulkImport.getId(), totalFiles);
+        return bulkImportRepository.save(bulkImport);
+    }
+
+    private void importBatch(Path directory, List<BulkImportItem> batch, Progress progress) throws InterruptedException {
+        var tasks = new ArrayList<CompletableFuture<Void>>(batch.size());
+        for (BulkImportItem item : batch) {
+            if (bulkImportItemRepository.claim(item.getId(), LocalDateTime.now()) == 0) {
+                continue;
+            }
+            slots.acquire();
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    importItem(directory, item, progress);
+                } finally {
+                    slots.release();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 파일 하나 가져오기 - 같은 내용(SHA-256)의 문서가 있으면 건너뜀
+     */
+    private void importItem(Path directory, BulkImportItem item, Progress progress) {
+        Path file = directory.resolve(item.getRelativePath());
+        try {
+            String sha256 = PdfProcessingService.fileSha256(file);
+            item.setFileSha256(sha256);
+
+            // 같은 실행 안에서 같은 내용의 파일이 여럿이면 처음 하나만 가져옴
+            boolean first = progress.seen.add(sha256);
+            List<Long> existing = first ? pdfDocumentRepository.findIdsByFileSha256(sha256) : List.of();
+            if (!first || !existing.isEmpty()) {
+                item.setPdfDocumentId(existing.isEmpty() ? null : existing.get(0));
+                finish(item, BulkImportItem.ItemStatus.SKIPPED, null);
+                progress.skipped.increment();
+                skippedCounter.increment();
+            } else {
+                var document = pdfProcessingService.importPdf(file, file.getFileName().toString(), sha256);
+                item.setPdfDocumentId(document.getId());
+                finish(item, BulkImportItem.ItemStatus.IMPORTED, null);
+                progress.imported.increment();
+                importedCounter.increment();
+            }
+            progress.bytes.add(item.getFileSize());
+            bytesCounter.increment(item.getFileSize());
+        } catch (IOException | RuntimeException e) {
+            log.warn("PDF 가져오기 실패: {} - {}", item.getRelativePath(), e.getMessage());
+            finish(item, BulkImportItem.ItemStatus.FAILED, e.getMessage());
+            progress.failed.increment();
+            failedCounter.increment();
+        }
+    }
+
+    private void finish(BulkImportItem item, BulkImportItem.ItemStatus status, String errorMessage) {
+        item.setStatus(status);
+        item.setErrorMessage(errorMessage == null ? null : errorMessage.substring(0, Math.min(errorMessage.length(), 1000)));
+        item.setUpdatedAt(LocalDateTime.now());
+        bulkImportItemRepository.save(item);
+    }
+
+    private void fail(String importId, Exception e) {
+        log.error("PDF 일괄 가져오기 실패: {} - {}", importId, e.getMessage());
+        bulkImportRepository.findById(importId).ifPresent(bulkImport -> {
+            bulkImport.setStatus(BulkImport.ImportStatus.FAILED);
+            bulkImport.setErrorMessage(e.getMessage());
+            bulkImport.setCompletedAt(LocalDateTime.now());
+            bulkImportRepository.save(bulkImport);
+        });
+    }
+
+    /**
+     * 요청 디렉토리를 가져오기 루트 기준으로 해석 (루트 밖 경로는 거절)
+     */
+    Path resolveDirectory(String directory) {
+        Path root = rootDir();
+        Path resolved = root.resolve(directory).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("가져오기 루트 밖의 디렉토리입니다: " + directory);
+        }
+        return resolved;
+    }
+
+    private Path rootDir() {
+        Path root = properties.rootDir() != null
+                ? Path.of(properties.rootDir())
+                : pdfProcessingService.getUploadPath().resolve("import");
+        return root.toAbsolutePath().normalize();
+    }
+
+    private BulkImportStatus toStatus(BulkImport bulkImport) {
+        var counts = counts(bulkImport.getId());
+        var progress = running.get(bulkImport.getId());
+        if (progress == null) {
+            return BulkImportStatus.of(bulkImport, counts, null, null);
+        }
+        double seconds = Math.max(0.001, (System.nanoTime() - progress.startedAt) / 1_000_000_000.0);
+        long files = progress.imported.sum() + progress.skipped.sum() + progress.failed.sum();
+        return BulkImportStatus.of(bulkImport, counts, files / seconds, progress.bytes.sum() / seconds);
+    }
+
+    private BulkImportStatus.Counts counts(String importId) {
+        var files = new EnumMap<BulkImportItem.ItemStatus, Long>(BulkImportItem.ItemStatus.class);
+        long processedBytes = 0;
+        for (var count : bulkImportItemRepository.countByStatus(importId)) {
+            files.put(count.getStatus(), count.getFiles());
+            if (count.getStatus() != BulkImportItem.ItemStatus.PENDING && count.getStatus() != BulkImportItem.ItemStatus.IMPORTING) {
+                processedBytes += count.getBytes();
+            }
+        }
+        return new BulkImportStatus.Counts(
+                files.getOrDefault(BulkImportItem.ItemStatus.PENDING, 0L),
+                files.getOrDefault(BulkImportItem.ItemStatus.IMPORTING, 0L),
+                files.getOrDefault(BulkImportItem.ItemStatus.IMPORTED, 0L),
+                files.getOrDefault(BulkImportItem.ItemStatus.SKIPPED, 0L),
+                files.getOrDefault(BulkImportItem.ItemStatus.FAILED, 0L),
+                processedBytes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static boolean isPdf(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".pdf");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chatboat.pdf.bulk-import.files")
+                .description("일괄 가져오기 파일 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중인 가져오기의 처리량 집계
+     */
+    private static final class Progress {
+
+        private final long startedAt = System.nanoTime();
+        private final LongAdder imported = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final Set<String> seen = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -1,21 +1,21 @@
 package com.app.chatboat.service;
 
 import com.app.chatboat.config.OpenAiProperties;
-import com.app.chatboat.dto.ChatMessage;
 import com.app.chatboat.dto.ChatRequest;
 import com.app.chatboat.dto.PdfChatRequest;
 import com.app.chatboat.entity.PdfDocument;
 import com.app.chatboat.enums.ExpertMode;
-import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.logging.LogText;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
-import com.theokanning.openai.completion.chat.ChatMessageRole;
-import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * - Record 사용으로 불변 설정 객체
@@ -28,18 +28,46 @@ import java.util.List;
 public class ChatGptService {
     
     private final OpenAiProperties openAiProperties;
-    private final PdfDocumentRepository pdfDocumentRepository;
+    private final DocumentContextCache documentContextCache;
+    private final OrderDomainKnowledgeService orderDomainKnowledgeService;
+    private final OrderFastPathService orderFastPathService;
+    private final OpenAiGateway openAiGateway;
+    private final PdfPageService pdfPageService;
+    private final AnswerCacheService answerCacheService;
+    private final TokenUsageService tokenUsageService;
+    private final ObservationRegistry observationRegistry;
+    private final ModelRouter modelRouter;
+    
+    /**
+     * 채팅 처리 단계 관측 이름 (phase: validate, context-load, prompt-build, upstream)
+     */
+    static final String PHASE_OBSERVATION = "chatboat.chat.phase";
     
     private static final String SYSTEM_PROMPT = """
             당신은 도움이 되는 AI 어시스턴트입니다. 
             한국어로 친근하고 정확하게 답변해주세요.
             """;
     
+    private static final String DOMAIN_CONTEXT_HEADER = """
+            
+            [주문 도메인 지식]
+            아래 주문 시스템 정보를 참고하여 답변해주세요.
+            """;
+    
+    private static final String PDF_INSTRUCTIONS = """
+            
+            [문서 참조 지침]
+            다음에 제공되는 문서의 내용을 참조하여 사용자의 질문에 답변해주세요. 
+            문서에 없는 내용에 대해서는 명확히 "문서에서 해당 정보를 찾을 수 없습니다"라고 답변해주세요.
+            """;
+    
     private static final Duration TIMEOUT = Duration.ofSeconds(60);
     
+    static final int MAX_MESSAGE_LENGTH = 1000;
+    
     public String sendMessage(String userMessage) {
-        return switch (validateInput(userMessage)) {
-            case ValidationResult.Valid() -> processMessage(userMessage);
+        return switch (validate(userMessage, ExpertMode.GENERAL, null)) {
+            case ValidationResult.Valid() -> answerLocallyOrElse(userMessage, () -> processMessage(userMessage));
             case ValidationResult.Empty() -> "메시지를 입력해주세요.";
             case ValidationResult.TooLong() -> "메시지가 너무 깁니다. 1000자 이내로 입력해주세요.";
         };
@@ -49,44 +77,66 @@ public class ChatGptService {
      * 전문가 모드를 지원하는 메시지 전송
      */
     public String sendMessageWithExpertMode(ChatRequest chatRequest) {
-        return switch (validateInput(chatRequest.message())) {
-            case ValidationResult.Valid() -> processMessageWithExpertMode(chatRequest);
+        return switch (validate(chatRequest.message(), ExpertMode.fromCode(chatRequest.expertMode()), null)) {
+            case ValidationResult.Valid() -> ExpertMode.fromCode(chatRequest.expertMode()) == ExpertMode.GENERAL
+                    ? answerLocallyOrElse(chatRequest.message(), () -> processMessageWithExpertMode(chatRequest))
+                    : processMessageWithExpertMode(chatRequest);
             case ValidationResult.Empty() -> "메시지를 입력해주세요.";
             case ValidationResult.TooLong() -> "메시지가 너무 깁니다. 1000자 이내로 입력해주세요.";
         };
     }
     
+    /**
+     * 전문가 모드 답변 생성 - 오류를 안내 문구로 바꾸지 않고 예외로 전달 (일괄 채팅처럼 항목별 실패를 구분하는 호출용)
+     * 입력 검증(빈 메시지, 길이)은 호출 측에서 수행
+     */
+    public String answerWithExpertMode(ChatRequest chatRequest) {
+        Supplier<String> llmCall = () -> {
+            if (!openAiProperties.isValid()) {
+                throw new IllegalStateException("서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.");
+            }
+            return generateExpertAnswer(chatRequest);
+        };
+        return ExpertMode.fromCode(chatRequest.expertMode()) == ExpertMode.GENERAL
+                ? answerLocallyOrElse(chatRequest.message(), llmCall)
+                : llmCall.get();
+    }
+    
     /**
      * PDF 문서를 참조한 메시지 전송
      */
     public String sendMessageWithPdf(PdfChatRequest pdfChatRequest) {
-        return switch (validateInput(pdfChatRequest.message())) {
+        return switch (validate(pdfChatRequest.message(), ExpertMode.fromCode(pdfChatRequest.expertMode()), pdfChatRequest.pdfId())) {
             case ValidationResult.Valid() -> processMessageWithPdf(pdfChatRequest);
             case ValidationResult.Empty() -> "메시지를 입력해주세요.";
             case ValidationResult.TooLong() -> "메시지가 너무 깁니다. 1000자 이내로 입력해주세요.";
         };
     }
     
+    /**
+     * 주문 에러 코드 / 상태 질문은 Fast-path로 즉시 답변하고, 신뢰도가 낮으면 LLM 호출
+     */
+    private String answerLocallyOrElse(String userMessage, Supplier<String> llmCall) {
+        return orderFastPathService.tryAnswer(userMessage)
+                .map(OrderFastPathService.FastPathAnswer::answer)
+                .orElseGet(llmCall);
+    }
+    
     private String processMessage(String userMessage) {
         try {
-            log.info("사용자 메시지 처리 시작: {}", userMessage);
+            log.debug("사용자 메시지 처리 시작: {}", LogText.summary(userMessage));
             
             if (!openAiProperties.isValid()) {
                 log.error("OpenAI 설정이 유효하지 않습니다.");
                 return "서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.";
             }
             
-            var service = new OpenAiService(openAiProperties.apiKey(), TIMEOUT);
-            var messages = createMessages(userMessage);
-            var request = createRequest(messages);
+            var request = phase("prompt-build", ExpertMode.GENERAL, null,
+                    () -> createRequest(composeMessagePrompt(userMessage)));
             
-            var response = service.createChatCompletion(request)
-                    .getChoices()
-                    .getFirst()
-                    .getMessage()
-                    .getContent();
+            var response = phase("upstream", ExpertMode.GENERAL, null, () -> complete(request, ExpertMode.GENERAL, userMessage, false));
             
-            log.info("AI 응답 생성 완료");
+            log.debug("AI 응답 생성 완료");
             return response;
             
         } catch (Exception e) {
@@ -97,25 +147,12 @@ public class ChatGptService {
     
     private String processMessageWithExpertMode(ChatRequest chatRequest) {
         try {
-            log.info("전문가 모드 메시지 처리 시작: {} (모드: {})", chatRequest.message(), chatRequest.expertMode());
-            
             if (!openAiProperties.isValid()) {
                 log.error("OpenAI 설정이 유효하지 않습니다.");
                 return "서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.";
             }
             
-            var service = new OpenAiService(openAiProperties.apiKey(), TIMEOUT);
-            var messages = createMessagesWithExpertMode(chatRequest);
-            var request = createRequest(messages);
-            
-            var response = service.createChatCompletion(request)
-                    .getChoices()
-                    .getFirst()
-                    .getMessage()
-                    .getContent();
-            
-            log.info("전문가 모드 AI 응답 생성 완료");
-            return response;
+            return generateExpertAnswer(chatRequest);
             
         } catch (Exception e) {
             log.error("전문가 모드 ChatGPT API 호출 중 오류 발생", e);
@@ -123,38 +160,52 @@ public class ChatGptService {
         }
     }
     
+    private String generateExpertAnswer(ChatRequest chatRequest) {
+        log.debug("전문가 모드 메시지 처리 시작: {} (모드: {})", LogText.summary(chatRequest.message()), chatRequest.expertMode());
+        
+        var expertMode = ExpertMode.fromCode(chatRequest.expertMode());
+        var request = phase("prompt-build", expertMode, null, () -> createRequest(composeExpertPrompt(chatRequest)));
+        
+        var response = phase("upstream", expertMode, null,
+                () -> complete(request, expertMode, chatRequest.message(), false));
+        
+        log.debug("전문가 모드 AI 응답 생성 완료");
+        return response;
+    }
+    
     private String processMessageWithPdf(PdfChatRequest pdfChatRequest) {
         try {
-            log.info("PDF 참조 메시지 처리 시작: {} (PDF ID: {})", pdfChatRequest.message(), pdfChatRequest.pdfId());
+            log.debug("PDF 참조 메시지 처리 시작: {} (PDF ID: {})", LogText.summary(pdfChatRequest.message()), pdfChatRequest.pdfId());
             
             if (!openAiProperties.isValid()) {
                 log.error("OpenAI 설정이 유효하지 않습니다.");
                 return "서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.";
             }
             
-            // PDF 문서 조회
-            PdfDocument pdfDocument = pdfDocumentRepository.findById(pdfChatRequest.pdfId())
-                    .orElseThrow(() -> new RuntimeException("PDF 문서를 찾을 수 없습니다."));
+            if (pdfChatRequest.hasPageRange()) {
+                return processMessageWithPdfPages(pdfChatRequest);
+            }
             
-            if (pdfDocument.getStatus() != PdfDocument.ProcessingStatus.COMPLETED) {
+            // 문서 컨텍스트 조회 (캐시 미적중 시에만 DB 조회)
+            var expertMode = ExpertMode.fromCode(pdfChatRequest.expertMode());
+            var pdfId = pdfChatRequest.pdfId();
+            var context = phase("context-load", expertMode, pdfId, () -> documentContextCache.get(pdfId));
+            
+            if (context.status() != PdfDocument.ProcessingStatus.COMPLETED) {
                 return "PDF 처리가 완료되지 않았습니다. 잠시 후 다시 시도해주세요.";
             }
             
-            if (pdfDocument.getExtractedText() == null || pdfDocument.getExtractedText().trim().isEmpty()) {
+            if (!context.hasText()) {
                 return "PDF에서 텍스트를 추출할 수 없습니다.";
             }
             
-            var service = new OpenAiService(openAiProperties.apiKey(), TIMEOUT);
-            var messages = createMessagesWithPdf(pdfChatRequest, pdfDocument);
-            var request = createRequest(messages);
+            var request = phase("prompt-build", expertMode, pdfId,
+                    () -> createRequest(buildPdfPrompt(expertMode, context, pdfChatRequest.message())));
             
-            var response = service.createChatCompletion(request)
-                    .getChoices()
-                    .getFirst()
-                    .getMessage()
-                    .getContent();
+            var response = phase("upstream", expertMode, pdfId,
+                    () -> complete(request, expertMode, pdfChatRequest.message(), true));
             
-            log.info("PDF 참조 AI 응답 생성 완료");
+            log.debug("PDF 참조 AI 응답 생성 완료");
             return response;
             
         } catch (Exception e) {
@@ -163,95 +214,158 @@ public class ChatGptService {
         }
     }
     
-    private List<com.theokanning.openai.completion.chat.ChatMessage> createMessages(String userMessage) {
-        return List.of(
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                        ChatMessageRole.SYSTEM.value(), 
-                        SYSTEM_PROMPT
-                ),
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                        ChatMessageRole.USER.value(), 
-                        userMessage
-                )
-        );
+    /**
+     * 페이지 범위 지정 시 문서 본문 대신 해당 페이지만 조회해 프롬프트 구성
+     */
+    private String processMessageWithPdfPages(PdfChatRequest pdfChatRequest) {
+        var expertMode = ExpertMode.fromCode(pdfChatRequest.expertMode());
+        var pdfId = pdfChatRequest.pdfId();
+        PdfPageService.PageSelection selection;
+        try {
+            selection = phase("context-load", expertMode, pdfId,
+                    () -> pdfPageService.getPages(pdfId, pdfChatRequest.pageFrom(), pdfChatRequest.pageTo()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return e.getMessage();
+        }
+        
+        var request = phase("prompt-build", expertMode, pdfId,
+                () -> createRequest(buildPdfPrompt(expertMode, selection, pdfChatRequest.message())));
+        var response = phase("upstream", expertMode, pdfId,
+                () -> complete(request, expertMode, pdfChatRequest.message(), true));
+        
+        log.debug("PDF 페이지 범위({}) 참조 AI 응답 생성 완료", selection.label());
+        return response;
     }
     
-    private List<com.theokanning.openai.completion.chat.ChatMessage> createMessagesWithExpertMode(ChatRequest chatRequest) {
+    /**
+     * LLM 호출 (모델 라우팅 후 같은 프롬프트는 공유 응답 캐시에서 재사용, 실제 호출한 경우만 클라이언트 사용량 기록)
+     */
+    private String complete(ChatCompletionRequest request, ExpertMode expertMode, String question, boolean hasDocument) {
+        var route = modelRouter.route(expertMode, question, hasDocument);
+        var routed = ModelRouter.withModel(request, route.model());
+        return answerCacheService.getOrCompute(routed, () -> modelRouter.complete(route, routed, call -> {
+            var completion = openAiGateway.complete(call, TIMEOUT);
+            tokenUsageService.record(expertMode.getCode(), completion.usage());
+            return completion;
+        }).content());
+    }
+    
+    PromptLayout composeMessagePrompt(String userMessage) {
+        return PromptLayout.builder()
+                .instructions(SYSTEM_PROMPT)
+                .context(domainContext(userMessage))
+                .question(userMessage)
+                .build();
+    }
+    
+    PromptLayout composeExpertPrompt(ChatRequest chatRequest) {
         var expertMode = ExpertMode.fromCode(chatRequest.expertMode());
-        var systemPrompt = expertMode.getPrompt();
         
-        return List.of(
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                        ChatMessageRole.SYSTEM.value(), 
-                        systemPrompt
-                ),
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                        ChatMessageRole.USER.value(), 
-                        chatRequest.message()
-                )
-        );
+        return PromptLayout.builder()
+                .instructions(expertMode.getPrompt())
+                .context(domainContext(chatRequest.message()))
+                .question(chatRequest.message())
+                .build();
     }
     
-    private List<com.theokanning.openai.completion.chat.ChatMessage> createMessagesWithPdf(PdfChatRequest pdfChatRequest, PdfDocument pdfDocument) {
-        var expertMode = ExpertMode.fromCode(pdfChatRequest.expertMode());
-        var systemPrompt = buildPdfSystemPrompt(expertMode, pdfDocument);
-        
-        return List.of(
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                        ChatMessageRole.SYSTEM.value(), 
-                        systemPrompt
-                ),
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                        ChatMessageRole.USER.value(), 
-                        pdfChatRequest.message()
-                )
-        );
+    /**
+     * 주문 도메인 질문인 경우 도메인 지식 컨텍스트 (질문마다 달라지므로 안정 prefix 뒤에 배치)
+     */
+    private String domainContext(String userMessage) {
+        var domainContext = orderDomainKnowledgeService.buildDomainContext(userMessage);
+        if (domainContext.isEmpty()) {
+            return "";
+        }
+        return DOMAIN_CONTEXT_HEADER + domainContext;
     }
     
-    private String buildPdfSystemPrompt(ExpertMode expertMode, PdfDocument pdfDocument) {
-        var basePrompt = expertMode.getPrompt();
-        var pdfContext = """
-            
-            [참조 문서 정보]
-            파일명: %s
-            업로드일: %s
-            문서 요약: %s
-            
-            [문서 내용]
-            %s
-            
-            위 문서의 내용을 참조하여 사용자의 질문에 답변해주세요. 
-            문서에 없는 내용에 대해서는 명확히 "문서에서 해당 정보를 찾을 수 없습니다"라고 답변해주세요.
-            """.formatted(
-                pdfDocument.getOriginalFileName(),
-                pdfDocument.getUploadedAt(),
-                pdfDocument.getSummary() != null ? pdfDocument.getSummary() : "요약 없음",
-                pdfDocument.getExtractedText()
-        );
-        
-        return basePrompt + pdfContext;
+    /**
+     * PDF 참조 프롬프트 구성
+     * 전문가 프롬프트 + 응답 지침 → 문서 본문 → 문서 정보(파일명, 업로드일, 요약) → 질문 순서로
+     * 같은 문서에 대한 후속 질문에서 문서 본문까지의 prefix가 byte 단위로 동일하게 유지됨
+     */
+    PromptLayout buildPdfPrompt(ExpertMode expertMode, PdfDocument pdfDocument, String question) {
+        return buildPdfPrompt(expertMode, DocumentContextCache.DocumentContext.of(pdfDocument), question);
+    }
+    
+    /**
+     * 캐시된 문서 컨텍스트로 프롬프트 구성 (세그먼트를 다시 렌더링하지 않음)
+     */
+    PromptLayout buildPdfPrompt(ExpertMode expertMode, DocumentContextCache.DocumentContext context, String question) {
+        return buildPdfPrompt(expertMode, context.documentSegment(), context.documentInfo(), question);
+    }
+    
+    /**
+     * 페이지 범위 참조 프롬프트 구성 (본문에 페이지 번호 표기)
+     */
+    PromptLayout buildPdfPrompt(ExpertMode expertMode, PdfPageService.PageSelection selection, String question) {
+        var document = selection.document();
+        return buildPdfPrompt(expertMode,
+                "[문서 내용 " + selection.label() + " / 전체 " + selection.pageCount() + "페이지]\n" + selection.text(),
+                DocumentContextCache.DocumentContext.documentInfo(document.getOriginalFileName(), document.getUploadedAt(), document.getSummary()),
+                question);
     }
     
-    private ChatCompletionRequest createRequest(List<com.theokanning.openai.completion.chat.ChatMessage> messages) {
+    private PromptLayout buildPdfPrompt(ExpertMode expertMode, String documentText, String documentInfo, String question) {
+        return PromptLayout.builder()
+                .instructions(expertMode.getPrompt() + PDF_INSTRUCTIONS)
+                .document(documentText)
+                .context(documentInfo)
+                .question(question)
+                .build();
+    }
+    
+    ChatCompletionRequest createRequest(PromptLayout prompt) {
+        log.debug("프롬프트 구성 - 안정 prefix {}자 (지문 {})", prompt.stablePrefixLength(), prompt.stablePrefixFingerprint());
+        
         return ChatCompletionRequest.builder()
                 .model(openAiProperties.model())
-                .messages(messages)
+                .messages(prompt.toMessages())
                 .maxTokens(openAiProperties.maxTokens())
                 .temperature(openAiProperties.temperature())
                 .build();
     }
     
+    /**
+     * 입력 검증 실패 시 사용자 안내 메시지 (리액티브 경로 공용)
+     */
+    Optional<String> rejectInput(String message) {
+        return switch (validateInput(message)) {
+            case ValidationResult.Valid() -> Optional.empty();
+            case ValidationResult.Empty() -> Optional.of("메시지를 입력해주세요.");
+            case ValidationResult.TooLong() -> Optional.of("메시지가 너무 깁니다. 1000자 이내로 입력해주세요.");
+        };
+    }
+    
+    private ValidationResult validate(String message, ExpertMode expertMode, Long pdfId) {
+        return phase("validate", expertMode, pdfId, () -> validateInput(message));
+    }
+    
+    /**
+     * 처리 단계를 관측으로 감싸 실행 (트레이싱 span + 단계별 타이머, 예외는 기록 후 그대로 전달)
+     */
+    private <T> T phase(String phase, ExpertMode expertMode, Long pdfId, Supplier<T> step) {
+        var observation = Observation.createNotStarted(PHASE_OBSERVATION, observationRegistry)
+                .contextualName("chat " + phase)
+                .lowCardinalityKeyValue("phase", phase)
+                .lowCardinalityKeyValue("expert.mode", expertMode.getCode());
+        if (pdfId != null) {
+            observation.highCardinalityKeyValue("pdf.id", String.valueOf(pdfId));
+        }
+        return observation.observe(step);
+    }
+    
     private ValidationResult validateInput(String message) {
         if (message == null || message.isBlank()) {
             return new ValidationResult.Empty();
         }
-        if (message.length() > 1000) {
+        if (message.length() > MAX_MESSAGE_LENGTH) {
             return new ValidationResult.TooLong();
         }
         return new ValidationResult.Valid();
     }
     
-    private String getErrorMessage(Exception e) {
+    String getErrorMessage(Exception e) {
         return switch (e.getClass().getSimpleName()) {
             case "AuthenticationException" -> "인증에 실패했습니다. API 키를 확인해주세요.";
             case "RateLimitException" -> "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.";
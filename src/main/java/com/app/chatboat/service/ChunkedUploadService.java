@@ -0,0 +1,373 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.ChunkedUploadProperties;
+import com.app.chatboat.dto.ChunkUploadResponse;
+import com.app.chatboat.dto.ChunkedUploadInitRequest;
+import com.app.chatboat.dto.ChunkedUploadStatus;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.UploadChunk;
+import com.app.chatboat.entity.UploadSession;
+import com.app.chatboat.repository.UploadChunkRepository;
+import com.app.chatboat.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 분할(재개 가능) PDF 업로드 서비스
+ * - init: totalSize만큼 미리 할당한 임시 파일 생성
+ * - chunk: 청크 SHA-256 검증 후 FileChannel 위치 지정 쓰기 (청크끼리 병렬 업로드 가능)
+ * - complete: 모든 청크 수신 확인 → 파일을 다시 읽어 청크/전체 체크섬과 PDF 헤더 검증 → 문서 등록 및 처리 시작
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private static final String PARTIAL_DIR = ".partial";
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERIFY_BUFFER_SIZE = 1024 * 1024;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+    private final PdfProcessingService pdfProcessingService;
+    private final ChunkedUploadProperties chunkedUploadProperties;
+
+    /**
+     * 업로드 시작 - 세션 생성 및 임시 파일 사전 할당
+     */
+    public ChunkedUploadStatus initUpload(ChunkedUploadInitRequest request) {
+        if (!request.fileName().toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+            throw new IllegalArgumentException("PDF 파일만 업로드 가능합니다.");
+        }
+        if (request.totalSize() > chunkedUploadProperties.maxFileSize().toBytes()) {
+            throw new IllegalArgumentException(
+                    "파일 크기는 " + chunkedUploadProperties.maxFileSize().toMegabytes() + "MB를 초과할 수 없습니다.");
+        }
+
+        int chunkSize = resolveChunkSize(request.chunkSize());
+        int totalChunks = Math.toIntExact((request.totalSize() + chunkSize - 1) / chunkSize);
+        String uploadId = UUID.randomUUID().toString();
+        Path tempPath = pdfProcessingService.getUploadPath().resolve(PARTIAL_DIR).resolve(uploadId + ".part");
+
+        try {
+            Files.createDirectories(tempPath.getParent());
+            try (var file = new RandomAccessFile(tempPath.toFile(), "rw")) {
+                file.setLength(request.totalSize());
+            }
+        } catch (IOException e) {
+            log.error("업로드 임시 파일 생성 실패: {}", tempPath, e);
+            throw new RuntimeException("업로드를 시작할 수 없습니다: " + e.getMessage());
+        }
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .id(uploadId)
+                .originalFileName(request.fileName())
+                .totalSize(request.totalSize())
+                .chunkSize(chunkSize)
+                .totalChunks(totalChunks)
+                .fileSha256(normalizeChecksum(request.sha256()))
+                .tempPath(tempPath.toString())
+                .description(request.description())
+                .status(UploadSession.UploadStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        log.info("분할 업로드 시작: {} ({}바이트, 청크 {}개)", request.fileName(), request.totalSize(), totalChunks);
+        return ChunkedUploadStatus.of(session, List.of(), IntStream.range(0, totalChunks).boxed().toList());
+    }
+
+    /**
+     * 청크 수신 - 크기/체크섬 검증 후 오프셋 위치에 기록 (같은 청크 재전송은 덮어씀)
+     */
+    public ChunkUploadResponse uploadChunk(String uploadId, int index, String sha256, InputStream body) throws IOException {
+        UploadSession session = getSession(uploadId);
+        requireStatus(session, UploadSession.UploadStatus.ACTIVE);
+        if (index < 0 || index >= session.getTotalChunks()) {
+            throw new IllegalArgumentException("청크 번호가 범위를 벗어났습니다: " + index);
+        }
+        if (sha256 == null || sha256.isBlank()) {
+            throw new IllegalArgumentException("청크 체크섬(X-Chunk-Sha256)은 필수입니다.");
+        }
+
+        long offset = (long) index * session.getChunkSize();
+        int expectedSize = Math.toIntExact(Math.min(session.getChunkSize(), session.getTotalSize() - offset));
+
+        byte[] data = new byte[expectedSize];
+        int read = body.readNBytes(data, 0, expectedSize);
+        if (read != expectedSize || body.read() != -1) {
+            throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedSize + "바이트");
+        }
+
+        String actual = HexFormat.of().formatHex(sha256().digest(data));
+        if (!actual.equals(normalizeChecksum(sha256))) {
+            throw new IllegalArgumentException("청크 체크섬이 일치하지 않습니다: " + index);
+        }
+
+        // 위치 지정 쓰기 - 채널의 현재 위치를 공유하지 않으므로 청크를 병렬로 기록해도 안전
+        try (FileChannel channel = FileChannel.open(Path.of(session.getTempPath()), StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+
+        recordChunk(uploadId, index, expectedSize, actual);
+        return new ChunkUploadResponse(index, offset, expectedSize, actual);
+    }
+
+    /**
+     * 업로드 상태 조회 (재개 시 누락 청크 확인)
+     */
+    public ChunkedUploadStatus getStatus(String uploadId) {
+        UploadSession session = getSession(uploadId);
+        List<Integer> received = uploadChunkRepository.findByUploadIdOrderByChunkIndex(uploadId).stream()
+                .map(UploadChunk::getChunkIndex)
+                .toList();
+        return ChunkedUploadStatus.of(session, received, missingChunks(session, received));
+    }
+
+    /**
+     * 업로드 완료 - 조립 검증 후 문서 등록 및 처리 시작
+     */
+    public ChunkedUploadStatus completeUpload(String uploadId) {
+        UploadSession session = getSession(uploadId);
+        requireStatus(session, UploadSession.UploadStatus.ACTIVE);
+
+        List<UploadChunk> chunks = uploadChunkRepository.findByUploadIdOrderByChunkIndex(uploadId);
+        List<Integer> received = chunks.stream().map(UploadChunk::getChunkIndex).toList();
+        List<Integer> missing = missingChunks(session, received);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("누락된 청크가 있습니다: " + missing);
+        }
+
+        session = transition(session, UploadSession.UploadStatus.ASSEMBLING);
+        Path target = pdfProcessingService.getUploadPath().resolve(UUID.randomUUID() + ".pdf");
+        try {
+            Path tempPath = Path.of(session.getTempPath());
+            verifyAssembly(session, chunks, tempPath);
+            Files.move(tempPath, target, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException | IllegalStateException e) {
+            // 검증 실패 시 손상된 청크를 다시 받을 수 있도록 ACTIVE로 되돌림
+            log.warn("분할 업로드 조립 검증 실패: {} - {}", uploadId, e.getMessage());
+            transition(session, UploadSession.UploadStatus.ACTIVE);
+            throw new IllegalStateException("업로드 파일 조립 검증에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        // 검증이 끝난 파일만 문서로 등록하고 텍스트 추출/요약 시작
+        PdfDocument document;
+        try {
+            document = pdfProcessingService.processStoredPdf(target, session.getOriginalFileName());
+        } catch (RuntimeException e) {
+            log.warn("분할 업로드 문서 등록 실패: {} - {}", uploadId, e.getMessage());
+            restoreAssembly(session, target);
+            throw e;
+        }
+
+        session.setPdfDocumentId(document.getId());
+        session.setCompletedAt(LocalDateTime.now());
+        session = transition(session, UploadSession.UploadStatus.COMPLETED);
+        uploadChunkRepository.deleteByUploadId(uploadId);
+
+        log.info("분할 업로드 완료: {} → PDF ID {}", session.getOriginalFileName(), document.getId());
+        return ChunkedUploadStatus.of(session, received, List.of());
+    }
+
+    /**
+     * 업로드 중단 - 임시 파일과 청크 기록 삭제
+     */
+    public void abortUpload(String uploadId) {
+        UploadSession session = getSession(uploadId);
+        requireStatus(session, UploadSession.UploadStatus.ACTIVE);
+        discard(session, UploadSession.UploadStatus.ABORTED);
+    }
+
+    /**
+     * 보관 기간이 지난 미완료 업로드 정리 (주기: app.pdf.chunked-upload.cleanup-interval)
+     */
+    @Scheduled(fixedDelayString = "${app.pdf.chunked-upload.cleanup-interval:PT1H}")
+    public void purgeExpiredUploads() {
+        var threshold = LocalDateTime.now().minus(chunkedUploadProperties.sessionTtl());
+        var expired = uploadSessionRepository.findByStatusAndCreatedAtBefore(UploadSession.UploadStatus.ACTIVE, threshold);
+        for (UploadSession session : expired) {
+            try {
+                discard(session, UploadSession.UploadStatus.EXPIRED);
+            } catch (RuntimeException e) {
+                log.warn("만료된 업로드 정리 실패: {}", session.getId(), e);
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("만료된 분할 업로드 {}건 정리", expired.size());
+        }
+    }
+
+    /**
+     * 파일을 처음부터 다시 읽으며 청크별 체크섬과 전체 체크섬을 한 번에 검증
+     */
+    private void verifyAssembly(UploadSession session, List<UploadChunk> chunks, Path tempPath) throws IOException {
+        if (Files.size(tempPath) != session.getTotalSize()) {
+            throw new IllegalStateException("조립된 파일 크기가 올바르지 않습니다.");
+        }
+
+        MessageDigest fileDigest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(VERIFY_BUFFER_SIZE);
+        byte[] header = null;
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.READ)) {
+            for (UploadChunk chunk : chunks) {
+                MessageDigest chunkDigest = sha256();
+                long position = (long) chunk.getChunkIndex() * session.getChunkSize();
+                long end = position + chunk.getSize();
+
+                while (position < end) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        throw new IllegalStateException("조립된 파일이 예상보다 짧습니다.");
+                    }
+                    buffer.flip();
+                    if (header == null) {
+                        header = new byte[Math.min(PDF_MAGIC.length, buffer.remaining())];
+                        buffer.duplicate().get(header);
+                    }
+                    chunkDigest.update(buffer.duplicate());
+                    fileDigest.update(buffer);
+                    position += read;
+                }
+
+                if (!HexFormat.of().formatHex(chunkDigest.digest()).equals(chunk.getSha256())) {
+                    throw new IllegalStateException("청크 체크섬 검증에 실패했습니다: " + chunk.getChunkIndex());
+                }
+            }
+        }
+
+        if (session.getFileSha256() != null
+                && !HexFormat.of().formatHex(fileDigest.digest()).equals(session.getFileSha256())) {
+            throw new IllegalStateException("전체 파일 체크섬이 일치하지 않습니다.");
+        }
+        if (header == null || !Arrays.equals(header, PDF_MAGIC)) {
+            throw new IllegalStateException("PDF 파일 형식이 아닙니다.");
+        }
+    }
+
+    /**
+     * 문서 등록 실패 시 조립된 파일을 임시 위치로 되돌리고 ACTIVE로 복구 (완료 요청 재시도 가능)
+     * 파일을 되돌리지 못하면 다시 조립할 수 없으므로 FAILED 처리
+     */
+    private void restoreAssembly(UploadSession session, Path assembled) {
+        try {
+            Files.move(assembled, Path.of(session.getTempPath()), StandardCopyOption.ATOMIC_MOVE);
+            transition(session, UploadSession.UploadStatus.ACTIVE);
+        } catch (IOException e) {
+            log.error("조립된 업로드 파일 복구 실패: {}", session.getId(), e);
+            try {
+                Files.deleteIfExists(assembled);
+            } catch (IOException deleteError) {
+                log.warn("조립된 업로드 파일 삭제 실패: {}", assembled, deleteError);
+            }
+            transition(session, UploadSession.UploadStatus.FAILED);
+            uploadChunkRepository.deleteByUploadId(session.getId());
+        }
+    }
+
+    private void recordChunk(String uploadId, int index, int size, String sha256) {
+        var existing = uploadChunkRepository.findByUploadIdAndChunkIndex(uploadId, index);
+        var chunk = existing.orElseGet(() -> UploadChunk.builder().uploadId(uploadId).chunkIndex(index).build());
+        chunk.setSize(size);
+        chunk.setSha256(sha256);
+        chunk.setReceivedAt(LocalDateTime.now());
+        try {
+            uploadChunkRepository.save(chunk);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 청크가 동시에 두 번 도착한 경우 - 먼저 기록된 쪽을 유지 (내용은 체크섬으로 이미 검증됨)
+            log.debug("중복 청크 수신: {} #{}", uploadId, index);
+        }
+    }
+
+    private void discard(UploadSession session, UploadSession.UploadStatus status) {
+        transition(session, status);
+        try {
+            Files.deleteIfExists(Path.of(session.getTempPath()));
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: {}", session.getTempPath(), e);
+        }
+        uploadChunkRepository.deleteByUploadId(session.getId());
+    }
+
+    private UploadSession transition(UploadSession session, UploadSession.UploadStatus status) {
+        session.setStatus(status);
+        try {
+            return uploadSessionRepository.save(session);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new IllegalStateException("업로드 상태가 다른 요청에 의해 변경되었습니다.");
+        }
+    }
+
+    private UploadSession getSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new RuntimeException("업로드 세션을 찾을 수 없습니다."));
+    }
+
+    private static void requireStatus(UploadSession session, UploadSession.UploadStatus status) {
+        if (session.getStatus() != status) {
+            throw new IllegalStateException("업로드 상태가 " + session.getStatus() + "입니다.");
+        }
+    }
+
+    private static List<Integer> missingChunks(UploadSession session, List<Integer> received) {
+        var receivedSet = new BitSet(session.getTotalChunks());
+        received.forEach(receivedSet::set);
+        var missing = new ArrayList<Integer>();
+        for (int i = receivedSet.nextClearBit(0); i < session.getTotalChunks(); i = receivedSet.nextClearBit(i + 1)) {
+            missing.add(i);
+        }
+        return missing;
+    }
+
+    private int resolveChunkSize(Integer requested) {
+        long size = requested != null ? requested : chunkedUploadProperties.defaultChunkSize().toBytes();
+        return (int) Math.clamp(size,
+                chunkedUploadProperties.minChunkSize().toBytes(),
+                chunkedUploadProperties.maxChunkSize().toBytes());
+    }
+
+    private static String normalizeChecksum(String sha256) {
+        return sha256 == null || sha256.isBlank() ? null : sha256.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.app.chatboat.service;
+
+/**
+ * 현재 요청의 클라이언트 식별자
+ * 요청 필터가 설정하며, 요청 스레드에서 만든 가상 스레드(일괄 채팅 항목 등)에도 전달됨
+ * 요청 밖(처리 작업 워커, 스케줄러)에서는 SYSTEM
+ */
+public final class ClientContext {
+
+    public static final String SYSTEM = "system";
+    public static final String ANONYMOUS = "anonymous";
+
+    private static final InheritableThreadLocal<String> CLIENT_ID = new InheritableThreadLocal<>();
+
+    private ClientContext() {
+    }
+
+    public static String currentClientId() {
+        String clientId = CLIENT_ID.get();
+        return clientId != null ? clientId : SYSTEM;
+    }
+
+    public static void set(String clientId) {
+        CLIENT_ID.set(clientId);
+    }
+
+    public static void clear() {
+        CLIENT_ID.remove();
+    }
+}
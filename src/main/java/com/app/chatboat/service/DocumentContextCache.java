@@ -0,0 +1,242 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.DocumentContextCacheProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PDF 문서 컨텍스트 캐시
+ * - 문서 본문 세그먼트와 문서 정보 세그먼트를 렌더링된 문자열로 보관해, 같은 문서에 대한 후속 질문에서
+ *   수 MB 엔티티 조회와 프롬프트 재구성을 생략
+ * - 항목 수가 아닌 보관 바이트 기준 LRU (큰 문서 하나가 작은 문서 여러 개를 밀어냄)
+ * - 삭제/재처리 시 무효화하고, 다른 인스턴스에서 재처리된 경우를 위해 TTL로 만료
+ * 처리 완료된 문서만 캐시하며, 처리 중/실패 문서는 매번 조회
+ */
+@Slf4j
+@Service
+public class DocumentContextCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final PdfDocumentRepository pdfDocumentRepository;
+    private final DocumentContextCacheProperties properties;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong invalidations = new AtomicLong();
+    private long residentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public DocumentContextCache(PdfDocumentRepository pdfDocumentRepository,
+                                DocumentContextCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.pdfDocumentRepository = pdfDocumentRepository;
+        this.properties = properties;
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.missCounter = counter(meterRegistry, "miss");
+        Gauge.builder("chatboat.pdf.document-cache.bytes", this, DocumentContextCache::residentBytes)
+                .description("문서 컨텍스트 캐시에 보관 중인 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chatboat.pdf.document-cache.entries", this, cache -> cache.getStats().entries())
+                .description("문서 컨텍스트 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문서 컨텍스트 조회 (미적중 시 DB에서 읽어 구성)
+     */
+    public DocumentContext get(Long pdfId) {
+        if (properties.enabled()) {
+            var cached = lookup(pdfId);
+            if (cached != null) {
+                hits.increment();
+                hitCounter.increment();
+                return cached;
+            }
+            misses.increment();
+            missCounter.increment();
+        }
+
+        long generation = invalidations.get();
+        PdfDocument document = pdfDocumentRepository.findById(pdfId)
+                .orElseThrow(() -> new RuntimeException("PDF 문서를 찾을 수 없습니다."));
+        var context = DocumentContext.of(document);
+
+        if (properties.enabled() && context.isReady()) {
+            put(pdfId, context, generation);
+        }
+        return context;
+    }
+
+    /**
+     * 문서 삭제/재처리 시 무효화
+     */
+    public void invalidate(Long pdfId) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            var removed = entries.remove(pdfId);
+            if (removed != null) {
+                residentBytes -= removed.bytes();
+            }
+        }
+    }
+
+    public DocumentCacheStats getStats() {
+        long hit = hits.sum();
+        long miss = misses.sum();
+        long total = hit + miss;
+        synchronized (entries) {
+            return new DocumentCacheStats(hit, miss, total == 0 ? 0.0 : (double) hit / total,
+                    entries.size(), residentBytes, properties.maxSize().toBytes(), evictions.sum());
+        }
+    }
+
+    private DocumentContext lookup(Long pdfId) {
+        synchronized (entries) {
+            var entry = entries.get(pdfId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt().isBefore(LocalDateTime.now())) {
+                entries.remove(pdfId);
+                residentBytes -= entry.bytes();
+                return null;
+            }
+            return entry.context();
+        }
+    }
+
+    private void put(Long pdfId, DocumentContext context, long generation) {
+        long bytes = context.retainedBytes();
+        if (bytes > properties.maxEntrySize().toBytes()) {
+            log.debug("문서 컨텍스트가 최대 항목 크기를 넘어 캐시하지 않음: PDF ID {} ({} bytes)", pdfId, bytes);
+            return;
+        }
+
+        synchronized (entries) {
+            // 조회 중 무효화가 일어났으면 오래된 내용일 수 있으므로 저장하지 않음
+            if (invalidations.get() != generation) {
+                return;
+            }
+            var previous = entries.put(pdfId, new Entry(context, bytes, LocalDateTime.now().plus(properties.ttl())));
+            if (previous != null) {
+                residentBytes -= previous.bytes();
+            }
+            residentBytes += bytes;
+            evictToFit(pdfId);
+        }
+    }
+
+    /**
+     * 보관 바이트가 최대 크기 이하가 될 때까지 가장 오래 사용되지 않은 항목부터 제거 (방금 넣은 항목 제외)
+     */
+    private void evictToFit(Long keep) {
+        long maxBytes = properties.maxSize().toBytes();
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (residentBytes > maxBytes && iterator.hasNext()) {
+            var eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            residentBytes -= eldest.getValue().bytes();
+            evictions.increment();
+        }
+    }
+
+    private long residentBytes() {
+        synchronized (entries) {
+            return residentBytes;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chatboat.pdf.document-cache")
+                .description("문서 컨텍스트 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(DocumentContext context, long bytes, LocalDateTime expiresAt) {}
+
+    /**
+     * PDF 참조 프롬프트에 들어가는 문서 단위 컨텍스트
+     * 본문이 없는 문서는 세그먼트 없이 상태 안내용 메타데이터만 가짐
+     */
+    public record DocumentContext(
+            Long pdfId,
+            String originalFileName,
+            PdfDocument.ProcessingStatus status,
+            boolean hasText,
+            String documentSegment,
+            String documentInfo
+    ) {
+
+        public static DocumentContext of(PdfDocument document) {
+            boolean hasText = document.getExtractedText() != null && !document.getExtractedText().trim().isEmpty();
+            if (!hasText) {
+                return new DocumentContext(document.getId(), document.getOriginalFileName(), document.getStatus(), false, null, null);
+            }
+            return new DocumentContext(document.getId(), document.getOriginalFileName(), document.getStatus(), true,
+                    "[문서 내용]\n" + document.getExtractedText(),
+                    documentInfo(document.getOriginalFileName(), document.getUploadedAt(), document.getSummary()));
+        }
+
+        /**
+         * 문서 정보 세그먼트 (파일명, 업로드일, 요약)
+         */
+        public static String documentInfo(String fileName, LocalDateTime uploadedAt, String summary) {
+            return """
+                [참조 문서 정보]
+                파일명: %s
+                업로드일: %s
+                문서 요약: %s
+                """.formatted(fileName, uploadedAt, summary != null ? summary : "요약 없음");
+        }
+
+        public boolean isReady() {
+            return status == PdfDocument.ProcessingStatus.COMPLETED && hasText;
+        }
+
+        /**
+         * 보관 바이트 추정 - Latin-1 문자열은 문자당 1바이트, 그 외(한글 등)는 2바이트 (JDK compact strings)
+         */
+        long retainedBytes() {
+            return ENTRY_OVERHEAD_BYTES + stringBytes(originalFileName) + stringBytes(documentSegment) + stringBytes(documentInfo);
+        }
+
+        private static long stringBytes(String value) {
+            if (value == null) {
+                return 0;
+            }
+            boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+            return latin1 ? value.length() : 2L * value.length();
+        }
+    }
+
+    public record DocumentCacheStats(
+            long hits,
+            long misses,
+            double hitRatio,
+            int entries,
+            long residentBytes,
+            long maxBytes,
+            long evictions
+    ) {}
+}
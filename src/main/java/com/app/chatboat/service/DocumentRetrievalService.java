@@ -0,0 +1,266 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.RetrievalProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.PdfPage;
+import com.app.chatboat.repository.PdfDocumentInfo;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 문서 구절 검색 서비스
+ * - 문서 메타데이터만 조회한 뒤, 문서마다 pdf_pages 행을 병렬로 읽어 페이지 단위로 구절을 나누고
+ *   질문 용어가 포함된 후보 구절을 수집 (문서 본문 전체를 요청 스레드에서 한 번에 읽지 않음)
+ * - 모든 문서의 구절 통계로 BM25 점수를 계산해 문서 간 점수를 비교 가능하게 한 뒤
+ *   전체 상위 topK개를 토큰 예산 안에서 선택
+ */
+@Slf4j
+@Service
+public class DocumentRetrievalService {
+
+    /** 추출 텍스트의 페이지 구분자 (PdfProcessingService에서 페이지 끝마다 삽입) */
+    public static final String PAGE_BREAK = "\f";
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PdfDocumentRepository pdfDocumentRepository;
+    private final PdfPageService pdfPageService;
+    private final RetrievalProperties retrievalProperties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DocumentRetrievalService(PdfDocumentRepository pdfDocumentRepository, PdfPageService pdfPageService,
+                                    RetrievalProperties retrievalProperties) {
+        this.pdfDocumentRepository = pdfDocumentRepository;
+        this.pdfPageService = pdfPageService;
+        this.retrievalProperties = retrievalProperties;
+    }
+
+    /**
+     * 여러 문서에서 질문과 관련된 구절 검색
+     *
+     * @param topK 선택할 최대 구절 수 (null이면 설정값)
+     */
+    public RetrievalResult retrieve(List<Long> pdfIds, String question, Integer topK) {
+        var distinctIds = List.copyOf(new LinkedHashSet<>(pdfIds));
+        if (distinctIds.size() > retrievalProperties.maxDocuments()) {
+            throw new IllegalArgumentException(
+                    "한 번에 최대 " + retrievalProperties.maxDocuments() + "개 문서까지 참조할 수 있습니다.");
+        }
+
+        Map<Long, PdfDocumentInfo> documents = pdfDocumentRepository.findInfoByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(PdfDocumentInfo::getId, Function.identity()));
+
+        var completed = distinctIds.stream()
+                .map(documents::get)
+                .filter(document -> document != null && document.getStatus() == PdfDocument.ProcessingStatus.COMPLETED)
+                .toList();
+
+        Set<String> queryTerms = new LinkedHashSet<>(terms(question));
+        var scans = completed.stream()
+                .map(document -> CompletableFuture.supplyAsync(
+                        () -> scan(document, pdfPageService.getAllPages(document), queryTerms), executor))
+                .toList()
+                .stream()
+                .map(CompletableFuture::join)
+                .filter(scan -> scan.passageCount() > 0)
+                .toList();
+
+        var scannedIds = scans.stream().map(DocumentScan::pdfId).collect(Collectors.toSet());
+        var skipped = distinctIds.stream().filter(id -> !scannedIds.contains(id)).toList();
+        if (scans.isEmpty()) {
+            throw new RuntimeException("참조할 수 있는 PDF 문서가 없습니다.");
+        }
+
+        int limit = topK != null && topK > 0 ? topK : retrievalProperties.topK();
+        var result = merge(scans, queryTerms, limit, retrievalProperties.tokenBudget(), skipped);
+        log.info("다중 문서 검색 완료 - 문서 {}개, 후보 {}개, 선택 {}개 ({} 토큰)",
+                scans.size(), result.candidateCount(), result.passages().size(), result.usedTokens());
+        return result;
+    }
+
+    /**
+     * 문서 하나를 구절로 나누고 질문 용어가 포함된 후보만 반환
+     */
+    DocumentScan scan(PdfDocumentInfo document, List<PdfPage> pages, Set<String> queryTerms) {
+        var passages = split(document, pages);
+        var candidates = new ArrayList<Candidate>();
+        long totalTerms = 0;
+
+        for (Passage passage : passages) {
+            var passageTerms = terms(passage.text());
+            totalTerms += passageTerms.size();
+
+            var frequencies = new HashMap<String, Integer>();
+            for (String term : passageTerms) {
+                if (queryTerms.contains(term)) {
+                    frequencies.merge(term, 1, Integer::sum);
+                }
+            }
+            if (!frequencies.isEmpty()) {
+                candidates.add(new Candidate(passage, frequencies, passageTerms.size()));
+            }
+        }
+        return new DocumentScan(document.getId(), passages.size(), totalTerms, candidates);
+    }
+
+    /**
+     * 전체 구절 통계로 BM25 점수를 매기고 상위 구절을 토큰 예산 안에서 선택
+     * 선택된 구절은 문서 요청 순서 → 페이지 순서로 정렬
+     */
+    RetrievalResult merge(List<DocumentScan> scans, Set<String> queryTerms, int topK, int tokenBudget,
+                          List<Long> skippedPdfIds) {
+        long passageCount = scans.stream().mapToLong(DocumentScan::passageCount).sum();
+        long termCount = scans.stream().mapToLong(DocumentScan::termCount).sum();
+        double averageLength = passageCount == 0 ? 1 : Math.max(1.0, (double) termCount / passageCount);
+
+        var candidates = scans.stream().flatMap(scan -> scan.candidates().stream()).toList();
+        var documentFrequency = new HashMap<String, Integer>();
+        for (Candidate candidate : candidates) {
+            candidate.frequencies().keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+        }
+
+        var ranked = candidates.stream()
+                .map(candidate -> new RetrievedPassage(
+                        candidate.passage().pdfId(),
+                        candidate.passage().fileName(),
+                        candidate.passage().page(),
+                        candidate.passage().text(),
+                        bm25(candidate, documentFrequency, passageCount, averageLength),
+                        TokenEstimator.estimate(candidate.passage().text())))
+                .sorted(Comparator.comparingDouble(RetrievedPassage::score).reversed())
+                .toList();
+
+        var selected = new ArrayList<RetrievedPassage>();
+        int usedTokens = 0;
+        for (RetrievedPassage passage : ranked) {
+            if (selected.size() >= topK) {
+                break;
+            }
+            if (usedTokens + passage.tokens() > tokenBudget) {
+                continue;
+            }
+            selected.add(passage);
+            usedTokens += passage.tokens();
+        }
+
+        var documentOrder = new HashMap<Long, Integer>();
+        for (RetrievedPassage passage : ranked) {
+            documentOrder.putIfAbsent(passage.pdfId(), documentOrder.size());
+        }
+        selected.sort(Comparator.comparing((RetrievedPassage passage) -> documentOrder.get(passage.pdfId()))
+                .thenComparingInt(RetrievedPassage::page));
+
+        return new RetrievalResult(selected, candidates.size(), usedTokens, skippedPdfIds);
+    }
+
+    private static double bm25(Candidate candidate, Map<String, Integer> documentFrequency,
+                               long passageCount, double averageLength) {
+        double score = 0;
+        for (var entry : candidate.frequencies().entrySet()) {
+            int df = documentFrequency.get(entry.getKey());
+            double idf = Math.log(1 + (passageCount - df + 0.5) / (df + 0.5));
+            double tf = entry.getValue();
+            score += idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * candidate.length() / averageLength));
+        }
+        return score;
+    }
+
+    /**
+     * 페이지 안에서 줄 단위로 passageChars 길이만큼 묶어 구절 생성
+     */
+    List<Passage> split(PdfDocumentInfo document, List<PdfPage> pages) {
+        var passages = new ArrayList<Passage>();
+        int maxChars = retrievalProperties.passageChars();
+
+        for (PdfPage page : pages) {
+            if (page.getText() == null) {
+                continue;
+            }
+            var buffer = new StringBuilder();
+            for (String line : page.getText().split("\\R")) {
+                String trimmed = line.strip();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                if (!buffer.isEmpty() && buffer.length() + trimmed.length() > maxChars) {
+                    passages.add(new Passage(document.getId(), document.getOriginalFileName(), page.getPageNumber(), buffer.toString()));
+                    buffer.setLength(0);
+                }
+                if (!buffer.isEmpty()) {
+                    buffer.append(' ');
+                }
+                buffer.append(trimmed);
+            }
+            if (!buffer.isEmpty()) {
+                passages.add(new Passage(document.getId(), document.getOriginalFileName(), page.getPageNumber(), buffer.toString()));
+            }
+        }
+        return passages;
+    }
+
+    /**
+     * 검색 용어 추출 - 소문자 단어, 한글 단어는 조사/어미 변화에 강하도록 2-gram으로 분해
+     */
+    static List<String> terms(String text) {
+        var terms = new ArrayList<String>();
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            String word = matcher.group().toLowerCase(Locale.ROOT);
+            if (containsHangul(word) && word.length() > 2) {
+                for (int i = 0; i + 2 <= word.length(); i++) {
+                    terms.add(word.substring(i, i + 2));
+                }
+            } else if (word.length() >= 2 || Character.isDigit(word.charAt(0))) {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    private static boolean containsHangul(String word) {
+        return word.chars().anyMatch(ch -> Character.UnicodeScript.of(ch) == Character.UnicodeScript.HANGUL);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    record Passage(Long pdfId, String fileName, int page, String text) {}
+
+    record Candidate(Passage passage, Map<String, Integer> frequencies, int length) {}
+
+    record DocumentScan(Long pdfId, int passageCount, long termCount, List<Candidate> candidates) {}
+
+    /**
+     * 선택된 구절 (출처 문서, 페이지 포함)
+     */
+    public record RetrievedPassage(Long pdfId, String fileName, int page, String text, double score, int tokens) {}
+
+    public record RetrievalResult(
+            List<RetrievedPassage> passages,
+            int candidateCount,
+            int usedTokens,
+            List<Long> skippedPdfIds
+    ) {}
+}
@@ -0,0 +1,259 @@
+package com.app.chatboat.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick 키워드 분류기
+ * 여러 카테고리의 키워드를 하나의 오토마톤으로 만들어 메시지를 한 번만 순회하며 분류
+ * (대소문자 구분 없음, 최대 64개 카테고리)
+ * - wholeWords: 영문/숫자 키워드는 단어 단위로만 매칭 (order가 border에 매칭되지 않음, 한글 키워드는 그대로 부분 매칭)
+ * - 대소문자를 구분하는 키워드(상태 코드 WAIT 등)는 별도 트라이로 만들어 같은 순회에서 함께 매칭
+ */
+public final class KeywordAutomaton<T extends Enum<T>> {
+
+    /**
+     * 단어 경계 - 키워드와 메시지의 영문/숫자 구간 앞뒤에 끼워 넣는 가상 문자
+     */
+    private static final char BOUNDARY = '\0';
+
+    private final Class<T> type;
+    private final boolean wholeWords;
+    private final T[] constants;
+    private final Trie folded;
+    private final Trie exact;
+    private final long allCategoriesMask;
+
+    private KeywordAutomaton(Class<T> type, boolean wholeWords, Trie folded, Trie exact) {
+        this.type = type;
+        this.wholeWords = wholeWords;
+        this.constants = type.getEnumConstants();
+        this.folded = folded;
+        this.exact = exact;
+        this.allCategoriesMask = folded.allOutputs() | (exact == null ? 0L : exact.allOutputs());
+    }
+
+    /**
+     * 카테고리별 키워드 목록으로 오토마톤 생성
+     */
+    public static <T extends Enum<T>> KeywordAutomaton<T> of(Class<T> type, Map<T, List<String>> keywords) {
+        return build(type, keywords, Map.of(), false);
+    }
+
+    /**
+     * 영문/숫자 키워드를 단어 단위로만 매칭하는 오토마톤 생성
+     */
+    public static <T extends Enum<T>> KeywordAutomaton<T> ofWholeWords(Class<T> type, Map<T, List<String>> keywords) {
+        return build(type, keywords, Map.of(), true);
+    }
+
+    /**
+     * 단어 단위 매칭 + 대소문자를 구분하는 키워드를 함께 매칭하는 오토마톤 생성
+     */
+    public static <T extends Enum<T>> KeywordAutomaton<T> ofWholeWords(Class<T> type, Map<T, List<String>> keywords,
+                                                                     Map<T, List<String>> caseSensitiveKeywords) {
+        return build(type, keywords, caseSensitiveKeywords, true);
+    }
+
+    private static <T extends Enum<T>> KeywordAutomaton<T> build(Class<T> type, Map<T, List<String>> keywords,
+                                                              Map<T, List<String>> caseSensitiveKeywords,
+                                                              boolean wholeWords) {
+        if (type.getEnumConstants().length > Long.SIZE) {
+            throw new IllegalArgumentException("카테고리는 최대 64개까지 지원합니다: " + type.getSimpleName());
+        }
+        var folded = Trie.build(keywords, wholeWords, true);
+        var exact = caseSensitiveKeywords.isEmpty() ? null : Trie.build(caseSensitiveKeywords, wholeWords, false);
+        return new KeywordAutomaton<>(type, wholeWords, folded, exact);
+    }
+
+    /**
+     * 메시지에 포함된 키워드의 카테고리 비트마스크 (ordinal 기준)
+     */
+    public long matchMask(CharSequence text) {
+        if (text == null) {
+            return 0L;
+        }
+
+        int foldedState = 0;
+        int exactState = 0;
+        long mask = 0L;
+        boolean inWord = false;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char raw = text.charAt(i);
+            if (wholeWords && isWordChar(raw) != inWord) {
+                inWord = !inWord;
+                foldedState = folded.step(foldedState, BOUNDARY);
+                mask |= folded.outputs[foldedState];
+                if (exact != null) {
+                    exactState = exact.step(exactState, BOUNDARY);
+                    mask |= exact.outputs[exactState];
+                }
+            }
+            foldedState = folded.step(foldedState, Character.toLowerCase(raw));
+            mask |= folded.outputs[foldedState];
+            if (exact != null) {
+                exactState = exact.step(exactState, raw);
+                mask |= exact.outputs[exactState];
+            }
+            if (mask == allCategoriesMask) {
+                return mask; // 모든 카테고리가 매칭되면 더 볼 필요 없음
+            }
+        }
+        if (inWord) {
+            mask |= folded.outputs[folded.step(foldedState, BOUNDARY)];
+            if (exact != null) {
+                mask |= exact.outputs[exact.step(exactState, BOUNDARY)];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 메시지에 포함된 키워드의 카테고리 집합
+     */
+    public EnumSet<T> match(CharSequence text) {
+        var result = EnumSet.noneOf(type);
+        long mask = matchMask(text);
+        while (mask != 0L) {
+            int ordinal = Long.numberOfTrailingZeros(mask);
+            result.add(constants[ordinal]);
+            mask &= mask - 1;
+        }
+        return result;
+    }
+
+    private static String withBoundaries(String word) {
+        var pattern = new StringBuilder(word.length() + 2);
+        if (isWordChar(word.charAt(0))) {
+            pattern.append(BOUNDARY);
+        }
+        pattern.append(word);
+        if (isWordChar(word.charAt(word.length() - 1))) {
+            pattern.append(BOUNDARY);
+        }
+        return pattern.toString();
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * 키워드 트라이 + 실패 링크 (정렬된 배열 전이 테이블)
+     */
+    private static final class Trie {
+
+        private final char[][] edgeChars;
+        private final int[][] edgeTargets;
+        private final int[] failure;
+        private final long[] outputs;
+
+        private Trie(List<TreeMap<Character, Integer>> children, List<Long> outputMasks) {
+            int size = children.size();
+            this.edgeChars = new char[size][];
+            this.edgeTargets = new int[size][];
+            this.failure = new int[size];
+            this.outputs = new long[size];
+
+            for (int state = 0; state < size; state++) {
+                var edges = children.get(state);
+                edgeChars[state] = new char[edges.size()];
+                edgeTargets[state] = new int[edges.size()];
+                int i = 0;
+                for (var edge : edges.entrySet()) {
+                    edgeChars[state][i] = edge.getKey();
+                    edgeTargets[state][i] = edge.getValue();
+                    i++;
+                }
+                outputs[state] = outputMasks.get(state);
+            }
+
+            buildFailureLinks();
+        }
+
+        private static <T extends Enum<T>> Trie build(Map<T, List<String>> keywords, boolean wholeWords,
+                                                      boolean ignoreCase) {
+            List<TreeMap<Character, Integer>> children = new ArrayList<>();
+            List<Long> outputMasks = new ArrayList<>();
+            children.add(new TreeMap<>());
+            outputMasks.add(0L);
+
+            keywords.forEach((category, words) -> {
+                for (String word : words) {
+                    if (word == null || word.isEmpty()) {
+                        continue;
+                    }
+                    String pattern = wholeWords ? withBoundaries(word) : word;
+                    int state = 0;
+                    for (int i = 0; i < pattern.length(); i++) {
+                        char c = ignoreCase ? Character.toLowerCase(pattern.charAt(i)) : pattern.charAt(i);
+                        Integer next = children.get(state).get(c);
+                        if (next == null) {
+                            next = children.size();
+                            children.get(state).put(c, next);
+                            children.add(new TreeMap<>());
+                            outputMasks.add(0L);
+                        }
+                        state = next;
+                    }
+                    outputMasks.set(state, outputMasks.get(state) | (1L << category.ordinal()));
+                }
+            });
+
+            return new Trie(children, outputMasks);
+        }
+
+        private long allOutputs() {
+            long mask = 0L;
+            for (long output : outputs) {
+                mask |= output;
+            }
+            return mask;
+        }
+
+        private int step(int state, char c) {
+            int next = transition(state, c);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = transition(state, c);
+            }
+            return next < 0 ? 0 : next;
+        }
+
+        private int transition(int state, char c) {
+            int index = Arrays.binarySearch(edgeChars[state], c);
+            return index < 0 ? -1 : edgeTargets[state][index];
+        }
+
+        private void buildFailureLinks() {
+            var queue = new ArrayDeque<Integer>();
+            for (int target : edgeTargets[0]) {
+                failure[target] = 0;
+                queue.add(target);
+            }
+
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < edgeChars[state].length; i++) {
+                    char c = edgeChars[state][i];
+                    int child = edgeTargets[state][i];
+
+                    int fallback = failure[state];
+                    int next = transition(fallback, c);
+                    while (next < 0 && fallback != 0) {
+                        fallback = failure[fallback];
+                        next = transition(fallback, c);
+                    }
+                    failure[child] = (next < 0 || next == child) ? 0 : next;
+                    outputs[child] |= outputs[failure[child]];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+}
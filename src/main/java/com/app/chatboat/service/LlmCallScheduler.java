@@ -0,0 +1,367 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.LlmSchedulerProperties;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 업스트림 LLM 호출 스케줄러 (가중 공정 큐)
+ * - 호출 종류: INTERACTIVE(채팅), SUMMARY(사용자 요청 요약), BACKGROUND(업로드 후 자동 요약)
+ * - 빈 슬롯이 있으면 바로 호출하고, 없으면 종류별 대기열에 넣은 뒤 슬롯이 날 때마다 가상 종료 시각이 가장 이른 호출부터 실행
+ *   (가상 종료 시각 = 시작 시각 + 비용 / 가중치, 비용은 추정 토큰 수) - 모든 종류가 밀려 있으면 처리량이 가중치 비율로 나뉨
+ * - 채팅 전용 슬롯(reservedInteractive)은 요약/백그라운드가 쓰지 않으므로, 긴 요약 호출이 슬롯을 모두 차지해도 채팅은 바로 실행
+ * - 채팅이 없을 때는 요약/백그라운드가 나머지 슬롯을 모두 사용
+ * - 리액티브 호출(schedule, scheduleMany)은 같은 대기열에서 스레드를 막지 않고 슬롯을 기다리며, 응답 종료/오류/취소 시 슬롯 반납
+ */
+@Service
+public class LlmCallScheduler {
+
+    private final LlmSchedulerProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Priority, ArrayDeque<Ticket>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, Double> lastFinish = new EnumMap<>(Priority.class);
+    private final Map<Priority, Integer> running = new EnumMap<>(Priority.class);
+    private final Map<Priority, LongAdder> completed = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+    private double virtualTime;
+    private int inFlight;
+
+    public LlmCallScheduler(LlmSchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            lastFinish.put(priority, 0.0);
+            running.put(priority, 0);
+            completed.put(priority, new LongAdder());
+            waitTimers.put(priority, Timer.builder("chatboat.llm.scheduler.wait")
+                    .description("LLM 호출 슬롯 대기 시간")
+                    .tag("priority", priority.getCode())
+                    .register(meterRegistry));
+            Gauge.builder("chatboat.llm.scheduler.queued", this, scheduler -> scheduler.queued(priority))
+                    .description("슬롯을 기다리는 LLM 호출 수")
+                    .tag("priority", priority.getCode())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 슬롯을 얻은 뒤 호출 실행 (대기 한도를 넘으면 IllegalStateException)
+     */
+    public <T> T execute(Priority priority, ChatCompletionRequest request, Supplier<T> call) {
+        if (!properties.enabled()) {
+            return call.get();
+        }
+        long started = System.nanoTime();
+        acquire(priority, cost(request));
+        waitTimers.get(priority).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        try {
+            return call.get();
+        } finally {
+            release(priority);
+        }
+    }
+
+    /**
+     * 논블로킹 호출 - 구독 시 슬롯을 기다린 뒤 호출을 구독하고, 완료/오류/취소 시 슬롯 반납
+     */
+    public <T> Mono<T> schedule(Priority priority, ChatCompletionRequest request, Supplier<Mono<T>> call) {
+        if (!properties.enabled()) {
+            return Mono.defer(call);
+        }
+        return Mono.usingWhen(permit(priority, cost(request)), permit -> call.get(),
+                LlmCallScheduler::close, (permit, error) -> close(permit), LlmCallScheduler::close);
+    }
+
+    /**
+     * 논블로킹 스트리밍 호출 - 마지막 청크를 받거나 구독이 취소될 때까지 슬롯 점유
+     */
+    public <T> Flux<T> scheduleMany(Priority priority, ChatCompletionRequest request, Supplier<Flux<T>> call) {
+        if (!properties.enabled()) {
+            return Flux.defer(call);
+        }
+        return Flux.usingWhen(permit(priority, cost(request)), permit -> call.get(),
+                LlmCallScheduler::close, (permit, error) -> close(permit), LlmCallScheduler::close);
+    }
+
+    private void acquire(Priority priority, double cost) {
+        Ticket ticket;
+        List<Ticket> handoffs;
+        lock.lock();
+        try {
+            ticket = enqueue(priority, cost, lock.newCondition(), null);
+            handoffs = dispatch();
+        } finally {
+            lock.unlock();
+        }
+        handOff(handoffs);
+
+        lock.lock();
+        try {
+            long remaining = properties.maxQueueWait().toNanos();
+            while (!ticket.granted) {
+                if (priority == Priority.BACKGROUND) {
+                    ticket.ready.awaitUninterruptibly();
+                    continue;
+                }
+                if (remaining <= 0) {
+                    queues.get(priority).remove(ticket);
+                    throw new IllegalStateException("LLM 호출 대기 시간을 초과했습니다.");
+                }
+                try {
+                    remaining = ticket.ready.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    queues.get(priority).remove(ticket);
+                    throw new IllegalStateException("LLM 호출 대기 중 중단되었습니다.", e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 슬롯이 나면 Permit을 방출하는 Mono (채팅/요청형 요약은 최대 대기 시간 초과 시 IllegalStateException)
+     * 대기 중 구독이 취소되면 대기열에서 빠지고, 슬롯을 받은 직후 취소되면 바로 반납
+     */
+    private Mono<Permit> permit(Priority priority, double cost) {
+        Mono<Permit> permit = Mono.create(sink -> {
+            var pending = new Permit(priority, sink);
+            sink.onCancel(() -> abandon(pending));
+            List<Ticket> handoffs = List.of();
+            lock.lock();
+            try {
+                if (!pending.abandoned) {
+                    pending.ticket = enqueue(priority, cost, null, pending);
+                    handoffs = dispatch();
+                }
+            } finally {
+                lock.unlock();
+            }
+            handOff(handoffs);
+        });
+        if (priority == Priority.BACKGROUND) {
+            return permit;
+        }
+        return permit.timeout(properties.maxQueueWait(),
+                Mono.error(() -> new IllegalStateException("LLM 호출 대기 시간을 초과했습니다.")));
+    }
+
+    private void abandon(Permit permit) {
+        lock.lock();
+        try {
+            permit.abandoned = true;
+            if (permit.ticket == null || !permit.ticket.granted) {
+                if (permit.ticket != null) {
+                    queues.get(permit.priority).remove(permit.ticket);
+                }
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        permit.close();
+    }
+
+    private static Mono<Void> close(Permit permit) {
+        return Mono.fromRunnable(permit::close);
+    }
+
+    /**
+     * 슬롯을 받은 리액티브 호출에 Permit 전달 (lock 밖에서 호출 - 구독자가 이 스레드에서 바로 요청을 시작할 수 있음)
+     */
+    private void handOff(List<Ticket> handoffs) {
+        for (Ticket ticket : handoffs) {
+            var permit = ticket.permit;
+            waitTimers.get(permit.priority).record(System.nanoTime() - permit.requestedAt, TimeUnit.NANOSECONDS);
+            permit.sink.success(permit);
+        }
+    }
+
+    private void release(Priority priority) {
+        List<Ticket> handoffs;
+        lock.lock();
+        try {
+            inFlight--;
+            running.merge(priority, -1, Integer::sum);
+            completed.get(priority).increment();
+            handoffs = dispatch();
+        } finally {
+            lock.unlock();
+        }
+        handOff(handoffs);
+    }
+
+    /**
+     * 가상 시작 시각 = max(현재 가상 시각, 같은 종류의 마지막 종료 시각) - 쉬던 종류가 밀린 몫을 한꺼번에 가져가지 않음
+     */
+    private Ticket enqueue(Priority priority, double cost, Condition ready, Permit permit) {
+        double start = Math.max(virtualTime, lastFinish.get(priority));
+        double finish = start + cost / properties.weightOf(priority.getCode());
+        lastFinish.put(priority, finish);
+        var ticket = new Ticket(start, finish, ready, permit);
+        queues.get(priority).addLast(ticket);
+        return ticket;
+    }
+
+    /**
+     * 빈 슬롯마다 실행 가능한 대기열 맨 앞 호출 중 가상 종료 시각이 가장 이른 것을 실행 (lock 보유 상태에서 호출)
+     * 블로킹 호출은 바로 깨우고, 리액티브 호출은 lock을 놓은 뒤 handOff로 넘기도록 반환
+     */
+    private List<Ticket> dispatch() {
+        List<Ticket> handoffs = List.of();
+        while (inFlight < properties.maxConcurrency()) {
+            Priority next = null;
+            for (Priority priority : Priority.values()) {
+                var head = queues.get(priority).peekFirst();
+                if (head == null || !canRun(priority)) {
+                    continue;
+                }
+                if (next == null || head.finish < queues.get(next).peekFirst().finish) {
+                    next = priority;
+                }
+            }
+            if (next == null) {
+                return handoffs;
+            }
+            var ticket = queues.get(next).pollFirst();
+            virtualTime = Math.max(virtualTime, ticket.start);
+            inFlight++;
+            running.merge(next, 1, Integer::sum);
+            ticket.granted = true;
+            if (ticket.permit == null) {
+                ticket.ready.signal();
+                continue;
+            }
+            if (handoffs.isEmpty()) {
+                handoffs = new ArrayList<>();
+            }
+            handoffs.add(ticket);
+        }
+        return handoffs;
+    }
+
+    private boolean canRun(Priority priority) {
+        if (priority == Priority.INTERACTIVE) {
+            return true;
+        }
+        int shared = properties.maxConcurrency() - properties.reservedInteractive();
+        return inFlight - running.get(Priority.INTERACTIVE) < shared;
+    }
+
+    /**
+     * 호출 비용 - 메시지 추정 토큰 + 최대 생성 토큰 (1000토큰 단위)
+     */
+    static double cost(ChatCompletionRequest request) {
+        long tokens = request.getMaxTokens() == null ? 0 : request.getMaxTokens();
+        for (ChatMessage message : request.getMessages()) {
+            tokens += TokenEstimator.estimate(message.getContent() == null ? "" : message.getContent());
+        }
+        return Math.max(1, tokens) / 1000.0;
+    }
+
+    private int queued(Priority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SchedulerStats getStats() {
+        lock.lock();
+        try {
+            var classes = new EnumMap<Priority, ClassStats>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                classes.put(priority, new ClassStats(properties.weightOf(priority.getCode()), running.get(priority),
+                        queues.get(priority).size(), completed.get(priority).sum()));
+            }
+            return new SchedulerStats(inFlight, properties.maxConcurrency(), properties.reservedInteractive(), classes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 종류
+     */
+    public enum Priority {
+        INTERACTIVE("interactive"),
+        SUMMARY("summary"),
+        BACKGROUND("background");
+
+        private final String code;
+
+        Priority(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+
+    private static final class Ticket {
+
+        private final double start;
+        private final double finish;
+        private final Condition ready;
+        private final Permit permit;
+        private boolean granted;
+
+        private Ticket(double start, double finish, Condition ready, Permit permit) {
+            this.start = start;
+            this.finish = finish;
+            this.ready = ready;
+            this.permit = permit;
+        }
+    }
+
+    /**
+     * 리액티브 호출의 슬롯 - 완료/오류/취소 경로가 겹쳐도 한 번만 반납
+     */
+    private final class Permit {
+
+        private final Priority priority;
+        private final MonoSink<Permit> sink;
+        private final long requestedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private Ticket ticket;
+        private boolean abandoned;
+
+        private Permit(Priority priority, MonoSink<Permit> sink) {
+            this.priority = priority;
+            this.sink = sink;
+        }
+
+        private void close() {
+            if (released.compareAndSet(false, true)) {
+                release(priority);
+            }
+        }
+    }
+
+    public record ClassStats(int weight, int running, int queued, long completed) {}
+
+    public record SchedulerStats(int inFlight, int maxConcurrency, int reservedInteractive, Map<Priority, ClassStats> classes) {}
+}
@@ -0,0 +1,12 @@
+package com.app.chatboat.service;
+
+/**
+ * 업스트림 채팅 완성 결과
+ */
+public record LlmCompletion(
+        String content,
+        String model,
+        String finishReason,
+        LlmUsage usage
+) {
+}
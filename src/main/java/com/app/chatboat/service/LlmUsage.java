@@ -0,0 +1,39 @@
+package com.app.chatboat.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 업스트림 응답의 토큰 사용량
+ * cachedPromptTokens는 usage.prompt_tokens_details.cached_tokens (프롬프트 prefix 캐시 적중분)
+ */
+public record LlmUsage(
+        long promptTokens,
+        long cachedPromptTokens,
+        long completionTokens
+) {
+
+    public static final LlmUsage EMPTY = new LlmUsage(0, 0, 0);
+
+    /**
+     * OpenAI 응답 JSON의 usage 필드에서 사용량 추출
+     */
+    public static LlmUsage from(JsonNode response) {
+        JsonNode usage = response.path("usage");
+        if (usage.isMissingNode() || usage.isNull()) {
+            return EMPTY;
+        }
+        return new LlmUsage(
+                usage.path("prompt_tokens").asLong(0),
+                usage.path("prompt_tokens_details").path("cached_tokens").asLong(0),
+                usage.path("completion_tokens").asLong(0)
+        );
+    }
+
+    public long uncachedPromptTokens() {
+        return Math.max(0, promptTokens - cachedPromptTokens);
+    }
+
+    public long totalTokens() {
+        return promptTokens + completionTokens;
+    }
+}
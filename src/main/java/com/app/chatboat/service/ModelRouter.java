@@ -0,0 +1,246 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.ModelRoutingProperties;
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.enums.ExpertMode;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 모델 라우팅 (작은 모델 우선, 필요 시 큰 모델로 승격)
+ * - 전문가 모드별 정책(AUTO / SMALL / LARGE)으로 모델 선택
+ * - AUTO: 문서 참조, 긴 질문, 코드 포함, 복잡한 질문 키워드가 있으면 큰 모델, 그 외는 작은 모델
+ * - 작은 모델 답변이 max_tokens에서 잘렸거나 비었거나 확신이 낮은 표현을 포함하면 큰 모델로 한 번 더 호출
+ *   (잘린 답변은 같은 한도로 다시 잘리므로 승격 요청의 max_tokens를 늘림)
+ * 라우팅 결정과 모델별 지연 시간을 집계
+ */
+@Slf4j
+@Service
+public class ModelRouter {
+
+    private static final int TRUNCATED_MAX_TOKENS_FACTOR = 2;
+
+    private final ModelRoutingProperties properties;
+    private final OpenAiProperties openAiProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LongAdder> decisions = new ConcurrentHashMap<>();
+    private final Map<String, ModelLatency> latencies = new ConcurrentHashMap<>();
+    private final LongAdder escalations = new LongAdder();
+    private final Counter escalationCounter;
+
+    public ModelRouter(ModelRoutingProperties properties, OpenAiProperties openAiProperties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.openAiProperties = openAiProperties;
+        this.meterRegistry = meterRegistry;
+        this.escalationCounter = Counter.builder("chatboat.llm.routing.escalations")
+                .description("작은 모델 답변을 큰 모델로 다시 요청한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 보낼 모델 선택
+     */
+    public Route route(ExpertMode expertMode, String question, boolean hasDocument) {
+        var route = decide(expertMode, question, hasDocument);
+        decisions.computeIfAbsent(route.tier().name().toLowerCase() + ":" + route.reason(), key -> new LongAdder()).increment();
+        Counter.builder("chatboat.llm.routing")
+                .description("모델 라우팅 결정")
+                .tag("mode", expertMode.getCode())
+                .tag("tier", route.tier().name().toLowerCase())
+                .tag("reason", route.reason())
+                .register(meterRegistry)
+                .increment();
+        log.debug("모델 라우팅 - 모드: {}, 모델: {} ({})", expertMode.getCode(), route.model(), route.reason());
+        return route;
+    }
+
+    /**
+     * 선택한 모델로 호출하고, 작은 모델 답변의 확신이 낮으면 큰 모델로 다시 호출
+     */
+    public LlmCompletion complete(Route route, ChatCompletionRequest request,
+                                  Function<ChatCompletionRequest, LlmCompletion> call) {
+        var completion = timed(route.model(), () -> call.apply(withModel(request, route.model())));
+        if (route.tier() != Tier.SMALL || !properties.escalate() || !isLowConfidence(completion)) {
+            return completion;
+        }
+
+        escalations.increment();
+        escalationCounter.increment();
+        log.debug("작은 모델 답변 확신 낮음 (finish_reason: {}) - 큰 모델로 다시 요청", completion.finishReason());
+        String largeModel = largeModel();
+        var escalated = isTruncated(completion)
+                ? withModel(request, largeModel, raisedMaxTokens(request.getMaxTokens()))
+                : withModel(request, largeModel);
+        return timed(largeModel, () -> call.apply(escalated));
+    }
+
+    private Route decide(ExpertMode expertMode, String question, boolean hasDocument) {
+        if (!properties.enabled()) {
+            return new Route(largeModel(), Tier.LARGE, "disabled");
+        }
+        return switch (properties.policyOf(expertMode.getCode())) {
+            case SMALL -> new Route(properties.smallModel(), Tier.SMALL, "mode-policy");
+            case LARGE -> new Route(largeModel(), Tier.LARGE, "mode-policy");
+            case AUTO -> classify(question, hasDocument);
+        };
+    }
+
+    private Route classify(String question, boolean hasDocument) {
+        if (hasDocument) {
+            return new Route(largeModel(), Tier.LARGE, "document");
+        }
+        String text = question == null ? "" : question;
+        if (text.length() > properties.simpleMaxLength()) {
+            return new Route(largeModel(), Tier.LARGE, "length");
+        }
+        if (containsCode(text)) {
+            return new Route(largeModel(), Tier.LARGE, "code");
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String keyword : properties.complexKeywords()) {
+            if (lower.contains(keyword.toLowerCase(Locale.ROOT))) {
+                return new Route(largeModel(), Tier.LARGE, "keyword");
+            }
+        }
+        return new Route(properties.smallModel(), Tier.SMALL, "simple");
+    }
+
+    /**
+     * 코드 블록이나 여러 줄의 코드 조각이 있는지 (중괄호/세미콜론으로 끝나는 줄 2개 이상)
+     */
+    private static boolean containsCode(String text) {
+        if (text.contains("```")) {
+            return true;
+        }
+        return text.lines()
+                .map(String::strip)
+                .filter(line -> line.endsWith(";") || line.endsWith("{") || line.endsWith("}"))
+                .limit(2)
+                .count() >= 2;
+    }
+
+    boolean isLowConfidence(LlmCompletion completion) {
+        if (isTruncated(completion)) {
+            return true;
+        }
+        String content = completion.content();
+        if (content == null || content.isBlank()) {
+            return true;
+        }
+        return properties.lowConfidencePhrases().stream().anyMatch(content::contains);
+    }
+
+    private static boolean isTruncated(LlmCompletion completion) {
+        return "length".equals(completion.finishReason());
+    }
+
+    private static Integer raisedMaxTokens(Integer maxTokens) {
+        return maxTokens == null ? null : maxTokens * TRUNCATED_MAX_TOKENS_FACTOR;
+    }
+
+    private String largeModel() {
+        return properties.largeModel() == null || properties.largeModel().isBlank()
+                ? openAiProperties.model()
+                : properties.largeModel();
+    }
+
+    private LlmCompletion timed(String model, Supplier<LlmCompletion> call) {
+        long started = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            latencies.computeIfAbsent(model, this::latency).record(elapsed);
+        }
+    }
+
+    private ModelLatency latency(String model) {
+        return new ModelLatency(Timer.builder("chatboat.llm.routing.latency")
+                .description("모델별 호출 지연 시간")
+                .tag("model", model)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 모델만 바꾼 요청 사본 (응답 캐시 키에 모델이 포함되도록 캐시 조회 전에 적용)
+     */
+    static ChatCompletionRequest withModel(ChatCompletionRequest request, String model) {
+        if (Objects.equals(model, request.getModel())) {
+            return request;
+        }
+        return withModel(request, model, request.getMaxTokens());
+    }
+
+    private static ChatCompletionRequest withModel(ChatCompletionRequest request, String model, Integer maxTokens) {
+        return ChatCompletionRequest.builder()
+                .model(model)
+                .messages(request.getMessages())
+                .maxTokens(maxTokens)
+                .temperature(request.getTemperature())
+                .build();
+    }
+
+    public RoutingStats getStats() {
+        var decisionCounts = new TreeMap<String, Long>();
+        decisions.forEach((key, count) -> decisionCounts.put(key, count.sum()));
+        var modelStats = new TreeMap<String, ModelStats>();
+        latencies.forEach((model, latency) -> modelStats.put(model, latency.stats()));
+        return new RoutingStats(properties.enabled(), properties.smallModel(), largeModel(),
+                decisionCounts, escalations.sum(), modelStats);
+    }
+
+    public enum Tier {
+        SMALL,
+        LARGE
+    }
+
+    public record Route(String model, Tier tier, String reason) {}
+
+    private static final class ModelLatency {
+
+        private final Timer timer;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private ModelLatency(Timer timer) {
+            this.timer = timer;
+        }
+
+        private void record(long nanos) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            calls.increment();
+            totalNanos.add(nanos);
+        }
+
+        private ModelStats stats() {
+            long count = calls.sum();
+            return new ModelStats(count, count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count),
+                    (long) timer.max(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    public record ModelStats(long calls, long averageMillis, long maxMillis) {}
+
+    public record RoutingStats(
+            boolean enabled,
+            String smallModel,
+            String largeModel,
+            Map<String, Long> decisions,
+            long escalations,
+            Map<String, ModelStats> models
+    ) {}
+}
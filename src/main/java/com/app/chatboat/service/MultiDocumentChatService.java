@@ -0,0 +1,99 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.dto.MultiPdfChatRequest;
+import com.app.chatboat.dto.MultiPdfChatResponse;
+import com.app.chatboat.enums.ExpertMode;
+import com.app.chatboat.service.DocumentRetrievalService.RetrievedPassage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 다중 PDF 기반 채팅 서비스
+ * 문서 전체 대신 검색된 구절만 프롬프트에 넣고, 답변에 출처(파일명, 페이지)를 표기하도록 지시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MultiDocumentChatService {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private static final String MULTI_DOCUMENT_INSTRUCTIONS = """
+
+            [다중 문서 참조 지침]
+            다음에 제공되는 여러 문서의 발췌 구절만 참조하여 사용자의 질문에 답변해주세요.
+            답변의 각 근거 뒤에 [파일명 p.페이지] 형식으로 출처를 표기해주세요.
+            발췌 구절에 없는 내용에 대해서는 명확히 "문서에서 해당 정보를 찾을 수 없습니다"라고 답변해주세요.
+            """;
+
+    private final OpenAiProperties openAiProperties;
+    private final ChatGptService chatGptService;
+    private final DocumentRetrievalService documentRetrievalService;
+    private final OpenAiGateway openAiGateway;
+    private final TokenUsageService tokenUsageService;
+    private final ModelRouter modelRouter;
+
+    public MultiPdfChatResponse sendMessageWithDocuments(MultiPdfChatRequest request) {
+        var rejection = chatGptService.rejectInput(request.message());
+        if (rejection.isPresent()) {
+            return MultiPdfChatResponse.failure(rejection.get());
+        }
+
+        var retrieval = documentRetrievalService.retrieve(request.pdfIds(), request.message(), request.topK());
+        if (retrieval.passages().isEmpty()) {
+            return MultiPdfChatResponse.of("문서에서 해당 정보를 찾을 수 없습니다.", List.of(), retrieval.skippedPdfIds());
+        }
+
+        var sources = retrieval.passages().stream()
+                .map(passage -> new MultiPdfChatResponse.Source(
+                        passage.pdfId(), passage.fileName(), passage.page(), passage.score()))
+                .toList();
+
+        if (!openAiProperties.isValid()) {
+            log.error("OpenAI 설정이 유효하지 않습니다.");
+            return MultiPdfChatResponse.of("서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.", sources, retrieval.skippedPdfIds());
+        }
+
+        try {
+            var expertMode = ExpertMode.fromCode(request.expertMode());
+            var prompt = buildMultiDocumentPrompt(expertMode, retrieval.passages(), request.message());
+            var route = modelRouter.route(expertMode, request.message(), true);
+            var completion = modelRouter.complete(route, chatGptService.createRequest(prompt), call -> {
+                var result = openAiGateway.complete(call, TIMEOUT);
+                tokenUsageService.record(expertMode.getCode(), result.usage());
+                return result;
+            });
+            var response = completion.content();
+
+            log.debug("다중 PDF 참조 AI 응답 생성 완료 (구절 {}개)", sources.size());
+            return MultiPdfChatResponse.of(response, sources, retrieval.skippedPdfIds());
+
+        } catch (Exception e) {
+            log.error("다중 PDF 참조 ChatGPT API 호출 중 오류 발생", e);
+            return MultiPdfChatResponse.of(
+                    "죄송합니다. 현재 서비스에 문제가 있습니다. 잠시 후 다시 시도해주세요.", sources, retrieval.skippedPdfIds());
+        }
+    }
+
+    /**
+     * 전문가 프롬프트 + 지침 → 발췌 구절(질문마다 달라짐) → 질문
+     */
+    PromptLayout buildMultiDocumentPrompt(ExpertMode expertMode, List<RetrievedPassage> passages, String question) {
+        var excerpts = new StringBuilder("[문서 발췌]\n");
+        for (RetrievedPassage passage : passages) {
+            excerpts.append("\n[출처: ").append(passage.fileName()).append(" p.").append(passage.page()).append("]\n")
+                    .append(passage.text()).append('\n');
+        }
+
+        return PromptLayout.builder()
+                .instructions(expertMode.getPrompt() + MULTI_DOCUMENT_INSTRUCTIONS)
+                .context(excerpts.toString())
+                .question(question)
+                .build();
+    }
+}
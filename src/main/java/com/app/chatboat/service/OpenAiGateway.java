@@ -0,0 +1,249 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.OpenAiProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.theokanning.openai.OpenAiError;
+import com.theokanning.openai.OpenAiHttpException;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.reactivex.Single;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ResponseBody;
+import org.springframework.stereotype.Service;
+import retrofit2.Call;
+import retrofit2.HttpException;
+import retrofit2.Response;
+import retrofit2.http.Body;
+import retrofit2.http.POST;
+import retrofit2.http.Streaming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * OpenAI 호출 게이트웨이
+ * - 타임아웃별 HTTP 클라이언트를 재사용 (요청마다 OkHttp 클라이언트를 만들지 않음)
+ * - 응답 usage를 그대로 읽어 캐시 적중 토큰(prompt_tokens_details.cached_tokens)까지 기록
+ * - 호출마다 chatboat.llm.call 관측(span)에 모델과 토큰 수를 기록
+ * - 모든 호출은 LlmCallScheduler의 슬롯을 얻은 뒤 실행 (채팅 / 요청형 요약 / 백그라운드 요약 가중 공정 큐)
+ * - 스트리밍 호출은 SSE 응답을 한 줄씩 읽어 전달하므로, 받는 쪽이 느리면 업스트림에서도 읽기를 멈춤
+ */
+@Slf4j
+@Service
+public class OpenAiGateway {
+
+    private static final ObjectMapper MAPPER = OpenAiService.defaultObjectMapper();
+    private static final String DONE = "[DONE]";
+
+    private final OpenAiProperties openAiProperties;
+    private final PromptCacheMetrics promptCacheMetrics;
+    private final ObservationRegistry observationRegistry;
+    private final LlmCallScheduler llmCallScheduler;
+    private final Map<Duration, UsageAwareApi> apis = new ConcurrentHashMap<>();
+
+    public OpenAiGateway(OpenAiProperties openAiProperties,
+                         PromptCacheMetrics promptCacheMetrics,
+                         ObservationRegistry observationRegistry,
+                         LlmCallScheduler llmCallScheduler) {
+        this.openAiProperties = openAiProperties;
+        this.promptCacheMetrics = promptCacheMetrics;
+        this.observationRegistry = observationRegistry;
+        this.llmCallScheduler = llmCallScheduler;
+    }
+
+    /**
+     * 채팅 완성 요청 (채팅 우선순위)
+     */
+    public LlmCompletion complete(ChatCompletionRequest request, Duration timeout) {
+        return complete(request, timeout, LlmCallScheduler.Priority.INTERACTIVE);
+    }
+
+    /**
+     * 채팅 완성 요청 - 호출 종류에 따라 스케줄러 슬롯을 기다린 뒤 호출
+     */
+    public LlmCompletion complete(ChatCompletionRequest request, Duration timeout, LlmCallScheduler.Priority priority) {
+        var observation = Observation.createNotStarted("chatboat.llm.call", observationRegistry)
+                .contextualName("openai chat.completions")
+                .lowCardinalityKeyValue("llm.model", String.valueOf(request.getModel()))
+                .lowCardinalityKeyValue("llm.priority", priority.getCode())
+                .start();
+        try (var scope = observation.openScope()) {
+            var completion = llmCallScheduler.execute(priority, request, () -> call(request, timeout));
+            observation.lowCardinalityKeyValue("llm.finish_reason", String.valueOf(completion.finishReason()))
+                    .highCardinalityKeyValue("llm.prompt_tokens", String.valueOf(completion.usage().promptTokens()))
+                    .highCardinalityKeyValue("llm.cached_prompt_tokens", String.valueOf(completion.usage().cachedPromptTokens()))
+                    .highCardinalityKeyValue("llm.completion_tokens", String.valueOf(completion.usage().completionTokens()));
+            return completion;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 채팅 완성 스트리밍 요청 (채팅 우선순위)
+     * 생성된 텍스트 조각을 도착 순서대로 onDelta에 전달하고, onDelta가 반환한 뒤에 다음 청크를 읽음
+     * stream_options.include_usage로 마지막 청크의 usage까지 받아 전체 응답과 함께 반환
+     *
+     * @param idleTimeout 청크 사이 최대 대기 시간
+     */
+    public LlmCompletion stream(ChatCompletionRequest request, Duration idleTimeout, Consumer<String> onDelta) {
+        var observation = Observation.createNotStarted("chatboat.llm.call", observationRegistry)
+                .contextualName("openai chat.completions stream")
+                .lowCardinalityKeyValue("llm.model", String.valueOf(request.getModel()))
+                .lowCardinalityKeyValue("llm.priority", LlmCallScheduler.Priority.INTERACTIVE.getCode())
+                .lowCardinalityKeyValue("llm.stream", "true")
+                .start();
+        try (var scope = observation.openScope()) {
+            var completion = llmCallScheduler.execute(LlmCallScheduler.Priority.INTERACTIVE, request,
+                    () -> callStream(request, idleTimeout, onDelta));
+            observation.lowCardinalityKeyValue("llm.finish_reason", String.valueOf(completion.finishReason()))
+                    .highCardinalityKeyValue("llm.prompt_tokens", String.valueOf(completion.usage().promptTokens()))
+                    .highCardinalityKeyValue("llm.cached_prompt_tokens", String.valueOf(completion.usage().cachedPromptTokens()))
+                    .highCardinalityKeyValue("llm.completion_tokens", String.valueOf(completion.usage().completionTokens()));
+            return completion;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private LlmCompletion callStream(ChatCompletionRequest request, Duration idleTimeout, Consumer<String> onDelta) {
+        ObjectNode body = MAPPER.valueToTree(request);
+        body.put("stream", true);
+        body.putObject("stream_options").put("include_usage", true);
+
+        var api = apis.computeIfAbsent(idleTimeout, this::createApi);
+        try {
+            Response<ResponseBody> response = api.createChatCompletionStream(body).execute();
+            if (!response.isSuccessful()) {
+                throw translate(new HttpException(response));
+            }
+
+            var content = new StringBuilder();
+            String model = request.getModel();
+            String finishReason = null;
+            LlmUsage usage = LlmUsage.EMPTY;
+            try (var source = response.body().source()) {
+                String line;
+                while ((line = source.readUtf8Line()) != null) {
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+                    String data = line.substring("data:".length()).trim();
+                    if (DONE.equals(data)) {
+                        break;
+                    }
+                    JsonNode chunk = MAPPER.readTree(data);
+                    if (chunk.hasNonNull("usage")) {
+                        usage = LlmUsage.from(chunk);
+                    }
+                    model = chunk.path("model").asText(model);
+                    JsonNode choice = chunk.path("choices").path(0);
+                    if (choice.hasNonNull("finish_reason")) {
+                        finishReason = choice.path("finish_reason").asText();
+                    }
+                    String delta = choice.path("delta").path("content").asText("");
+                    if (!delta.isEmpty()) {
+                        content.append(delta);
+                        onDelta.accept(delta);
+                    }
+                }
+            }
+            promptCacheMetrics.record(usage);
+            log.debug("OpenAI 스트리밍 응답 - 모델: {}, 프롬프트 토큰: {} (캐시 {}), 생성 토큰: {}",
+                    model, usage.promptTokens(), usage.cachedPromptTokens(), usage.completionTokens());
+            return new LlmCompletion(content.toString(), model, finishReason, usage);
+        } catch (IOException e) {
+            throw new UncheckedIOException("OpenAI 스트리밍 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private LlmCompletion call(ChatCompletionRequest request, Duration timeout) {
+        var api = apis.computeIfAbsent(timeout, this::createApi);
+        JsonNode response = execute(api.createChatCompletion(request));
+
+        ChatCompletionResult result = toResult(response);
+        LlmUsage usage = LlmUsage.from(response);
+        promptCacheMetrics.record(usage);
+
+        log.debug("OpenAI 응답 - 모델: {}, 프롬프트 토큰: {} (캐시 {}), 생성 토큰: {}",
+                result.getModel(), usage.promptTokens(), usage.cachedPromptTokens(), usage.completionTokens());
+
+        ChatCompletionChoice choice = result.getChoices().getFirst();
+        return new LlmCompletion(
+                choice.getMessage().getContent(),
+                result.getModel(),
+                choice.getFinishReason(),
+                usage
+        );
+    }
+
+    private UsageAwareApi createApi(Duration timeout) {
+        var client = OpenAiService.defaultClient(openAiProperties.apiKey(), timeout);
+        return OpenAiService.defaultRetrofit(client, MAPPER).newBuilder()
+                .baseUrl(openAiProperties.baseUrl())
+                .build()
+                .create(UsageAwareApi.class);
+    }
+
+    /**
+     * OpenAiService.execute와 동일하게 HTTP 오류를 OpenAiHttpException으로 변환
+     */
+    private JsonNode execute(Single<JsonNode> call) {
+        try {
+            return call.blockingGet();
+        } catch (HttpException e) {
+            throw translate(e);
+        }
+    }
+
+    private static RuntimeException translate(HttpException e) {
+        try {
+            if (e.response() == null || e.response().errorBody() == null) {
+                return e;
+            }
+            String errorBody = e.response().errorBody().string();
+            OpenAiError error = MAPPER.readValue(errorBody, OpenAiError.class);
+            return new OpenAiHttpException(error, e, e.code());
+        } catch (IOException ex) {
+            return e;
+        }
+    }
+
+    private ChatCompletionResult toResult(JsonNode response) {
+        try {
+            return MAPPER.treeToValue(response, ChatCompletionResult.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OpenAI 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * usage 상세 필드를 잃지 않도록 응답을 JsonNode로 받는 API
+     */
+    interface UsageAwareApi {
+
+        @POST("v1/chat/completions")
+        Single<JsonNode> createChatCompletion(@Body ChatCompletionRequest request);
+
+        @Streaming
+        @POST("v1/chat/completions")
+        Call<ResponseBody> createChatCompletionStream(@Body JsonNode request);
+    }
+}
@@ -4,8 +4,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 주문 도메인 지식 서비스
@@ -27,6 +32,13 @@ public class OrderDomainKnowledgeService {
         "CANCEL", "결제취소 - 주문이 취소된 상태"
     );
     
+    /**
+     * 주문 상태 플로우 순서 (CREATE → WAIT → DONE / FAIL → CANCEL)
+     */
+    private static final List<String> STATUS_SEQUENCE = List.of("CREATE", "WAIT", "DONE", "FAIL", "CANCEL");
+    
+    private static final Comparator<String> STATUS_ORDER = Comparator.comparingInt(STATUS_SEQUENCE::indexOf);
+    
     /**
      * 에러 코드와 메시지 매핑
      */
@@ -73,69 +85,157 @@ public class OrderDomainKnowledgeService {
     );
     
     /**
-     * 사용자 질문에 따른 도메인 컨텍스트 생성
+     * 카테고리별 키워드 (대소문자 구분 없이 매칭, 영문 키워드는 단어 단위)
      */
-    public String buildDomainContext(String userMessage) {
-        log.info("주문 도메인 컨텍스트 생성 - 질문: {}", userMessage);
+    public static final Map<DomainCategory, List<String>> CATEGORY_KEYWORDS = new EnumMap<>(Map.of(
+        DomainCategory.ORDER_STATUS, List.of("주문", "결제", "실패", "취소", "order", "orders", "status"),
+        DomainCategory.STOCK, List.of("재고", "품절", "수량", "stock", "soldout", "quantity"),
+        DomainCategory.PAYMENT, List.of("결제", "금액", "payment", "amount", "pg"),
+        DomainCategory.CART, List.of("장바구니", "카트", "cart", "바구니"),
+        DomainCategory.ERROR, List.of("에러", "오류", "실패", "error", "errors", "fail", "failed", "failure", "exception")
+    ));
+    
+    /**
+     * 도메인 지식 카테고리 (컨텍스트 출력 순서)
+     */
+    public enum DomainCategory {
+        ORDER_STATUS,
+        STOCK,
+        PAYMENT,
+        CART,
+        ERROR
+    }
+    
+    /**
+     * 오토마톤 매칭 단위 - 카테고리 키워드와 주문 도메인 신호를 한 번의 순회로 함께 판단
+     * 신호("주문"/order, 대문자 상태 코드, 등록된 에러 코드) 중 하나가 있어야 컨텍스트 주입
+     */
+    private enum Keyword {
+        ORDER_STATUS(DomainCategory.ORDER_STATUS, false),
+        STOCK(DomainCategory.STOCK, false),
+        PAYMENT(DomainCategory.PAYMENT, false),
+        CART(DomainCategory.CART, false),
+        ERROR(DomainCategory.ERROR, false),
+        ORDER_MENTION(null, true),
+        STATUS_CODE(DomainCategory.ORDER_STATUS, true),
+        ERROR_CODE(DomainCategory.ERROR, true);
         
-        var contextBuilder = new StringBuilder();
+        private final DomainCategory category;
+        private final boolean signal;
         
-        // 주문 상태 관련 질문인지 확인
-        if (containsOrderStatusKeywords(userMessage)) {
-            contextBuilder.append(buildOrderStatusContext());
+        Keyword(DomainCategory category, boolean signal) {
+            this.category = category;
+            this.signal = signal;
         }
-        
-        // 재고 관련 질문인지 확인
-        if (containsStockKeywords(userMessage)) {
-            contextBuilder.append(buildStockManagementContext());
+    }
+    
+    private final KeywordAutomaton<Keyword> keywordAutomaton = buildAutomaton();
+    
+    /**
+     * 카테고리별 컨텍스트 블록 (기동 시 한 번만 렌더링)
+     */
+    private final Map<DomainCategory, String> contextBlocks = renderContextBlocks();
+    
+    /**
+     * 사용자 질문에 따른 도메인 컨텍스트 생성
+     */
+    public String buildDomainContext(String userMessage) {
+        var matched = keywordAutomaton.match(userMessage);
+        if (!hasOrderSignal(matched)) {
+            return ""; // "상태", "완료" 같은 일반 단어만 있는 질문에는 주입하지 않음
         }
         
-        // 결제 관련 질문인지 확인
-        if (containsPaymentKeywords(userMessage)) {
-            contextBuilder.append(buildPaymentContext());
+        var categories = EnumSet.noneOf(DomainCategory.class);
+        for (Keyword keyword : matched) {
+            if (keyword.category != null) {
+                categories.add(keyword.category);
+            }
         }
+        log.debug("주문 도메인 컨텍스트 생성 - 분류: {}", categories);
         
-        // 장바구니 관련 질문인지 확인
-        if (containsCartKeywords(userMessage)) {
-            contextBuilder.append(buildCartContext());
+        if (categories.isEmpty()) {
+            return "";
         }
         
-        // 에러 관련 질문인지 확인
-        if (containsErrorKeywords(userMessage)) {
-            contextBuilder.append(buildErrorContext());
+        var contextBuilder = new StringBuilder();
+        for (DomainCategory category : categories) {
+            contextBuilder.append(contextBlocks.get(category));
         }
-        
         return contextBuilder.toString();
     }
     
+    /**
+     * 사용자 질문을 한 번의 순회로 도메인 카테고리로 분류
+     */
+    public EnumSet<DomainCategory> classify(String userMessage) {
+        var categories = EnumSet.noneOf(DomainCategory.class);
+        for (Keyword keyword : keywordAutomaton.match(userMessage)) {
+            if (!keyword.signal) {
+                categories.add(keyword.category);
+            }
+        }
+        return categories;
+    }
+    
+    /**
+     * 주문 관련 질문 여부 (주문 도메인 신호 필수)
+     */
+    public boolean isOrderDomainQuestion(String userMessage) {
+        return hasOrderSignal(keywordAutomaton.match(userMessage));
+    }
+    
+    private static boolean hasOrderSignal(EnumSet<Keyword> matched) {
+        for (Keyword keyword : matched) {
+            if (keyword.signal) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 카테고리 키워드(대소문자 무시) + 주문 신호 키워드, 상태 코드만 대소문자 구분 (done/wait 같은 일반 영단어 제외)
+     */
+    private static KeywordAutomaton<Keyword> buildAutomaton() {
+        var keywords = new EnumMap<Keyword, List<String>>(Keyword.class);
+        CATEGORY_KEYWORDS.forEach((category, words) -> keywords.put(Keyword.valueOf(category.name()), words));
+        keywords.put(Keyword.ORDER_MENTION, List.of("주문", "order", "orders"));
+        keywords.put(Keyword.ERROR_CODE, List.copyOf(ERROR_CODES.keySet()));
+        return KeywordAutomaton.ofWholeWords(Keyword.class, keywords, Map.of(Keyword.STATUS_CODE, STATUS_SEQUENCE));
+    }
+    
+    private static Map<DomainCategory, String> renderContextBlocks() {
+        var blocks = new EnumMap<DomainCategory, String>(DomainCategory.class);
+        blocks.put(DomainCategory.ORDER_STATUS, buildOrderStatusContext());
+        blocks.put(DomainCategory.STOCK, buildStockManagementContext());
+        blocks.put(DomainCategory.PAYMENT, buildPaymentContext());
+        blocks.put(DomainCategory.CART, buildCartContext());
+        blocks.put(DomainCategory.ERROR, buildErrorContext());
+        return Collections.unmodifiableMap(blocks);
+    }
+    
     /**
      * 주문 상태 관련 컨텍스트
      */
-    private String buildOrderStatusContext() {
+    private static String buildOrderStatusContext() {
         return """
             
             [주문 상태 관리]
             주문 상태 플로우:
-            """.concat(
-                ORDER_STATUS_FLOW.entrySet().stream()
-                    .map(entry -> String.format("- %s: %s", entry.getKey(), entry.getValue()))
-                    .reduce((a, b) -> a + "\n" + b)
-                    .orElse("")
-            ).concat("""
+            """ + formatEntries(ORDER_STATUS_FLOW) + """
             
             상태별 가능한 액션:
-            """).concat(
-                STATUS_ACTIONS.entrySet().stream()
-                    .map(entry -> String.format("- %s: %s", entry.getKey(), String.join(", ", entry.getValue())))
-                    .reduce((a, b) -> a + "\n" + b)
-                    .orElse("")
-            );
+            """ + ORDER_STATUS_FLOW.keySet().stream()
+                .filter(STATUS_ACTIONS::containsKey)
+                .sorted(STATUS_ORDER)
+                .map(status -> "- " + status + ": " + String.join(", ", STATUS_ACTIONS.get(status)))
+                .collect(Collectors.joining("\n"));
     }
     
     /**
      * 재고 관리 관련 컨텍스트
      */
-    private String buildStockManagementContext() {
+    private static String buildStockManagementContext() {
         return """
             
             [재고 관리 규칙]
@@ -150,7 +250,7 @@ public class OrderDomainKnowledgeService {
     /**
      * 결제 관련 컨텍스트
      */
-    private String buildPaymentContext() {
+    private static String buildPaymentContext() {
         return """
             
             [결제 처리 규칙]
@@ -165,7 +265,7 @@ public class OrderDomainKnowledgeService {
     /**
      * 장바구니 관련 컨텍스트
      */
-    private String buildCartContext() {
+    private static String buildCartContext() {
         return """
             
             [장바구니 관리]
@@ -179,55 +279,23 @@ public class OrderDomainKnowledgeService {
     /**
      * 에러 처리 관련 컨텍스트
      */
-    private String buildErrorContext() {
+    private static String buildErrorContext() {
         return """
             
             [에러 코드 및 해결 방법]
-            """.concat(
-                ERROR_CODES.entrySet().stream()
-                    .map(entry -> String.format("- %s: %s", entry.getKey(), entry.getValue()))
-                    .reduce((a, b) -> a + "\n" + b)
-                    .orElse("")
-            );
-    }
-    
-    /**
-     * 주문 상태 관련 키워드 확인
-     */
-    private boolean containsOrderStatusKeywords(String message) {
-        var keywords = List.of("주문", "상태", "생성", "결제", "완료", "실패", "취소", "order", "status");
-        return keywords.stream().anyMatch(message::contains);
-    }
-    
-    /**
-     * 재고 관련 키워드 확인
-     */
-    private boolean containsStockKeywords(String message) {
-        var keywords = List.of("재고", "품절", "수량", "stock", "soldout", "quantity");
-        return keywords.stream().anyMatch(message::contains);
-    }
-    
-    /**
-     * 결제 관련 키워드 확인
-     */
-    private boolean containsPaymentKeywords(String message) {
-        var keywords = List.of("결제", "금액", "payment", "amount", "pg");
-        return keywords.stream().anyMatch(message::contains);
-    }
-    
-    /**
-     * 장바구니 관련 키워드 확인
-     */
-    private boolean containsCartKeywords(String message) {
-        var keywords = List.of("장바구니", "카트", "cart", "바구니");
-        return keywords.stream().anyMatch(message::contains);
+            """ + ERROR_CODES.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> "- " + entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining("\n"));
     }
     
     /**
-     * 에러 관련 키워드 확인
+     * 상태 플로우 순서대로 항목 렌더링
      */
-    private boolean containsErrorKeywords(String message) {
-        var keywords = List.of("에러", "오류", "실패", "error", "fail", "exception");
-        return keywords.stream().anyMatch(message::contains);
+    private static String formatEntries(Map<String, String> statusMap) {
+        return statusMap.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(STATUS_ORDER))
+                .map(entry -> "- " + entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining("\n"));
     }
 }
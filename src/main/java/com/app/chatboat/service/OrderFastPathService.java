@@ -0,0 +1,316 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.FastPathProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 질문 Fast-path 서비스
+ * 에러 코드 / 주문 상태 질문을 의도(intent)와 슬롯(slot)으로 해석하여
+ * OpenAI 호출 없이 OrderDomainKnowledgeService의 지식으로 즉시 답변
+ */
+@Slf4j
+@Service
+public class OrderFastPathService {
+
+    /**
+     * 4자리 숫자 - 단위가 붙은 금액/수량/연도(2000원, 1000개, 2024년 등)는 제외
+     */
+    private static final Pattern ERROR_CODE_PATTERN = Pattern.compile(
+            "(?<!\\d)(\\d{4})(?!\\d|\\s*(?:원|개|건|명|년|월|일|번째|%))");
+
+    /**
+     * 숫자 바로 앞/뒤의 에러 단서 (예: 에러 코드 1000, error 1050, 1000 에러, 1000번 오류)
+     */
+    private static final Pattern CUE_BEFORE_CODE = Pattern.compile(
+            "(?i)(?:에러|오류|error|code|코드)\\s*(?:코드|code)?\\s*[:#]?\\s*$");
+    private static final Pattern CUE_AFTER_CODE = Pattern.compile(
+            "(?i)^\\s*번?\\s*(?:에러|오류|코드|error|code)");
+
+    /**
+     * 대문자 상태 코드 (WAIT, DONE ...) - 소문자 cancel 등 동사와 구분
+     */
+    private static final Pattern STATUS_CODE_PATTERN = Pattern.compile(
+            "(?<![A-Za-z])(CREATE|WAIT|DONE|FAIL|CANCEL)(?![A-Za-z])");
+
+    /**
+     * 대소문자 무관 상태 코드 + "상태"/"status" (예: wait 상태, done status)
+     */
+    private static final Pattern STATUS_WITH_SUFFIX_PATTERN = Pattern.compile(
+            "(?i)(?<![a-z])(create|wait|done|fail|cancel)\\s*(상태|status)");
+
+    private static final List<String> MEANING_CUES = List.of(
+            "의미", "뜻", "뭐", "무엇", "무슨", "설명", "어떤", "mean", "what");
+
+    private static final List<String> QUESTION_CUES = List.of(
+            "가능", "되나", "되는지", "할 수 있나", "할 수 있는지", "있나", "can", "allowed", "possible", "?");
+
+    /**
+     * 액션 키워드 → STATUS_ACTIONS 항목 검색용 키워드
+     */
+    private static final Map<String, String> ACTION_KEYWORDS = actionKeywords();
+
+    private final FastPathProperties properties;
+    private final Map<String, String> statusLabels;
+
+    private final LongAdder evaluated = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final Map<Intent, LongAdder> hitsByIntent = new EnumMap<>(Intent.class);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public OrderFastPathService(FastPathProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.statusLabels = statusLabels();
+        for (Intent intent : Intent.values()) {
+            hitsByIntent.put(intent, new LongAdder());
+        }
+        this.hitCounter = Counter.builder("chatboat.chat.fastpath")
+                .description("Fast-path로 답변한 주문 질문 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chatboat.chat.fastpath")
+                .description("LLM으로 위임된 질문 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 신뢰도가 충분하면 로컬 답변 반환, 아니면 empty (LLM 위임)
+     */
+    public Optional<FastPathAnswer> tryAnswer(String userMessage) {
+        if (!properties.enabled() || userMessage == null || userMessage.isBlank()) {
+            return Optional.empty();
+        }
+
+        evaluated.increment();
+        var answer = evaluate(userMessage)
+                .filter(candidate -> candidate.confidence() >= properties.minConfidence());
+
+        if (answer.isPresent()) {
+            hits.increment();
+            hitsByIntent.get(answer.get().intent()).increment();
+            hitCounter.increment();
+            log.debug("Fast-path 응답 - 의도: {}, 신뢰도: {}", answer.get().intent(), answer.get().confidence());
+        } else {
+            missCounter.increment();
+        }
+        return answer;
+    }
+
+    /**
+     * 질문을 해석하여 가장 가능성 높은 답변 후보 반환 (신뢰도 임계값 미적용)
+     */
+    public Optional<FastPathAnswer> evaluate(String userMessage) {
+        double lengthPenalty = userMessage.length() > properties.maxMessageLength() ? 0.3 : 0.0;
+
+        var errorCodes = findErrorCodes(userMessage);
+        if (errorCodes.cued()) {
+            return Optional.of(answerErrorCodes(errorCodes, lengthPenalty));
+        }
+
+        // 단서 없는 숫자(주문 1000건 등)는 상태 의도를 먼저 확인하고, 다른 의도가 없을 때만 에러 코드로 해석
+        var statusSlot = findStatuses(userMessage);
+        if (statusSlot.statuses().isEmpty() && !errorCodes.codes().isEmpty()) {
+            return Optional.of(answerErrorCodes(errorCodes, lengthPenalty));
+        }
+        if (statusSlot.statuses().size() != 1) {
+            return Optional.empty(); // 상태가 없거나 여러 개면 LLM에 위임
+        }
+        String status = statusSlot.statuses().iterator().next();
+        String remainder = statusSlot.remainder().toLowerCase(Locale.ROOT);
+
+        var action = findAction(remainder);
+        if (action.isPresent()) {
+            return Optional.of(answerStatusAction(status, action.get(), remainder, lengthPenalty));
+        }
+
+        double confidence = 0.5 + (containsAny(remainder, MEANING_CUES) ? 0.4 : 0.0) - lengthPenalty;
+        return Optional.of(new FastPathAnswer(Intent.STATUS_MEANING, describeStatus(status), confidence));
+    }
+
+    /**
+     * Fast-path 적중 통계
+     */
+    public FastPathStats getStats() {
+        long total = evaluated.sum();
+        long hitCount = hits.sum();
+        var byIntent = new LinkedHashMap<String, Long>();
+        hitsByIntent.forEach((intent, count) -> byIntent.put(intent.name(), count.sum()));
+        return new FastPathStats(total, hitCount, total == 0 ? 0.0 : (double) hitCount / total, byIntent);
+    }
+
+    private FastPathAnswer answerErrorCodes(ErrorCodeSlot slot, double lengthPenalty) {
+        String answer = slot.codes().stream()
+                .map(code -> "에러 코드 %s: %s".formatted(code, OrderDomainKnowledgeService.ERROR_CODES.get(code)))
+                .collect(Collectors.joining("\n"));
+        // 에러 단서가 숫자에 붙어 있어야 신뢰 (문장 어딘가의 "오류"만으로는 금액/수량과 구분할 수 없음)
+        double confidence = 0.6 + (slot.cued() ? 0.4 : 0.0) - lengthPenalty;
+        return new FastPathAnswer(Intent.ERROR_CODE, answer, confidence);
+    }
+
+    private FastPathAnswer answerStatusAction(String status, String actionKeyword, String remainder, double lengthPenalty) {
+        var actions = OrderDomainKnowledgeService.STATUS_ACTIONS.getOrDefault(status, List.of());
+        var allowed = actions.stream().filter(action -> action.contains(actionKeyword)).toList();
+        String statusName = statusDisplayName(status);
+        String availableActions = String.join(", ", actions);
+
+        String answer;
+        if (allowed.isEmpty()) {
+            answer = """
+                    아니요, %s 상태에서는 %s 처리를 할 수 없습니다.
+                    %s 상태에서 가능한 액션: %s""".formatted(statusName, actionKeyword, statusName, availableActions);
+        } else {
+            answer = """
+                    네, %s 상태에서는 %s 처리가 가능합니다.
+                    %s 상태에서 가능한 액션: %s""".formatted(statusName, String.join(", ", allowed), statusName, availableActions);
+        }
+
+        // 질문 단서가 없으면 임계값 미만 - "DONE 상태인데 배송이 안 돼요" 같은 문장은 LLM에 위임
+        double confidence = 0.5 + 0.2 + (containsAny(remainder, QUESTION_CUES) ? 0.2 : 0.0) - lengthPenalty;
+        return new FastPathAnswer(Intent.STATUS_ACTION, answer, confidence);
+    }
+
+    private String describeStatus(String status) {
+        String description = OrderDomainKnowledgeService.ORDER_STATUS_FLOW.get(status);
+        String meaning = description.contains(" - ") ? description.substring(description.indexOf(" - ") + 3) : description;
+        var actions = OrderDomainKnowledgeService.STATUS_ACTIONS.getOrDefault(status, List.of());
+        return """
+                %s 상태는 %s입니다.
+                이 상태에서 가능한 액션: %s""".formatted(statusDisplayName(status), meaning, String.join(", ", actions));
+    }
+
+    private String statusDisplayName(String status) {
+        String description = OrderDomainKnowledgeService.ORDER_STATUS_FLOW.get(status);
+        String label = description.contains(" - ") ? description.substring(0, description.indexOf(" - ")) : description;
+        return "%s(%s)".formatted(status, label);
+    }
+
+    /**
+     * 등록된 에러 코드 슬롯 추출
+     * 등록되지 않은 숫자(연도 등)는 에러 코드로 보지 않음
+     */
+    private ErrorCodeSlot findErrorCodes(String message) {
+        var codes = new LinkedHashSet<String>();
+        boolean cued = false;
+        Matcher matcher = ERROR_CODE_PATTERN.matcher(message);
+        while (matcher.find()) {
+            if (OrderDomainKnowledgeService.ERROR_CODES.containsKey(matcher.group(1))) {
+                codes.add(matcher.group(1));
+                cued |= CUE_BEFORE_CODE.matcher(message.substring(0, matcher.start())).find()
+                        || CUE_AFTER_CODE.matcher(message.substring(matcher.end())).find();
+            }
+        }
+        return new ErrorCodeSlot(new ArrayList<>(codes), cued);
+    }
+
+    /**
+     * 상태 슬롯 추출 - 상태 코드가 있으면 코드 우선, 없으면 한글 상태명 사용
+     * 이후 액션 탐지를 위해 상태 표현을 제거한 나머지 문장도 반환
+     */
+    private StatusSlot findStatuses(String message) {
+        Set<String> statuses = new LinkedHashSet<>();
+        String remainder = message;
+
+        for (Pattern pattern : List.of(STATUS_CODE_PATTERN, STATUS_WITH_SUFFIX_PATTERN)) {
+            Matcher matcher = pattern.matcher(remainder);
+            var stripped = new StringBuilder();
+            while (matcher.find()) {
+                statuses.add(matcher.group(1).toUpperCase(Locale.ROOT));
+                matcher.appendReplacement(stripped, " ");
+            }
+            matcher.appendTail(stripped);
+            remainder = stripped.toString();
+        }
+        if (!statuses.isEmpty()) {
+            return new StatusSlot(statuses, remainder);
+        }
+
+        String compact = message.replaceAll("\\s+", "");
+        for (var entry : statusLabels.entrySet()) {
+            if (compact.contains(entry.getKey())) {
+                statuses.add(entry.getValue());
+                compact = compact.replace(entry.getKey(), " ");
+            }
+        }
+        return new StatusSlot(statuses, compact);
+    }
+
+    private Optional<String> findAction(String lowerRemainder) {
+        return ACTION_KEYWORDS.entrySet().stream()
+                .filter(entry -> lowerRemainder.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    private static boolean containsAny(String message, List<String> cues) {
+        for (String cue : cues) {
+            if (message.contains(cue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 상태명 → 상태 코드 (예: 결제대기 → WAIT)
+     */
+    private static Map<String, String> statusLabels() {
+        var labels = new LinkedHashMap<String, String>();
+        OrderDomainKnowledgeService.ORDER_STATUS_FLOW.forEach((status, description) -> {
+            String label = description.contains(" - ") ? description.substring(0, description.indexOf(" - ")) : description;
+            labels.put(label.replaceAll("\\s+", ""), status);
+        });
+        return labels;
+    }
+
+    /**
+     * 긴 키워드를 먼저 검사해야 "재결제"가 "결제"보다 우선 매칭됨
+     */
+    private static Map<String, String> actionKeywords() {
+        var keywords = new LinkedHashMap<String, String>();
+        keywords.put("재결제", "재결제");
+        keywords.put("retry", "재결제");
+        keywords.put("취소", "취소");
+        keywords.put("cancel", "취소");
+        keywords.put("배송", "배송");
+        keywords.put("ship", "배송");
+        keywords.put("조회", "조회");
+        keywords.put("결제", "결제");
+        keywords.put("pay", "결제");
+        return keywords;
+    }
+
+    /**
+     * 질문 의도
+     */
+    public enum Intent {
+        ERROR_CODE,
+        STATUS_MEANING,
+        STATUS_ACTION
+    }
+
+    public record FastPathAnswer(Intent intent, String answer, double confidence) {}
+
+    public record FastPathStats(long evaluated, long hits, double hitRatio, Map<String, Long> hitsByIntent) {}
+
+    private record ErrorCodeSlot(List<String> codes, boolean cued) {}
+
+    private record StatusSlot(Set<String> statuses, String remainder) {}
+}
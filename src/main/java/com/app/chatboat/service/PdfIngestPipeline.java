@@ -0,0 +1,278 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.IngestPipelineProperties;
+import com.app.chatboat.entity.PdfDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PDF 수집 파이프라인
+ * 저장(업로드 요청) → 추출 → 정규화 → 색인 → 요약 → 저장 단계를 단계별 전용 워커와 크기 제한 큐로 실행
+ * - CPU 단계(추출, 정규화)는 코어 수만큼의 플랫폼 스레드, I/O 단계(색인, 요약, 저장)는 가상 스레드
+ * - 큐가 가득 차면 앞 단계(작업 워커 스레드)가 대기하므로 느린 단계가 전체 처리량을 제한
+ * - 작업 워커 스레드는 단계 결과를 기다리기만 하므로 리스/재시도 처리는 작업 큐 그대로 사용
+ */
+@Slf4j
+@Service
+public class PdfIngestPipeline {
+
+    private final PdfProcessingService pdfProcessingService;
+    private final IngestPipelineProperties properties;
+    private final ObservationRegistry observationRegistry;
+    private final Map<Stage, StageWorkers> stages = new EnumMap<>(Stage.class);
+
+    public PdfIngestPipeline(PdfProcessingService pdfProcessingService,
+                             IngestPipelineProperties properties,
+                             ObservationRegistry observationRegistry,
+                             MeterRegistry meterRegistry) {
+        this.pdfProcessingService = pdfProcessingService;
+        this.properties = properties;
+        this.observationRegistry = observationRegistry;
+        if (properties.enabled()) {
+            for (Stage stage : Stage.values()) {
+                stages.put(stage, new StageWorkers(stage, properties.stage(stage.getCode()), meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * 텍스트 추출 작업 - 추출, 정규화, 색인 단계 (완료 시 요약 작업 등록)
+     */
+    public void ingest(Long pdfId) throws Exception {
+        if (!properties.enabled()) {
+            pdfProcessingService.ingest(pdfId);
+            return;
+        }
+        PdfDocument document = pdfProcessingService.startIngest(pdfId);
+        String rawText = run(Stage.EXTRACT, () -> pdfProcessingService.extract(document));
+        var normalized = run(Stage.NORMALIZE, () -> pdfProcessingService.normalize(document, rawText));
+        run(Stage.INDEX, () -> {
+            pdfProcessingService.index(document, normalized);
+            return null;
+        });
+    }
+
+    /**
+     * 요약 작업 - 요약, 저장 단계
+     */
+    public void summarize(Long pdfId) throws Exception {
+        if (!properties.enabled()) {
+            pdfProcessingService.summarize(pdfId);
+            return;
+        }
+        PdfDocument document = pdfProcessingService.getPdfDocument(pdfId);
+        String summary = run(Stage.SUMMARIZE, () -> pdfProcessingService.createSummary(document));
+        run(Stage.PERSIST, () -> {
+            pdfProcessingService.complete(document, summary);
+            return null;
+        });
+    }
+
+    /**
+     * 단계 큐에 넣고 결과 대기 (단계 예외는 그대로 전달해 작업 큐가 재시도)
+     */
+    private <T> T run(Stage stage, Callable<T> work) throws Exception {
+        Future<T> task = stages.get(stage).submit(observationRegistry.getCurrentObservation(), work);
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            // 실행 중인 단계는 끝까지 실행 (워커 스레드를 인터럽트하지 않음)
+            task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stages.values().forEach(StageWorkers::shutdown);
+    }
+
+    public PipelineStats getStats() {
+        var stats = new EnumMap<Stage, StageStats>(Stage.class);
+        stages.forEach((stage, workers) -> stats.put(stage, workers.stats()));
+        return new PipelineStats(properties.enabled(), stats);
+    }
+
+    /**
+     * 파이프라인 단계 (저장은 업로드 요청에서 수행되고 작업 큐가 추출 단계로 넘김)
+     */
+    public enum Stage {
+        EXTRACT("extract", true),
+        NORMALIZE("normalize", true),
+        INDEX("index", false),
+        SUMMARIZE("summarize", false),
+        PERSIST("persist", false);
+
+        private final String code;
+        private final boolean cpuBound;
+
+        Stage(String code, boolean cpuBound) {
+            this.code = code;
+            this.cpuBound = cpuBound;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+
+    /**
+     * 단계 전용 워커 - 크기 제한 큐에서 꺼내 실행
+     */
+    private static final class StageWorkers {
+
+        private final Stage stage;
+        private final int capacity;
+        private final BlockingQueue<Runnable> queue;
+        private final List<Thread> threads = new ArrayList<>();
+        private final AtomicInteger active = new AtomicInteger();
+
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private final Timer queueWaitTimer;
+        private final Timer durationTimer;
+        private final Counter processedCounter;
+        private final Counter failedCounter;
+
+        StageWorkers(Stage stage, IngestPipelineProperties.StageSettings settings, MeterRegistry meterRegistry) {
+            this.stage = stage;
+            this.capacity = settings.queueCapacity();
+            this.queue = new ArrayBlockingQueue<>(capacity);
+
+            String code = stage.getCode();
+            this.queueWaitTimer = Timer.builder("chatboat.pdf.pipeline.queue-wait")
+                    .description("PDF 수집 단계 큐 대기 시간")
+                    .tag("stage", code)
+                    .register(meterRegistry);
+            this.durationTimer = Timer.builder("chatboat.pdf.pipeline.duration")
+                    .description("PDF 수집 단계 처리 시간")
+                    .tag("stage", code)
+                    .register(meterRegistry);
+            this.processedCounter = counter(meterRegistry, code, "success");
+            this.failedCounter = counter(meterRegistry, code, "failure");
+            Gauge.builder("chatboat.pdf.pipeline.queue-depth", queue, BlockingQueue::size)
+                    .description("PDF 수집 단계 대기 항목 수")
+                    .tag("stage", code)
+                    .register(meterRegistry);
+            Gauge.builder("chatboat.pdf.pipeline.active", active, AtomicInteger::get)
+                    .description("PDF 수집 단계 실행 중인 워커 수")
+                    .tag("stage", code)
+                    .register(meterRegistry);
+
+            var builder = stage.cpuBound
+                    ? Thread.ofPlatform().daemon().name("pdf-" + code + "-", 1)
+                    : Thread.ofVirtual().name("pdf-" + code + "-", 1);
+            for (int i = 0; i < settings.workers(); i++) {
+                threads.add(builder.start(this::work));
+            }
+        }
+
+        /**
+         * 큐에 빈자리가 생길 때까지 대기 후 등록 (parent: 작업 관측 - 단계 스레드에서 이어서 사용)
+         */
+        <T> Future<T> submit(Observation parent, Callable<T> work) throws InterruptedException {
+            long enqueuedAt = System.nanoTime();
+            var task = new FutureTask<T>(() -> {
+                long started = System.nanoTime();
+                queueWaitTimer.record(started - enqueuedAt, TimeUnit.NANOSECONDS);
+                active.incrementAndGet();
+                try (var scope = parent != null ? parent.openScope() : null) {
+                    T result = work.call();
+                    processed.increment();
+                    processedCounter.increment();
+                    return result;
+                } catch (Exception e) {
+                    failed.increment();
+                    failedCounter.increment();
+                    throw e;
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    durationTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    totalNanos.add(elapsed);
+                    maxNanos.accumulate(elapsed);
+                    active.decrementAndGet();
+                }
+            });
+            queue.put(task);
+            return task;
+        }
+
+        private void work() {
+            while (true) {
+                try {
+                    queue.take().run();
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        void shutdown() {
+            threads.forEach(Thread::interrupt);
+            if (!queue.isEmpty()) {
+                log.warn("종료 시점에 대기 중인 {} 단계 항목 {}건 (작업 리스 만료 후 재실행)", stage.getCode(), queue.size());
+            }
+        }
+
+        StageStats stats() {
+            long count = processed.sum() + failed.sum();
+            return new StageStats(threads.size(), capacity, queue.size(), active.get(), processed.sum(), failed.sum(),
+                    count == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / count, maxNanos.get() / 1_000_000);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String stage, String result) {
+            return Counter.builder("chatboat.pdf.pipeline.items")
+                    .description("PDF 수집 단계 처리 건수")
+                    .tag("stage", stage)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+
+    public record StageStats(
+            int workers,
+            int queueCapacity,
+            int queueDepth,
+            int activeWorkers,
+            long processed,
+            long failed,
+            double averageMillis,
+            long maxMillis
+    ) {}
+
+    public record PipelineStats(
+            boolean enabled,
+            Map<Stage, StageStats> stages
+    ) {}
+}
@@ -0,0 +1,145 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.PdfPage;
+import com.app.chatboat.repository.PdfDocumentInfo;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.repository.PdfPageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * PDF 페이지 단위 텍스트 저장/조회 서비스
+ * 추출 시 PDFTextStripper의 페이지 경계(PAGE_BREAK)로 나눈 텍스트를 페이지 번호와 함께 저장하고,
+ * 페이지 범위 요청에는 문서 본문 없이 해당 페이지 행만 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PdfPageService {
+
+    private final PdfDocumentRepository pdfDocumentRepository;
+    private final PdfPageRepository pdfPageRepository;
+
+    /**
+     * 추출된 텍스트를 페이지별로 저장하고 문서의 페이지 수 갱신 (기존 페이지는 교체)
+     * 삭제/저장/페이지 수 갱신을 한 트랜잭션에서 처리 - 중간에 실패해도 페이지가 비거나 일부만 남지 않음
+     *
+     * @return 페이지 수
+     */
+    @Transactional
+    public int savePages(PdfDocument document, String extractedText) {
+        Long pdfId = document.getId();
+        List<String> texts = splitPages(extractedText);
+        var pages = IntStream.range(0, texts.size())
+                .mapToObj(i -> PdfPage.builder()
+                        .pdfDocumentId(pdfId)
+                        .pageNumber(i + 1)
+                        .text(texts.get(i))
+                        .build())
+                .toList();
+
+        pdfPageRepository.deleteByPdfDocumentId(pdfId);
+        pdfPageRepository.saveAll(pages);
+        document.setPageCount(pages.size());
+        pdfDocumentRepository.save(document);
+        return pages.size();
+    }
+
+    /**
+     * 문서의 페이지 삭제
+     */
+    public void deletePages(Long pdfId) {
+        pdfPageRepository.deleteByPdfDocumentId(pdfId);
+    }
+
+    /**
+     * 페이지 범위 조회 - from/to 생략 시 문서 처음/끝, to가 페이지 수를 넘으면 마지막 페이지까지
+     * (백필이 내부 호출이라 savePages의 트랜잭션이 적용되지 않으므로 조회 메서드의 트랜잭션에 참여)
+     */
+    @Transactional
+    public PageSelection getPages(Long pdfId, Integer from, Integer to) {
+        PdfDocumentInfo document = pdfDocumentRepository.findInfoById(pdfId)
+                .orElseThrow(() -> new RuntimeException("PDF 문서를 찾을 수 없습니다."));
+
+        if (document.getStatus() != PdfDocument.ProcessingStatus.COMPLETED) {
+            throw new IllegalStateException("PDF 처리가 완료되지 않았습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        int pageCount = document.getPageCount() != null ? document.getPageCount() : backfillPages(pdfId);
+        int first = from != null ? from : 1;
+        int last = to != null ? Math.min(to, pageCount) : pageCount;
+        if (first < 1 || first > last) {
+            throw new IllegalArgumentException(
+                    "페이지 범위가 올바르지 않습니다: " + first + "-" + (to != null ? to : pageCount) + " (전체 " + pageCount + "페이지)");
+        }
+
+        var pages = pdfPageRepository.findByPdfDocumentIdAndPageNumberBetweenOrderByPageNumber(pdfId, first, last);
+        return new PageSelection(document, pageCount, first, last, pages);
+    }
+
+    /**
+     * 처리 완료된 문서의 전체 페이지 조회 (다중 문서 검색용, 페이지 저장 이전 문서는 백필)
+     */
+    @Transactional
+    public List<PdfPage> getAllPages(PdfDocumentInfo document) {
+        if (document.getPageCount() == null) {
+            backfillPages(document.getId());
+        }
+        return pdfPageRepository.findByPdfDocumentIdOrderByPageNumber(document.getId());
+    }
+
+    /**
+     * 페이지 저장 이전에 처리된 문서는 최초 요청 시 본문을 나눠 저장
+     */
+    private int backfillPages(Long pdfId) {
+        PdfDocument document = pdfDocumentRepository.findById(pdfId)
+                .orElseThrow(() -> new RuntimeException("PDF 문서를 찾을 수 없습니다."));
+
+        int pageCount = savePages(document, document.getExtractedText());
+
+        log.info("PDF 페이지 텍스트 백필 완료: {} ({}페이지)", document.getFileName(), pageCount);
+        return pageCount;
+    }
+
+    /**
+     * 페이지 구분자로 분리 (마지막 페이지 뒤의 빈 조각은 제외)
+     */
+    static List<String> splitPages(String extractedText) {
+        if (extractedText == null || extractedText.isEmpty()) {
+            return List.of();
+        }
+        var pages = new ArrayList<>(List.of(extractedText.split(DocumentRetrievalService.PAGE_BREAK, -1)));
+        if (pages.size() > 1 && pages.getLast().isBlank()) {
+            pages.removeLast();
+        }
+        return pages.stream().map(String::strip).toList();
+    }
+
+    /**
+     * 조회된 페이지 범위
+     */
+    public record PageSelection(PdfDocumentInfo document, int pageCount, int from, int to, List<PdfPage> pages) {
+
+        /**
+         * 페이지 번호를 붙여 이어 붙인 본문
+         */
+        public String text() {
+            var text = new StringBuilder();
+            for (PdfPage page : pages) {
+                text.append("[p.").append(page.getPageNumber()).append("]\n").append(page.getText()).append("\n\n");
+            }
+            return text.toString();
+        }
+
+        public String label() {
+            return from == to ? "p." + from : "p." + from + "-" + to;
+        }
+    }
+}
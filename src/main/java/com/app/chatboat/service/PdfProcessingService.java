@@ -3,10 +3,12 @@ package com.app.chatboat.service;
 import com.app.chatboat.config.OpenAiProperties;
 import com.app.chatboat.dto.PdfSummaryRequest;
 import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.ProcessingJob;
+import com.app.chatboat.repository.PdfDocumentInfo;
 import com.app.chatboat.repository.PdfDocumentRepository;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
-import com.theokanning.openai.completion.chat.ChatMessageRole;
-import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -20,8 +22,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,14 +41,36 @@ public class PdfProcessingService {
     
     private final PdfDocumentRepository pdfDocumentRepository;
     private final OpenAiProperties openAiProperties;
+    private final OpenAiGateway openAiGateway;
+    private final PdfPageService pdfPageService;
+    private final ProcessingJobService processingJobService;
+    private final DocumentContextCache documentContextCache;
+    private final SummaryCacheService summaryCacheService;
+    private final PdfTextNormalizer pdfTextNormalizer;
+    private final TokenUsageService tokenUsageService;
+    private final ObservationRegistry observationRegistry;
     
     @Value("${app.pdf.upload-dir:./uploads/pdf}")
     private String uploadDir;
     
     private static final Duration TIMEOUT = Duration.ofSeconds(120);
     
+    private static final String SUMMARY_SYSTEM_PROMPT = """
+            당신은 문서 요약 전문가입니다. 
+            주어진 텍스트를 한국어로 간결하고 명확하게 요약해주세요.
+            
+            요약 형식:
+            1. 주요 주제와 목적
+            2. 핵심 내용 3-5개
+            3. 중요한 키워드
+            4. 결론 또는 요점
+            """;
+    
+    private static final String ANALYSIS_SYSTEM_PROMPT =
+            "당신은 문서 분석 전문가입니다. 사용자의 요청에 따라 문서를 분석하고 답변해주세요.";
+    
     /**
-     * PDF 파일 업로드 및 처리
+     * PDF 파일 업로드 및 처리 작업 등록
      */
     public PdfDocument uploadAndProcessPdf(MultipartFile file, String description) {
         try {
@@ -52,8 +79,8 @@ public class PdfProcessingService {
             // 1. 파일 저장
             PdfDocument document = savePdfFile(file, description);
             
-            // 2. 비동기로 텍스트 추출 및 요약 처리
-            processPdfAsync(document);
+            // 2. 텍스트 추출 작업 등록 (어느 인스턴스의 워커든 처리 가능)
+            processingJobService.enqueue(ProcessingJob.JobType.INGEST, document.getId());
             
             return document;
             
@@ -82,12 +109,89 @@ public class PdfProcessingService {
         // 파일 저장
         file.transferTo(new File(filePath));
         
-        // DB에 문서 정보 저장
+        return registerDocument(uniqueFileName, originalFileName, filePath, file.getSize(), fileSha256(Path.of(filePath)));
+    }
+    
+    /**
+     * 업로드 디렉토리로 이미 옮겨진 PDF 등록 및 처리 작업 등록 (분할 업로드 조립 검증 후 호출)
+     */
+    public PdfDocument processStoredPdf(Path storedFile, String originalFileName) {
+        try {
+            log.info("조립된 PDF 파일 등록: {} ({})", originalFileName, storedFile.getFileName());
+            
+            PdfDocument document = registerDocument(
+                    storedFile.getFileName().toString(),
+                    originalFileName,
+                    storedFile.toString(),
+                    Files.size(storedFile),
+                    fileSha256(storedFile)
+            );
+            processingJobService.enqueue(ProcessingJob.JobType.INGEST, document.getId());
+            
+            return document;
+            
+        } catch (IOException e) {
+            log.error("조립된 PDF 파일 등록 중 오류 발생", e);
+            throw new RuntimeException("PDF 파일 등록에 실패했습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 서버 디렉토리의 PDF를 업로드 디렉토리로 복사해 등록 및 처리 작업 등록 (일괄 가져오기)
+     * 원본은 그대로 두므로 문서를 삭제해도 가져오기 디렉토리의 파일은 남음
+     */
+    public PdfDocument importPdf(Path source, String originalFileName, String fileSha256) throws IOException {
+        Path uploadPath = getUploadPath();
+        Files.createDirectories(uploadPath);
+        Path target = uploadPath.resolve(UUID.randomUUID() + getFileExtension(originalFileName));
+        Files.copy(source, target);
+        
+        PdfDocument document = registerDocument(
+                target.getFileName().toString(),
+                originalFileName,
+                target.toString(),
+                Files.size(target),
+                fileSha256
+        );
+        processingJobService.enqueue(ProcessingJob.JobType.INGEST, document.getId());
+        return document;
+    }
+    
+    /**
+     * 파일 SHA-256
+     */
+    public static String fileSha256(Path file) throws IOException {
+        try (var in = Files.newInputStream(file)) {
+            var digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+    
+    /**
+     * 업로드 디렉토리 경로
+     */
+    public Path getUploadPath() {
+        return Paths.get(uploadDir);
+    }
+    
+    /**
+     * DB에 문서 정보 저장
+     */
+    private PdfDocument registerDocument(String fileName, String originalFileName, String filePath, long fileSize,
+                                         String fileSha256) {
         PdfDocument document = PdfDocument.builder()
-                .fileName(uniqueFileName)
+                .fileName(fileName)
                 .originalFileName(originalFileName)
                 .filePath(filePath)
-                .fileSize(file.getSize())
+                .fileSize(fileSize)
+                .fileSha256(fileSha256)
                 .uploadedAt(LocalDateTime.now())
                 .status(PdfDocument.ProcessingStatus.UPLOADED)
                 .build();
@@ -96,49 +200,111 @@ public class PdfProcessingService {
     }
     
     /**
-     * PDF 텍스트 추출 및 요약 처리 (비동기)
+     * 텍스트 추출 작업 - 본문/페이지 저장 후 요약 작업 등록
+     * 실패 시 예외를 던져 작업 큐가 재시도하도록 함 (재실행해도 같은 결과로 덮어씀)
+     * 단계별 전용 워커로 나눠 실행할 때는 PdfIngestPipeline이 아래 단계 메서드를 직접 호출
      */
-    private void processPdfAsync(PdfDocument document) {
-        // 실제 구현에서는 @Async를 사용하거나 별도 스레드에서 처리
-        // 여기서는 동기적으로 처리
-        try {
-            log.info("PDF 텍스트 추출 시작: {}", document.getFileName());
-            
-            // 상태를 처리 중으로 변경
-            document.setStatus(PdfDocument.ProcessingStatus.PROCESSING);
-            pdfDocumentRepository.save(document);
-            
-            // PDF 텍스트 추출
-            String extractedText = extractTextFromPdf(document.getFilePath());
-            document.setExtractedText(extractedText);
-            
-            // AI를 통한 요약 생성
-            String summary = generateSummary(extractedText);
-            document.setSummary(summary);
-            
-            // 처리 완료 상태로 변경
-            document.setStatus(PdfDocument.ProcessingStatus.COMPLETED);
-            document.setProcessedAt(LocalDateTime.now());
-            
-            pdfDocumentRepository.save(document);
-            
-            log.info("PDF 처리 완료: {}", document.getFileName());
-            
-        } catch (Exception e) {
-            log.error("PDF 처리 중 오류 발생: {}", document.getFileName(), e);
-            
-            document.setStatus(PdfDocument.ProcessingStatus.FAILED);
-            document.setErrorMessage(e.getMessage());
-            pdfDocumentRepository.save(document);
-        }
+    public void ingest(Long pdfId) throws IOException {
+        PdfDocument document = startIngest(pdfId);
+        String rawText = extract(document);
+        var normalized = normalize(document, rawText);
+        index(document, normalized);
+    }
+    
+    /**
+     * 수집 시작 - 처리 중 상태로 변경하고 이전 요약 결과 무효화
+     */
+    PdfDocument startIngest(Long pdfId) {
+        PdfDocument document = getPdfDocument(pdfId);
+        log.info("PDF 텍스트 추출 시작: {}", document.getFileName());
+        
+        // 상태를 처리 중으로 변경
+        document.setStatus(PdfDocument.ProcessingStatus.PROCESSING);
+        pdfDocumentRepository.save(document);
+        summaryCacheService.invalidate(pdfId);
+        return document;
+    }
+    
+    /**
+     * 추출 단계 (CPU) - PDF 텍스트 추출
+     */
+    String extract(PdfDocument document) throws IOException {
+        return stage("extract", document.getId()).observeChecked(() -> extractTextFromPdf(document.getFilePath()));
+    }
+    
+    /**
+     * 정규화 단계 (CPU) - 머리글/바닥글, 공백 정리 (질문/요약마다 보내는 토큰 절감)
+     */
+    PdfTextNormalizer.NormalizedText normalize(PdfDocument document, String rawText) {
+        var normalized = stage("normalize", document.getId()).observe(() -> pdfTextNormalizer.normalize(rawText));
+        document.setExtractedText(normalized.text());
+        document.setContentHash(SummaryCacheService.contentHash(normalized.text()));
+        document.setRawTokenCount(normalized.rawTokens());
+        document.setTokenCount(normalized.tokens());
+        log.info("PDF 텍스트 정규화: {} - 추정 토큰 {} → {} ({} 절감, 제거된 줄 {})", document.getFileName(),
+                normalized.rawTokens(), normalized.tokens(), normalized.tokensSaved(), normalized.removedLines());
+        return normalized;
     }
     
     /**
-     * PDF에서 텍스트 추출
+     * 색인 단계 (DB) - 페이지 범위 조회용 페이지별 텍스트와 본문 저장 후 요약 작업 등록
      */
-    private String extractTextFromPdf(String filePath) throws IOException {
+    void index(PdfDocument document, PdfTextNormalizer.NormalizedText normalized) {
+        Long pdfId = document.getId();
+        stage("save-pages", pdfId).observe(() -> pdfPageService.savePages(document, normalized.text()));
+        documentContextCache.invalidate(pdfId);
+        
+        processingJobService.enqueue(ProcessingJob.JobType.SUMMARIZE, pdfId);
+    }
+    
+    /**
+     * 수집 단계 관측 (stage: extract, normalize, save-pages, summarize)
+     */
+    private Observation stage(String stage, Long pdfId) {
+        return Observation.createNotStarted("chatboat.pdf.ingest.stage", observationRegistry)
+                .contextualName("pdf " + stage)
+                .lowCardinalityKeyValue("stage", stage)
+                .highCardinalityKeyValue("pdf.id", String.valueOf(pdfId));
+    }
+    
+    /**
+     * 요약 작업 - AI 요약 생성 후 처리 완료
+     */
+    public void summarize(Long pdfId) {
+        PdfDocument document = getPdfDocument(pdfId);
+        complete(document, createSummary(document));
+    }
+    
+    /**
+     * 요약 단계 (LLM 호출) - AI를 통한 요약 생성
+     */
+    String createSummary(PdfDocument document) {
+        return stage("summarize", document.getId()).observe(() -> generateSummary(document.getExtractedText()));
+    }
+    
+    /**
+     * 저장 단계 (DB) - 요약 저장 후 처리 완료
+     */
+    void complete(PdfDocument document, String summary) {
+        document.setSummary(summary);
+        
+        // 처리 완료 상태로 변경
+        document.setStatus(PdfDocument.ProcessingStatus.COMPLETED);
+        document.setProcessedAt(LocalDateTime.now());
+        
+        pdfDocumentRepository.save(document);
+        documentContextCache.invalidate(document.getId());
+        
+        log.info("PDF 처리 완료: {}", document.getFileName());
+    }
+    
+    /**
+     * PDF에서 텍스트 추출 (페이지 끝마다 페이지 구분자 삽입)
+     */
+    String extractTextFromPdf(String filePath) throws IOException {
         try (PDDocument document = PDDocument.load(new File(filePath))) {
             PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setPageEnd(stripper.getLineSeparator() + DocumentRetrievalService.PAGE_BREAK);
             return stripper.getText(document);
         }
     }
@@ -153,44 +319,24 @@ public class PdfProcessingService {
                 return generateBasicSummary(text);
             }
             
-            var service = new OpenAiService(openAiProperties.apiKey(), TIMEOUT);
-            
-            var systemPrompt = """
-                당신은 문서 요약 전문가입니다. 
-                주어진 텍스트를 한국어로 간결하고 명확하게 요약해주세요.
-                
-                요약 형식:
-                1. 주요 주제와 목적
-                2. 핵심 내용 3-5개
-                3. 중요한 키워드
-                4. 결론 또는 요점
-                """;
-            
-            var messages = List.of(
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                    ChatMessageRole.SYSTEM.value(), 
-                    systemPrompt
-                ),
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                    ChatMessageRole.USER.value(), 
-                    "다음 문서를 요약해주세요:\n\n" + text
-                )
-            );
+            var prompt = PromptLayout.builder()
+                    .instructions(SUMMARY_SYSTEM_PROMPT)
+                    .document(text)
+                    .question("위 문서를 요약해주세요.")
+                    .build();
             
             var request = ChatCompletionRequest.builder()
                     .model(openAiProperties.model())
-                    .messages(messages)
+                    .messages(prompt.toMessages())
                     .maxTokens(1000)
                     .temperature(0.3)
                     .build();
             
-            var response = service.createChatCompletion(request)
-                    .getChoices()
-                    .getFirst()
-                    .getMessage()
-                    .getContent();
+            // 업로드 후 자동 요약은 채팅/요청형 요약에 밀리는 백그라운드 호출
+            var completion = openAiGateway.complete(request, TIMEOUT, LlmCallScheduler.Priority.BACKGROUND);
+            tokenUsageService.record("pdf-summary", completion.usage());
             
-            return response;
+            return completion.content();
             
         } catch (Exception e) {
             log.error("AI 요약 생성 중 오류 발생", e);
@@ -201,7 +347,7 @@ public class PdfProcessingService {
     /**
      * 기본 요약 생성 (AI 사용 불가 시)
      */
-    private String generateBasicSummary(String text) {
+    String generateBasicSummary(String text) {
         if (text == null || text.trim().isEmpty()) {
             return "텍스트를 추출할 수 없습니다.";
         }
@@ -224,45 +370,42 @@ public class PdfProcessingService {
     
     /**
      * 사용자 정의 프롬프트로 PDF 요약
+     * 같은 문서 내용/프롬프트/모델/페이지 범위의 결과가 저장되어 있으면 본문을 읽지 않고 바로 반환
      */
     public String summarizeWithCustomPrompt(PdfSummaryRequest request) {
-        PdfDocument document = pdfDocumentRepository.findById(request.pdfId())
+        PdfDocumentInfo document = pdfDocumentRepository.findInfoById(request.pdfId())
                 .orElseThrow(() -> new RuntimeException("PDF 문서를 찾을 수 없습니다."));
         
         if (document.getStatus() != PdfDocument.ProcessingStatus.COMPLETED) {
             throw new RuntimeException("PDF 처리가 완료되지 않았습니다.");
         }
         
-        if (document.getExtractedText() == null || document.getExtractedText().trim().isEmpty()) {
-            throw new RuntimeException("PDF에서 텍스트를 추출할 수 없습니다.");
-        }
+        String model = openAiProperties.model();
+        return summaryCacheService.getOrCompute(request, document.getContentHash(), model,
+                () -> generateCustomSummary(request, model));
+    }
+    
+    private String generateCustomSummary(PdfSummaryRequest request, String model) {
+        String documentText = request.hasPageRange() ? loadPageRangeText(request) : loadDocumentText(request.pdfId());
         
         try {
-            var service = new OpenAiService(openAiProperties.apiKey(), TIMEOUT);
-            
-            var messages = List.of(
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                    ChatMessageRole.SYSTEM.value(), 
-                    "당신은 문서 분석 전문가입니다. 사용자의 요청에 따라 문서를 분석하고 답변해주세요."
-                ),
-                new com.theokanning.openai.completion.chat.ChatMessage(
-                    ChatMessageRole.USER.value(), 
-                    request.getEffectivePrompt() + "\n\n문서 내용:\n" + document.getExtractedText()
-                )
-            );
+            // 문서 본문을 사용자 프롬프트보다 앞에 두어 같은 문서의 다른 요청과 prefix를 공유
+            var prompt = PromptLayout.builder()
+                    .instructions(ANALYSIS_SYSTEM_PROMPT)
+                    .document(documentText)
+                    .question(request.getEffectivePrompt())
+                    .build();
             
             var chatRequest = ChatCompletionRequest.builder()
-                    .model(openAiProperties.model())
-                    .messages(messages)
+                    .model(model)
+                    .messages(prompt.toMessages())
                     .maxTokens(2000)
                     .temperature(0.7)
                     .build();
             
-            return service.createChatCompletion(chatRequest)
-                    .getChoices()
-                    .getFirst()
-                    .getMessage()
-                    .getContent();
+            var completion = openAiGateway.complete(chatRequest, TIMEOUT, LlmCallScheduler.Priority.SUMMARY);
+            tokenUsageService.record("pdf-analysis", completion.usage());
+            return completion.content();
             
         } catch (Exception e) {
             log.error("사용자 정의 요약 생성 중 오류 발생", e);
@@ -270,6 +413,36 @@ public class PdfProcessingService {
         }
     }
     
+    private String loadDocumentText(Long pdfId) {
+        PdfDocument document = pdfDocumentRepository.findById(pdfId)
+                .orElseThrow(() -> new RuntimeException("PDF 문서를 찾을 수 없습니다."));
+        
+        if (document.getStatus() != PdfDocument.ProcessingStatus.COMPLETED) {
+            throw new RuntimeException("PDF 처리가 완료되지 않았습니다.");
+        }
+        
+        if (document.getExtractedText() == null || document.getExtractedText().trim().isEmpty()) {
+            throw new RuntimeException("PDF에서 텍스트를 추출할 수 없습니다.");
+        }
+        
+        return "문서 내용:\n" + document.getExtractedText();
+    }
+    
+    /**
+     * 요청한 페이지만 조회 (문서 본문 전체를 읽지 않음)
+     */
+    private String loadPageRangeText(PdfSummaryRequest request) {
+        var selection = pdfPageService.getPages(request.pdfId(), request.pageFrom(), request.pageTo());
+        return "문서 내용 (" + selection.label() + " / 전체 " + selection.pageCount() + "페이지):\n" + selection.text();
+    }
+    
+    /**
+     * PDF 문서 페이지 범위 텍스트 조회
+     */
+    public PdfPageService.PageSelection getPdfPages(Long id, Integer from, Integer to) {
+        return pdfPageService.getPages(id, from, to);
+    }
+    
     /**
      * PDF 문서 조회
      */
@@ -299,7 +472,10 @@ public class PdfProcessingService {
         }
         
         // DB에서 삭제
+        pdfPageService.deletePages(id);
         pdfDocumentRepository.delete(document);
+        documentContextCache.invalidate(id);
+        summaryCacheService.invalidate(id);
     }
     
     /**
@@ -0,0 +1,210 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.TextNormalizationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * PDF 추출 텍스트 정규화 (추출 직후 한 번 적용)
+ * - 유니코드 NFC 정규화 (자모가 분리된 한글을 완성형으로 결합)
+ * - 여러 페이지 가장자리에 반복되는 머리글/바닥글과 쪽 번호 줄 제거
+ * - 줄 끝 하이픈으로 나뉜 영단어 결합
+ * - 연속 공백/빈 줄 축약
+ * 페이지 구분자(PAGE_BREAK)는 그대로 유지하므로 페이지 번호가 바뀌지 않음
+ */
+@Component
+public class PdfTextNormalizer {
+
+    private static final String PAGE_BREAK = DocumentRetrievalService.PAGE_BREAK;
+    private static final Pattern INLINE_WHITESPACE = Pattern.compile("[\\t\\x0B\\u00A0\\u2000-\\u200A\\u3000 ]+");
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+    private static final Pattern PAGE_NUMBER = Pattern.compile(
+            "(?i)^[-–—\\s]*(page|p\\.)?\\s*\\d+\\s*((/|of)\\s*\\d+)?\\s*(페이지|쪽)?[-–—\\s]*$");
+    private static final Pattern HYPHENATED = Pattern.compile("[A-Za-z]-$");
+
+    private final TextNormalizationProperties properties;
+    private final Counter tokensSaved;
+
+    public PdfTextNormalizer(TextNormalizationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tokensSaved = Counter.builder("chatboat.pdf.normalization.tokens-saved")
+                .description("추출 텍스트 정규화로 줄어든 추정 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 추출 텍스트 정규화
+     */
+    public NormalizedText normalize(String rawText) {
+        int rawTokens = TokenEstimator.estimate(rawText);
+        if (!properties.enabled() || rawText == null || rawText.isEmpty()) {
+            return new NormalizedText(rawText, rawTokens, rawTokens, 0);
+        }
+
+        String[] segments = Normalizer.normalize(rawText, Normalizer.Form.NFC).split(PAGE_BREAK, -1);
+        var pages = new ArrayList<List<String>>(segments.length);
+        for (String segment : segments) {
+            pages.add(cleanLines(segment));
+        }
+
+        var boilerplate = repeatedEdgeLines(pages);
+        int removedLines = 0;
+        var result = new StringBuilder(rawText.length());
+        for (int i = 0; i < pages.size(); i++) {
+            var lines = pages.get(i);
+            var kept = stripEdges(lines, boilerplate);
+            if (kept.isEmpty() && nonBlank(lines) > 0 && !boilerplate.isEmpty()) {
+                // 본문이 머리글/바닥글과 구분되지 않는 페이지는 지우지 않고 그대로 둠
+                kept = lines;
+            }
+            removedLines += nonBlank(lines) - nonBlank(kept);
+
+            if (i > 0) {
+                result.append(PAGE_BREAK);
+            }
+            String page = joinHyphenation(kept);
+            if (!page.isEmpty()) {
+                result.append(page).append('\n');
+            }
+        }
+
+        String text = result.toString();
+        int tokens = TokenEstimator.estimate(text);
+        tokensSaved.increment(Math.max(0, rawTokens - tokens));
+        return new NormalizedText(text, rawTokens, tokens, removedLines);
+    }
+
+    /**
+     * 줄 단위 공백 정리 - 줄 안의 연속 공백은 하나로, 연속된 빈 줄은 하나로
+     */
+    private static List<String> cleanLines(String page) {
+        var lines = new ArrayList<String>();
+        for (String line : page.split("\\R")) {
+            String cleaned = INLINE_WHITESPACE.matcher(line).replaceAll(" ").replace("\u00AD", "").replace("\u200B", "").strip();
+            if (cleaned.isEmpty() && (lines.isEmpty() || lines.getLast().isEmpty())) {
+                continue;
+            }
+            lines.add(cleaned);
+        }
+        if (!lines.isEmpty() && lines.getLast().isEmpty()) {
+            lines.removeLast();
+        }
+        return lines;
+    }
+
+    /**
+     * 여러 페이지의 가장자리(위/아래 edgeLines 줄)에 반복되는 줄 - 숫자는 무시하고 비교 ("3 / 10"과 "4 / 10"은 같은 줄)
+     */
+    private Set<String> repeatedEdgeLines(List<List<String>> pages) {
+        long pageCount = pages.stream().filter(lines -> !lines.isEmpty()).count();
+        int threshold = (int) Math.max(properties.minRepeatPages(), Math.ceil(pageCount * properties.minRepeatRatio()));
+        if (pageCount < threshold) {
+            return Set.of();
+        }
+
+        Map<String, Integer> pageFrequency = new HashMap<>();
+        for (List<String> lines : pages) {
+            var seen = new HashSet<String>();
+            for (String line : edges(lines)) {
+                if (!line.isEmpty() && seen.add(shape(line))) {
+                    pageFrequency.merge(shape(line), 1, Integer::sum);
+                }
+            }
+        }
+
+        var repeated = new HashSet<String>();
+        pageFrequency.forEach((shape, count) -> {
+            if (count >= threshold) {
+                repeated.add(shape);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * 페이지 위/아래 가장자리에서 머리글/바닥글과 쪽 번호 줄 제거 (본문 중간의 같은 줄은 유지)
+     */
+    private List<String> stripEdges(List<String> lines, Set<String> boilerplate) {
+        int edge = properties.edgeLines();
+        int start = 0;
+        int end = lines.size();
+        while (start < end && start < edge && isBoilerplate(lines.get(start), boilerplate)) {
+            start++;
+        }
+        while (end > start && lines.size() - end < edge && isBoilerplate(lines.get(end - 1), boilerplate)) {
+            end--;
+        }
+        while (start < end && lines.get(start).isEmpty()) {
+            start++;
+        }
+        while (end > start && lines.get(end - 1).isEmpty()) {
+            end--;
+        }
+        return lines.subList(start, end);
+    }
+
+    private static boolean isBoilerplate(String line, Set<String> boilerplate) {
+        return line.isEmpty() || PAGE_NUMBER.matcher(line).matches() || boilerplate.contains(shape(line));
+    }
+
+    /**
+     * 줄 끝 하이픈 + 다음 줄 소문자 시작이면 한 단어로 결합 ("infor-" + "mation" → "information")
+     */
+    private static String joinHyphenation(List<String> lines) {
+        var text = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (i + 1 < lines.size() && HYPHENATED.matcher(line).find() && startsWithLowercase(lines.get(i + 1))) {
+                text.append(line, 0, line.length() - 1);
+                continue;
+            }
+            text.append(line);
+            if (i + 1 < lines.size()) {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static boolean startsWithLowercase(String line) {
+        return !line.isEmpty() && Character.isLowerCase(line.charAt(0)) && line.charAt(0) < 0x80;
+    }
+
+    private List<String> edges(List<String> lines) {
+        int edge = properties.edgeLines();
+        if (lines.size() <= edge * 2) {
+            return lines;
+        }
+        var edges = new ArrayList<String>(lines.subList(0, edge));
+        edges.addAll(lines.subList(lines.size() - edge, lines.size()));
+        return edges;
+    }
+
+    private static int nonBlank(List<String> lines) {
+        return (int) lines.stream().filter(line -> !line.isEmpty()).count();
+    }
+
+    private static String shape(String line) {
+        return DIGITS.matcher(line).replaceAll("#");
+    }
+
+    /**
+     * 정규화 결과 (토큰 수는 TokenEstimator 기준 추정치)
+     */
+    public record NormalizedText(String text, int rawTokens, int tokens, int removedLines) {
+
+        public int tokensSaved() {
+            return Math.max(0, rawTokens - tokens);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.JobQueueProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.ProcessingJob;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.repository.ProcessingJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DB 기반 PDF 처리 작업 큐
+ * - 점유: SKIP_LOCKED(FOR UPDATE SKIP LOCKED로 잠근 행만 점유) 또는 COMPARE_AND_SET(@Version 비교 갱신)
+ * - 점유한 워커는 리스 만료 전에 하트비트로 연장하고, 인스턴스가 죽어 리스가 만료되면 다른 워커가 다시 점유
+ * - 실패 시 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 DEAD로 옮기고 문서를 FAILED로 표시
+ * - 완료/실패 기록은 리스 소유자만 가능 (리스를 잃은 워커의 늦은 결과는 무시)
+ * - 하트비트와 완료는 리스 소유자 조건부 UPDATE, 실패 기록은 버전 충돌 시 다시 읽어 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessingJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_REPORT_ATTEMPTS = 3;
+
+    private final ProcessingJobRepository processingJobRepository;
+    private final PdfDocumentRepository pdfDocumentRepository;
+    private final JobQueueProperties jobQueueProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 작업 등록
+     */
+    public ProcessingJob enqueue(ProcessingJob.JobType type, Long pdfDocumentId) {
+        var now = LocalDateTime.now();
+        var job = processingJobRepository.save(ProcessingJob.builder()
+                .type(type)
+                .pdfDocumentId(pdfDocumentId)
+                .status(ProcessingJob.JobStatus.PENDING)
+                .attempts(0)
+                .maxAttempts(jobQueueProperties.maxAttempts())
+                .availableAt(now)
+                .createdAt(now)
+                .build());
+
+        log.info("처리 작업 등록: {} #{} (PDF ID: {})", type, job.getId(), pdfDocumentId);
+        return job;
+    }
+
+    /**
+     * 실행 가능한 작업을 최대 limit개 점유
+     */
+    public List<ProcessingJob> claim(String owner, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return switch (jobQueueProperties.claimMode()) {
+            case SKIP_LOCKED -> transactionTemplate.execute(status -> claimSkipLocked(owner, limit));
+            case COMPARE_AND_SET -> claimCompareAndSet(owner, limit);
+        };
+    }
+
+    /**
+     * 잠근 행은 트랜잭션이 끝날 때까지 다른 워커의 조회에서 제외되므로 그대로 점유
+     */
+    private List<ProcessingJob> claimSkipLocked(String owner, int limit) {
+        var now = LocalDateTime.now();
+        var claimed = new ArrayList<ProcessingJob>();
+        for (ProcessingJob job : processingJobRepository.lockClaimable(now, limit)) {
+            if (isExhausted(job)) {
+                deadLetter(job, "리스 만료 후 재시도 횟수 초과");
+                continue;
+            }
+            claimed.add(processingJobRepository.save(lease(job, owner, now)));
+        }
+        return claimed;
+    }
+
+    /**
+     * 후보를 잠금 없이 조회한 뒤 행마다 버전 비교 갱신 - 다른 워커가 먼저 점유한 행은 건너뜀
+     */
+    private List<ProcessingJob> claimCompareAndSet(String owner, int limit) {
+        var now = LocalDateTime.now();
+        var claimed = new ArrayList<ProcessingJob>();
+        for (ProcessingJob job : processingJobRepository.findClaimable(now, PageRequest.of(0, limit))) {
+            try {
+                if (isExhausted(job)) {
+                    deadLetter(job, "리스 만료 후 재시도 횟수 초과");
+                    continue;
+                }
+                claimed.add(processingJobRepository.saveAndFlush(lease(job, owner, now)));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("다른 워커가 먼저 점유한 작업: #{}", job.getId());
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 실행 중인 작업의 리스 연장
+     *
+     * @return 리스를 잃은 작업 ID
+     */
+    public List<Long> heartbeat(String owner, Collection<Long> jobIds) {
+        var lost = new ArrayList<Long>();
+        var leaseExpiresAt = LocalDateTime.now().plus(jobQueueProperties.leaseDuration());
+        for (Long jobId : jobIds) {
+            if (processingJobRepository.extendLease(jobId, owner, leaseExpiresAt) == 0) {
+                lost.add(jobId);
+            }
+        }
+        if (!lost.isEmpty()) {
+            log.warn("리스를 잃은 작업: {}", lost);
+        }
+        return lost;
+    }
+
+    /**
+     * 작업 완료 기록
+     */
+    public boolean complete(Long jobId, String owner) {
+        if (processingJobRepository.markSucceeded(jobId, owner, LocalDateTime.now()) == 0) {
+            log.warn("리스를 잃은 작업의 완료 보고 무시: #{}", jobId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 작업 실패 기록 - 재시도 예약 또는 DEAD 처리
+     * 기록 도중 하트비트가 버전을 올렸으면 다시 읽어 재시도
+     */
+    public boolean fail(Long jobId, String owner, Exception error) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return recordFailure(jobId, owner, error);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_REPORT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("작업 실패 기록 중 버전 충돌, 다시 시도: #{}", jobId);
+            }
+        }
+    }
+
+    private boolean recordFailure(Long jobId, String owner, Exception error) {
+        var job = ownedJob(jobId, owner);
+        if (job == null) {
+            log.warn("리스를 잃은 작업의 실패 보고 무시: #{}", jobId);
+            return false;
+        }
+
+        String message = truncate(error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName());
+        if (isExhausted(job)) {
+            deadLetter(job, message);
+            return true;
+        }
+
+        var backoff = backoff(job.getAttempts());
+        job.setStatus(ProcessingJob.JobStatus.PENDING);
+        job.setLeaseOwner(null);
+        job.setLeaseExpiresAt(null);
+        job.setLastError(message);
+        job.setAvailableAt(LocalDateTime.now().plus(backoff));
+        processingJobRepository.save(job);
+
+        log.warn("처리 작업 실패, {}초 후 재시도 ({}/{}): {} #{} - {}",
+                backoff.toSeconds(), job.getAttempts(), job.getMaxAttempts(), job.getType(), jobId, message);
+        return true;
+    }
+
+    /**
+     * 문서의 작업 목록 조회
+     */
+    public List<ProcessingJob> getJobs(Long pdfDocumentId) {
+        return processingJobRepository.findByPdfDocumentIdOrderByCreatedAt(pdfDocumentId);
+    }
+
+    /**
+     * 재시도 대기 시간 - retryBackoff * 2^(시도 횟수 - 1), 최대 maxRetryBackoff
+     */
+    Duration backoff(int attempts) {
+        var backoff = jobQueueProperties.retryBackoff().multipliedBy(1L << Math.clamp(attempts - 1, 0, 20));
+        return backoff.compareTo(jobQueueProperties.maxRetryBackoff()) > 0 ? jobQueueProperties.maxRetryBackoff() : backoff;
+    }
+
+    private ProcessingJob lease(ProcessingJob job, String owner, LocalDateTime now) {
+        job.setStatus(ProcessingJob.JobStatus.RUNNING);
+        job.setAttempts(job.getAttempts() + 1);
+        job.setLeaseOwner(owner);
+        job.setLeaseExpiresAt(now.plus(jobQueueProperties.leaseDuration()));
+        return job;
+    }
+
+    private void deadLetter(ProcessingJob job, String message) {
+        job.setStatus(ProcessingJob.JobStatus.DEAD);
+        job.setLeaseOwner(null);
+        job.setLeaseExpiresAt(null);
+        job.setLastError(message);
+        job.setCompletedAt(LocalDateTime.now());
+        processingJobRepository.save(job);
+
+        pdfDocumentRepository.findById(job.getPdfDocumentId()).ifPresent(document -> {
+            document.setStatus(PdfDocument.ProcessingStatus.FAILED);
+            document.setErrorMessage(message);
+            pdfDocumentRepository.save(document);
+        });
+
+        log.error("처리 작업 DEAD 처리 ({}회 시도): {} #{} (PDF ID: {}) - {}",
+                job.getAttempts(), job.getType(), job.getId(), job.getPdfDocumentId(), message);
+    }
+
+    private ProcessingJob ownedJob(Long jobId, String owner) {
+        return processingJobRepository.findById(jobId)
+                .filter(job -> job.getStatus() == ProcessingJob.JobStatus.RUNNING)
+                .filter(job -> owner.equals(job.getLeaseOwner()))
+                .orElse(null);
+    }
+
+    private static boolean isExhausted(ProcessingJob job) {
+        return job.getAttempts() >= job.getMaxAttempts();
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,158 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.JobQueueProperties;
+import com.app.chatboat.entity.ProcessingJob;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF 처리 작업 워커
+ * 인스턴스마다 하나씩 실행되어 빈 슬롯 수만큼 작업을 점유하므로, 인스턴스를 늘리면 처리량이 함께 늘어남
+ * (app.jobs.worker-enabled=false인 인스턴스는 작업을 등록만 함)
+ * 작업의 각 단계는 PdfIngestPipeline의 단계별 워커에서 실행되고, 워커 스레드는 결과를 기다려 완료/실패를 기록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.jobs", name = "worker-enabled", havingValue = "true", matchIfMissing = true)
+public class ProcessingJobWorker {
+
+    private final ProcessingJobService processingJobService;
+    private final PdfIngestPipeline pdfIngestPipeline;
+    private final ObservationRegistry observationRegistry;
+    private final String workerId;
+    private final Semaphore slots;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ProcessingJobWorker(ProcessingJobService processingJobService,
+                               PdfIngestPipeline pdfIngestPipeline,
+                               JobQueueProperties jobQueueProperties,
+                               ObservationRegistry observationRegistry) {
+        this.processingJobService = processingJobService;
+        this.pdfIngestPipeline = pdfIngestPipeline;
+        this.observationRegistry = observationRegistry;
+        this.workerId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.slots = new Semaphore(jobQueueProperties.workerConcurrency());
+    }
+
+    /**
+     * 빈 슬롯 수만큼 작업 점유 후 실행
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval:PT1S}")
+    public void poll() {
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+        try {
+            for (ProcessingJob job : processingJobService.claim(workerId, free)) {
+                slots.acquireUninterruptibly();
+                inFlight.add(job.getId());
+                executor.execute(() -> run(job));
+            }
+        } catch (RuntimeException e) {
+            log.error("처리 작업 점유 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 리스 연장
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        try {
+            processingJobService.heartbeat(workerId, Set.copyOf(inFlight));
+        } catch (RuntimeException e) {
+            log.error("처리 작업 하트비트 중 오류 발생", e);
+        }
+    }
+
+    private void run(ProcessingJob job) {
+        // 작업 하나가 하나의 트레이스 (retry 수는 attempts - 1)
+        var observation = Observation.createNotStarted("chatboat.pdf.job", observationRegistry)
+                .contextualName("pdf job " + job.getType().name().toLowerCase())
+                .lowCardinalityKeyValue("job.type", job.getType().name())
+                .lowCardinalityKeyValue("job.retried", String.valueOf(job.getAttempts() > 1))
+                .highCardinalityKeyValue("job.id", String.valueOf(job.getId()))
+                .highCardinalityKeyValue("pdf.id", String.valueOf(job.getPdfDocumentId()))
+                .highCardinalityKeyValue("job.retry_count", String.valueOf(Math.max(0, job.getAttempts() - 1)))
+                .start();
+        try (var scope = observation.openScope()) {
+            log.info("처리 작업 실행: {} #{} (PDF ID: {}, {}회차)", job.getType(), job.getId(), job.getPdfDocumentId(), job.getAttempts());
+            try {
+                switch (job.getType()) {
+                    case INGEST -> pdfIngestPipeline.ingest(job.getPdfDocumentId());
+                    case SUMMARIZE -> pdfIngestPipeline.summarize(job.getPdfDocumentId());
+                }
+            } catch (Exception e) {
+                observation.error(e);
+                log.warn("처리 작업 실패: {} #{}", job.getType(), job.getId(), e);
+                reportFailure(job, e);
+                return;
+            }
+            reportCompletion(job);
+        } finally {
+            observation.stop();
+            inFlight.remove(job.getId());
+            slots.release();
+        }
+    }
+
+    /**
+     * 완료 기록 - 기록 오류를 실패로 보고하면 이미 성공한 작업이 재시도되므로 로그만 남김
+     */
+    private void reportCompletion(ProcessingJob job) {
+        try {
+            processingJobService.complete(job.getId(), workerId);
+        } catch (RuntimeException e) {
+            // 기록하지 못한 작업은 리스 만료 후 다시 점유됨
+            log.error("처리 작업 완료 기록 중 오류 발생: #{}", job.getId(), e);
+        }
+    }
+
+    private void reportFailure(ProcessingJob job, Exception error) {
+        try {
+            processingJobService.fail(job.getId(), workerId, error);
+        } catch (RuntimeException e) {
+            // 기록하지 못한 작업은 리스 만료 후 다시 점유됨
+            log.error("처리 작업 실패 기록 중 오류 발생: #{}", job.getId(), e);
+        }
+    }
+
+    /**
+     * 종료 시 실행 중인 작업을 잠시 기다림 (끝나지 않은 작업은 리스 만료 후 다른 인스턴스가 재실행)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("종료 시점에 완료되지 않은 처리 작업: {}", inFlight);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "worker";
+        }
+    }
+}
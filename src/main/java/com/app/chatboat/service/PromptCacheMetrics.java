@@ -0,0 +1,72 @@
+package com.app.chatboat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프롬프트 캐시 토큰 집계
+ * 업스트림 usage 응답 기준으로 캐시 적중 / 미적중 프롬프트 토큰을 기록
+ */
+@Component
+public class PromptCacheMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder promptTokens = new LongAdder();
+    private final LongAdder cachedPromptTokens = new LongAdder();
+    private final LongAdder completionTokens = new LongAdder();
+
+    private final Counter cachedCounter;
+    private final Counter uncachedCounter;
+    private final Counter completionCounter;
+
+    public PromptCacheMetrics(MeterRegistry meterRegistry) {
+        this.cachedCounter = Counter.builder("chatboat.llm.tokens")
+                .description("프롬프트 캐시에서 처리된 프롬프트 토큰")
+                .tag("type", "prompt-cached")
+                .register(meterRegistry);
+        this.uncachedCounter = Counter.builder("chatboat.llm.tokens")
+                .description("캐시되지 않은 프롬프트 토큰")
+                .tag("type", "prompt-uncached")
+                .register(meterRegistry);
+        this.completionCounter = Counter.builder("chatboat.llm.tokens")
+                .description("생성(completion) 토큰")
+                .tag("type", "completion")
+                .register(meterRegistry);
+    }
+
+    public void record(LlmUsage usage) {
+        requests.increment();
+        promptTokens.add(usage.promptTokens());
+        cachedPromptTokens.add(usage.cachedPromptTokens());
+        completionTokens.add(usage.completionTokens());
+
+        cachedCounter.increment(usage.cachedPromptTokens());
+        uncachedCounter.increment(usage.uncachedPromptTokens());
+        completionCounter.increment(usage.completionTokens());
+    }
+
+    public PromptCacheStats getStats() {
+        long prompt = promptTokens.sum();
+        long cached = cachedPromptTokens.sum();
+        return new PromptCacheStats(
+                requests.sum(),
+                prompt,
+                cached,
+                Math.max(0, prompt - cached),
+                completionTokens.sum(),
+                prompt == 0 ? 0.0 : (double) cached / prompt
+        );
+    }
+
+    public record PromptCacheStats(
+            long requests,
+            long promptTokens,
+            long cachedPromptTokens,
+            long uncachedPromptTokens,
+            long completionTokens,
+            double cachedRatio
+    ) {}
+}
@@ -0,0 +1,130 @@
+package com.app.chatboat.service;
+
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.completion.chat.ChatMessageRole;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 프롬프트 구성 레이어
+ * 업스트림 프롬프트 캐싱(prefix 캐시)이 적중하도록 세그먼트를 안정적인 순서로 배치
+ * (전문가/지침 프롬프트 → 문서 본문 → 문서 메타데이터·도메인 컨텍스트 → 질문)
+ */
+public final class PromptLayout {
+
+    private final List<Segment> segments;
+
+    private PromptLayout(List<Segment> segments) {
+        this.segments = segments.stream()
+                .sorted(Comparator.comparing(Segment::stability))
+                .toList();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * OpenAI 요청 메시지로 변환
+     * 질문 이전의 세그먼트는 각각 별도의 system 메시지로 두어 경계가 턴마다 동일하게 유지됨
+     */
+    public List<ChatMessage> toMessages() {
+        var messages = new ArrayList<ChatMessage>(segments.size());
+        for (Segment segment : segments) {
+            String role = segment.stability() == Stability.REQUEST
+                    ? ChatMessageRole.USER.value()
+                    : ChatMessageRole.SYSTEM.value();
+            messages.add(new ChatMessage(role, segment.content()));
+        }
+        return messages;
+    }
+
+    /**
+     * 턴이 바뀌어도 동일해야 하는 prefix (STATIC + DOCUMENT 세그먼트) 길이
+     */
+    public int stablePrefixLength() {
+        return segments.stream()
+                .filter(segment -> segment.stability().isCacheable())
+                .mapToInt(segment -> segment.content().length())
+                .sum();
+    }
+
+    /**
+     * 안정 prefix의 지문 (턴 간 byte 동일성 확인용)
+     */
+    public String stablePrefixFingerprint() {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            for (Segment segment : segments) {
+                if (segment.stability().isCacheable()) {
+                    digest.update(segment.content().getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * 세그먼트 안정성 (값이 작을수록 앞에 배치)
+     */
+    public enum Stability {
+        STATIC,     // 전문가 프롬프트, 응답 지침 - 배포 단위로 고정
+        DOCUMENT,   // 문서 본문 - 문서 단위로 고정
+        SESSION,    // 문서 메타데이터, 도메인 컨텍스트 - 질문에 따라 바뀔 수 있음
+        REQUEST;    // 사용자 질문 - 매 요청마다 바뀜
+
+        boolean isCacheable() {
+            return this == STATIC || this == DOCUMENT;
+        }
+    }
+
+    public record Segment(Stability stability, String content) {}
+
+    public static final class Builder {
+
+        private final List<Segment> segments = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder instructions(String content) {
+            return add(Stability.STATIC, content);
+        }
+
+        public Builder document(String content) {
+            return add(Stability.DOCUMENT, content);
+        }
+
+        public Builder context(String content) {
+            return add(Stability.SESSION, content);
+        }
+
+        public Builder question(String content) {
+            return add(Stability.REQUEST, content);
+        }
+
+        public PromptLayout build() {
+            return new PromptLayout(segments);
+        }
+
+        private Builder add(Stability stability, String content) {
+            if (content != null && !content.isBlank()) {
+                segments.add(new Segment(stability, content));
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.dto.ChatRequest;
+import com.app.chatboat.dto.PdfChatRequest;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.enums.ExpertMode;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 리액티브 채팅 서비스 (리액티브 프로필)
+ * 프롬프트 구성과 Fast-path는 ChatGptService와 공유하고, LLM 호출만 논블로킹 클라이언트로 수행
+ * JPA 조회는 블로킹이므로 boundedElastic 스케줄러로 넘겨 이벤트 루프를 막지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveChatService {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OpenAiProperties openAiProperties;
+    private final DocumentContextCache documentContextCache;
+    private final OrderFastPathService orderFastPathService;
+    private final ChatGptService chatGptService;
+    private final ReactiveOpenAiClient reactiveOpenAiClient;
+    private final PdfPageService pdfPageService;
+
+    public Mono<String> sendMessage(String userMessage) {
+        return answer(userMessage, true, () -> llm(chatGptService.composeMessagePrompt(userMessage)))
+                .as(this::complete);
+    }
+
+    public Flux<String> streamMessage(String userMessage) {
+        return answer(userMessage, true, () -> llm(chatGptService.composeMessagePrompt(userMessage)))
+                .as(this::stream);
+    }
+
+    /**
+     * 전문가 모드를 지원하는 메시지 전송
+     */
+    public Mono<String> sendMessageWithExpertMode(ChatRequest chatRequest) {
+        return answer(chatRequest.message(), isGeneral(chatRequest.expertMode()),
+                () -> llm(chatGptService.composeExpertPrompt(chatRequest)))
+                .as(this::complete);
+    }
+
+    public Flux<String> streamMessageWithExpertMode(ChatRequest chatRequest) {
+        return answer(chatRequest.message(), isGeneral(chatRequest.expertMode()),
+                () -> llm(chatGptService.composeExpertPrompt(chatRequest)))
+                .as(this::stream);
+    }
+
+    /**
+     * PDF 문서를 참조한 메시지 전송
+     */
+    public Mono<String> sendMessageWithPdf(PdfChatRequest pdfChatRequest) {
+        return answer(pdfChatRequest.message(), false, () -> composePdfPrompt(pdfChatRequest))
+                .as(this::complete);
+    }
+
+    public Flux<String> streamMessageWithPdf(PdfChatRequest pdfChatRequest) {
+        return answer(pdfChatRequest.message(), false, () -> composePdfPrompt(pdfChatRequest))
+                .as(this::stream);
+    }
+
+    /**
+     * 입력 검증 → Fast-path → 프롬프트 구성 순으로 응답 계획 수립
+     */
+    private Mono<Reply> answer(String userMessage, boolean fastPathEligible, Supplier<Mono<Reply>> promptSupplier) {
+        var rejection = chatGptService.rejectInput(userMessage);
+        if (rejection.isPresent()) {
+            return Mono.just(new Reply.Local(rejection.get()));
+        }
+        if (fastPathEligible) {
+            var fastPath = orderFastPathService.tryAnswer(userMessage);
+            if (fastPath.isPresent()) {
+                return Mono.just(new Reply.Local(fastPath.get().answer()));
+            }
+        }
+        if (!openAiProperties.isValid()) {
+            log.error("OpenAI 설정이 유효하지 않습니다.");
+            return Mono.just(new Reply.Local("서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요."));
+        }
+        return Mono.defer(promptSupplier::get);
+    }
+
+    private Mono<Reply> llm(PromptLayout prompt) {
+        return Mono.just(new Reply.Llm(chatGptService.createRequest(prompt)));
+    }
+
+    /**
+     * 문서 컨텍스트 캐시 미적중 시 블로킹 JPA 조회가 일어나므로 이벤트 루프 밖에서 실행
+     */
+    private Mono<Reply> composePdfPrompt(PdfChatRequest pdfChatRequest) {
+        if (pdfChatRequest.hasPageRange()) {
+            return composePdfPagesPrompt(pdfChatRequest);
+        }
+        return Mono.fromCallable(() -> documentContextCache.get(pdfChatRequest.pdfId()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(context -> {
+                    if (context.status() != PdfDocument.ProcessingStatus.COMPLETED) {
+                        return new Reply.Local("PDF 처리가 완료되지 않았습니다. 잠시 후 다시 시도해주세요.");
+                    }
+                    if (!context.hasText()) {
+                        return new Reply.Local("PDF에서 텍스트를 추출할 수 없습니다.");
+                    }
+                    var prompt = chatGptService.buildPdfPrompt(
+                            ExpertMode.fromCode(pdfChatRequest.expertMode()), context, pdfChatRequest.message());
+                    return new Reply.Llm(chatGptService.createRequest(prompt));
+                });
+    }
+
+    /**
+     * 페이지 범위 지정 시 해당 페이지만 조회
+     */
+    private Mono<Reply> composePdfPagesPrompt(PdfChatRequest pdfChatRequest) {
+        return Mono.fromCallable(() -> pdfPageService.getPages(
+                        pdfChatRequest.pdfId(), pdfChatRequest.pageFrom(), pdfChatRequest.pageTo()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .<Reply>map(selection -> new Reply.Llm(chatGptService.createRequest(chatGptService.buildPdfPrompt(
+                        ExpertMode.fromCode(pdfChatRequest.expertMode()), selection, pdfChatRequest.message()))))
+                .onErrorResume(e -> e instanceof IllegalArgumentException || e instanceof IllegalStateException,
+                        e -> Mono.just(new Reply.Local(e.getMessage())));
+    }
+
+    private Mono<String> complete(Mono<Reply> reply) {
+        return reply.flatMap(plan -> switch (plan) {
+                    case Reply.Local(String answer) -> Mono.just(answer);
+                    case Reply.Llm(ChatCompletionRequest request) -> reactiveOpenAiClient.complete(request, TIMEOUT)
+                            .map(LlmCompletion::content);
+                })
+                .onErrorResume(e -> {
+                    log.error("ChatGPT API 호출 중 오류 발생", e);
+                    return Mono.just(getErrorMessage(e));
+                });
+    }
+
+    private Flux<String> stream(Mono<Reply> reply) {
+        return reply.flatMapMany(plan -> switch (plan) {
+                    case Reply.Local(String answer) -> Flux.just(answer);
+                    case Reply.Llm(ChatCompletionRequest request) -> reactiveOpenAiClient.stream(request, STREAM_IDLE_TIMEOUT);
+                })
+                .onErrorResume(e -> {
+                    log.error("ChatGPT 스트리밍 호출 중 오류 발생", e);
+                    return Flux.just(getErrorMessage(e));
+                });
+    }
+
+    private static boolean isGeneral(String expertMode) {
+        return ExpertMode.fromCode(expertMode) == ExpertMode.GENERAL;
+    }
+
+    private String getErrorMessage(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return switch (response.getStatusCode().value()) {
+                case 401 -> "인증에 실패했습니다. API 키를 확인해주세요.";
+                case 429 -> "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.";
+                default -> "죄송합니다. 현재 서비스에 문제가 있습니다. 잠시 후 다시 시도해주세요.";
+            };
+        }
+        if (e instanceof TimeoutException) {
+            return "요청 시간이 초과되었습니다. 다시 시도해주세요.";
+        }
+        return "죄송합니다. 현재 서비스에 문제가 있습니다. 잠시 후 다시 시도해주세요.";
+    }
+
+    /**
+     * 응답 계획: 로컬 즉시 응답 또는 LLM 호출
+     */
+    private sealed interface Reply {
+        record Local(String answer) implements Reply {}
+        record Llm(ChatCompletionRequest request) implements Reply {}
+    }
+}
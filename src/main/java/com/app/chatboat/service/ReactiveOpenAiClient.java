@@ -0,0 +1,140 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.config.ReactiveChatProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.service.OpenAiService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 논블로킹 OpenAI 클라이언트 (리액티브 프로필)
+ * - Reactor Netty 이벤트 루프에서 요청/응답을 처리하므로 대기 중인 호출이 스레드를 점유하지 않음
+ * - 스트리밍 응답은 SSE 청크를 그대로 Flux로 흘려보냄
+ * - 모든 호출은 LlmCallScheduler의 채팅 슬롯을 논블로킹으로 얻은 뒤 실행 (백그라운드 요약과 같은 대기열 공유)
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOpenAiClient {
+
+    private static final ObjectMapper MAPPER = OpenAiService.defaultObjectMapper();
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final String DONE = "[DONE]";
+
+    private final PromptCacheMetrics promptCacheMetrics;
+    private final LlmCallScheduler llmCallScheduler;
+    private final WebClient webClient;
+
+    public ReactiveOpenAiClient(OpenAiProperties openAiProperties,
+                                ReactiveChatProperties reactiveChatProperties,
+                                PromptCacheMetrics promptCacheMetrics,
+                                LlmCallScheduler llmCallScheduler,
+                                WebClient.Builder webClientBuilder) {
+        this.promptCacheMetrics = promptCacheMetrics;
+        this.llmCallScheduler = llmCallScheduler;
+
+        var connectionProvider = ConnectionProvider.builder("openai")
+                .maxConnections(reactiveChatProperties.maxConnections())
+                .pendingAcquireMaxCount(reactiveChatProperties.pendingAcquireMaxCount())
+                .build();
+
+        this.webClient = webClientBuilder
+                .baseUrl(openAiProperties.baseUrl())
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAiProperties.apiKey())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .codecs(codecs -> {
+                    // ChatCompletionRequest 직렬화 규칙(snake_case, null 제외)을 OpenAiService와 동일하게 유지
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(MAPPER));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(MAPPER));
+                    codecs.defaultCodecs().maxInMemorySize(4 * 1024 * 1024);
+                })
+                .build();
+    }
+
+    /**
+     * 채팅 완성 요청 (전체 응답을 한 번에 수신)
+     */
+    public Mono<LlmCompletion> complete(ChatCompletionRequest request, Duration timeout) {
+        return llmCallScheduler.schedule(LlmCallScheduler.Priority.INTERACTIVE, request, () -> webClient.post()
+                .uri("v1/chat/completions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(timeout)
+                .map(this::toCompletion));
+    }
+
+    /**
+     * 채팅 완성 스트리밍 요청 (생성된 텍스트 조각을 도착 순서대로 방출)
+     * stream_options.include_usage로 마지막 청크의 usage까지 받아 캐시 토큰 집계에 반영
+     *
+     * @param idleTimeout 청크 사이 최대 대기 시간
+     */
+    public Flux<String> stream(ChatCompletionRequest request, Duration idleTimeout) {
+        ObjectNode body = MAPPER.valueToTree(request);
+        body.put("stream", true);
+        body.putObject("stream_options").put("include_usage", true);
+
+        return llmCallScheduler.scheduleMany(LlmCallScheduler.Priority.INTERACTIVE, request, () -> webClient.post()
+                .uri("v1/chat/completions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .timeout(idleTimeout)
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !DONE.equals(data.trim()))
+                .concatMap(this::toDelta));
+    }
+
+    private LlmCompletion toCompletion(JsonNode response) {
+        LlmUsage usage = LlmUsage.from(response);
+        promptCacheMetrics.record(usage);
+
+        JsonNode choice = response.path("choices").path(0);
+        log.debug("OpenAI 응답 - 모델: {}, 프롬프트 토큰: {} (캐시 {}), 생성 토큰: {}",
+                response.path("model").asText(), usage.promptTokens(), usage.cachedPromptTokens(), usage.completionTokens());
+
+        return new LlmCompletion(
+                choice.path("message").path("content").asText(""),
+                response.path("model").asText(),
+                choice.path("finish_reason").asText(null),
+                usage
+        );
+    }
+
+    private Mono<String> toDelta(String data) {
+        try {
+            JsonNode chunk = MAPPER.readTree(data);
+            if (chunk.hasNonNull("usage")) {
+                promptCacheMetrics.record(LlmUsage.from(chunk));
+            }
+            String content = chunk.path("choices").path(0).path("delta").path("content").asText("");
+            return content.isEmpty() ? Mono.empty() : Mono.just(content);
+        } catch (Exception e) {
+            return Mono.error(new IllegalStateException("OpenAI 스트리밍 응답을 해석할 수 없습니다.", e));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.dto.ChatRequest;
+import com.app.chatboat.dto.PdfChatRequest;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.enums.ExpertMode;
+import com.app.chatboat.logging.LogText;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 스트리밍 채팅 서비스 (WebSocket 전송용)
+ * 프롬프트 구성, Fast-path, 모델 라우팅, 응답 캐시, 사용량 기록은 ChatGptService와 같고 LLM 응답만 조각 단위로 전달
+ * - 로컬 응답(검증 실패, Fast-path, 캐시 적중)은 한 조각으로 전달
+ * - 이미 보낸 조각을 되돌릴 수 없으므로 작은 모델 답변의 큰 모델 승격은 하지 않음
+ *   (대신 확신이 낮은 답변은 응답 캐시에 저장하지 않아 HTTP 경로가 승격된 답변을 캐시하도록 둠)
+ * - 수신 측 취소/오류로 스트림이 중간에 끝나도 이미 생성된 토큰은 사용량에 기록 (usage 청크가 없으면 보낸 조각으로 추정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingChatService {
+
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OpenAiProperties openAiProperties;
+    private final ChatGptService chatGptService;
+    private final DocumentContextCache documentContextCache;
+    private final PdfPageService pdfPageService;
+    private final OrderFastPathService orderFastPathService;
+    private final OpenAiGateway openAiGateway;
+    private final ModelRouter modelRouter;
+    private final AnswerCacheService answerCacheService;
+    private final TokenUsageService tokenUsageService;
+
+    /**
+     * 일반 / 전문가 모드 메시지 스트리밍
+     */
+    public void streamMessage(ChatRequest chatRequest, Listener listener) {
+        var expertMode = ExpertMode.fromCode(chatRequest.expertMode());
+        var local = answerLocally(chatRequest.message(), expertMode == ExpertMode.GENERAL);
+        if (local.isPresent()) {
+            listener.onDelta(local.get());
+            return;
+        }
+
+        var prompt = expertMode == ExpertMode.GENERAL
+                ? chatGptService.composeMessagePrompt(chatRequest.message())
+                : chatGptService.composeExpertPrompt(chatRequest);
+        stream(chatGptService.createRequest(prompt), expertMode, chatRequest.message(), false, listener);
+    }
+
+    /**
+     * PDF 참조 메시지 스트리밍 (페이지 범위 지정 시 해당 페이지만 참조)
+     */
+    public void streamMessageWithPdf(PdfChatRequest pdfChatRequest, Listener listener) {
+        var local = answerLocally(pdfChatRequest.message(), false);
+        if (local.isPresent()) {
+            listener.onDelta(local.get());
+            return;
+        }
+
+        var expertMode = ExpertMode.fromCode(pdfChatRequest.expertMode());
+        PromptLayout prompt;
+        try {
+            if (pdfChatRequest.hasPageRange()) {
+                var selection = pdfPageService.getPages(pdfChatRequest.pdfId(), pdfChatRequest.pageFrom(), pdfChatRequest.pageTo());
+                prompt = chatGptService.buildPdfPrompt(expertMode, selection, pdfChatRequest.message());
+            } else {
+                var context = documentContextCache.get(pdfChatRequest.pdfId());
+                if (context.status() != PdfDocument.ProcessingStatus.COMPLETED) {
+                    listener.onDelta("PDF 처리가 완료되지 않았습니다. 잠시 후 다시 시도해주세요.");
+                    return;
+                }
+                if (!context.hasText()) {
+                    listener.onDelta("PDF에서 텍스트를 추출할 수 없습니다.");
+                    return;
+                }
+                prompt = chatGptService.buildPdfPrompt(expertMode, context, pdfChatRequest.message());
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            listener.onDelta(e.getMessage());
+            return;
+        }
+        stream(chatGptService.createRequest(prompt), expertMode, pdfChatRequest.message(), true, listener);
+    }
+
+    private Optional<String> answerLocally(String message, boolean fastPathEligible) {
+        var rejection = chatGptService.rejectInput(message);
+        if (rejection.isPresent()) {
+            return rejection;
+        }
+        if (fastPathEligible) {
+            var fastPath = orderFastPathService.tryAnswer(message);
+            if (fastPath.isPresent()) {
+                return Optional.of(fastPath.get().answer());
+            }
+        }
+        if (!openAiProperties.isValid()) {
+            log.error("OpenAI 설정이 유효하지 않습니다.");
+            return Optional.of("서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.");
+        }
+        return Optional.empty();
+    }
+
+    private void stream(ChatCompletionRequest request, ExpertMode expertMode, String question, boolean hasDocument,
+                        Listener listener) {
+        var route = modelRouter.route(expertMode, question, hasDocument);
+        var routed = ModelRouter.withModel(request, route.model());
+        var streamed = new AtomicBoolean();
+        var lowConfidence = new AtomicBoolean();
+        try {
+            String answer = answerCacheService.getOrCompute(routed, () -> {
+                streamed.set(true);
+                var generated = new StringBuilder();
+                var usage = new AtomicReference<LlmUsage>();
+                try {
+                    var completion = openAiGateway.stream(routed, STREAM_IDLE_TIMEOUT, delta -> {
+                        generated.append(delta);
+                        listener.onDelta(delta);
+                    });
+                    usage.set(completion.usage());
+                    lowConfidence.set(route.tier() == ModelRouter.Tier.SMALL && modelRouter.isLowConfidence(completion));
+                    return completion.content();
+                } finally {
+                    recordUsage(expertMode, routed, usage.get(), generated);
+                }
+            }, content -> !lowConfidence.get());
+            if (!streamed.get()) {
+                listener.onDelta(answer);
+            }
+            log.debug("스트리밍 응답 완료: {}", LogText.summary(answer));
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("ChatGPT 스트리밍 호출 중 오류 발생", e);
+            listener.onError(chatGptService.getErrorMessage(e));
+        }
+    }
+
+    /**
+     * 스트림 사용량 기록 - usage 청크를 받지 못했으면(취소, 오류) 프롬프트와 이미 보낸 조각으로 추정
+     * 조각 하나 없이 실패한 호출은 생성이 시작되지 않은 것으로 보고 기록하지 않음
+     */
+    private void recordUsage(ExpertMode expertMode, ChatCompletionRequest request, LlmUsage usage, CharSequence generated) {
+        if (usage != null && !usage.equals(LlmUsage.EMPTY)) {
+            tokenUsageService.record(expertMode.getCode(), usage);
+            return;
+        }
+        if (usage == null && generated.isEmpty()) {
+            return;
+        }
+        long promptTokens = 0;
+        for (ChatMessage message : request.getMessages()) {
+            promptTokens += TokenEstimator.estimate(message.getContent());
+        }
+        tokenUsageService.record(expertMode.getCode(), new LlmUsage(promptTokens, 0, TokenEstimator.estimate(generated)));
+    }
+
+    /**
+     * 스트리밍 응답 수신자
+     */
+    public interface Listener {
+
+        /**
+         * 응답 조각 - 반환할 때까지 다음 조각을 읽지 않음 (수신 측이 느리면 업스트림 읽기도 멈춤)
+         */
+        void onDelta(String text);
+
+        /**
+         * 업스트림 호출 실패 (사용자 안내 메시지)
+         */
+        void onError(String message);
+    }
+}
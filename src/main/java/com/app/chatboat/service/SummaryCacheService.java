@@ -0,0 +1,183 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.SummaryCacheProperties;
+import com.app.chatboat.dto.PdfSummaryRequest;
+import com.app.chatboat.entity.SummaryResult;
+import com.app.chatboat.repository.SummaryResultRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 정의 요약 결과 캐시
+ * - 키: 문서 내용 해시(정규화된 추출 텍스트의 SHA-256), 페이지 범위, 프롬프트 해시, 모델
+ * - 저장: PostgreSQL summary_results 테이블 - 모든 인스턴스가 공유하고 재시작 후에도 유지
+ * - 무효화: 문서 삭제/재처리 시 문서 단위 삭제 (재처리로 내용이 바뀌면 키도 바뀜)
+ * - forceRefresh 요청은 조회를 건너뛰고 새로 생성한 결과로 덮어씀
+ * 저장소 장애 시에는 미적중으로 처리해 요약 요청에 영향을 주지 않음
+ */
+@Slf4j
+@Service
+public class SummaryCacheService {
+
+    private final SummaryResultRepository summaryResultRepository;
+    private final SummaryCacheProperties properties;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshCounter;
+
+    public SummaryCacheService(SummaryResultRepository summaryResultRepository,
+                               SummaryCacheProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.summaryResultRepository = summaryResultRepository;
+        this.properties = properties;
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.refreshCounter = counter(meterRegistry, "refresh");
+    }
+
+    /**
+     * 저장된 요약을 반환하고, 없거나 forceRefresh면 loader로 생성해 저장 (loader 예외는 저장하지 않고 그대로 전달)
+     * contentHash가 없는 문서(내용 해시 도입 이전 처리분)는 캐시하지 않음
+     */
+    public String getOrCompute(PdfSummaryRequest request, String contentHash, String model, Supplier<String> loader) {
+        if (!properties.enabled() || contentHash == null) {
+            return loader.get();
+        }
+
+        String promptHash = promptHash(request.getEffectivePrompt());
+        String key = key(contentHash, request.pageFrom(), request.pageTo(), promptHash, model);
+
+        if (request.isForceRefresh()) {
+            refreshes.increment();
+            refreshCounter.increment();
+        } else {
+            var stored = lookup(key);
+            if (stored != null) {
+                hits.increment();
+                hitCounter.increment();
+                return stored;
+            }
+            misses.increment();
+            missCounter.increment();
+        }
+
+        String summary = loader.get();
+        if (summary != null && !summary.isBlank()) {
+            save(SummaryResult.builder()
+                    .keyHash(key)
+                    .pdfDocumentId(request.pdfId())
+                    .contentHash(contentHash)
+                    .promptHash(promptHash)
+                    .model(model)
+                    .pageFrom(request.pageFrom())
+                    .pageTo(request.pageTo())
+                    .summary(summary)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return summary;
+    }
+
+    /**
+     * 문서의 저장된 요약 결과 삭제
+     */
+    public void invalidate(Long pdfId) {
+        try {
+            int deleted = summaryResultRepository.deleteByPdfDocumentId(pdfId);
+            if (deleted > 0) {
+                log.info("요약 결과 캐시 무효화: PDF ID {} ({}건)", pdfId, deleted);
+            }
+        } catch (DataAccessException e) {
+            // 남은 행은 내용 해시가 달라 다시 적중하지 않음 (문서 삭제 시에는 저장 공간만 차지)
+            log.warn("요약 결과 캐시 무효화 실패: PDF ID {} - {}", pdfId, e.getMessage());
+        }
+    }
+
+    public SummaryCacheStats getStats() {
+        long hit = hits.sum();
+        long miss = misses.sum();
+        long total = hit + miss;
+        return new SummaryCacheStats(properties.enabled(), hit, miss, refreshes.sum(),
+                total == 0 ? 0.0 : (double) hit / total);
+    }
+
+    private String lookup(String key) {
+        try {
+            return summaryResultRepository.findById(key).map(SummaryResult::getSummary).orElse(null);
+        } catch (DataAccessException e) {
+            log.warn("요약 결과 캐시 조회 실패 - 미적중으로 처리: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(SummaryResult row) {
+        try {
+            summaryResultRepository.save(row);
+        } catch (DataAccessException e) {
+            // 같은 키를 다른 요청이 먼저 저장한 경우 포함 - 결과는 이미 생성했으므로 저장만 포기
+            log.warn("요약 결과 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 문서 내용 해시 - 정규화된 추출 텍스트의 SHA-256 (수집 시 PdfDocument에 저장)
+     */
+    public static String contentHash(String text) {
+        return sha256(text);
+    }
+
+    /**
+     * 프롬프트 해시 - 공백을 정규화한 프롬프트의 SHA-256
+     */
+    static String promptHash(String prompt) {
+        return sha256(AnswerCacheService.normalize(prompt));
+    }
+
+    static String key(String contentHash, Integer pageFrom, Integer pageTo, String promptHash, String model) {
+        return sha256(contentHash, String.valueOf(pageFrom), String.valueOf(pageTo), promptHash, model);
+    }
+
+    private static String sha256(String... values) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                digest.update(value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chatboat.pdf.summary-cache")
+                .description("사용자 정의 요약 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record SummaryCacheStats(
+            boolean enabled,
+            long hits,
+            long misses,
+            long refreshes,
+            double hitRatio
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.app.chatboat.service;
+
+/**
+ * 토큰 수 추정기 (토크나이저 없이 프롬프트 예산 계산용)
+ * ASCII는 약 4자당 1토큰, 한글 등 그 외 문자는 1자당 약 1토큰으로 계산
+ */
+public final class TokenEstimator {
+
+    private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch < 0x80) {
+                ascii++;
+            } else if (!Character.isLowSurrogate(ch)) {
+                other++;
+            }
+        }
+        return (ascii + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN + other;
+    }
+}
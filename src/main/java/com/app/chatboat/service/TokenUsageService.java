@@ -0,0 +1,231 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.entity.TokenUsage;
+import com.app.chatboat.repository.TokenUsageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클라이언트별 토큰 사용량 집계와 일일 예산 확인
+ * - 기록: 업스트림 응답 usage를 (날짜, 클라이언트, 범위)별 LongAdder에 누적 - 요청 경로에서 DB 쓰기/잠금 없음
+ * - 저장: flush-interval마다 누적분을 token_usage 행에 더함 (실패 시 다음 주기에 다시 시도)
+ * - 예산: 저장된 오늘 합계(모든 인스턴스) + 아직 저장하지 않은 로컬 사용량으로 판단하므로
+ *   업스트림 호출 전에 메모리 조회만으로 거절 가능 (인스턴스 간 오차는 저장 주기 한 번 분량)
+ * 클라이언트는 등록된 API 키 수 + anonymous/system으로 한정되며, 예산 상태는 max-tracked-clients개까지만 보관
+ */
+@Slf4j
+@Service
+public class TokenUsageService {
+
+    private final TokenUsageRepository tokenUsageRepository;
+    private final UsageProperties properties;
+    private final Map<UsageKey, UsageCounter> pending = new ConcurrentHashMap<>();
+    private final Map<String, ClientSpend> spends = new ConcurrentHashMap<>();
+    private final Counter promptCounter;
+    private final Counter completionCounter;
+    private final Counter rejectedCounter;
+
+    public TokenUsageService(TokenUsageRepository tokenUsageRepository,
+                             UsageProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.tokenUsageRepository = tokenUsageRepository;
+        this.properties = properties;
+        this.promptCounter = Counter.builder("chatboat.usage.tokens")
+                .description("클라이언트 요청으로 사용한 프롬프트 토큰")
+                .tag("type", "prompt")
+                .register(meterRegistry);
+        this.completionCounter = Counter.builder("chatboat.usage.tokens")
+                .description("클라이언트 요청으로 사용한 생성 토큰")
+                .tag("type", "completion")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chatboat.usage.budget-rejected")
+                .description("일일 토큰 예산 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 클라이언트의 업스트림 사용량 기록
+     *
+     * @param scope 전문가 모드 코드 또는 PDF 작업 구분
+     */
+    public void record(String scope, LlmUsage usage) {
+        if (!properties.enabled() || usage == null) {
+            return;
+        }
+        String clientId = ClientContext.currentClientId();
+        var today = LocalDate.now();
+
+        var counter = pending.computeIfAbsent(new UsageKey(today, clientId, scope), key -> new UsageCounter());
+        counter.promptTokens.add(usage.promptTokens());
+        counter.completionTokens.add(usage.completionTokens());
+        counter.requests.increment();
+
+        spendOf(clientId, today).unflushed.add(usage.totalTokens());
+        promptCounter.increment(usage.promptTokens());
+        completionCounter.increment(usage.completionTokens());
+    }
+
+    /**
+     * 업스트림 호출 전 예산 확인 - 초과 시 거절 건수 기록
+     */
+    public BudgetStatus checkBudget(String clientId) {
+        var status = getBudget(clientId);
+        if (status.exceeded()) {
+            rejectedCounter.increment();
+        }
+        return status;
+    }
+
+    /**
+     * 클라이언트의 오늘 예산 상태 (메모리 조회만 하며, 오늘 처음 보는 클라이언트만 DB 합계를 한 번 읽음)
+     */
+    public BudgetStatus getBudget(String clientId) {
+        long budget = properties.budgetFor(clientId);
+        if (!properties.enabled() || budget <= 0) {
+            return new BudgetStatus(clientId, 0, 0, false);
+        }
+        var spend = spendOf(clientId, LocalDate.now());
+        long used = spend.persisted + spend.unflushed.sum();
+        return new BudgetStatus(clientId, used, budget, used >= budget);
+    }
+
+    /**
+     * 누적 사용량을 DB에 더하고, 예산 판단용 오늘 합계를 다시 읽음 (다른 인스턴스 사용량 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.usage.flush-interval:PT10S}")
+    public void flush() {
+        var today = LocalDate.now();
+        var flushedByClient = new HashMap<String, Long>();
+
+        for (var entry : pending.entrySet()) {
+            var key = entry.getKey();
+            var counter = entry.getValue();
+            long prompt = counter.promptTokens.sumThenReset();
+            long completion = counter.completionTokens.sumThenReset();
+            long requests = counter.requests.sumThenReset();
+            if (requests == 0 && prompt == 0 && completion == 0) {
+                if (key.usageDate().isBefore(today)) {
+                    pending.remove(key, counter);
+                }
+                continue;
+            }
+            try {
+                write(key, prompt, completion, requests);
+                if (key.usageDate().equals(today)) {
+                    flushedByClient.merge(key.clientId(), prompt + completion, Long::sum);
+                }
+            } catch (DataAccessException e) {
+                // 다음 주기에 다시 저장
+                counter.promptTokens.add(prompt);
+                counter.completionTokens.add(completion);
+                counter.requests.add(requests);
+                log.warn("토큰 사용량 저장 실패 - 다음 주기에 재시도: {} ({})", key, e.getMessage());
+            }
+        }
+
+        spends.entrySet().removeIf(entry -> !entry.getValue().usageDate.equals(today));
+        spends.forEach((clientId, spend) -> {
+            try {
+                spend.persisted = tokenUsageRepository.sumTokens(today, clientId);
+                spend.unflushed.add(-flushedByClient.getOrDefault(clientId, 0L));
+            } catch (DataAccessException e) {
+                log.warn("토큰 사용량 합계 조회 실패: {} ({})", clientId, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 오늘 사용량 (저장된 값 기준) - 관리 클라이언트는 전체, 그 외에는 요청한 클라이언트 것만
+     */
+    public List<TokenUsage> getTodayUsage(String clientId) {
+        if (properties.isAdmin(clientId)) {
+            return tokenUsageRepository.findByUsageDateOrderByClientIdAscScopeAsc(LocalDate.now());
+        }
+        return tokenUsageRepository.findByUsageDateAndClientIdOrderByScopeAsc(LocalDate.now(), clientId);
+    }
+
+    private void write(UsageKey key, long prompt, long completion, long requests) {
+        var now = LocalDateTime.now();
+        if (tokenUsageRepository.addUsage(key.usageDate(), key.clientId(), key.scope(), prompt, completion, requests, now) > 0) {
+            return;
+        }
+        try {
+            tokenUsageRepository.save(TokenUsage.builder()
+                    .usageDate(key.usageDate())
+                    .clientId(key.clientId())
+                    .scope(key.scope())
+                    .promptTokens(prompt)
+                    .completionTokens(completion)
+                    .requests(requests)
+                    .updatedAt(now)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 행을 먼저 만든 경우
+            tokenUsageRepository.addUsage(key.usageDate(), key.clientId(), key.scope(), prompt, completion, requests, now);
+        }
+    }
+
+    private ClientSpend spendOf(String clientId, LocalDate today) {
+        var spend = spends.get(clientId);
+        if (spend != null && spend.usageDate.equals(today)) {
+            return spend;
+        }
+        if (spend == null && spends.size() >= properties.maxTrackedClients()) {
+            // 저장 대기 사용량이 없는 항목은 DB 합계로 다시 만들 수 있으므로 비움
+            spends.entrySet().removeIf(entry -> entry.getValue().unflushed.sum() == 0);
+        }
+        var loaded = new ClientSpend(today, persistedTokens(clientId, today));
+        return spends.merge(clientId, loaded,
+                (current, fresh) -> current.usageDate.equals(today) ? current : fresh);
+    }
+
+    private long persistedTokens(String clientId, LocalDate today) {
+        try {
+            return tokenUsageRepository.sumTokens(today, clientId);
+        } catch (DataAccessException e) {
+            log.warn("토큰 사용량 합계 조회 실패 - 0으로 시작: {} ({})", clientId, e.getMessage());
+            return 0;
+        }
+    }
+
+    private record UsageKey(LocalDate usageDate, String clientId, String scope) {}
+
+    private static final class UsageCounter {
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+    }
+
+    private static final class ClientSpend {
+        private final LocalDate usageDate;
+        private final LongAdder unflushed = new LongAdder();
+        private volatile long persisted;
+
+        private ClientSpend(LocalDate usageDate, long persisted) {
+            this.usageDate = usageDate;
+            this.persisted = persisted;
+        }
+    }
+
+    public record BudgetStatus(String clientId, long usedTokens, long dailyBudget, boolean exceeded) {}
+}
@@ -0,0 +1,89 @@
+package com.app.chatboat.tracing;
+
+import com.app.chatboat.config.TracingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 완료된 span을 한 줄에 하나씩 JSON으로 파일에 추가하는 내보내기 (OTLP 수집기 없이 로컬/오프라인 확인용)
+ * Spring Boot가 SpanExporter 빈을 모아 일괄 처리기에 등록하므로 OTLP 내보내기와 함께 사용 가능
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.tracing", name = "file-export", havingValue = "true")
+public class FileSpanExporter implements SpanExporter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+
+    public FileSpanExporter(TracingProperties tracingProperties) {
+        this(Paths.get(tracingProperties.filePath()));
+    }
+
+    FileSpanExporter(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            var lines = new ArrayList<String>(spans.size());
+            for (SpanData span : spans) {
+                lines.add(MAPPER.writeValueAsString(toJson(span)));
+            }
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("span 파일 기록 실패 ({}건): {}", spans.size(), e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    static Map<String, Object> toJson(SpanData span) {
+        var attributes = new LinkedHashMap<String, Object>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+
+        var json = new LinkedHashMap<String, Object>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochNanos", span.getStartEpochNanos());
+        json.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+        json.put("status", span.getStatus().getStatusCode().name());
+        json.put("attributes", attributes);
+        return json;
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.chatboat.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Spring Data 리포지토리 호출을 chatboat.repository 관측(span)으로 감쌈
+ * 리포지토리 팩토리 빈이 초기화되기 전에 프록시 후처리기를 등록하므로 리포지토리 코드는 수정하지 않음
+ */
+@Component
+public class RepositoryObservationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public RepositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            new ObservingInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    /**
+     * 리포지토리 메서드 호출 관측 (레지스트리는 첫 호출 시 조회해 빈 초기화 순서에 영향을 주지 않음)
+     */
+    private class ObservingInterceptor implements MethodInterceptor {
+
+        private final String repository;
+
+        private ObservingInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            var registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+            String method = invocation.getMethod().getName();
+            return Observation.createNotStarted("chatboat.repository", registry)
+                    .contextualName(repository + "." + method)
+                    .lowCardinalityKeyValue("repository", repository)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(invocation::proceed);
+        }
+    }
+}
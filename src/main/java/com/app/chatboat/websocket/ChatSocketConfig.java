@@ -0,0 +1,51 @@
+package com.app.chatboat.websocket;
+
+import com.app.chatboat.config.ChatSocketProperties;
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.service.AdmissionController;
+import com.app.chatboat.service.StreamingChatService;
+import com.app.chatboat.service.TokenUsageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket 채팅 엔드포인트 등록 (서블릿 프로필, 기본 경로 /ws/chat)
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "app.chat.websocket", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ChatSocketConfig implements WebSocketConfigurer {
+
+    private final ChatSocketProperties properties;
+    private final UsageProperties usageProperties;
+    private final StreamingChatService streamingChatService;
+    private final AdmissionController admissionController;
+    private final TokenUsageService tokenUsageService;
+    private final PdfDocumentRepository pdfDocumentRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chatSocketHandler(), properties.path())
+                .addInterceptors(new ClientIdHandshakeInterceptor(usageProperties))
+                .setAllowedOriginPatterns(properties.allowedOrigins().toArray(String[]::new));
+    }
+
+    @Bean
+    public ChatSocketHandler chatSocketHandler() {
+        return new ChatSocketHandler(streamingChatService, admissionController, tokenUsageService,
+                pdfDocumentRepository, properties, objectMapper, meterRegistry);
+    }
+}
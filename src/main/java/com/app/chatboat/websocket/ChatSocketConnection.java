@@ -0,0 +1,149 @@
+package com.app.chatboat.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 연결 하나의 교환과 송신 관리
+ * - 교환마다 가상 스레드 하나에서 실행하고, 프레임은 연결별 송신 큐 하나로 모아 전용 스레드가 순서대로 전송
+ * - 송신 큐는 크기가 고정되어 있어 클라이언트가 느리면 교환 스레드가 큐에 넣는 단계에서 멈춤
+ *   (교환 스레드가 멈추면 업스트림 스트림도 읽지 않으므로 서버에 쌓이는 출력은 큐 크기를 넘지 않음)
+ * - sendTimeout 동안 큐가 빠지지 않으면 느린 클라이언트로 보고 연결 종료
+ */
+@Slf4j
+final class ChatSocketConnection {
+
+    static final CloseStatus SLOW_CONSUMER = CloseStatus.SESSION_NOT_RELIABLE.withReason("slow consumer");
+
+    private final WebSocketSession session;
+    private final BlockingQueue<TextMessage> outbound;
+    private final Duration sendTimeout;
+    private final int maxExchanges;
+    private final Map<String, Future<?>> exchanges = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean closed;
+
+    ChatSocketConnection(WebSocketSession session, int outboundQueueSize, Duration sendTimeout, int maxExchanges) {
+        this.session = session;
+        this.outbound = new ArrayBlockingQueue<>(outboundQueueSize);
+        this.sendTimeout = sendTimeout;
+        this.maxExchanges = maxExchanges;
+        executor.execute(this::drain);
+    }
+
+    String id() {
+        return session.getId();
+    }
+
+    Object attribute(String name) {
+        return session.getAttributes().get(name);
+    }
+
+    /**
+     * 교환 시작 (같은 id가 진행 중이거나 동시 교환 수 한도에 걸리면 false)
+     */
+    boolean start(String exchangeId, Runnable exchange) {
+        if (closed) {
+            return false;
+        }
+        var task = new FutureTask<Void>(exchange, null) {
+            @Override
+            protected void done() {
+                // 정상 종료, 예외, 시작 전 취소 모두 여기서 정리
+                exchanges.remove(exchangeId, this);
+            }
+        };
+        synchronized (exchanges) {
+            if (exchanges.size() >= maxExchanges || exchanges.putIfAbsent(exchangeId, task) != null) {
+                return false;
+            }
+        }
+        executor.execute(task);
+        return true;
+    }
+
+    /**
+     * 진행 중인 교환 중단 (교환 스레드를 인터럽트)
+     */
+    boolean cancel(String exchangeId) {
+        var exchange = exchanges.get(exchangeId);
+        return exchange != null && exchange.cancel(true);
+    }
+
+    int activeExchanges() {
+        return exchanges.size();
+    }
+
+    /**
+     * 프레임을 송신 큐에 넣음 - 큐가 가득 차면 sendTimeout까지 기다리고, 그래도 빠지지 않으면 연결 종료 후 false
+     */
+    boolean send(String payload) {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (outbound.offer(new TextMessage(payload), sendTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            log.warn("WebSocket 송신 큐가 {} 동안 비워지지 않아 연결 종료: {}", sendTimeout, session.getId());
+            close(SLOW_CONSUMER);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 송신 전용 스레드 - 세션 전송은 한 스레드에서만 수행
+     */
+    private void drain() {
+        try {
+            while (!closed) {
+                var message = outbound.poll(1, TimeUnit.SECONDS);
+                if (message != null && session.isOpen()) {
+                    session.sendMessage(message);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("WebSocket 전송 실패 - 연결 종료: {} ({})", session.getId(), e.getMessage());
+            close(CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 진행 중인 교환을 모두 중단하고 연결 종료
+     */
+    void close(CloseStatus status) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        exchanges.values().forEach(exchange -> exchange.cancel(true));
+        executor.shutdownNow();
+        outbound.clear();
+        try {
+            if (session.isOpen()) {
+                session.close(status);
+            }
+        } catch (IOException e) {
+            log.debug("WebSocket 종료 실패: {}", session.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.app.chatboat.websocket;
+
+import com.app.chatboat.config.ChatSocketProperties;
+import com.app.chatboat.dto.ChatSocketEvent;
+import com.app.chatboat.dto.ChatSocketFrame;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.repository.PdfDocumentInfo;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.service.AdmissionController;
+import com.app.chatboat.service.ClientContext;
+import com.app.chatboat.service.StreamingChatService;
+import com.app.chatboat.service.TokenUsageService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 채팅 핸들러
+ * 연결 하나에서 여러 채팅 교환을 동시에 진행하고(프레임의 id로 구분), 응답 조각과 PDF 처리 상태를 서버에서 밀어줌
+ * 교환마다 HTTP 경로와 같은 일일 토큰 예산 확인과 요청 수락 제어(채팅 등급)를 거침
+ */
+@Slf4j
+public class ChatSocketHandler extends TextWebSocketHandler {
+
+    static final String CLIENT_ID_ATTRIBUTE = "chatboat.clientId";
+
+    private final StreamingChatService streamingChatService;
+    private final AdmissionController admissionController;
+    private final TokenUsageService tokenUsageService;
+    private final PdfDocumentRepository pdfDocumentRepository;
+    private final ChatSocketProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, ChatSocketConnection> connections = new ConcurrentHashMap<>();
+    private final Counter slowConsumerCounter;
+
+    public ChatSocketHandler(StreamingChatService streamingChatService,
+                             AdmissionController admissionController,
+                             TokenUsageService tokenUsageService,
+                             PdfDocumentRepository pdfDocumentRepository,
+                             ChatSocketProperties properties,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.streamingChatService = streamingChatService;
+        this.admissionController = admissionController;
+        this.tokenUsageService = tokenUsageService;
+        this.pdfDocumentRepository = pdfDocumentRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        Gauge.builder("chatboat.websocket.connections", connections, Map::size)
+                .description("열려 있는 WebSocket 채팅 연결 수")
+                .register(meterRegistry);
+        this.slowConsumerCounter = Counter.builder("chatboat.websocket.slow-consumer")
+                .description("송신 큐가 비워지지 않아 종료한 연결 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // 수신 프레임 크기 제한 (채팅 메시지는 1000자 이내)
+        session.setTextMessageSizeLimit(properties.maxTextMessageSize());
+        connections.put(session.getId(), new ChatSocketConnection(session,
+                properties.outboundQueueSize(), properties.sendTimeout(), properties.maxExchanges()));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        var connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        ChatSocketFrame frame;
+        try {
+            frame = objectMapper.readValue(message.getPayload(), ChatSocketFrame.class);
+        } catch (JsonProcessingException e) {
+            send(connection, ChatSocketEvent.error(null, "프레임 형식이 올바르지 않습니다."));
+            return;
+        }
+
+        switch (String.valueOf(frame.type())) {
+            case ChatSocketFrame.CHAT -> startChat(connection, frame);
+            case ChatSocketFrame.CANCEL -> connection.cancel(String.valueOf(frame.id()));
+            case ChatSocketFrame.SUBSCRIBE_PDF -> subscribePdf(connection, frame);
+            case ChatSocketFrame.PING -> send(connection, ChatSocketEvent.pong());
+            default -> send(connection, ChatSocketEvent.error(frame.id(), "지원하지 않는 프레임입니다: " + frame.type()));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        var connection = connections.remove(session.getId());
+        if (connection != null) {
+            if (ChatSocketConnection.SLOW_CONSUMER.equals(status)) {
+                slowConsumerCounter.increment();
+            }
+            connection.close(status);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("WebSocket 전송 오류: {} ({})", session.getId(), exception.getMessage());
+        afterConnectionClosed(session, CloseStatus.SERVER_ERROR);
+    }
+
+    private void startChat(ChatSocketConnection connection, ChatSocketFrame frame) {
+        if (frame.id() == null || frame.id().isBlank()) {
+            send(connection, ChatSocketEvent.error(null, "교환 id가 필요합니다."));
+            return;
+        }
+        String clientId = clientId(connection);
+        boolean started = connection.start(frame.id(), () -> {
+            ClientContext.set(clientId);
+            try {
+                chat(connection, frame, clientId);
+            } finally {
+                ClientContext.clear();
+            }
+        });
+        if (!started) {
+            send(connection, ChatSocketEvent.error(frame.id(), "진행 중인 교환 id이거나 동시 교환 수(" + properties.maxExchanges() + ")를 초과했습니다."));
+        }
+    }
+
+    private void chat(ChatSocketConnection connection, ChatSocketFrame frame, String clientId) {
+        var budget = tokenUsageService.checkBudget(clientId);
+        if (budget.exceeded()) {
+            send(connection, ChatSocketEvent.error(frame.id(),
+                    "오늘 사용 가능한 토큰 한도(" + budget.dailyBudget() + ")를 초과했습니다. 내일 다시 시도해주세요."));
+            return;
+        }
+
+        AdmissionController.Admission admission;
+        try {
+            admission = admissionController.tryAdmit(AdmissionController.RequestClass.INTERACTIVE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!admission.accepted()) {
+            send(connection, ChatSocketEvent.rejected(frame.id(),
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", admission.retryAfter().toSeconds()));
+            return;
+        }
+
+        try (var permit = admission.permit()) {
+            var listener = new StreamingChatService.Listener() {
+                @Override
+                public void onDelta(String text) {
+                    if (Thread.currentThread().isInterrupted() || !send(connection, ChatSocketEvent.token(frame.id(), text))) {
+                        throw new CancellationException("교환 중단: " + frame.id());
+                    }
+                }
+
+                @Override
+                public void onError(String message) {
+                    send(connection, ChatSocketEvent.error(frame.id(), message));
+                }
+            };
+            if (frame.pdfId() != null) {
+                streamingChatService.streamMessageWithPdf(frame.toPdfChatRequest(), listener);
+            } else {
+                streamingChatService.streamMessage(frame.toChatRequest(), listener);
+            }
+            send(connection, ChatSocketEvent.done(frame.id()));
+        } catch (CancellationException e) {
+            log.debug("WebSocket 채팅 교환 중단: {} / {}", connection.id(), frame.id());
+        }
+    }
+
+    private void subscribePdf(ChatSocketConnection connection, ChatSocketFrame frame) {
+        if (frame.pdfId() == null) {
+            send(connection, ChatSocketEvent.error(frame.id(), "PDF ID가 필요합니다."));
+            return;
+        }
+        String exchangeId = frame.id() != null && !frame.id().isBlank() ? frame.id() : "pdf-" + frame.pdfId();
+        boolean started = connection.start(exchangeId, () -> watchPdf(connection, exchangeId, frame.pdfId()));
+        if (!started) {
+            send(connection, ChatSocketEvent.error(exchangeId, "진행 중인 교환 id이거나 동시 교환 수(" + properties.maxExchanges() + ")를 초과했습니다."));
+        }
+    }
+
+    /**
+     * PDF 처리 상태를 주기적으로 조회해 바뀔 때만 전송 (처리 작업은 다른 인스턴스에서 실행될 수 있으므로 DB 기준)
+     */
+    private void watchPdf(ChatSocketConnection connection, String exchangeId, Long pdfId) {
+        long deadline = System.nanoTime() + properties.pdfStatusTimeout().toNanos();
+        PdfDocument.ProcessingStatus last = null;
+        try {
+            while (System.nanoTime() < deadline) {
+                Optional<PdfDocumentInfo> info = pdfDocumentRepository.findInfoById(pdfId);
+                if (info.isEmpty()) {
+                    send(connection, ChatSocketEvent.error(exchangeId, "PDF 문서를 찾을 수 없습니다."));
+                    return;
+                }
+                var status = info.get().getStatus();
+                if (status != last && !send(connection, ChatSocketEvent.pdfStatus(exchangeId, pdfId, status.name()))) {
+                    return;
+                }
+                last = status;
+                if (status == PdfDocument.ProcessingStatus.COMPLETED || status == PdfDocument.ProcessingStatus.FAILED) {
+                    send(connection, ChatSocketEvent.done(exchangeId));
+                    return;
+                }
+                Thread.sleep(properties.pdfStatusInterval().toMillis());
+            }
+            send(connection, ChatSocketEvent.done(exchangeId));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean send(ChatSocketConnection connection, ChatSocketEvent event) {
+        try {
+            return connection.send(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("WebSocket 프레임을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static String clientId(ChatSocketConnection connection) {
+        Object clientId = connection.attribute(CLIENT_ID_ATTRIBUTE);
+        return clientId != null ? clientId.toString() : ClientContext.ANONYMOUS;
+    }
+}
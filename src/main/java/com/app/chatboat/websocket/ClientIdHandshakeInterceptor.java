@@ -0,0 +1,41 @@
+package com.app.chatboat.websocket;
+
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.service.ClientContext;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+/**
+ * 핸드셰이크 요청의 API 키로 찾은 클라이언트 식별자를 세션 속성에 저장 (없거나 등록되지 않은 키는 anonymous)
+ * 브라우저 WebSocket은 헤더를 지정할 수 없으므로 apiKey 쿼리 파라미터도 허용 (헤더 우선)
+ */
+class ClientIdHandshakeInterceptor implements HandshakeInterceptor {
+
+    private final UsageProperties usageProperties;
+
+    ClientIdHandshakeInterceptor(UsageProperties usageProperties) {
+        this.usageProperties = usageProperties;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String apiKey = request.getHeaders().getFirst(usageProperties.apiKeyHeader());
+        if (apiKey == null || apiKey.isBlank()) {
+            apiKey = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("apiKey");
+        }
+        String clientId = usageProperties.clientIdFor(apiKey);
+        attributes.put(ChatSocketHandler.CLIENT_ID_ATTRIBUTE, clientId != null ? clientId : ClientContext.ANONYMOUS);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.app.chatboat.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그용 사용자 입력 요약 테스트
+ */
+@DisplayName("로그용 사용자 입력 요약 테스트")
+class LogTextTest {
+
+    @Test
+    @DisplayName("긴 메시지는 앞부분만 남기고 길이와 해시를 붙임")
+    void shouldTruncateAndHashLongMessage() {
+        // given
+        String message = "주문번호 20250901-1234 배송지를 서울시 강남구 테헤란로 123으로 바꿔주세요";
+
+        // when
+        String summary = LogText.summary(message);
+
+        // then
+        assertThat(summary)
+                .startsWith("\"" + message.substring(0, LogText.PREVIEW_LENGTH) + "…\"")
+                .contains("len=" + message.length())
+                .contains("#" + LogText.hash(message))
+                .doesNotContain("테헤란로");
+    }
+
+    @Test
+    @DisplayName("같은 메시지는 같은 해시, 줄바꿈은 한 줄로 정리")
+    void shouldKeepHashStableAndFlattenWhitespace() {
+        // when & then
+        assertThat(LogText.hash("환불 기간은?")).hasSize(8).isEqualTo(LogText.hash("환불 기간은?"));
+        assertThat(LogText.summary("환불\n기간은?")).startsWith("\"환불 기간은?\"");
+        assertThat(LogText.summary(null)).isEqualTo("(null)");
+    }
+}
@@ -0,0 +1,60 @@
+package com.app.chatboat.logging;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 단계별 소요 시간 누적 테스트
+ */
+@DisplayName("요청 단계별 소요 시간 누적 테스트")
+class RequestTimingObservationHandlerTest {
+
+    private final ObservationRegistry registry = ObservationRegistry.create();
+
+    @BeforeEach
+    void setUp() {
+        registry.observationConfig().observationHandler(new RequestTimingObservationHandler());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    @DisplayName("채팅 단계와 리포지토리 호출을 단계 이름별로 누적")
+    void shouldAccumulatePhasesOfCurrentRequest() {
+        // given
+        var timings = RequestTimings.start();
+
+        // when
+        Observation.createNotStarted("chatboat.chat.phase", registry)
+                .lowCardinalityKeyValue("phase", "context-load")
+                .observe(() -> {
+                    Observation.createNotStarted("chatboat.repository", registry).observe(() -> { });
+                    Observation.createNotStarted("chatboat.repository", registry).observe(() -> { });
+                });
+        Observation.createNotStarted("http.client.requests", registry).observe(() -> { });
+
+        // then
+        assertThat(timings.millis()).containsOnlyKeys("context-load", "db");
+        assertThat(timings.count("db")).isEqualTo(2);
+        assertThat(timings.count("context-load")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖(작업 워커 등)의 관측은 기록하지 않음")
+    void shouldIgnoreObservationsOutsideRequest() {
+        // when
+        Observation.createNotStarted("chatboat.llm.call", registry).observe(() -> { });
+
+        // then
+        assertThat(RequestTimings.current()).isNull();
+    }
+}
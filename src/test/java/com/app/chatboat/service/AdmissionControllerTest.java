@@ -0,0 +1,94 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 요청 수락 제어 테스트
+ */
+@DisplayName("요청 수락 제어 테스트")
+class AdmissionControllerTest {
+
+    @Test
+    @DisplayName("동시 처리 한도를 넘은 채팅 요청은 대기 시간 안에 슬롯이 나지 않으면 429용 Retry-After와 함께 거절")
+    void shouldRejectInteractiveRequestAfterQueueWait() throws Exception {
+        // given
+        var controller = controller(1, Duration.ofMillis(50), Duration.ofMillis(10));
+        var first = controller.tryAdmit(AdmissionController.RequestClass.INTERACTIVE);
+
+        // when
+        var second = controller.tryAdmit(AdmissionController.RequestClass.INTERACTIVE);
+
+        // then
+        assertThat(first.accepted()).isTrue();
+        assertThat(second.accepted()).isFalse();
+        assertThat(second.reason()).isEqualTo("wait-timeout");
+        assertThat(second.retryAfter()).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+
+        first.permit().close();
+        first.permit().close();
+        assertThat(controller.inFlight()).isZero();
+        assertThat(controller.tryAdmit(AdmissionController.RequestClass.INTERACTIVE).accepted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청이 빠질 예상 시간이 대기 한도보다 길면 기다리지 않고 바로 거절")
+    void shouldRejectImmediatelyWhenExpectedWaitTooLong() throws Exception {
+        // given - 평균 처리 시간 30초, 동시 처리 1개
+        var controller = controller(1, Duration.ofSeconds(2), Duration.ofSeconds(30));
+        controller.tryAdmit(AdmissionController.RequestClass.INTERACTIVE);
+
+        // when
+        long started = System.nanoTime();
+        var rejected = controller.tryAdmit(AdmissionController.RequestClass.INTERACTIVE);
+
+        // then
+        assertThat(rejected.accepted()).isFalse();
+        assertThat(rejected.reason()).isEqualTo("expected-wait");
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("채팅 요청이 대기 중이면 무거운 요청은 거절하고, 목록/헬스 체크는 항상 수락")
+    void shouldPrioritizeInteractiveAndCheapRequests() throws Exception {
+        // given
+        var controller = controller(1, Duration.ofSeconds(2), Duration.ofMillis(100));
+        var holder = controller.tryAdmit(AdmissionController.RequestClass.INTERACTIVE);
+        var queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return controller.tryAdmit(AdmissionController.RequestClass.INTERACTIVE);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        await().atMost(Duration.ofSeconds(1)).until(() -> controller.getStats().waiting() == 1);
+
+        // when
+        var heavy = controller.tryAdmit(AdmissionController.RequestClass.HEAVY);
+        var cheap = controller.tryAdmit(AdmissionController.RequestClass.CHEAP);
+
+        // then
+        assertThat(heavy.accepted()).isFalse();
+        assertThat(heavy.reason()).isEqualTo("interactive-priority");
+        assertThat(cheap.accepted()).isTrue();
+
+        holder.permit().close();
+        assertThat(queued.get(1, TimeUnit.SECONDS).accepted()).isTrue();
+    }
+
+    private static AdmissionController controller(int maxInFlight, Duration maxQueueWait, Duration serviceTime) {
+        var properties = new AdmissionProperties(true, maxInFlight, 10, maxQueueWait, 1, serviceTime,
+                Duration.ofSeconds(60), null, null);
+        return new AdmissionController(properties, new SimpleMeterRegistry());
+    }
+}
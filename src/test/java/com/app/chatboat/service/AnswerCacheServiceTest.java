@@ -0,0 +1,186 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.AnswerCacheProperties;
+import com.app.chatboat.entity.CachedAnswer;
+import com.app.chatboat.repository.CachedAnswerRepository;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 2단계 응답 캐시 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("2단계 응답 캐시 테스트")
+class AnswerCacheServiceTest {
+
+    @Mock
+    private CachedAnswerRepository cachedAnswerRepository;
+
+    private AnswerCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AnswerCacheService(cachedAnswerRepository,
+                new AnswerCacheProperties(true, Duration.ofHours(1), 2, 10, 100), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("미적중 시 생성한 답변은 L1에 바로 저장되고 L2에는 일괄 쓰기 주기에 저장")
+    @SuppressWarnings("unchecked")
+    void shouldServeFromL1AndWriteBehindToL2() {
+        // given
+        var calls = new AtomicInteger();
+        when(cachedAnswerRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        // when
+        String first = service.getOrCompute(request("배송 정책 알려줘"), () -> "답변-" + calls.incrementAndGet());
+        String second = service.getOrCompute(request("배송 정책 알려줘"), () -> "답변-" + calls.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("답변-1");
+        assertThat(second).isEqualTo("답변-1");
+        verify(cachedAnswerRepository, never()).saveAll(any());
+
+        service.flush();
+        ArgumentCaptor<List<CachedAnswer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cachedAnswerRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(row -> assertThat(row.getAnswer()).isEqualTo("답변-1"));
+        assertThat(service.getStats().l1Hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 L2 답변을 재사용")
+    void shouldReuseAnswerFromSharedL2() {
+        // given
+        when(cachedAnswerRepository.findById(anyString())).thenReturn(Optional.of(row("다른 인스턴스 답변", 30)));
+
+        // when
+        String answer = service.getOrCompute(request("환불 기간은?"), () -> "새 답변");
+
+        // then
+        assertThat(answer).isEqualTo("다른 인스턴스 답변");
+        assertThat(service.getStats().l2Hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 L2 항목은 미적중으로 처리하고 다음 쓰기 주기에 삭제")
+    void shouldLazilyExpireL2Entries() {
+        // given
+        when(cachedAnswerRepository.findById(anyString())).thenReturn(Optional.of(row("오래된 답변", -1)));
+
+        // when
+        String answer = service.getOrCompute(request("환불 기간은?"), () -> null);
+        service.flush();
+
+        // then
+        assertThat(answer).isNull();
+        verify(cachedAnswerRepository).deleteAllByIdInBatch(List.of(AnswerCacheService.key(request("환불 기간은?"))));
+    }
+
+    @Test
+    @DisplayName("캐시 허용 조건을 통과하지 못한 답변은 저장하지 않음")
+    void shouldNotCacheRejectedAnswer() {
+        // given
+        var calls = new AtomicInteger();
+        when(cachedAnswerRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        // when
+        String first = service.getOrCompute(request("환불 기간은?"), () -> "잘 모르겠습니다-" + calls.incrementAndGet(),
+                answer -> false);
+        String second = service.getOrCompute(request("환불 기간은?"), () -> "환불은 7일 이내-" + calls.incrementAndGet());
+        service.flush();
+
+        // then
+        assertThat(first).isEqualTo("잘 모르겠습니다-1");
+        assertThat(second).isEqualTo("환불은 7일 이내-2");
+        assertThat(service.getOrCompute(request("환불 기간은?"), () -> "다시 생성")).isEqualTo("환불은 7일 이내-2");
+    }
+
+    @Test
+    @DisplayName("L2 장애 시 미적중으로 처리해 답변 생성은 계속")
+    void shouldFallBackToLoaderWhenL2Unavailable() {
+        // given
+        when(cachedAnswerRepository.findById(anyString())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        String answer = service.getOrCompute(request("주문 취소"), () -> "생성된 답변");
+
+        // then
+        assertThat(answer).isEqualTo("생성된 답변");
+        assertThat(service.getStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1은 최대 항목 수를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+    void shouldEvictLeastRecentlyUsedFromL1() {
+        // given
+        when(cachedAnswerRepository.findById(anyString())).thenReturn(Optional.empty());
+        service.getOrCompute(request("질문 A"), () -> "A");
+        service.getOrCompute(request("질문 B"), () -> "B");
+        service.getOrCompute(request("질문 A"), () -> "A2");
+
+        // when
+        service.getOrCompute(request("질문 C"), () -> "C");
+        String evicted = service.getOrCompute(request("질문 B"), () -> "B2");
+
+        // then
+        assertThat(evicted).isEqualTo("B2");
+        assertThat(service.getStats().l1Size()).isEqualTo(2);
+        verify(cachedAnswerRepository, times(4)).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("공백 차이만 있는 프롬프트는 같은 키, 모델이 다르면 다른 키")
+    void shouldNormalizePromptForKey() {
+        // when & then
+        assertThat(AnswerCacheService.key(request("  배송   정책\n알려줘 ")))
+                .isEqualTo(AnswerCacheService.key(request("배송 정책 알려줘")));
+
+        var otherModel = request("배송 정책 알려줘");
+        otherModel.setModel("gpt-4o-mini");
+        assertThat(AnswerCacheService.key(otherModel)).isNotEqualTo(AnswerCacheService.key(request("배송 정책 알려줘")));
+    }
+
+    private static ChatCompletionRequest request(String question) {
+        return ChatCompletionRequest.builder()
+                .model("gpt-4o")
+                .messages(List.of(new ChatMessage("system", "도움이 되는 어시스턴트"), new ChatMessage("user", question)))
+                .maxTokens(2000)
+                .temperature(0.7)
+                .build();
+    }
+
+    private static CachedAnswer row(String answer, int minutesUntilExpiry) {
+        return CachedAnswer.builder()
+                .keyHash("key")
+                .model("gpt-4o")
+                .answer(answer)
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .expiresAt(LocalDateTime.now().plusMinutes(minutesUntilExpiry))
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.BatchChatProperties;
+import com.app.chatboat.dto.BatchChatItemResult;
+import com.app.chatboat.dto.BatchChatRequest;
+import com.app.chatboat.dto.ChatRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일괄 채팅 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일괄 채팅 서비스 테스트")
+class BatchChatServiceTest {
+
+    @Mock
+    private ChatGptService chatGptService;
+
+    private BatchChatService batchChatService;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        batchChatService = new BatchChatService(chatGptService, new BatchChatProperties(5, 2, 3));
+        lenient().when(chatGptService.answerWithExpertMode(any())).thenAnswer(invocation -> {
+            ChatRequest request = invocation.getArgument(0);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                return request.expertMode() + ":" + request.message();
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("요청 순서대로 결과 반환 및 동시 실행 수 제한")
+    void shouldReturnResultsInOrderWithinConcurrencyBound() {
+        // given
+        var request = BatchChatRequest.of(List.of("질문1", "질문2"), List.of("java", "python"));
+
+        // when
+        var response = batchChatService.execute(request);
+
+        // then
+        assertThat(response.results()).extracting(result -> result.response().content())
+                .containsExactly("java:질문1", "java:질문2", "python:질문1", "python:질문2");
+        assertThat(response.results()).extracting(BatchChatItemResult::index).containsExactly(0, 1, 2, 3);
+        assertThat(response.succeeded()).isEqualTo(4);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 동시 실행 수는 전체 한도를 넘지 않음")
+    void shouldClampRequestedConcurrency() {
+        // given
+        var requests = List.of(ChatRequest.user("a", "java"), ChatRequest.user("b", "java"),
+                ChatRequest.user("c", "java"), ChatRequest.user("d", "java"), ChatRequest.user("e", "java"));
+
+        // when
+        batchChatService.execute(new BatchChatRequest(requests, 50));
+
+        // then
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("잘못된 항목은 INVALID로 반환하고 나머지는 처리")
+    void shouldReportInvalidItemsWithoutFailingBatch() {
+        // given
+        var requests = List.of(ChatRequest.user("질문", "java"), ChatRequest.user("질문", "cobol"), ChatRequest.user(" ", "java"));
+
+        // when
+        var response = batchChatService.execute(new BatchChatRequest(requests, null));
+
+        // then
+        assertThat(response.results()).extracting(BatchChatItemResult::status).containsExactly(
+                BatchChatItemResult.Status.SUCCESS, BatchChatItemResult.Status.INVALID, BatchChatItemResult.Status.INVALID);
+        assertThat(response.failed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("업스트림 호출이 실패한 항목은 FAILED로 반환하고 나머지는 처리")
+    void shouldReportUpstreamFailureAsFailed() {
+        // given
+        doThrow(new IllegalStateException("LLM 호출 대기 시간을 초과했습니다."))
+                .when(chatGptService).answerWithExpertMode(argThat(request -> "실패".equals(request.message())));
+        var requests = List.of(ChatRequest.user("질문", "java"), ChatRequest.user("실패", "java"));
+
+        // when
+        var response = batchChatService.execute(new BatchChatRequest(requests, null));
+
+        // then
+        assertThat(response.results()).extracting(BatchChatItemResult::status).containsExactly(
+                BatchChatItemResult.Status.SUCCESS, BatchChatItemResult.Status.FAILED);
+        assertThat(response.results().get(1).response()).isNull();
+        assertThat(response.results().get(1).error()).isEqualTo("LLM 호출 대기 시간을 초과했습니다.");
+        assertThat(response.succeeded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("1000자를 넘는 메시지는 호출 없이 INVALID로 반환")
+    void shouldRejectOversizeItemAsInvalid() {
+        // given
+        var requests = List.of(ChatRequest.user("가".repeat(1001), "java"));
+
+        // when
+        var response = batchChatService.execute(new BatchChatRequest(requests, null));
+
+        // then
+        assertThat(response.results()).singleElement().satisfies(result -> {
+            assertThat(result.status()).isEqualTo(BatchChatItemResult.Status.INVALID);
+            assertThat(result.error()).contains("1000자");
+        });
+        verify(chatGptService, never()).answerWithExpertMode(any());
+    }
+
+    @Test
+    @DisplayName("스트리밍은 완료되는 순서대로 모든 결과 전달")
+    void shouldStreamEveryResult() {
+        // given
+        var request = BatchChatRequest.of(List.of("질문1", "질문2", "질문3"), List.of("general"));
+        var received = new ArrayList<BatchChatItemResult>();
+
+        // when
+        batchChatService.stream(request, received::add);
+
+        // then
+        assertThat(received).extracting(BatchChatItemResult::index).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수 초과 시 거절")
+    void shouldRejectTooManyItems() {
+        // given
+        var request = BatchChatRequest.of(List.of("1", "2", "3"), List.of("java", "python"));
+
+        // when & then
+        assertThatThrownBy(() -> batchChatService.execute(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
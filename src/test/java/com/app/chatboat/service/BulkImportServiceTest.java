@@ -0,0 +1,245 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.BulkImportProperties;
+import com.app.chatboat.dto.BulkImportRequest;
+import com.app.chatboat.entity.BulkImport;
+import com.app.chatboat.entity.BulkImportItem;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.repository.BulkImportItemRepository;
+import com.app.chatboat.repository.BulkImportRepository;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 서버 디렉토리 일괄 가져오기 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("서버 디렉토리 일괄 가져오기 테스트")
+class BulkImportServiceTest {
+
+    private static final String IMPORT_ID = "import-1";
+
+    @Mock
+    private BulkImportRepository bulkImportRepository;
+
+    @Mock
+    private BulkImportItemRepository bulkImportItemRepository;
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    @Mock
+    private PdfProcessingService pdfProcessingService;
+
+    @TempDir
+    Path root;
+
+    private BulkImportService service;
+    private BulkImport bulkImport;
+    private final List<BulkImportItem> items = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new BulkImportService(bulkImportRepository, bulkImportItemRepository, pdfDocumentRepository,
+                pdfProcessingService, new BulkImportProperties(root.toString(), 2, 2, false, Duration.ofMinutes(10)),
+                new SimpleMeterRegistry());
+
+        lenient().when(bulkImportRepository.findById(IMPORT_ID)).thenAnswer(invocation -> Optional.ofNullable(bulkImport));
+        lenient().when(bulkImportRepository.save(any(BulkImport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(bulkImportItemRepository.findRelativePaths(IMPORT_ID)).thenAnswer(invocation ->
+                items.stream().map(BulkImportItem::getRelativePath).toList());
+        lenient().when(bulkImportItemRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<BulkImportItem> saved = invocation.getArgument(0);
+            saved.forEach(item -> {
+                item.setId(ids.incrementAndGet());
+                items.add(item);
+            });
+            return invocation.getArgument(0);
+        });
+        lenient().when(bulkImportItemRepository.findByImportIdAndStatusOrderById(eq(IMPORT_ID), any(), any(Pageable.class)))
+                .thenAnswer(invocation -> withStatus(invocation.getArgument(1)).stream()
+                        .limit(((Pageable) invocation.getArgument(2)).getPageSize()).toList());
+        lenient().when(bulkImportItemRepository.claim(anyLong(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            var item = items.stream().filter(row -> row.getId().equals(invocation.getArgument(0))).findFirst().orElseThrow();
+            if (item.getStatus() != BulkImportItem.ItemStatus.PENDING) {
+                return 0;
+            }
+            item.setStatus(BulkImportItem.ItemStatus.IMPORTING);
+            return 1;
+        });
+        lenient().when(bulkImportItemRepository.save(any(BulkImportItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(bulkImportItemRepository.countByImportIdAndStatus(eq(IMPORT_ID), any())).thenAnswer(invocation ->
+                (long) withStatus(invocation.getArgument(1)).size());
+        lenient().when(bulkImportItemRepository.countByStatus(IMPORT_ID)).thenAnswer(invocation -> statusCounts());
+        lenient().when(pdfDocumentRepository.findIdsByFileSha256(anyString())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("하위 디렉토리까지 PDF 목록을 작성하고, 같은 내용의 파일과 이미 등록된 문서는 건너뜀")
+    void shouldImportDirectoryAndSkipDuplicateContent() throws Exception {
+        // given
+        Path directory = Files.createDirectories(root.resolve("team-a"));
+        Files.createDirectories(directory.resolve("sub"));
+        write(directory.resolve("a.pdf"), "%PDF-1.4 A");
+        write(directory.resolve("copy-of-a.PDF"), "%PDF-1.4 A");
+        write(directory.resolve("sub/b.pdf"), "%PDF-1.4 B");
+        write(directory.resolve("notes.txt"), "메모");
+        when(pdfDocumentRepository.findIdsByFileSha256(PdfProcessingService.fileSha256(directory.resolve("sub/b.pdf"))))
+                .thenReturn(List.of(9L));
+        when(pdfProcessingService.importPdf(any(Path.class), anyString(), anyString()))
+                .thenReturn(PdfDocument.builder().id(7L).build());
+        bulkImport = bulkImport("team-a", BulkImport.ImportStatus.SCANNING);
+
+        // when
+        service.run(IMPORT_ID);
+
+        // then
+        assertThat(items).extracting(BulkImportItem::getRelativePath)
+                .containsExactlyInAnyOrder("a.pdf", "copy-of-a.PDF", Path.of("sub", "b.pdf").toString());
+        assertThat(countByStatus()).containsEntry(BulkImportItem.ItemStatus.IMPORTED, 1L)
+                .containsEntry(BulkImportItem.ItemStatus.SKIPPED, 2L);
+        assertThat(items).filteredOn(item -> item.getRelativePath().endsWith("b.pdf"))
+                .singleElement().extracting(BulkImportItem::getPdfDocumentId).isEqualTo(9L);
+        verify(pdfProcessingService, times(1)).importPdf(any(Path.class), anyString(), anyString());
+        assertThat(bulkImport.getStatus()).isEqualTo(BulkImport.ImportStatus.COMPLETED);
+        assertThat(bulkImport.getTotalFiles()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시작 후에는 남은 대기 파일만 이어서 가져옴")
+    void shouldResumeFromPendingItems() throws Exception {
+        // given
+        Path directory = Files.createDirectories(root.resolve("team-b"));
+        write(directory.resolve("done.pdf"), "%PDF-1.4 done");
+        write(directory.resolve("left.pdf"), "%PDF-1.4 left");
+        items.add(item("done.pdf", BulkImportItem.ItemStatus.IMPORTED));
+        items.add(item("left.pdf", BulkImportItem.ItemStatus.PENDING));
+        when(pdfProcessingService.importPdf(any(Path.class), eq("left.pdf"), anyString()))
+                .thenReturn(PdfDocument.builder().id(8L).build());
+        bulkImport = bulkImport("team-b", BulkImport.ImportStatus.RUNNING);
+
+        // when
+        service.run(IMPORT_ID);
+
+        // then
+        verify(pdfProcessingService, times(1)).importPdf(any(Path.class), anyString(), anyString());
+        assertThat(items).allMatch(item -> item.getStatus() == BulkImportItem.ItemStatus.IMPORTED);
+        assertThat(service.getStatus(IMPORT_ID).imported()).isEqualTo(2);
+        assertThat(bulkImport.getStatus()).isEqualTo(BulkImport.ImportStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("가져오기 루트 밖의 디렉토리는 거절")
+    void shouldRejectDirectoryOutsideRoot() {
+        // when & then
+        assertThatThrownBy(() -> service.start(new BulkImportRequest("../other")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.start(new BulkImportRequest("missing")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<BulkImportItem> withStatus(BulkImportItem.ItemStatus status) {
+        synchronized (items) {
+            return items.stream().filter(item -> item.getStatus() == status).toList();
+        }
+    }
+
+    private Map<BulkImportItem.ItemStatus, Long> countByStatus() {
+        synchronized (items) {
+            return items.stream().collect(Collectors.groupingBy(BulkImportItem::getStatus, Collectors.counting()));
+        }
+    }
+
+    private List<BulkImportItemRepository.StatusCount> statusCounts() {
+        synchronized (items) {
+            return items.stream()
+                    .collect(Collectors.groupingBy(BulkImportItem::getStatus, Collectors.toList()))
+                    .entrySet().stream()
+                    .map(entry -> statusCount(entry.getKey(), entry.getValue().size(),
+                            entry.getValue().stream().mapToLong(BulkImportItem::getFileSize).sum()))
+                    .toList();
+        }
+    }
+
+    private static BulkImportItemRepository.StatusCount statusCount(BulkImportItem.ItemStatus status, long files, long bytes) {
+        return new BulkImportItemRepository.StatusCount() {
+            @Override
+            public BulkImportItem.ItemStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getFiles() {
+                return files;
+            }
+
+            @Override
+            public Long getBytes() {
+                return bytes;
+            }
+        };
+    }
+
+    private BulkImportItem item(String relativePath, BulkImportItem.ItemStatus status) {
+        return BulkImportItem.builder()
+                .id(ids.incrementAndGet())
+                .importId(IMPORT_ID)
+                .relativePath(relativePath)
+                .fileSize(13L)
+                .status(status)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static BulkImport bulkImport(String directory, BulkImport.ImportStatus status) {
+        return BulkImport.builder()
+                .id(IMPORT_ID)
+                .directory(directory)
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static void write(Path file, String content) throws Exception {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
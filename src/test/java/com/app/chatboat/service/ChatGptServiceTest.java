@@ -1,8 +1,19 @@
 package com.app.chatboat.service;
 
+import com.app.chatboat.config.AnswerCacheProperties;
+import com.app.chatboat.config.DocumentContextCacheProperties;
+import com.app.chatboat.config.FastPathProperties;
+import com.app.chatboat.config.LlmSchedulerProperties;
+import com.app.chatboat.config.ModelRoutingProperties;
 import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.config.UsageProperties;
 import com.app.chatboat.dto.ChatRequest;
+import com.app.chatboat.dto.PdfChatRequest;
+import com.app.chatboat.entity.PdfDocument;
 import com.app.chatboat.repository.PdfDocumentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +21,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.when;
 
@@ -27,11 +41,28 @@ class ChatGptServiceTest {
     @Mock
     private PdfDocumentRepository pdfDocumentRepository;
     
+    private final TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+    
     private ChatGptService chatGptService;
     
     @BeforeEach
     void setUp() {
-        chatGptService = new ChatGptService(openAiProperties, pdfDocumentRepository);
+        var documentContextCache = new DocumentContextCache(pdfDocumentRepository,
+                new DocumentContextCacheProperties(false, null, null, null), new SimpleMeterRegistry());
+        chatGptService = new ChatGptService(
+                openAiProperties,
+                documentContextCache,
+                new OrderDomainKnowledgeService(),
+                new OrderFastPathService(new FastPathProperties(null, null, null), new SimpleMeterRegistry()),
+                new OpenAiGateway(openAiProperties, new PromptCacheMetrics(new SimpleMeterRegistry()), observationRegistry,
+                        new LlmCallScheduler(new LlmSchedulerProperties(false, null, null, null, null), new SimpleMeterRegistry())),
+                new PdfPageService(pdfDocumentRepository, null),
+                new AnswerCacheService(null, new AnswerCacheProperties(false, null, null, null, null), new SimpleMeterRegistry()),
+                new TokenUsageService(null, new UsageProperties(false, null, null, null, null, null, null, null), new SimpleMeterRegistry()),
+                observationRegistry,
+                new ModelRouter(new ModelRoutingProperties(false, null, null, null, null, null, null, null, null),
+                        openAiProperties, new SimpleMeterRegistry())
+        );
     }
     
     @Test
@@ -185,4 +216,56 @@ class ChatGptServiceTest {
         // then
         assertThat(result).isEqualTo("서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.");
     }
+    
+    @Test
+    @DisplayName("예외 전달용 전문가 모드 답변은 설정 오류를 안내 문구 대신 예외로 전달")
+    void shouldThrowInsteadOfErrorMessageWhenAnsweringForBatch() {
+        // given
+        when(openAiProperties.isValid()).thenReturn(false);
+        var request = new ChatRequest("Spring Boot 질문", "user", "java");
+        
+        // when & then
+        assertThatThrownBy(() -> chatGptService.answerWithExpertMode(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("서비스 설정에 문제가 있습니다. 관리자에게 문의해주세요.");
+    }
+    
+    @Test
+    @DisplayName("주문 에러 코드 질문은 OpenAI 호출 없이 Fast-path로 답변")
+    void shouldAnswerErrorCodeQuestionWithoutUpstreamCall() {
+        // when
+        String result = chatGptService.sendMessage("에러 1050은 무슨 뜻인가요?");
+        
+        // then
+        assertThat(result).contains("1050").contains("상품 재고가 부족합니다");
+    }
+    
+    @Test
+    @DisplayName("PDF 채팅은 처리 단계마다 전문가 모드와 PDF ID를 담은 관측 기록")
+    void shouldObserveChatPhasesWithPdfId() {
+        // given
+        when(openAiProperties.isValid()).thenReturn(true);
+        when(pdfDocumentRepository.findById(7L)).thenReturn(Optional.of(PdfDocument.builder()
+                .id(7L)
+                .originalFileName("manual.pdf")
+                .status(PdfDocument.ProcessingStatus.PROCESSING)
+                .build()));
+        
+        // when
+        String result = chatGptService.sendMessageWithPdf(PdfChatRequest.user("배송 정책 알려줘", 7L, "java"));
+        
+        // then
+        assertThat(result).isEqualTo("PDF 처리가 완료되지 않았습니다. 잠시 후 다시 시도해주세요.");
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+                .hasNumberOfObservationsWithNameEqualTo(ChatGptService.PHASE_OBSERVATION, 2)
+                .hasAnObservation(observation -> observation
+                        .hasLowCardinalityKeyValue("phase", "validate")
+                        .hasLowCardinalityKeyValue("expert.mode", "java"))
+                .hasAnObservation(observation -> observation
+                        .hasLowCardinalityKeyValue("phase", "context-load")
+                        .hasHighCardinalityKeyValue("pdf.id", "7"))
+                .hasObservationWithNameEqualTo(ChatGptService.PHASE_OBSERVATION).that()
+                .hasBeenStarted()
+                .hasBeenStopped();
+    }
 }
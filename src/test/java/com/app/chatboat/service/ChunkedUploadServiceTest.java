@@ -0,0 +1,220 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.ChunkedUploadProperties;
+import com.app.chatboat.dto.ChunkedUploadInitRequest;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.UploadChunk;
+import com.app.chatboat.entity.UploadSession;
+import com.app.chatboat.repository.UploadChunkRepository;
+import com.app.chatboat.repository.UploadSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분할 업로드 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("분할 업로드 서비스 테스트")
+class ChunkedUploadServiceTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private UploadChunkRepository uploadChunkRepository;
+
+    @Mock
+    private PdfProcessingService pdfProcessingService;
+
+    @TempDir
+    Path uploadDir;
+
+    private ChunkedUploadService service;
+    private UploadSession session;
+    private final List<UploadChunk> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        var properties = new ChunkedUploadProperties(
+                DataSize.ofMegabytes(1), DataSize.ofBytes(CHUNK_SIZE), DataSize.ofBytes(CHUNK_SIZE), DataSize.ofKilobytes(4), Duration.ofHours(1), null);
+        service = new ChunkedUploadService(uploadSessionRepository, uploadChunkRepository, pdfProcessingService, properties);
+
+        lenient().when(pdfProcessingService.getUploadPath()).thenReturn(uploadDir);
+        lenient().when(uploadSessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> {
+            session = invocation.getArgument(0);
+            return session;
+        });
+        lenient().when(uploadSessionRepository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(session));
+        lenient().when(uploadChunkRepository.findByUploadIdAndChunkIndex(anyString(), anyInt())).thenReturn(Optional.empty());
+        lenient().when(uploadChunkRepository.save(any(UploadChunk.class))).thenAnswer(invocation -> {
+            UploadChunk chunk = invocation.getArgument(0);
+            chunks.add(chunk);
+            return chunk;
+        });
+        lenient().when(uploadChunkRepository.findByUploadIdOrderByChunkIndex(anyString())).thenAnswer(invocation ->
+                chunks.stream().sorted((a, b) -> Integer.compare(a.getChunkIndex(), b.getChunkIndex())).toList());
+    }
+
+    @Test
+    @DisplayName("순서와 무관하게 받은 청크를 오프셋에 기록하고 조립 검증 후 문서 처리")
+    void shouldAssembleOutOfOrderChunksAndProcessDocument() throws Exception {
+        // given
+        byte[] pdf = samplePdf(2500);
+        var status = service.initUpload(new ChunkedUploadInitRequest("manual.pdf", (long) pdf.length, null, sha256(pdf), null));
+        when(pdfProcessingService.processStoredPdf(any(Path.class), eq("manual.pdf")))
+                .thenReturn(PdfDocument.builder().id(7L).build());
+
+        // when
+        for (int index : new int[]{2, 0, 1}) {
+            byte[] chunk = chunkOf(pdf, index);
+            service.uploadChunk(status.uploadId(), index, sha256(chunk), new ByteArrayInputStream(chunk));
+        }
+        var completed = service.completeUpload(status.uploadId());
+
+        // then
+        assertThat(status.totalChunks()).isEqualTo(3);
+        assertThat(completed.status()).isEqualTo("COMPLETED");
+        assertThat(completed.pdfId()).isEqualTo(7L);
+        assertThat(Files.exists(Path.of(session.getTempPath()))).isFalse();
+        try (var stored = Files.list(uploadDir)) {
+            var storedPdf = stored.filter(path -> path.toString().endsWith(".pdf")).findFirst().orElseThrow();
+            assertThat(Files.readAllBytes(storedPdf)).isEqualTo(pdf);
+        }
+        verify(uploadChunkRepository).deleteByUploadId(status.uploadId());
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞지 않는 청크는 기록하지 않고 거절")
+    void shouldRejectChunkWithChecksumMismatch() throws Exception {
+        // given
+        byte[] pdf = samplePdf(2000);
+        var status = service.initUpload(new ChunkedUploadInitRequest("manual.pdf", (long) pdf.length, null, null, null));
+        byte[] chunk = chunkOf(pdf, 0);
+
+        // when & then
+        assertThatThrownBy(() -> service.uploadChunk(status.uploadId(), 0, sha256(new byte[]{1}), new ByteArrayInputStream(chunk)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(chunks).isEmpty();
+        assertThat(service.getStatus(status.uploadId()).missingChunks()).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("누락된 청크가 있으면 완료하지 않음")
+    void shouldNotCompleteWithMissingChunks() throws Exception {
+        // given
+        byte[] pdf = samplePdf(2000);
+        var status = service.initUpload(new ChunkedUploadInitRequest("manual.pdf", (long) pdf.length, null, null, null));
+        byte[] chunk = chunkOf(pdf, 1);
+        service.uploadChunk(status.uploadId(), 1, sha256(chunk), new ByteArrayInputStream(chunk));
+
+        // when & then
+        assertThatThrownBy(() -> service.completeUpload(status.uploadId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[0]");
+        verify(pdfProcessingService, never()).processStoredPdf(any(), any());
+    }
+
+    @Test
+    @DisplayName("전체 파일 체크섬이 다르면 문서 처리 없이 업로드를 다시 받을 수 있는 상태로 유지")
+    void shouldKeepSessionActiveWhenFileChecksumMismatch() throws Exception {
+        // given
+        byte[] pdf = samplePdf(1500);
+        var status = service.initUpload(new ChunkedUploadInitRequest("manual.pdf", (long) pdf.length, null, sha256(new byte[]{1}), null));
+        for (int index = 0; index < 2; index++) {
+            byte[] chunk = chunkOf(pdf, index);
+            service.uploadChunk(status.uploadId(), index, sha256(chunk), new ByteArrayInputStream(chunk));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> service.completeUpload(status.uploadId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(session.getStatus()).isEqualTo(UploadSession.UploadStatus.ACTIVE);
+        verify(pdfProcessingService, never()).processStoredPdf(any(), any());
+    }
+
+    @Test
+    @DisplayName("문서 등록에 실패하면 조립된 파일을 되돌리고 완료 요청을 다시 받을 수 있는 상태로 복구")
+    void shouldRestoreSessionWhenDocumentRegistrationFails() throws Exception {
+        // given
+        byte[] pdf = samplePdf(1500);
+        var status = service.initUpload(new ChunkedUploadInitRequest("manual.pdf", (long) pdf.length, null, sha256(pdf), null));
+        for (int index = 0; index < 2; index++) {
+            byte[] chunk = chunkOf(pdf, index);
+            service.uploadChunk(status.uploadId(), index, sha256(chunk), new ByteArrayInputStream(chunk));
+        }
+        when(pdfProcessingService.processStoredPdf(any(Path.class), eq("manual.pdf")))
+                .thenThrow(new RuntimeException("PDF 파일 등록에 실패했습니다: DB 오류"))
+                .thenReturn(PdfDocument.builder().id(7L).build());
+
+        // when
+        assertThatThrownBy(() -> service.completeUpload(status.uploadId()))
+                .isInstanceOf(RuntimeException.class);
+
+        // then
+        assertThat(session.getStatus()).isEqualTo(UploadSession.UploadStatus.ACTIVE);
+        assertThat(Files.readAllBytes(Path.of(session.getTempPath()))).isEqualTo(pdf);
+        assertThat(service.completeUpload(status.uploadId()).status()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("청크 크기가 예상과 다르면 거절")
+    void shouldRejectChunkWithUnexpectedSize() throws Exception {
+        // given
+        var status = service.initUpload(new ChunkedUploadInitRequest("manual.pdf", 2000L, null, null, null));
+        byte[] shortChunk = new byte[100];
+
+        // when & then
+        assertThatThrownBy(() -> service.uploadChunk(status.uploadId(), 0, sha256(shortChunk), new ByteArrayInputStream(shortChunk)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] samplePdf(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + i % 26);
+        }
+        byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, data, 0, header.length);
+        return data;
+    }
+
+    private static byte[] chunkOf(byte[] data, int index) {
+        int from = index * CHUNK_SIZE;
+        return Arrays.copyOfRange(data, from, Math.min(data.length, from + CHUNK_SIZE));
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
@@ -0,0 +1,147 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.DocumentContextCacheProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PDF 문서 컨텍스트 캐시 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PDF 문서 컨텍스트 캐시 테스트")
+class DocumentContextCacheTest {
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    @Test
+    @DisplayName("같은 문서의 후속 조회는 DB 조회 없이 렌더링된 세그먼트를 재사용")
+    void shouldServeRepeatedLookupsFromCache() {
+        // given
+        var cache = cache(DataSize.ofKilobytes(64), DataSize.ofKilobytes(64));
+        when(pdfDocumentRepository.findById(1L)).thenReturn(Optional.of(document(1L, PdfDocument.ProcessingStatus.COMPLETED, "본문")));
+
+        // when
+        var first = cache.get(1L);
+        var second = cache.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.documentSegment()).isEqualTo("[문서 내용]\n본문");
+        assertThat(second.documentInfo()).contains("파일명: doc-1.pdf");
+        verify(pdfDocumentRepository, times(1)).findById(1L);
+        assertThat(cache.getStats().hits()).isEqualTo(1);
+        assertThat(cache.getStats().residentBytes()).isEqualTo(first.retainedBytes());
+    }
+
+    @Test
+    @DisplayName("처리 중인 문서는 캐시하지 않음")
+    void shouldNotCacheDocumentsStillProcessing() {
+        // given
+        var cache = cache(DataSize.ofKilobytes(64), DataSize.ofKilobytes(64));
+        when(pdfDocumentRepository.findById(1L)).thenReturn(Optional.of(document(1L, PdfDocument.ProcessingStatus.PROCESSING, null)));
+
+        // when
+        cache.get(1L);
+        var context = cache.get(1L);
+
+        // then
+        assertThat(context.status()).isEqualTo(PdfDocument.ProcessingStatus.PROCESSING);
+        verify(pdfDocumentRepository, times(2)).findById(1L);
+        assertThat(cache.getStats().entries()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 바이트가 최대 크기를 넘으면 가장 오래 사용되지 않은 문서부터 제거")
+    void shouldEvictBySizeInLeastRecentlyUsedOrder() {
+        // given - 문서 하나가 약 1KB, 최대 2.5KB
+        var cache = cache(DataSize.ofBytes(2500), DataSize.ofKilobytes(2));
+        for (long id = 1; id <= 3; id++) {
+            when(pdfDocumentRepository.findById(id))
+                    .thenReturn(Optional.of(document(id, PdfDocument.ProcessingStatus.COMPLETED, "a".repeat(400))));
+        }
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+
+        // when
+        cache.get(3L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then - 2번이 제거되어 다시 조회됨
+        verify(pdfDocumentRepository, times(1)).findById(1L);
+        verify(pdfDocumentRepository, times(2)).findById(2L);
+        assertThat(cache.getStats().residentBytes()).isLessThanOrEqualTo(2500);
+        assertThat(cache.getStats().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 항목 크기를 넘는 문서는 캐시하지 않음")
+    void shouldSkipOversizedDocuments() {
+        // given
+        var cache = cache(DataSize.ofKilobytes(64), DataSize.ofBytes(500));
+        when(pdfDocumentRepository.findById(1L))
+                .thenReturn(Optional.of(document(1L, PdfDocument.ProcessingStatus.COMPLETED, "가".repeat(400))));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+
+        // then
+        verify(pdfDocumentRepository, times(2)).findById(1L);
+        assertThat(cache.getStats().residentBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 재처리된 내용을 다시 조회")
+    void shouldReloadAfterInvalidation() {
+        // given
+        var cache = cache(DataSize.ofKilobytes(64), DataSize.ofKilobytes(64));
+        when(pdfDocumentRepository.findById(1L))
+                .thenReturn(Optional.of(document(1L, PdfDocument.ProcessingStatus.COMPLETED, "이전 본문")))
+                .thenReturn(Optional.of(document(1L, PdfDocument.ProcessingStatus.COMPLETED, "새 본문")));
+        cache.get(1L);
+
+        // when
+        cache.invalidate(1L);
+        var reloaded = cache.get(1L);
+
+        // then
+        assertThat(reloaded.documentSegment()).isEqualTo("[문서 내용]\n새 본문");
+        assertThat(cache.getStats().entries()).isEqualTo(1);
+    }
+
+    private DocumentContextCache cache(DataSize maxSize, DataSize maxEntrySize) {
+        return new DocumentContextCache(pdfDocumentRepository,
+                new DocumentContextCacheProperties(true, maxSize, maxEntrySize, Duration.ofMinutes(10)),
+                new SimpleMeterRegistry());
+    }
+
+    private static PdfDocument document(Long id, PdfDocument.ProcessingStatus status, String text) {
+        return PdfDocument.builder()
+                .id(id)
+                .originalFileName("doc-" + id + ".pdf")
+                .extractedText(text)
+                .summary("요약")
+                .uploadedAt(LocalDateTime.of(2025, 9, 1, 10, 0))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.RetrievalProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.PdfPage;
+import com.app.chatboat.repository.PdfDocumentInfo;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.repository.PdfPageRepository;
+import com.app.chatboat.service.DocumentRetrievalService.RetrievedPassage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다중 문서 구절 검색 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("다중 문서 구절 검색 서비스 테스트")
+class DocumentRetrievalServiceTest {
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    @Mock
+    private PdfPageRepository pdfPageRepository;
+
+    private DocumentRetrievalService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DocumentRetrievalService(pdfDocumentRepository,
+                new PdfPageService(pdfDocumentRepository, pdfPageRepository), new RetrievalProperties(3, 200, 120, 5));
+    }
+
+    @Test
+    @DisplayName("여러 문서에서 관련 구절을 찾아 출처 페이지와 함께 반환")
+    void shouldMergePassagesAcrossDocumentsWithPageAttribution() {
+        // given
+        var power = document(1L, "spec-power.pdf", PdfDocument.ProcessingStatus.COMPLETED);
+        var network = document(2L, "spec-network.pdf", PdfDocument.ProcessingStatus.COMPLETED);
+        when(pdfDocumentRepository.findInfoByIdIn(anyList())).thenReturn(List.of(power, network));
+        stubPages(1L, "제품 개요\f전원 사양: 정격 전압은 220V 입니다\n소비 전력은 35W 입니다\f보증 안내");
+        stubPages(2L, "네트워크 사양: Wi-Fi 6 지원\f전원 어댑터 규격과 전압 범위");
+
+        // when
+        var result = service.retrieve(List.of(1L, 2L), "전원 전압 사양이 어떻게 되나요?", null);
+
+        // then
+        assertThat(result.passages()).isNotEmpty();
+        assertThat(result.passages().getFirst().fileName()).isEqualTo("spec-power.pdf");
+        assertThat(result.passages().getFirst().page()).isEqualTo(2);
+        assertThat(result.passages()).extracting(RetrievedPassage::pdfId).contains(1L, 2L);
+        assertThat(result.passages()).noneMatch(passage -> passage.text().contains("보증"));
+        assertThat(result.skippedPdfIds()).isEmpty();
+        verify(pdfDocumentRepository, never()).findAllById(any());
+        verify(pdfDocumentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 예산과 topK를 넘지 않도록 구절 선택")
+    void shouldRespectTokenBudgetAndTopK() {
+        // given
+        var pages = new StringBuilder();
+        for (int page = 1; page <= 10; page++) {
+            pages.append("주문 취소 정책 페이지 ").append(page).append(" 주문 취소는 결제대기 상태에서만 가능합니다\f");
+        }
+        when(pdfDocumentRepository.findInfoByIdIn(anyList()))
+                .thenReturn(List.of(document(1L, "policy.pdf", PdfDocument.ProcessingStatus.COMPLETED)));
+        stubPages(1L, pages.toString());
+
+        // when
+        var result = service.retrieve(List.of(1L), "주문 취소 정책", null);
+
+        // then
+        assertThat(result.passages()).hasSizeLessThanOrEqualTo(3);
+        assertThat(result.usedTokens()).isLessThanOrEqualTo(200);
+        assertThat(result.candidateCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("처리되지 않았거나 없는 문서는 건너뛰고 목록으로 반환")
+    void shouldSkipUnavailableDocuments() {
+        // given
+        var processing = document(2L, "draft.pdf", PdfDocument.ProcessingStatus.PROCESSING);
+        var empty = document(4L, "scan.pdf", PdfDocument.ProcessingStatus.COMPLETED);
+        when(pdfDocumentRepository.findInfoByIdIn(anyList()))
+                .thenReturn(List.of(document(1L, "manual.pdf", PdfDocument.ProcessingStatus.COMPLETED), processing, empty));
+        stubPages(1L, "배송 정책 안내");
+        stubPages(4L, "  ");
+
+        // when
+        var result = service.retrieve(List.of(1L, 2L, 3L, 4L), "배송 정책", null);
+
+        // then - 처리 중(2), 없는 문서(3), 추출 텍스트가 없는 문서(4)
+        assertThat(result.skippedPdfIds()).containsExactly(2L, 3L, 4L);
+        verify(pdfPageRepository, never()).findByPdfDocumentIdOrderByPageNumber(2L);
+        assertThat(result.passages()).extracting(RetrievedPassage::pdfId).containsOnly(1L);
+    }
+
+    @Test
+    @DisplayName("최대 문서 수 초과 시 거절")
+    void shouldRejectTooManyDocuments() {
+        // when & then
+        assertThatThrownBy(() -> service.retrieve(List.of(1L, 2L, 3L, 4L, 5L, 6L), "질문", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("한글 단어는 2-gram으로 분해해 조사 변화에도 일치")
+    void shouldSplitHangulIntoBigrams() {
+        // when & then
+        assertThat(DocumentRetrievalService.terms("전압은")).containsExactly("전압", "압은");
+        assertThat(DocumentRetrievalService.terms("Wi-Fi 6")).containsExactly("wi", "fi", "6");
+        assertThat(TokenEstimator.estimate("abcd전압")).isEqualTo(3);
+    }
+
+    private void stubPages(Long pdfId, String text) {
+        var texts = PdfPageService.splitPages(text);
+        var pages = IntStream.range(0, texts.size())
+                .mapToObj(i -> PdfPage.builder().pdfDocumentId(pdfId).pageNumber(i + 1).text(texts.get(i)).build())
+                .toList();
+        when(pdfPageRepository.findByPdfDocumentIdOrderByPageNumber(pdfId)).thenReturn(pages);
+    }
+
+    private static PdfDocumentInfo document(Long id, String fileName, PdfDocument.ProcessingStatus status) {
+        return new PdfDocumentInfo() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getOriginalFileName() {
+                return fileName;
+            }
+
+            @Override
+            public LocalDateTime getUploadedAt() {
+                return LocalDateTime.of(2025, 9, 1, 10, 0);
+            }
+
+            @Override
+            public String getSummary() {
+                return null;
+            }
+
+            @Override
+            public PdfDocument.ProcessingStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Integer getPageCount() {
+                return 1;
+            }
+
+            @Override
+            public String getContentHash() {
+                return null;
+            }
+        };
+    }
+}
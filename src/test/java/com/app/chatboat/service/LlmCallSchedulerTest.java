@@ -0,0 +1,217 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.LlmSchedulerProperties;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * LLM 호출 스케줄러 테스트
+ */
+@DisplayName("LLM 호출 스케줄러 테스트")
+class LlmCallSchedulerTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("슬롯이 밀려 있으면 가중치가 큰 채팅 호출이 먼저 대기한 백그라운드 호출보다 먼저 실행")
+    void shouldDispatchByWeightedFinishTime() throws Exception {
+        // given - 슬롯 1개를 요약 호출이 점유
+        var scheduler = scheduler(1, 0, Duration.ofSeconds(10));
+        var release = new CountDownLatch(1);
+        var holder = CompletableFuture.runAsync(() -> scheduler.execute(LlmCallScheduler.Priority.SUMMARY, request(), () -> hold(release)), executor);
+        await().until(() -> scheduler.getStats().inFlight() == 1);
+
+        var order = Collections.synchronizedList(new ArrayList<String>());
+        var calls = new ArrayList<CompletableFuture<Void>>();
+        calls.add(submit(scheduler, LlmCallScheduler.Priority.BACKGROUND, "background-1", order));
+        calls.add(submit(scheduler, LlmCallScheduler.Priority.BACKGROUND, "background-2", order));
+        await().until(() -> queued(scheduler, LlmCallScheduler.Priority.BACKGROUND) == 2);
+        calls.add(submit(scheduler, LlmCallScheduler.Priority.INTERACTIVE, "chat-1", order));
+        calls.add(submit(scheduler, LlmCallScheduler.Priority.INTERACTIVE, "chat-2", order));
+        await().until(() -> queued(scheduler, LlmCallScheduler.Priority.INTERACTIVE) == 2);
+
+        // when
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(order).containsExactly("chat-1", "chat-2", "background-1", "background-2");
+        assertThat(scheduler.getStats().classes().get(LlmCallScheduler.Priority.BACKGROUND).completed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요약 호출이 공유 슬롯을 모두 차지해도 채팅 호출은 전용 슬롯으로 바로 실행")
+    void shouldKeepReservedSlotForInteractive() throws Exception {
+        // given - 슬롯 2개 중 1개는 채팅 전용
+        var scheduler = scheduler(2, 1, Duration.ofSeconds(10));
+        var release = new CountDownLatch(1);
+        var summary = CompletableFuture.runAsync(() -> scheduler.execute(LlmCallScheduler.Priority.SUMMARY, request(), () -> hold(release)), executor);
+        await().until(() -> scheduler.getStats().inFlight() == 1);
+        var background = CompletableFuture.runAsync(() -> scheduler.execute(LlmCallScheduler.Priority.BACKGROUND, request(), () -> "done"), executor);
+        await().until(() -> queued(scheduler, LlmCallScheduler.Priority.BACKGROUND) == 1);
+
+        // when
+        String answer = scheduler.execute(LlmCallScheduler.Priority.INTERACTIVE, request(), () -> "채팅 응답");
+
+        // then
+        assertThat(answer).isEqualTo("채팅 응답");
+        assertThat(background).isNotDone();
+
+        release.countDown();
+        summary.get(5, TimeUnit.SECONDS);
+        background.get(5, TimeUnit.SECONDS);
+        assertThat(scheduler.getStats().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅 호출이 없으면 백그라운드 호출이 공유 슬롯을 모두 사용")
+    void shouldLetBackgroundUseIdleCapacity() throws Exception {
+        // given
+        var scheduler = scheduler(3, 1, Duration.ofSeconds(10));
+        var release = new CountDownLatch(1);
+
+        // when
+        var first = CompletableFuture.runAsync(() -> scheduler.execute(LlmCallScheduler.Priority.BACKGROUND, request(), () -> hold(release)), executor);
+        var second = CompletableFuture.runAsync(() -> scheduler.execute(LlmCallScheduler.Priority.BACKGROUND, request(), () -> hold(release)), executor);
+
+        // then
+        await().until(() -> scheduler.getStats().classes().get(LlmCallScheduler.Priority.BACKGROUND).running() == 2);
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("채팅 호출은 최대 대기 시간 안에 슬롯을 얻지 못하면 실패")
+    void shouldFailInteractiveCallAfterMaxQueueWait() throws Exception {
+        // given
+        var scheduler = scheduler(1, 0, Duration.ofMillis(50));
+        var release = new CountDownLatch(1);
+        var holder = CompletableFuture.runAsync(() -> scheduler.execute(LlmCallScheduler.Priority.INTERACTIVE, request(), () -> hold(release)), executor);
+        await().until(() -> scheduler.getStats().inFlight() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> scheduler.execute(LlmCallScheduler.Priority.INTERACTIVE, request(), () -> "응답"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간");
+        assertThat(queued(scheduler, LlmCallScheduler.Priority.INTERACTIVE)).isZero();
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("리액티브 호출은 슬롯이 날 때까지 구독만 대기하고, 완료 후 슬롯 반납")
+    void shouldScheduleReactiveCallWithoutBlocking() throws Exception {
+        // given - 슬롯 1개를 블로킹 요약 호출이 점유
+        var scheduler = scheduler(1, 0, Duration.ofSeconds(10));
+        var release = new CountDownLatch(1);
+        var holder = CompletableFuture.runAsync(() -> scheduler.execute(LlmCallScheduler.Priority.SUMMARY, request(), () -> hold(release)), executor);
+        await().until(() -> scheduler.getStats().inFlight() == 1);
+
+        // when
+        var answer = scheduler.schedule(LlmCallScheduler.Priority.INTERACTIVE, request(), () -> Mono.just("채팅 응답")).toFuture();
+
+        // then
+        assertThat(queued(scheduler, LlmCallScheduler.Priority.INTERACTIVE)).isEqualTo(1);
+        assertThat(answer).isNotDone();
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(answer.get(5, TimeUnit.SECONDS)).isEqualTo("채팅 응답");
+        assertThat(scheduler.getStats().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("리액티브 스트리밍 호출은 구독이 취소되면 슬롯 반납")
+    void shouldReleaseSlotWhenStreamIsCancelled() {
+        // given
+        var scheduler = scheduler(1, 0, Duration.ofSeconds(10));
+        var subscription = scheduler.scheduleMany(LlmCallScheduler.Priority.INTERACTIVE, request(), () -> Flux.<String>never())
+                .subscribe();
+        assertThat(scheduler.getStats().inFlight()).isEqualTo(1);
+
+        // when
+        subscription.dispose();
+
+        // then
+        assertThat(scheduler.getStats().inFlight()).isZero();
+        assertThat(scheduler.getStats().classes().get(LlmCallScheduler.Priority.INTERACTIVE).completed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리액티브 호출은 최대 대기 시간 안에 슬롯을 얻지 못하면 대기열에서 빠지고 실패")
+    void shouldFailReactiveCallAfterMaxQueueWait() {
+        // given
+        var scheduler = scheduler(1, 0, Duration.ofMillis(50));
+        var holder = scheduler.scheduleMany(LlmCallScheduler.Priority.BACKGROUND, request(), () -> Flux.<String>never())
+                .subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> scheduler.schedule(LlmCallScheduler.Priority.INTERACTIVE, request(), () -> Mono.just("응답")).block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간");
+        assertThat(queued(scheduler, LlmCallScheduler.Priority.INTERACTIVE)).isZero();
+
+        holder.dispose();
+        assertThat(scheduler.getStats().inFlight()).isZero();
+    }
+
+    private CompletableFuture<Void> submit(LlmCallScheduler scheduler, LlmCallScheduler.Priority priority,
+                                                  String name, List<String> order) {
+        return CompletableFuture.runAsync(() -> scheduler.execute(priority, request(), () -> order.add(name)), executor);
+    }
+
+    private static int queued(LlmCallScheduler scheduler, LlmCallScheduler.Priority priority) {
+        return scheduler.getStats().classes().get(priority).queued();
+    }
+
+    private static boolean hold(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static LlmCallScheduler scheduler(int maxConcurrency, int reservedInteractive, Duration maxQueueWait) {
+        var properties = new LlmSchedulerProperties(true, maxConcurrency, reservedInteractive,
+                Map.of("interactive", 8, "summary", 3, "background", 1), maxQueueWait);
+        return new LlmCallScheduler(properties, new SimpleMeterRegistry());
+    }
+
+    private static ChatCompletionRequest request() {
+        return ChatCompletionRequest.builder()
+                .model("gpt-4o")
+                .messages(List.of(new ChatMessage("user", "문서를 요약해줘")))
+                .maxTokens(1000)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.ModelRoutingProperties;
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.enums.ExpertMode;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모델 라우팅 테스트
+ */
+@DisplayName("모델 라우팅 테스트")
+class ModelRouterTest {
+
+    private static final LlmUsage USAGE = new LlmUsage(100, 0, 50);
+
+    @Test
+    @DisplayName("짧고 간단한 질문은 작은 모델, 문서 참조/코드/복잡한 질문 키워드는 큰 모델")
+    void shouldRouteBySignals() {
+        // given
+        var router = router(Map.of("general", ModelRoutingProperties.Policy.AUTO), true);
+
+        // when & then
+        assertThat(router.route(ExpertMode.GENERAL, "CANCEL 상태가 뭐야?", false))
+                .isEqualTo(new ModelRouter.Route("gpt-4o-mini", ModelRouter.Tier.SMALL, "simple"));
+        assertThat(router.route(ExpertMode.GENERAL, "CANCEL 상태가 뭐야?", true).reason()).isEqualTo("document");
+        assertThat(router.route(ExpertMode.GENERAL, "가".repeat(201), false).reason()).isEqualTo("length");
+        assertThat(router.route(ExpertMode.GENERAL, "int a = 1;\nreturn a;", false).reason()).isEqualTo("code");
+        assertThat(router.route(ExpertMode.GENERAL, "두 방식의 장단점을 알려줘", false))
+                .isEqualTo(new ModelRouter.Route("gpt-4o", ModelRouter.Tier.LARGE, "keyword"));
+        assertThat(router.getStats().decisions()).containsEntry("small:simple", 1L).containsEntry("large:keyword", 1L);
+    }
+
+    @Test
+    @DisplayName("전문가 모드별 정책이 질문 신호보다 우선")
+    void shouldApplyPolicyPerExpertMode() {
+        // given - java는 항상 큰 모델, 그 외 설정되지 않은 모드는 기본 정책(AUTO)
+        var router = router(Map.of("java", ModelRoutingProperties.Policy.LARGE, "python", ModelRoutingProperties.Policy.SMALL), true);
+
+        // when & then
+        assertThat(router.route(ExpertMode.JAVA, "record가 뭐야?", false).tier()).isEqualTo(ModelRouter.Tier.LARGE);
+        assertThat(router.route(ExpertMode.PYTHON, "GIL 성능 문제를 분석해줘", false).tier()).isEqualTo(ModelRouter.Tier.SMALL);
+        assertThat(router.route(ExpertMode.JAVASCRIPT, "let과 var 차이", false).tier()).isEqualTo(ModelRouter.Tier.SMALL);
+    }
+
+    @Test
+    @DisplayName("작은 모델 답변이 잘렸거나 확신이 낮으면 큰 모델로 다시 호출")
+    void shouldEscalateLowConfidenceAnswer() {
+        // given
+        var router = router(Map.of(), true);
+        var route = router.route(ExpertMode.GENERAL, "환불 기간은?", false);
+        var models = new ArrayList<String>();
+
+        // when
+        var completion = router.complete(route, request(), call -> {
+            models.add(call.getModel());
+            return call.getModel().equals("gpt-4o-mini")
+                    ? new LlmCompletion("정확한 기간은 잘 모르겠습니다.", call.getModel(), "stop", USAGE)
+                    : new LlmCompletion("환불은 7일 이내 가능합니다.", call.getModel(), "stop", USAGE);
+        });
+
+        // then
+        assertThat(models).containsExactly("gpt-4o-mini", "gpt-4o");
+        assertThat(completion.content()).isEqualTo("환불은 7일 이내 가능합니다.");
+        assertThat(router.getStats().escalations()).isEqualTo(1);
+        assertThat(router.getStats().models()).containsKeys("gpt-4o-mini", "gpt-4o");
+    }
+
+    @Test
+    @DisplayName("max_tokens에서 잘린 작은 모델 답변은 더 큰 max_tokens로 큰 모델에 다시 요청")
+    void shouldRaiseMaxTokensWhenEscalatingTruncatedAnswer() {
+        // given
+        var router = router(Map.of(), true);
+        var route = router.route(ExpertMode.GENERAL, "환불 기간은?", false);
+        var calls = new ArrayList<ChatCompletionRequest>();
+
+        // when
+        var completion = router.complete(route, request(), call -> {
+            calls.add(call);
+            return call.getModel().equals("gpt-4o-mini")
+                    ? new LlmCompletion("환불은 구매일로부터", call.getModel(), "length", USAGE)
+                    : new LlmCompletion("환불은 구매일로부터 7일 이내 가능합니다.", call.getModel(), "stop", USAGE);
+        });
+
+        // then
+        assertThat(calls).extracting(ChatCompletionRequest::getModel).containsExactly("gpt-4o-mini", "gpt-4o");
+        assertThat(calls).extracting(ChatCompletionRequest::getMaxTokens).containsExactly(2000, 4000);
+        assertThat(completion.finishReason()).isEqualTo("stop");
+    }
+
+    @Test
+    @DisplayName("확신 있는 작은 모델 답변과 승격 비활성화 시에는 한 번만 호출")
+    void shouldNotEscalateConfidentAnswer() {
+        // given
+        var router = router(Map.of(), false);
+        var route = router.route(ExpertMode.GENERAL, "환불 기간은?", false);
+        var models = new ArrayList<String>();
+
+        // when
+        router.complete(route, request(), call -> {
+            models.add(call.getModel());
+            return new LlmCompletion("", call.getModel(), "length", USAGE);
+        });
+
+        // then
+        assertThat(models).containsExactly("gpt-4o-mini");
+        assertThat(router(Map.of(), true).isLowConfidence(new LlmCompletion("7일 이내 가능합니다.", "gpt-4o-mini", "stop", USAGE)))
+                .isFalse();
+    }
+
+    private static ModelRouter router(Map<String, ModelRoutingProperties.Policy> modes, boolean escalate) {
+        var properties = new ModelRoutingProperties(true, "gpt-4o-mini", null, modes, ModelRoutingProperties.Policy.AUTO,
+                200, null, escalate, null);
+        return new ModelRouter(properties, new OpenAiProperties("test-key", "gpt-4o", 2000, 0.7), new SimpleMeterRegistry());
+    }
+
+    private static ChatCompletionRequest request() {
+        return ChatCompletionRequest.builder()
+                .model("gpt-4o")
+                .messages(List.of(new ChatMessage("user", "환불 기간은?")))
+                .maxTokens(2000)
+                .temperature(0.7)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.service.OrderDomainKnowledgeService.DomainCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 도메인 지식 서비스 테스트
+ */
+@DisplayName("주문 도메인 지식 서비스 테스트")
+class OrderDomainKnowledgeServiceTest {
+
+    private final OrderDomainKnowledgeService service = new OrderDomainKnowledgeService();
+
+    @Test
+    @DisplayName("한 번의 순회로 여러 카테고리 분류 테스트")
+    void shouldClassifyAllCategoriesInSinglePass() {
+        // when
+        var categories = service.classify("장바구니 결제가 실패하고 재고 오류가 납니다");
+
+        // then
+        assertThat(categories).containsExactlyInAnyOrder(
+                DomainCategory.ORDER_STATUS,
+                DomainCategory.STOCK,
+                DomainCategory.PAYMENT,
+                DomainCategory.CART,
+                DomainCategory.ERROR
+        );
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없는 키워드 매칭 테스트")
+    void shouldMatchKeywordsCaseInsensitively() {
+        // when & then
+        assertThat(service.classify("Payment FAILED with an Exception"))
+                .containsExactlyInAnyOrder(DomainCategory.PAYMENT, DomainCategory.ERROR);
+        assertThat(service.classify("Check ORDER Status"))
+                .containsExactly(DomainCategory.ORDER_STATUS);
+    }
+
+    @Test
+    @DisplayName("겹치는 키워드 매칭 테스트 (soldout / stock)")
+    void shouldMatchOverlappingKeywords() {
+        // when & then
+        assertThat(service.classify("item is soldout, restock later"))
+                .containsExactly(DomainCategory.STOCK);
+        assertThat(service.classify("바구니")).containsExactly(DomainCategory.CART);
+    }
+
+    @Test
+    @DisplayName("도메인과 무관한 질문 분류 테스트")
+    void shouldReturnEmptyForUnrelatedMessage() {
+        // when & then
+        assertThat(service.classify("Spring Boot에서 JPA는 어떻게 동작하나요?")).isEmpty();
+        assertThat(service.classify(null)).isEmpty();
+        assertThat(service.buildDomainContext("오늘 날씨 어때?")).isEmpty();
+        assertThat(service.isOrderDomainQuestion("오늘 날씨 어때?")).isFalse();
+    }
+
+    @Test
+    @DisplayName("영문 키워드는 단어 단위로만 매칭")
+    void shouldMatchEnglishKeywordsOnWordBoundaries() {
+        // when & then
+        assertThat(service.classify("CSS border radius")).isEmpty();
+        assertThat(service.classify("reorder the list")).isEmpty();
+        assertThat(service.classify("order가 실패했어요")).contains(DomainCategory.ORDER_STATUS, DomainCategory.ERROR);
+        assertThat(service.classify("pgAdmin 설치")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 신호(주문, 상태 코드, 에러 코드) 없이 일반 단어만 있으면 컨텍스트를 주입하지 않음")
+    void shouldRequireOrderSignalForDomainContext() {
+        // when & then
+        assertThat(service.buildDomainContext("빌드 상태 확인이 완료되면 파일을 생성해 주세요")).isEmpty();
+        assertThat(service.buildDomainContext("CSS border 취소선 스타일")).isEmpty();
+        assertThat(service.isOrderDomainQuestion("결제 모듈 테스트 코드 리뷰")).isFalse();
+
+        assertThat(service.buildDomainContext("WAIT이 뭐야?")).contains("[주문 상태 관리]");
+        assertThat(service.buildDomainContext("1050은 뭐야?")).contains("- 1050: 상품 재고가 부족합니다");
+        assertThat(service.isOrderDomainQuestion("주문이 안 돼요")).isTrue();
+    }
+
+    @Test
+    @DisplayName("상태 코드 신호는 대문자로만 매칭 (wait, done 같은 일반 영단어 제외)")
+    void shouldMatchStatusCodesCaseSensitively() {
+        // when & then
+        assertThat(service.buildDomainContext("please wait until the build is done")).isEmpty();
+        assertThat(service.isOrderDomainQuestion("cancel 버튼 색상 변경")).isFalse();
+        assertThat(service.buildDomainContext("CANCEL 다음에 WAIT로 갈 수 있어?"))
+                .contains("[주문 상태 관리]")
+                .doesNotContain("[에러 코드 및 해결 방법]");
+        assertThat(service.isOrderDomainQuestion("DONE 상태")).isTrue();
+    }
+
+    @Test
+    @DisplayName("도메인 컨텍스트 렌더링 테스트")
+    void shouldRenderDomainContext() {
+        // when
+        String context = service.buildDomainContext("error 1050은 어떤 오류인가요?");
+
+        // then
+        assertThat(context).contains("[에러 코드 및 해결 방법]");
+        assertThat(context).contains("- 1050: 상품 재고가 부족합니다");
+        assertThat(context).doesNotContain("[장바구니 관리]");
+    }
+
+    @Test
+    @DisplayName("주문 상태 컨텍스트는 상태 플로우 순서를 유지")
+    void shouldRenderStatusContextInFlowOrder() {
+        // when
+        String context = service.buildDomainContext("주문 상태");
+
+        // then
+        assertThat(context).contains("- WAIT: 결제 완료, 결제 실패, 주문 취소");
+        assertThat(context.indexOf("- CREATE:")).isLessThan(context.indexOf("- WAIT:"));
+        assertThat(context.indexOf("- WAIT:")).isLessThan(context.indexOf("- DONE:"));
+    }
+
+    @Test
+    @DisplayName("Aho-Corasick 실패 링크 출력 전파 테스트")
+    void shouldPropagateOutputsThroughFailureLinks() {
+        // given
+        enum Category { SHORT, LONG }
+        var automaton = KeywordAutomaton.of(Category.class, java.util.Map.of(
+                Category.SHORT, java.util.List.of("he"),
+                Category.LONG, java.util.List.of("ushers")
+        ));
+
+        // when & then
+        assertThat(automaton.match("ushe")).isEqualTo(EnumSet.of(Category.SHORT));
+        assertThat(automaton.match("USHERS")).isEqualTo(EnumSet.of(Category.SHORT, Category.LONG));
+        assertThat(automaton.match("abc")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 키워드를 같은 순회에서 함께 매칭")
+    void shouldMatchCaseSensitiveKeywordsInSamePass() {
+        // given
+        enum Category { WORD, CODE }
+        var automaton = KeywordAutomaton.ofWholeWords(Category.class,
+                java.util.Map.of(Category.WORD, java.util.List.of("order")),
+                java.util.Map.of(Category.CODE, java.util.List.of("DONE")));
+
+        // when & then
+        assertThat(automaton.match("ORDER is DONE")).isEqualTo(EnumSet.of(Category.WORD, Category.CODE));
+        assertThat(automaton.match("order is done")).isEqualTo(EnumSet.of(Category.WORD));
+        assertThat(automaton.match("UNDONE border")).isEmpty();
+    }
+}
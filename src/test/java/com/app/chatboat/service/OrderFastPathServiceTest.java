@@ -0,0 +1,143 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.FastPathProperties;
+import com.app.chatboat.service.OrderFastPathService.Intent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 질문 Fast-path 서비스 테스트
+ */
+@DisplayName("주문 질문 Fast-path 서비스 테스트")
+class OrderFastPathServiceTest {
+
+    private OrderFastPathService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrderFastPathService(new FastPathProperties(null, null, null), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("에러 코드 질문 응답 테스트")
+    void shouldAnswerErrorCodeQuestion() {
+        // when
+        var answer = service.tryAnswer("what does error 1050 mean");
+
+        // then
+        assertThat(answer).isPresent();
+        assertThat(answer.get().intent()).isEqualTo(Intent.ERROR_CODE);
+        assertThat(answer.get().answer()).isEqualTo("에러 코드 1050: 상품 재고가 부족합니다");
+    }
+
+    @Test
+    @DisplayName("상태별 액션 가능 여부 응답 테스트")
+    void shouldAnswerStatusActionQuestion() {
+        // when
+        var allowed = service.tryAnswer("can I cancel in WAIT status?");
+        var denied = service.tryAnswer("DONE 상태에서 취소할 수 있나요?");
+
+        // then
+        assertThat(allowed).isPresent();
+        assertThat(allowed.get().intent()).isEqualTo(Intent.STATUS_ACTION);
+        assertThat(allowed.get().answer()).startsWith("네, WAIT(결제대기) 상태에서는 주문 취소");
+
+        assertThat(denied).isPresent();
+        assertThat(denied.get().answer()).startsWith("아니요, DONE(결제완료) 상태에서는 취소");
+    }
+
+    @Test
+    @DisplayName("한글 상태명 기반 상태 의미 응답 테스트")
+    void shouldAnswerStatusMeaningWithKoreanLabel() {
+        // when
+        var answer = service.tryAnswer("결제대기 상태가 무슨 의미인가요?");
+
+        // then
+        assertThat(answer).isPresent();
+        assertThat(answer.get().intent()).isEqualTo(Intent.STATUS_MEANING);
+        assertThat(answer.get().answer()).contains("WAIT(결제대기)").contains("결제 처리를 기다리는 상태");
+    }
+
+    @Test
+    @DisplayName("신뢰도가 낮은 질문은 LLM으로 위임")
+    void shouldFallBackWhenConfidenceIsLow() {
+        // when & then
+        assertThat(service.tryAnswer("주문 취소는 어떻게 하나요?")).isEmpty();        // 상태 슬롯 없음
+        assertThat(service.tryAnswer("WAIT 이랑 DONE 차이가 뭔가요?")).isEmpty();      // 상태 슬롯 여러 개
+        assertThat(service.tryAnswer("2024년 주문 통계를 알려주세요")).isEmpty();       // 미등록 숫자
+        assertThat(service.tryAnswer("Spring Boot 트랜잭션 질문입니다")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("금액/수량 숫자는 등록된 에러 코드와 같아도 에러 코드 답변을 하지 않음")
+    void shouldNotTreatAmountsOrCountsAsErrorCodes() {
+        // when & then
+        assertThat(service.tryAnswer("결제 금액 2000원 오류")).isEmpty();
+        assertThat(service.tryAnswer("1000개 주문 오류")).isEmpty();
+        assertThat(service.tryAnswer("회원 2000 명 중 오류가 난 주문")).isEmpty();
+        assertThat(service.tryAnswer("상품 1000 재고 코드 확인 부탁드려요")).isEmpty();   // 단서가 숫자에 붙어 있지 않음
+
+        assertThat(service.tryAnswer("에러 코드 2000")).isPresent();
+        assertThat(service.tryAnswer("1000 에러가 나요")).isPresent();
+    }
+
+    @Test
+    @DisplayName("단서 없는 숫자가 있어도 상태 질문이면 상태 의도로 응답")
+    void shouldPreferStatusIntentOverBareCode() {
+        // when
+        var action = service.tryAnswer("주문 1000 WAIT 상태에서 취소 가능한가요?");
+        var meaning = service.tryAnswer("주문번호 1000 결제대기 상태가 무슨 의미인가요?");
+
+        // then
+        assertThat(action).isPresent();
+        assertThat(action.get().intent()).isEqualTo(Intent.STATUS_ACTION);
+        assertThat(meaning).isPresent();
+        assertThat(meaning.get().intent()).isEqualTo(Intent.STATUS_MEANING);
+        assertThat(service.evaluate("WAIT 상태 주문 1000 확인"))
+                .hasValueSatisfying(answer -> assertThat(answer.intent()).isNotEqualTo(Intent.ERROR_CODE));
+    }
+
+    @Test
+    @DisplayName("질문이 아닌 상태 서술은 LLM으로 위임")
+    void shouldFallBackForStatusStatementWithoutQuestion() {
+        // when & then
+        assertThat(service.tryAnswer("DONE 상태인데 배송이 안 돼요")).isEmpty();
+        assertThat(service.evaluate("DONE 상태인데 배송이 안 돼요"))
+                .hasValueSatisfying(answer -> assertThat(answer.intent()).isEqualTo(Intent.STATUS_ACTION));
+        assertThat(service.tryAnswer("DONE 상태에서 배송 가능한가요")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Fast-path 적중률 집계 테스트")
+    void shouldReportHitRatio() {
+        // given
+        service.tryAnswer("에러 1070 뜻이 뭐야?");
+        service.tryAnswer("WAIT 상태에서 취소 가능?");
+        service.tryAnswer("Java 스트림 질문");
+        service.tryAnswer("주문 취소는 어떻게 하나요?");
+
+        // when
+        var stats = service.getStats();
+
+        // then
+        assertThat(stats.evaluated()).isEqualTo(4);
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+        assertThat(stats.hitsByIntent()).containsEntry("ERROR_CODE", 1L).containsEntry("STATUS_ACTION", 1L);
+    }
+
+    @Test
+    @DisplayName("Fast-path 비활성화 테스트")
+    void shouldSkipWhenDisabled() {
+        // given
+        var disabled = new OrderFastPathService(new FastPathProperties(false, null, null), new SimpleMeterRegistry());
+
+        // when & then
+        assertThat(disabled.tryAnswer("what does error 1050 mean")).isEmpty();
+        assertThat(disabled.getStats().evaluated()).isZero();
+    }
+}
@@ -0,0 +1,169 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.IngestPipelineProperties;
+import com.app.chatboat.entity.PdfDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PDF 수집 파이프라인 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PDF 수집 파이프라인 테스트")
+class PdfIngestPipelineTest {
+
+    @Mock
+    private PdfProcessingService pdfProcessingService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<PdfIngestPipeline> pipelines = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        pipelines.forEach(PdfIngestPipeline::shutdown);
+    }
+
+    @Test
+    @DisplayName("추출/정규화/색인 단계는 각 단계 전용 워커에서 순서대로 실행")
+    void shouldRunStagesOnDedicatedWorkers() throws Exception {
+        // given
+        var pipeline = pipeline(true, Map.of());
+        var document = document();
+        var normalized = new PdfTextNormalizer.NormalizedText("정규화된 본문", 10, 8, 1);
+        var threads = new ArrayList<String>();
+        when(pdfProcessingService.startIngest(1L)).thenReturn(document);
+        when(pdfProcessingService.extract(document)).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return "원문";
+        });
+        when(pdfProcessingService.normalize(document, "원문")).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return normalized;
+        });
+
+        // when
+        pipeline.ingest(1L);
+
+        // then
+        verify(pdfProcessingService).index(document, normalized);
+        assertThat(threads).satisfiesExactly(
+                name -> assertThat(name).startsWith("pdf-extract-"),
+                name -> assertThat(name).startsWith("pdf-normalize-"));
+        var stats = pipeline.getStats().stages();
+        assertThat(stats.get(PdfIngestPipeline.Stage.EXTRACT).processed()).isEqualTo(1);
+        assertThat(stats.get(PdfIngestPipeline.Stage.INDEX).processed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계 예외는 작업 워커로 그대로 전달되고 다음 단계는 실행하지 않음")
+    void shouldPropagateStageFailure() throws Exception {
+        // given
+        var pipeline = pipeline(true, Map.of());
+        var document = document();
+        when(pdfProcessingService.startIngest(1L)).thenReturn(document);
+        when(pdfProcessingService.extract(document)).thenThrow(new IOException("손상된 PDF"));
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.ingest(1L))
+                .isInstanceOf(IOException.class)
+                .hasMessage("손상된 PDF");
+        verify(pdfProcessingService, never()).normalize(any(), any());
+        assertThat(pipeline.getStats().stages().get(PdfIngestPipeline.Stage.EXTRACT).failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계 큐가 가득 차면 앞 단계가 빈자리가 생길 때까지 대기")
+    void shouldApplyBackpressureWhenStageQueueIsFull() throws Exception {
+        // given - 추출 워커 1개, 큐 1칸
+        var pipeline = pipeline(true, Map.of("extract", new IngestPipelineProperties.StageSettings(1, 1)));
+        var release = new CountDownLatch(1);
+        when(pdfProcessingService.startIngest(anyLong())).thenAnswer(invocation -> document());
+        when(pdfProcessingService.extract(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "원문";
+        });
+
+        // when
+        var jobs = new ArrayList<CompletableFuture<Void>>();
+        for (long id = 1; id <= 3; id++) {
+            long pdfId = id;
+            jobs.add(CompletableFuture.runAsync(() -> ingest(pipeline, pdfId), executor));
+        }
+
+        // then - 1건 실행 중, 1건 대기, 나머지 1건은 큐에 들어가지 못함
+        await().until(() -> stats(pipeline).activeWorkers() == 1 && stats(pipeline).queueDepth() == 1);
+        await().untilAsserted(() -> verify(pdfProcessingService, times(3)).startIngest(anyLong()));
+        assertThat(jobs).noneMatch(CompletableFuture::isDone);
+
+        release.countDown();
+        CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(stats(pipeline).processed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 작업 워커 스레드에서 모든 단계를 순서대로 실행")
+    void shouldRunInlineWhenDisabled() throws Exception {
+        // given
+        var pipeline = pipeline(false, Map.of());
+
+        // when
+        pipeline.ingest(1L);
+        pipeline.summarize(1L);
+
+        // then
+        verify(pdfProcessingService).ingest(1L);
+        verify(pdfProcessingService).summarize(1L);
+        assertThat(pipeline.getStats().stages()).isEmpty();
+    }
+
+    private PdfIngestPipeline pipeline(boolean enabled, Map<String, IngestPipelineProperties.StageSettings> stages) {
+        var pipeline = new PdfIngestPipeline(pdfProcessingService, new IngestPipelineProperties(enabled, stages),
+                ObservationRegistry.NOOP, new SimpleMeterRegistry());
+        pipelines.add(pipeline);
+        return pipeline;
+    }
+
+    private static void ingest(PdfIngestPipeline pipeline, long pdfId) {
+        try {
+            pipeline.ingest(pdfId);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PdfIngestPipeline.StageStats stats(PdfIngestPipeline pipeline) {
+        return pipeline.getStats().stages().get(PdfIngestPipeline.Stage.EXTRACT);
+    }
+
+    private static PdfDocument document() {
+        return PdfDocument.builder().id(1L).fileName("manual.pdf").filePath("/tmp/manual.pdf")
+                .status(PdfDocument.ProcessingStatus.PROCESSING).build();
+    }
+}
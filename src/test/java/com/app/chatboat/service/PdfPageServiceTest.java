@@ -0,0 +1,180 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.PdfPage;
+import com.app.chatboat.repository.PdfDocumentInfo;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.repository.PdfPageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PDF 페이지 단위 텍스트 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PDF 페이지 단위 텍스트 서비스 테스트")
+class PdfPageServiceTest {
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    @Mock
+    private PdfPageRepository pdfPageRepository;
+
+    private PdfPageService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PdfPageService(pdfDocumentRepository, pdfPageRepository);
+    }
+
+    @Test
+    @DisplayName("추출 텍스트를 페이지 구분자로 나눠 페이지 번호와 함께 저장하고 문서의 페이지 수 갱신")
+    @SuppressWarnings("unchecked")
+    void shouldSavePagesWithPageNumbers() {
+        // given
+        var document = PdfDocument.builder().id(1L).build();
+        ArgumentCaptor<List<PdfPage>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        int pageCount = service.savePages(document, "표지\n\f목차\n\f본문 내용\n\f");
+
+        // then
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(document.getPageCount()).isEqualTo(3);
+        verify(pdfDocumentRepository).save(document);
+        verify(pdfPageRepository).deleteByPdfDocumentId(1L);
+        verify(pdfPageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(PdfPage::getPageNumber).containsExactly(1, 2, 3);
+        assertThat(captor.getValue()).extracting(PdfPage::getText).containsExactly("표지", "목차", "본문 내용");
+    }
+
+    @Test
+    @DisplayName("페이지 범위 요청 시 문서 본문 없이 해당 페이지만 조회")
+    void shouldReadOnlyRequestedPages() {
+        // given
+        when(pdfDocumentRepository.findInfoById(1L)).thenReturn(Optional.of(info(60)));
+        when(pdfPageRepository.findByPdfDocumentIdAndPageNumberBetweenOrderByPageNumber(1L, 40, 55))
+                .thenReturn(List.of(page(40, "사십 페이지"), page(41, "사십일 페이지")));
+
+        // when
+        var selection = service.getPages(1L, 40, 55);
+
+        // then
+        assertThat(selection.label()).isEqualTo("p.40-55");
+        assertThat(selection.text()).contains("[p.40]\n사십 페이지", "[p.41]\n사십일 페이지");
+        verify(pdfDocumentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지를 넘는 범위는 문서 끝까지로 조정")
+    void shouldClampRangeToPageCount() {
+        // given
+        when(pdfDocumentRepository.findInfoById(1L)).thenReturn(Optional.of(info(10)));
+        when(pdfPageRepository.findByPdfDocumentIdAndPageNumberBetweenOrderByPageNumber(1L, 8, 10))
+                .thenReturn(List.of(page(8, "8"), page(9, "9"), page(10, "10")));
+
+        // when
+        var selection = service.getPages(1L, 8, 99);
+
+        // then
+        assertThat(selection.to()).isEqualTo(10);
+        assertThat(selection.pages()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("잘못된 페이지 범위는 거절")
+    void shouldRejectInvalidRange() {
+        // given
+        when(pdfDocumentRepository.findInfoById(1L)).thenReturn(Optional.of(info(10)));
+
+        // when & then
+        assertThatThrownBy(() -> service.getPages(1L, 11, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getPages(1L, 5, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("페이지 저장 이전에 처리된 문서는 최초 조회 시 페이지를 백필")
+    void shouldBackfillPagesForLegacyDocument() {
+        // given
+        var legacy = PdfDocument.builder()
+                .id(1L)
+                .fileName("legacy.pdf")
+                .extractedText("첫 페이지\f둘째 페이지\f")
+                .status(PdfDocument.ProcessingStatus.COMPLETED)
+                .build();
+        when(pdfDocumentRepository.findInfoById(1L)).thenReturn(Optional.of(info(null)));
+        when(pdfDocumentRepository.findById(1L)).thenReturn(Optional.of(legacy));
+        when(pdfPageRepository.findByPdfDocumentIdAndPageNumberBetweenOrderByPageNumber(1L, 2, 2))
+                .thenReturn(List.of(page(2, "둘째 페이지")));
+
+        // when
+        var selection = service.getPages(1L, 2, null);
+
+        // then
+        assertThat(selection.pageCount()).isEqualTo(2);
+        assertThat(legacy.getPageCount()).isEqualTo(2);
+        verify(pdfDocumentRepository).save(legacy);
+    }
+
+    private static PdfPage page(int pageNumber, String text) {
+        return PdfPage.builder().pdfDocumentId(1L).pageNumber(pageNumber).text(text).build();
+    }
+
+    private static PdfDocumentInfo info(Integer pageCount) {
+        return new PdfDocumentInfo() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public String getOriginalFileName() {
+                return "manual.pdf";
+            }
+
+            @Override
+            public LocalDateTime getUploadedAt() {
+                return LocalDateTime.of(2025, 9, 1, 10, 0);
+            }
+
+            @Override
+            public String getSummary() {
+                return null;
+            }
+
+            @Override
+            public PdfDocument.ProcessingStatus getStatus() {
+                return PdfDocument.ProcessingStatus.COMPLETED;
+            }
+
+            @Override
+            public Integer getPageCount() {
+                return pageCount;
+            }
+
+            @Override
+            public String getContentHash() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.TextNormalizationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PDF 추출 텍스트 정규화 테스트
+ */
+@DisplayName("PDF 추출 텍스트 정규화 테스트")
+class PdfTextNormalizerTest {
+
+    private final PdfTextNormalizer normalizer =
+            new PdfTextNormalizer(new TextNormalizationProperties(null, null, null, null), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("여러 페이지에 반복되는 머리글/바닥글과 쪽 번호를 제거하고 페이지 구분은 유지")
+    void shouldStripRepeatedHeadersAndFooters() {
+        // given
+        String[] bodies = {"배송 정책 안내", "환불 절차 안내", "교환 기준 안내", "고객센터 운영 시간"};
+        var raw = new StringBuilder();
+        for (int page = 1; page <= bodies.length; page++) {
+            raw.append("ACME 주문 운영 매뉴얼 v2\n")
+                    .append(bodies[page - 1]).append('\n')
+                    .append(bodies[page - 1]).append(" 상세 설명\n")
+                    .append("- ").append(page).append(" -\n")
+                    .append(DocumentRetrievalService.PAGE_BREAK);
+        }
+
+        // when
+        var result = normalizer.normalize(raw.toString());
+
+        // then
+        var pages = PdfPageService.splitPages(result.text());
+        assertThat(pages).hasSize(4);
+        assertThat(pages.getFirst()).isEqualTo("배송 정책 안내\n배송 정책 안내 상세 설명");
+        assertThat(pages).noneMatch(page -> page.contains("ACME") || page.contains("- 2 -"));
+        assertThat(result.removedLines()).isEqualTo(8);
+        assertThat(result.tokensSaved()).isPositive();
+    }
+
+    @Test
+    @DisplayName("본문 중간에 나오는 반복 문구는 유지")
+    void shouldKeepRepeatedLinesInsideBody() {
+        // given
+        var raw = new StringBuilder();
+        for (int page = 1; page <= 3; page++) {
+            raw.append("첫 줄 ").append(page).append('\n')
+                    .append("둘째 줄\n셋째 줄\n")
+                    .append("주의: 환불은 7일 이내\n")
+                    .append("다섯째 줄\n여섯째 줄\n마지막 줄 ").append(page).append("\n")
+                    .append(DocumentRetrievalService.PAGE_BREAK);
+        }
+        var properties = new TextNormalizationProperties(true, 2, 0.5, 3);
+        var narrowEdges = new PdfTextNormalizer(properties, new SimpleMeterRegistry());
+
+        // when
+        var result = narrowEdges.normalize(raw.toString());
+
+        // then
+        assertThat(PdfPageService.splitPages(result.text())).allSatisfy(page -> assertThat(page).contains("주의: 환불은 7일 이내"));
+    }
+
+    @Test
+    @DisplayName("하이픈 줄바꿈 결합, 공백 축약, 한글 NFC 정규화")
+    void shouldJoinHyphenationCollapseWhitespaceAndComposeHangul() {
+        // given
+        String decomposed = Normalizer.normalize("배송 정책", Normalizer.Form.NFD);
+        String raw = "The order infor-\nmation   is\t\tupdated.\n\n\n\n" + decomposed + " 안내\n" + DocumentRetrievalService.PAGE_BREAK;
+
+        // when
+        var result = normalizer.normalize(raw);
+
+        // then
+        assertThat(PdfPageService.splitPages(result.text()))
+                .containsExactly("The order information is updated.\n\n배송 정책 안내");
+        assertThat(result.text()).isEqualTo(Normalizer.normalize(result.text(), Normalizer.Form.NFC));
+    }
+
+    @Test
+    @DisplayName("빈 페이지도 페이지 구분자를 유지해 페이지 번호가 바뀌지 않음")
+    void shouldPreservePageNumbering() {
+        // given
+        String raw = "1쪽\n" + DocumentRetrievalService.PAGE_BREAK + "   \n" + DocumentRetrievalService.PAGE_BREAK
+                + "셋째 페이지\n" + DocumentRetrievalService.PAGE_BREAK;
+
+        // when
+        var result = normalizer.normalize(raw);
+
+        // then
+        assertThat(PdfPageService.splitPages(result.text())).containsExactly("", "", "셋째 페이지");
+    }
+}
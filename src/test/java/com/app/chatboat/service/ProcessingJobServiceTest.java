@@ -0,0 +1,235 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.JobQueueProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.entity.ProcessingJob;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.repository.ProcessingJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PDF 처리 작업 큐 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PDF 처리 작업 큐 테스트")
+class ProcessingJobServiceTest {
+
+    private static final String WORKER = "worker-a";
+
+    @Mock
+    private ProcessingJobRepository processingJobRepository;
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("버전 비교 점유 시 다른 워커가 먼저 가져간 작업은 건너뜀")
+    void shouldSkipJobsClaimedByOtherWorkers() {
+        // given
+        var service = service(JobQueueProperties.ClaimMode.COMPARE_AND_SET);
+        var first = job(1L, ProcessingJob.JobStatus.PENDING, 0);
+        var second = job(2L, ProcessingJob.JobStatus.PENDING, 0);
+        when(processingJobRepository.findClaimable(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(first, second));
+        when(processingJobRepository.saveAndFlush(first))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ProcessingJob.class, 1L));
+        when(processingJobRepository.saveAndFlush(second)).thenReturn(second);
+
+        // when
+        var claimed = service.claim(WORKER, 2);
+
+        // then
+        assertThat(claimed).containsExactly(second);
+        assertThat(second.getStatus()).isEqualTo(ProcessingJob.JobStatus.RUNNING);
+        assertThat(second.getLeaseOwner()).isEqualTo(WORKER);
+        assertThat(second.getAttempts()).isEqualTo(1);
+        assertThat(second.getLeaseExpiresAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("SKIP LOCKED 점유는 트랜잭션 안에서 잠근 행을 점유하고, 리스 만료 후 시도 횟수를 모두 쓴 작업은 DEAD 처리")
+    @SuppressWarnings("unchecked")
+    void shouldClaimLockedRowsAndDeadLetterExhaustedLeases() {
+        // given
+        var service = service(JobQueueProperties.ClaimMode.SKIP_LOCKED);
+        var pending = job(1L, ProcessingJob.JobStatus.PENDING, 0);
+        var abandoned = job(2L, ProcessingJob.JobStatus.RUNNING, 3);
+        var document = PdfDocument.builder().id(20L).status(PdfDocument.ProcessingStatus.PROCESSING).build();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<List<ProcessingJob>>) invocation.getArgument(0)).doInTransaction(null));
+        when(processingJobRepository.lockClaimable(any(LocalDateTime.class), anyInt())).thenReturn(List.of(pending, abandoned));
+        when(processingJobRepository.save(any(ProcessingJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(pdfDocumentRepository.findById(20L)).thenReturn(Optional.of(document));
+
+        // when
+        var claimed = service.claim(WORKER, 4);
+
+        // then
+        assertThat(claimed).containsExactly(pending);
+        assertThat(abandoned.getStatus()).isEqualTo(ProcessingJob.JobStatus.DEAD);
+        assertThat(document.getStatus()).isEqualTo(PdfDocument.ProcessingStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 지수 백오프 후 재시도 대기열로 복귀")
+    void shouldScheduleRetryWithBackoff() {
+        // given
+        var service = service(JobQueueProperties.ClaimMode.COMPARE_AND_SET);
+        var running = job(1L, ProcessingJob.JobStatus.RUNNING, 2);
+        running.setLeaseOwner(WORKER);
+        when(processingJobRepository.findById(1L)).thenReturn(Optional.of(running));
+
+        // when
+        boolean recorded = service.fail(1L, WORKER, new IOException("손상된 PDF"));
+
+        // then
+        assertThat(recorded).isTrue();
+        assertThat(running.getStatus()).isEqualTo(ProcessingJob.JobStatus.PENDING);
+        assertThat(running.getLeaseOwner()).isNull();
+        assertThat(running.getLastError()).isEqualTo("손상된 PDF");
+        assertThat(running.getAvailableAt()).isAfter(LocalDateTime.now().plusSeconds(15));
+        assertThat(service.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(service.backoff(3)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(service.backoff(30)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘긴 작업은 DEAD로 옮기고 문서를 실패 처리")
+    void shouldDeadLetterAfterMaxAttempts() {
+        // given
+        var service = service(JobQueueProperties.ClaimMode.COMPARE_AND_SET);
+        var running = job(1L, ProcessingJob.JobStatus.RUNNING, 3);
+        running.setLeaseOwner(WORKER);
+        var document = PdfDocument.builder().id(20L).status(PdfDocument.ProcessingStatus.PROCESSING).build();
+        when(processingJobRepository.findById(1L)).thenReturn(Optional.of(running));
+        when(pdfDocumentRepository.findById(20L)).thenReturn(Optional.of(document));
+
+        // when
+        service.fail(1L, WORKER, new IllegalStateException("추출 실패"));
+
+        // then
+        assertThat(running.getStatus()).isEqualTo(ProcessingJob.JobStatus.DEAD);
+        assertThat(document.getStatus()).isEqualTo(PdfDocument.ProcessingStatus.FAILED);
+        assertThat(document.getErrorMessage()).isEqualTo("추출 실패");
+    }
+
+    @Test
+    @DisplayName("리스를 잃은 워커의 완료 보고는 무시")
+    void shouldIgnoreCompletionFromWorkerThatLostLease() {
+        // given
+        var service = service(JobQueueProperties.ClaimMode.COMPARE_AND_SET);
+        // 다른 워커가 다시 점유해 리스 소유자 조건이 맞지 않음
+        when(processingJobRepository.markSucceeded(eq(1L), eq(WORKER), any(LocalDateTime.class))).thenReturn(0);
+        when(processingJobRepository.extendLease(eq(1L), eq(WORKER), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        boolean completed = service.complete(1L, WORKER);
+        var lost = service.heartbeat(WORKER, List.of(1L));
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(lost).containsExactly(1L);
+        verify(processingJobRepository, never()).save(argThat(job -> job.getStatus() == ProcessingJob.JobStatus.SUCCEEDED));
+    }
+
+    @Test
+    @DisplayName("완료 기록과 같은 시점의 하트비트는 버전 충돌 없이 둘 다 반영")
+    void shouldCompleteWhileHeartbeatExtendsLease() throws Exception {
+        // given - 하트비트가 리스를 연장하는 도중에 완료 기록
+        var service = service(JobQueueProperties.ClaimMode.COMPARE_AND_SET);
+        var heartbeatStarted = new CountDownLatch(1);
+        var completeDone = new CountDownLatch(1);
+        when(processingJobRepository.extendLease(eq(1L), eq(WORKER), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            heartbeatStarted.countDown();
+            completeDone.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        when(processingJobRepository.markSucceeded(eq(1L), eq(WORKER), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        var heartbeat = CompletableFuture.supplyAsync(() -> service.heartbeat(WORKER, List.of(1L)));
+        heartbeatStarted.await(5, TimeUnit.SECONDS);
+        boolean completed = service.complete(1L, WORKER);
+        completeDone.countDown();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(heartbeat.get(5, TimeUnit.SECONDS)).isEmpty();
+        verify(processingJobRepository, never()).findById(any());
+        verify(processingJobRepository, never()).save(any(ProcessingJob.class));
+    }
+
+    @Test
+    @DisplayName("실패 기록 중 하트비트로 버전이 바뀌면 다시 읽어 재시도")
+    void shouldRetryFailureReportOnVersionConflict() {
+        // given
+        var service = service(JobQueueProperties.ClaimMode.COMPARE_AND_SET);
+        var stale = job(1L, ProcessingJob.JobStatus.RUNNING, 1);
+        stale.setLeaseOwner(WORKER);
+        var reloaded = job(1L, ProcessingJob.JobStatus.RUNNING, 1);
+        reloaded.setLeaseOwner(WORKER);
+        reloaded.setVersion(1L);
+        when(processingJobRepository.findById(1L)).thenReturn(Optional.of(stale), Optional.of(reloaded));
+        when(processingJobRepository.save(stale)).thenThrow(new ObjectOptimisticLockingFailureException(ProcessingJob.class, 1L));
+        when(processingJobRepository.save(reloaded)).thenReturn(reloaded);
+
+        // when
+        boolean recorded = service.fail(1L, WORKER, new IOException("손상된 PDF"));
+
+        // then
+        assertThat(recorded).isTrue();
+        assertThat(reloaded.getStatus()).isEqualTo(ProcessingJob.JobStatus.PENDING);
+        assertThat(reloaded.getLastError()).isEqualTo("손상된 PDF");
+        verify(processingJobRepository, times(2)).findById(1L);
+    }
+
+    private ProcessingJobService service(JobQueueProperties.ClaimMode claimMode) {
+        var properties = new JobQueueProperties(true, claimMode, 4, Duration.ofMinutes(2), 3,
+                Duration.ofSeconds(10), Duration.ofMinutes(10));
+        return new ProcessingJobService(processingJobRepository, pdfDocumentRepository, properties, transactionTemplate);
+    }
+
+    private static ProcessingJob job(Long id, ProcessingJob.JobStatus status, int attempts) {
+        return ProcessingJob.builder()
+                .id(id)
+                .type(ProcessingJob.JobType.INGEST)
+                .pdfDocumentId(20L)
+                .status(status)
+                .attempts(attempts)
+                .maxAttempts(3)
+                .availableAt(LocalDateTime.now().minusSeconds(1))
+                .leaseExpiresAt(status == ProcessingJob.JobStatus.RUNNING ? LocalDateTime.now().minusSeconds(1) : null)
+                .createdAt(LocalDateTime.now().minusMinutes(1))
+                .version(0L)
+                .build();
+    }
+}
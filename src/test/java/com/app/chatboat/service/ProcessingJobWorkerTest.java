@@ -0,0 +1,103 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.JobQueueProperties;
+import com.app.chatboat.entity.ProcessingJob;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PDF 처리 작업 워커 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PDF 처리 작업 워커 테스트")
+class ProcessingJobWorkerTest {
+
+    @Mock
+    private ProcessingJobService processingJobService;
+
+    @Mock
+    private PdfIngestPipeline pdfIngestPipeline;
+
+    private ProcessingJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new JobQueueProperties(true, JobQueueProperties.ClaimMode.COMPARE_AND_SET, 2,
+                Duration.ofMinutes(2), 3, Duration.ofSeconds(10), Duration.ofMinutes(10));
+        worker = new ProcessingJobWorker(processingJobService, pdfIngestPipeline, properties, ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("완료 기록 오류는 실패로 보고하지 않음 (성공한 작업을 재시도하지 않음)")
+    void shouldNotReportFailureWhenCompletionRecordFails() throws Exception {
+        // given - 하트비트와 겹쳐 완료 기록이 버전 충돌
+        when(processingJobService.claim(anyString(), anyInt())).thenReturn(List.of(job()));
+        doThrow(new ObjectOptimisticLockingFailureException(ProcessingJob.class, 1L))
+                .when(processingJobService).complete(eq(1L), anyString());
+
+        // when
+        worker.poll();
+
+        // then
+        await().untilAsserted(() -> verify(processingJobService).complete(eq(1L), anyString()));
+        worker.shutdown();
+        verify(pdfIngestPipeline).ingest(20L);
+        verify(processingJobService, never()).fail(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("단계 실행 실패는 실패로 보고하고 완료 기록하지 않음")
+    void shouldReportFailureWhenStageFails() throws Exception {
+        // given
+        var error = new IOException("손상된 PDF");
+        when(processingJobService.claim(anyString(), anyInt())).thenReturn(List.of(job()));
+        doThrow(error).when(pdfIngestPipeline).ingest(20L);
+
+        // when
+        worker.poll();
+
+        // then
+        await().untilAsserted(() -> verify(processingJobService).fail(eq(1L), anyString(), eq(error)));
+        verify(processingJobService, never()).complete(any(), any());
+    }
+
+    private static ProcessingJob job() {
+        return ProcessingJob.builder()
+                .id(1L)
+                .type(ProcessingJob.JobType.INGEST)
+                .pdfDocumentId(20L)
+                .status(ProcessingJob.JobStatus.RUNNING)
+                .attempts(1)
+                .maxAttempts(3)
+                .leaseOwner("worker-a")
+                .leaseExpiresAt(LocalDateTime.now().plusMinutes(2))
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.FastPathProperties;
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.enums.ExpertMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프롬프트 구성 레이어 테스트
+ */
+@DisplayName("프롬프트 구성 레이어 테스트")
+class PromptLayoutTest {
+
+    @Test
+    @DisplayName("세그먼트를 안정성 순서로 배치")
+    void shouldOrderSegmentsFromMostStableToLeastStable() {
+        // given
+        var layout = PromptLayout.builder()
+                .question("질문")
+                .context("문서 정보")
+                .document("문서 본문")
+                .instructions("전문가 프롬프트")
+                .build();
+
+        // when
+        var messages = layout.toMessages();
+
+        // then
+        assertThat(messages).extracting("content")
+                .containsExactly("전문가 프롬프트", "문서 본문", "문서 정보", "질문");
+        assertThat(messages).extracting("role")
+                .containsExactly("system", "system", "system", "user");
+    }
+
+    @Test
+    @DisplayName("빈 세그먼트는 제외")
+    void shouldSkipBlankSegments() {
+        // when
+        var layout = PromptLayout.builder()
+                .instructions("지침")
+                .context("")
+                .question("질문")
+                .build();
+
+        // then
+        assertThat(layout.toMessages()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("같은 문서에 대한 후속 질문은 안정 prefix가 동일")
+    void shouldKeepStablePrefixAcrossTurns() {
+        // given
+        var chatGptService = new ChatGptService(
+                new OpenAiProperties("test-key", "gpt-4o", 2000, 0.7),
+                null,
+                new OrderDomainKnowledgeService(),
+                new OrderFastPathService(new FastPathProperties(null, null, null), new SimpleMeterRegistry()),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+        var document = PdfDocument.builder()
+                .originalFileName("manual.pdf")
+                .extractedText("주문 처리 매뉴얼 본문")
+                .summary("매뉴얼 요약")
+                .uploadedAt(LocalDateTime.of(2025, 9, 1, 10, 0))
+                .status(PdfDocument.ProcessingStatus.COMPLETED)
+                .build();
+
+        // when
+        var first = chatGptService.buildPdfPrompt(ExpertMode.JAVA, document, "첫 번째 질문");
+        var second = chatGptService.buildPdfPrompt(ExpertMode.JAVA, document, "두 번째 질문입니다");
+
+        // then
+        assertThat(first.stablePrefixFingerprint()).isEqualTo(second.stablePrefixFingerprint());
+        assertThat(first.toMessages().subList(0, 3)).isEqualTo(second.toMessages().subList(0, 3));
+        assertThat(first.toMessages().get(0).getContent()).startsWith(ExpertMode.JAVA.getPrompt());
+        assertThat(first.toMessages().get(1).getContent()).contains("주문 처리 매뉴얼 본문");
+        assertThat(first.toMessages().get(2).getContent()).contains("manual.pdf");
+    }
+
+    @Test
+    @DisplayName("usage 응답에서 캐시 토큰 추출")
+    void shouldReadCachedTokensFromUsage() throws Exception {
+        // given
+        var response = new ObjectMapper().readTree("""
+                {"usage": {"prompt_tokens": 2006, "completion_tokens": 300,
+                           "prompt_tokens_details": {"cached_tokens": 1920}}}
+                """);
+        var metrics = new PromptCacheMetrics(new SimpleMeterRegistry());
+
+        // when
+        var usage = LlmUsage.from(response);
+        metrics.record(usage);
+
+        // then
+        assertThat(usage.cachedPromptTokens()).isEqualTo(1920);
+        assertThat(usage.uncachedPromptTokens()).isEqualTo(86);
+        assertThat(metrics.getStats().cachedRatio()).isEqualTo(1920.0 / 2006);
+        assertThat(LlmUsage.from(new ObjectMapper().readTree("{}"))).isEqualTo(LlmUsage.EMPTY);
+    }
+}
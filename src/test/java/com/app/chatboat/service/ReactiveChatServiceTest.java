@@ -0,0 +1,123 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.AnswerCacheProperties;
+import com.app.chatboat.config.DocumentContextCacheProperties;
+import com.app.chatboat.config.FastPathProperties;
+import com.app.chatboat.config.LlmSchedulerProperties;
+import com.app.chatboat.config.ModelRoutingProperties;
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.config.ReactiveChatProperties;
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.dto.PdfChatRequest;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리액티브 채팅 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("리액티브 채팅 서비스 테스트")
+class ReactiveChatServiceTest {
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    private ReactiveChatService reactiveChatService;
+
+    @BeforeEach
+    void setUp() {
+        var openAiProperties = new OpenAiProperties("test-key", "gpt-4o", 2000, 0.7);
+        var orderFastPathService = new OrderFastPathService(new FastPathProperties(null, null, null), new SimpleMeterRegistry());
+        var promptCacheMetrics = new PromptCacheMetrics(new SimpleMeterRegistry());
+        var pdfPageService = new PdfPageService(pdfDocumentRepository, null);
+        var documentContextCache = new DocumentContextCache(pdfDocumentRepository,
+                new DocumentContextCacheProperties(false, null, null, null), new SimpleMeterRegistry());
+        var llmCallScheduler = new LlmCallScheduler(new LlmSchedulerProperties(false, null, null, null, null), new SimpleMeterRegistry());
+        var chatGptService = new ChatGptService(
+                openAiProperties,
+                documentContextCache,
+                new OrderDomainKnowledgeService(),
+                orderFastPathService,
+                new OpenAiGateway(openAiProperties, promptCacheMetrics, ObservationRegistry.NOOP, llmCallScheduler),
+                pdfPageService,
+                new AnswerCacheService(null, new AnswerCacheProperties(false, null, null, null, null), new SimpleMeterRegistry()),
+                new TokenUsageService(null, new UsageProperties(false, null, null, null, null, null, null, null), new SimpleMeterRegistry()),
+                ObservationRegistry.NOOP,
+                new ModelRouter(new ModelRoutingProperties(false, null, null, null, null, null, null, null, null),
+                        openAiProperties, new SimpleMeterRegistry())
+        );
+        reactiveChatService = new ReactiveChatService(
+                openAiProperties,
+                documentContextCache,
+                orderFastPathService,
+                chatGptService,
+                new ReactiveOpenAiClient(openAiProperties, new ReactiveChatProperties(null, null),
+                        promptCacheMetrics, llmCallScheduler, WebClient.builder()),
+                pdfPageService
+        );
+    }
+
+    @Test
+    @DisplayName("빈 메시지는 LLM 호출 없이 안내 메시지 반환")
+    void shouldRejectBlankMessage() {
+        // when
+        String result = reactiveChatService.sendMessage(" ").block();
+
+        // then
+        assertThat(result).isEqualTo("메시지를 입력해주세요.");
+    }
+
+    @Test
+    @DisplayName("주문 Fast-path 질문은 스트리밍에서도 단일 청크로 응답")
+    void shouldStreamFastPathAnswerAsSingleChunk() {
+        // when
+        var chunks = reactiveChatService.streamMessage("what does error 1050 mean").collectList().block();
+
+        // then
+        assertThat(chunks).containsExactly("에러 코드 1050: 상품 재고가 부족합니다");
+    }
+
+    @Test
+    @DisplayName("처리 중인 PDF는 LLM 호출 없이 안내 메시지 반환")
+    void shouldAnswerLocallyWhenPdfIsNotProcessed() {
+        // given
+        var document = PdfDocument.builder()
+                .id(1L)
+                .status(PdfDocument.ProcessingStatus.PROCESSING)
+                .build();
+        when(pdfDocumentRepository.findById(1L)).thenReturn(Optional.of(document));
+
+        // when
+        String result = reactiveChatService.sendMessageWithPdf(PdfChatRequest.user("요약해주세요", 1L)).block();
+
+        // then
+        assertThat(result).isEqualTo("PDF 처리가 완료되지 않았습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Test
+    @DisplayName("PDF 조회 실패 시 오류 메시지 반환")
+    void shouldReturnErrorMessageWhenPdfIsMissing() {
+        // given
+        when(pdfDocumentRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when
+        String result = reactiveChatService.sendMessageWithPdf(PdfChatRequest.user("요약해주세요", 99L)).block();
+
+        // then
+        assertThat(result).isEqualTo("죄송합니다. 현재 서비스에 문제가 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,142 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.AnswerCacheProperties;
+import com.app.chatboat.config.OpenAiProperties;
+import com.app.chatboat.dto.ChatRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스트리밍 채팅 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("스트리밍 채팅 서비스 테스트")
+class StreamingChatServiceTest {
+
+    @Mock
+    private ChatGptService chatGptService;
+
+    @Mock
+    private OrderFastPathService orderFastPathService;
+
+    @Mock
+    private OpenAiGateway openAiGateway;
+
+    @Mock
+    private ModelRouter modelRouter;
+
+    @Mock
+    private TokenUsageService tokenUsageService;
+
+    private StreamingChatService streamingChatService;
+
+    @BeforeEach
+    void setUp() {
+        streamingChatService = new StreamingChatService(
+                new OpenAiProperties("test-key", "gpt-4o", 2000, 0.7),
+                chatGptService,
+                null,
+                null,
+                orderFastPathService,
+                openAiGateway,
+                modelRouter,
+                new AnswerCacheService(null, new AnswerCacheProperties(false, null, null, null, null), new SimpleMeterRegistry()),
+                tokenUsageService
+        );
+        var request = ChatCompletionRequest.builder()
+                .model("gpt-4o")
+                .messages(List.of(new ChatMessage("user", "abcdefgh")))
+                .build();
+        when(chatGptService.createRequest(any())).thenReturn(request);
+        when(modelRouter.route(any(), any(), anyBoolean()))
+                .thenReturn(new ModelRouter.Route("gpt-4o", ModelRouter.Tier.LARGE, "default"));
+    }
+
+    @Test
+    @DisplayName("수신 측이 스트림을 중간에 취소해도 이미 생성된 토큰을 추정해 사용량에 기록")
+    void shouldRecordPartialUsageWhenCancelled() {
+        // given
+        when(openAiGateway.stream(any(), any(Duration.class), any())).thenAnswer(invocation -> {
+            Consumer<String> onDelta = invocation.getArgument(2);
+            onDelta.accept("1234");
+            onDelta.accept("5678");
+            onDelta.accept("90ab");
+            return new LlmCompletion("1234567890ab", "gpt-4o", "stop", new LlmUsage(10, 0, 3));
+        });
+        var received = new ArrayList<String>();
+        var listener = new StreamingChatService.Listener() {
+            @Override
+            public void onDelta(String text) {
+                received.add(text);
+                if (received.size() == 2) {
+                    throw new CancellationException("교환 중단");
+                }
+            }
+
+            @Override
+            public void onError(String message) {
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> streamingChatService.streamMessage(ChatRequest.user("질문"), listener))
+                .isInstanceOf(CancellationException.class);
+
+        var usage = ArgumentCaptor.forClass(LlmUsage.class);
+        verify(tokenUsageService).record(eq("general"), usage.capture());
+        assertThat(usage.getValue().promptTokens()).isEqualTo(2);
+        assertThat(usage.getValue().completionTokens()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스트림이 끝까지 완료되면 응답의 usage를 그대로 기록")
+    void shouldRecordReportedUsageWhenCompleted() {
+        // given
+        var reported = new LlmUsage(120, 20, 30);
+        when(openAiGateway.stream(any(), any(Duration.class), any())).thenAnswer(invocation -> {
+            Consumer<String> onDelta = invocation.getArgument(2);
+            onDelta.accept("응답");
+            return new LlmCompletion("응답", "gpt-4o", "stop", reported);
+        });
+        var received = new ArrayList<String>();
+        var listener = new StreamingChatService.Listener() {
+            @Override
+            public void onDelta(String text) {
+                received.add(text);
+            }
+
+            @Override
+            public void onError(String message) {
+            }
+        };
+
+        // when
+        streamingChatService.streamMessage(ChatRequest.user("질문"), listener);
+
+        // then
+        assertThat(received).containsExactly("응답");
+        verify(tokenUsageService).record("general", reported);
+    }
+}
@@ -0,0 +1,143 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.SummaryCacheProperties;
+import com.app.chatboat.dto.PdfSummaryRequest;
+import com.app.chatboat.entity.SummaryResult;
+import com.app.chatboat.repository.SummaryResultRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 정의 요약 결과 캐시 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사용자 정의 요약 결과 캐시 테스트")
+class SummaryCacheServiceTest {
+
+    private static final String CONTENT_HASH = SummaryCacheService.contentHash("문서 본문");
+
+    @Mock
+    private SummaryResultRepository summaryResultRepository;
+
+    private SummaryCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SummaryCacheService(summaryResultRepository, new SummaryCacheProperties(true), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("저장된 결과가 있으면 요약을 생성하지 않고 반환")
+    void shouldReturnStoredSummary() {
+        // given
+        when(summaryResultRepository.findById(anyString())).thenReturn(Optional.of(row("저장된 요약")));
+
+        // when
+        String summary = service.getOrCompute(request("위험 요소만 정리해줘", false), CONTENT_HASH, "gpt-4o", () -> {
+            throw new AssertionError("호출되면 안 됨");
+        });
+
+        // then
+        assertThat(summary).isEqualTo("저장된 요약");
+        assertThat(service.getStats().hits()).isEqualTo(1);
+        verify(summaryResultRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("미적중 시 생성한 요약을 문서 ID, 내용 해시, 모델과 함께 저장")
+    void shouldStoreComputedSummaryOnMiss() {
+        // given
+        when(summaryResultRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        // when
+        String summary = service.getOrCompute(request("위험 요소만 정리해줘", false), CONTENT_HASH, "gpt-4o", () -> "새 요약");
+
+        // then
+        assertThat(summary).isEqualTo("새 요약");
+        var captor = ArgumentCaptor.forClass(SummaryResult.class);
+        verify(summaryResultRepository).save(captor.capture());
+        assertThat(captor.getValue().getPdfDocumentId()).isEqualTo(1L);
+        assertThat(captor.getValue().getContentHash()).isEqualTo(CONTENT_HASH);
+        assertThat(captor.getValue().getModel()).isEqualTo("gpt-4o");
+        assertThat(service.getStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("forceRefresh 요청은 조회하지 않고 새로 생성한 결과로 덮어씀")
+    void shouldBypassLookupOnForceRefresh() {
+        // when
+        String summary = service.getOrCompute(request("위험 요소만 정리해줘", true), CONTENT_HASH, "gpt-4o", () -> "갱신된 요약");
+
+        // then
+        assertThat(summary).isEqualTo("갱신된 요약");
+        verify(summaryResultRepository, never()).findById(anyString());
+        verify(summaryResultRepository).save(any(SummaryResult.class));
+        assertThat(service.getStats().refreshes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장소 장애 시 미적중으로 처리하고, 내용 해시가 없는 문서는 캐시하지 않음")
+    void shouldFallBackToLoader() {
+        // given
+        when(summaryResultRepository.findById(anyString())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        String summary = service.getOrCompute(request(null, false), CONTENT_HASH, "gpt-4o", () -> "생성된 요약");
+
+        // then
+        assertThat(summary).isEqualTo("생성된 요약");
+        assertThat(service.getStats().misses()).isEqualTo(1);
+
+        String legacy = service.getOrCompute(request(null, false), null, "gpt-4o", () -> "이전 문서 요약");
+        assertThat(legacy).isEqualTo("이전 문서 요약");
+        verify(summaryResultRepository, times(1)).findById(anyString());
+        assertThat(service.getStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("공백 차이만 있는 프롬프트는 같은 키, 페이지 범위나 모델이 다르면 다른 키")
+    void shouldNormalizePromptForKey() {
+        // given
+        String prompt = SummaryCacheService.promptHash("위험 요소만 정리해줘");
+
+        // when & then
+        assertThat(SummaryCacheService.promptHash("  위험 요소만\n  정리해줘 ")).isEqualTo(prompt);
+        assertThat(SummaryCacheService.key(CONTENT_HASH, 1, 10, prompt, "gpt-4o"))
+                .isNotEqualTo(SummaryCacheService.key(CONTENT_HASH, 1, 11, prompt, "gpt-4o"))
+                .isNotEqualTo(SummaryCacheService.key(CONTENT_HASH, 1, 10, prompt, "gpt-4o-mini"));
+    }
+
+    private static PdfSummaryRequest request(String prompt, boolean forceRefresh) {
+        return new PdfSummaryRequest(1L, prompt, null, null, forceRefresh);
+    }
+
+    private static SummaryResult row(String summary) {
+        return SummaryResult.builder()
+                .keyHash("key")
+                .pdfDocumentId(1L)
+                .contentHash(CONTENT_HASH)
+                .promptHash("prompt")
+                .model("gpt-4o")
+                .summary(summary)
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .build();
+    }
+}
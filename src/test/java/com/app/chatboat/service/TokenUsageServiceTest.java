@@ -0,0 +1,185 @@
+package com.app.chatboat.service;
+
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.entity.TokenUsage;
+import com.app.chatboat.repository.TokenUsageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 클라이언트별 토큰 사용량 / 예산 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("클라이언트별 토큰 사용량 / 예산 테스트")
+class TokenUsageServiceTest {
+
+    @Mock
+    private TokenUsageRepository tokenUsageRepository;
+
+    @AfterEach
+    void tearDown() {
+        ClientContext.clear();
+    }
+
+    @Test
+    @DisplayName("기록한 사용량은 저장 전에도 예산 판단에 반영")
+    void shouldCountUnflushedUsageAgainstBudget() {
+        // given
+        var service = service(1000L, Map.of());
+        when(tokenUsageRepository.sumTokens(any(LocalDate.class), eq("script"))).thenReturn(400L);
+        ClientContext.set("script");
+
+        // when
+        service.record("java", new LlmUsage(500, 0, 150));
+
+        // then
+        var status = service.checkBudget("script");
+        assertThat(status.usedTokens()).isEqualTo(1050);
+        assertThat(status.exceeded()).isTrue();
+        verify(tokenUsageRepository, never()).addUsage(any(), any(), any(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("저장 주기에 (클라이언트, 모드)별 누적분을 더하고, 행이 없으면 새로 생성")
+    void shouldFlushAggregatedUsagePerClientAndMode() {
+        // given
+        var service = service(0L, Map.of());
+        ClientContext.set("team-a");
+        service.record("java", new LlmUsage(100, 20, 10));
+        service.record("java", new LlmUsage(200, 0, 30));
+        when(tokenUsageRepository.addUsage(any(LocalDate.class), eq("team-a"), eq("java"), eq(300L), eq(40L), eq(2L), any()))
+                .thenReturn(0);
+
+        // when
+        service.flush();
+        service.flush();
+
+        // then - 두 번째 저장 주기에는 새로 더할 사용량이 없음
+        verify(tokenUsageRepository).save(argThat((TokenUsage row) ->
+                row.getClientId().equals("team-a") && row.getPromptTokens() == 300 && row.getRequests() == 2));
+        verify(tokenUsageRepository, times(1)).addUsage(any(), any(), any(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("저장 실패한 사용량은 유실되지 않고 다음 주기에 다시 저장")
+    void shouldRetainUsageWhenFlushFails() {
+        // given
+        var service = service(0L, Map.of());
+        ClientContext.set("team-a");
+        service.record("python", new LlmUsage(100, 0, 10));
+        when(tokenUsageRepository.addUsage(any(), any(), any(), anyLong(), anyLong(), anyLong(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+
+        // when
+        service.flush();
+        service.flush();
+
+        // then
+        verify(tokenUsageRepository, times(2))
+                .addUsage(any(LocalDate.class), eq("team-a"), eq("python"), eq(100L), eq(10L), eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("클라이언트별 예산이 기본 예산보다 우선하고, 0 이하면 제한 없음")
+    void shouldApplyClientSpecificBudget() {
+        // given
+        var service = service(0L, Map.of("batch-job", 500L));
+        when(tokenUsageRepository.sumTokens(any(LocalDate.class), eq("batch-job"))).thenReturn(600L);
+
+        // when & then
+        assertThat(service.checkBudget("batch-job").exceeded()).isTrue();
+        assertThat(service.checkBudget("web").exceeded()).isFalse();
+        verify(tokenUsageRepository, never()).sumTokens(any(), eq("web"));
+    }
+
+    @Test
+    @DisplayName("요청 밖(워커)에서 기록한 사용량은 system 클라이언트로 집계")
+    void shouldAttributeBackgroundUsageToSystem() {
+        // given
+        var service = service(0L, Map.of());
+        when(tokenUsageRepository.addUsage(any(), any(), any(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // when
+        service.record("pdf-summary", new LlmUsage(1000, 0, 200));
+        service.flush();
+
+        // then
+        verify(tokenUsageRepository).addUsage(any(LocalDate.class), eq(ClientContext.SYSTEM), eq("pdf-summary"),
+                eq(1000L), eq(200L), eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("등록된 API 키만 클라이언트로 식별하고, 없거나 등록되지 않은 키는 식별하지 않음 (anonymous로 집계)")
+    void shouldIdentifyClientsOnlyByIssuedApiKeys() {
+        // given
+        var properties = properties(0L, Map.of(), 1000);
+
+        // when & then
+        assertThat(properties.clientIdFor("key-team-a")).isEqualTo("team-a");
+        assertThat(properties.clientIdFor(" key-team-a ")).isEqualTo("team-a");
+        assertThat(properties.clientIdFor("team-a")).isNull();
+        assertThat(properties.clientIdFor("random-" + System.nanoTime())).isNull();
+        assertThat(properties.clientIdFor(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("오늘 사용량은 관리 클라이언트만 전체를 조회하고, 그 외에는 자기 사용량만 조회")
+    void shouldScopeTodayUsageToRequestingClient() {
+        // given
+        var service = new TokenUsageService(tokenUsageRepository, properties(0L, Map.of(), 1000), new SimpleMeterRegistry());
+
+        // when
+        service.getTodayUsage("team-a");
+        service.getTodayUsage("ops");
+
+        // then
+        verify(tokenUsageRepository).findByUsageDateAndClientIdOrderByScopeAsc(any(LocalDate.class), eq("team-a"));
+        verify(tokenUsageRepository).findByUsageDateOrderByClientIdAscScopeAsc(any(LocalDate.class));
+        verify(tokenUsageRepository, never()).findByUsageDateAndClientIdOrderByScopeAsc(any(), eq("ops"));
+    }
+
+    @Test
+    @DisplayName("예산 상태는 max-tracked-clients개까지만 보관하고, 넘으면 저장 대기 사용량이 없는 항목부터 비움")
+    void shouldCapTrackedClientSpends() {
+        // given
+        var service = new TokenUsageService(tokenUsageRepository, properties(1000L, Map.of(), 1), new SimpleMeterRegistry());
+
+        // when
+        service.checkBudget("team-a");
+        service.checkBudget("team-b");
+        service.checkBudget("team-a");
+
+        // then - team-b를 보관하려고 team-a를 비웠으므로 다시 DB 합계를 읽음
+        verify(tokenUsageRepository, times(2)).sumTokens(any(LocalDate.class), eq("team-a"));
+    }
+
+    private TokenUsageService service(long dailyBudget, Map<String, Long> clientBudgets) {
+        return new TokenUsageService(tokenUsageRepository, properties(dailyBudget, clientBudgets, 1000), new SimpleMeterRegistry());
+    }
+
+    private static UsageProperties properties(long dailyBudget, Map<String, Long> clientBudgets, int maxTrackedClients) {
+        return new UsageProperties(true, null, Map.of("team-a", "key-team-a", "ops", "key-ops"), dailyBudget, clientBudgets,
+                List.of("ops"), maxTrackedClients, null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.app.chatboat.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * span 파일 내보내기 테스트
+ */
+@DisplayName("span 파일 내보내기 테스트")
+class FileSpanExporterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("완료된 span을 부모 관계와 속성을 포함해 한 줄씩 기록")
+    void shouldWriteSpansAsJsonLines() throws Exception {
+        // given
+        var file = tempDir.resolve("traces/spans.jsonl");
+        var tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(file)))
+                .build();
+        var tracer = tracerProvider.get("test");
+
+        // when
+        Span parent = tracer.spanBuilder("chat upstream").startSpan();
+        Span child = tracer.spanBuilder("openai chat.completions")
+                .setParent(Context.current().with(parent))
+                .setAttribute("llm.prompt_tokens", "1200")
+                .startSpan();
+        child.end();
+        parent.end();
+        tracerProvider.close();
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+
+        JsonNode childJson = MAPPER.readTree(lines.get(0));
+        JsonNode parentJson = MAPPER.readTree(lines.get(1));
+        assertThat(childJson.path("name").asText()).isEqualTo("openai chat.completions");
+        assertThat(childJson.path("traceId").asText()).isEqualTo(parentJson.path("traceId").asText());
+        assertThat(childJson.path("parentSpanId").asText()).isEqualTo(parentJson.path("spanId").asText());
+        assertThat(childJson.path("attributes").path("llm.prompt_tokens").asText()).isEqualTo("1200");
+        assertThat(parentJson.path("parentSpanId").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 번 내보내도 기존 내용 뒤에 추가")
+    void shouldAppendAcrossExports() throws Exception {
+        // given
+        var file = tempDir.resolve("spans.jsonl");
+        var tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(file)))
+                .build();
+        var tracer = tracerProvider.get("test");
+
+        // when
+        tracer.spanBuilder("pdf extract").startSpan().end();
+        tracer.spanBuilder("pdf normalize").startSpan().end();
+        tracerProvider.close();
+
+        // then
+        assertThat(Files.readAllLines(file))
+                .extracting(line -> MAPPER.readTree(line).path("name").asText())
+                .containsExactly("pdf extract", "pdf normalize");
+    }
+}
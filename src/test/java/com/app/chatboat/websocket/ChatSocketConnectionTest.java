@@ -0,0 +1,87 @@
+package com.app.chatboat.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 연결 송신 흐름 제어 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocket 연결 송신 흐름 제어 테스트")
+class ChatSocketConnectionTest {
+
+    @Mock
+    private WebSocketSession session;
+
+    @Test
+    @DisplayName("클라이언트가 프레임을 가져가지 않으면 송신 큐 크기까지만 쌓고, 전송 대기 시간이 지나면 연결 종료")
+    void shouldCloseSlowConsumerInsteadOfBufferingUnbounded() throws Exception {
+        // given - 첫 프레임 전송이 끝나지 않는 클라이언트
+        var stalled = new CountDownLatch(1);
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            stalled.await();
+            return null;
+        }).when(session).sendMessage(any(TextMessage.class));
+        var connection = new ChatSocketConnection(session, 2, Duration.ofMillis(100), 4);
+
+        // when
+        assertThat(connection.send("frame-1")).isTrue();
+        await().untilAsserted(() -> verify(session).sendMessage(any(TextMessage.class)));
+        boolean second = connection.send("frame-2");
+        boolean third = connection.send("frame-3");
+        long started = System.nanoTime();
+        boolean overflow = connection.send("frame-4");
+
+        // then
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        assertThat(overflow).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        verify(session).close(ChatSocketConnection.SLOW_CONSUMER);
+        assertThat(connection.send("frame-5")).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 교환 수 한도와 중복 id는 거절하고, 중단된 교환은 바로 정리")
+    void shouldLimitConcurrentExchanges() {
+        // given
+        var connection = new ChatSocketConnection(session, 8, Duration.ofSeconds(1), 1);
+        var running = new CountDownLatch(1);
+
+        // when
+        boolean first = connection.start("a", () -> {
+            try {
+                running.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        boolean duplicate = connection.start("a", () -> {});
+        boolean overLimit = connection.start("b", () -> {});
+        boolean cancelled = connection.cancel("a");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(overLimit).isFalse();
+        assertThat(cancelled).isTrue();
+        await().until(() -> connection.activeExchanges() == 0);
+        assertThat(connection.start("b", () -> {})).isTrue();
+    }
+}
@@ -0,0 +1,173 @@
+package com.app.chatboat.websocket;
+
+import com.app.chatboat.config.AdmissionProperties;
+import com.app.chatboat.config.ChatSocketProperties;
+import com.app.chatboat.config.UsageProperties;
+import com.app.chatboat.dto.ChatRequest;
+import com.app.chatboat.dto.PdfChatRequest;
+import com.app.chatboat.entity.PdfDocument;
+import com.app.chatboat.repository.PdfDocumentInfo;
+import com.app.chatboat.repository.PdfDocumentRepository;
+import com.app.chatboat.service.AdmissionController;
+import com.app.chatboat.service.StreamingChatService;
+import com.app.chatboat.service.TokenUsageService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 채팅 핸들러 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("WebSocket 채팅 핸들러 테스트")
+class ChatSocketHandlerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mock
+    private StreamingChatService streamingChatService;
+
+    @Mock
+    private PdfDocumentRepository pdfDocumentRepository;
+
+    @Mock
+    private WebSocketSession session;
+
+    private final List<JsonNode> sent = Collections.synchronizedList(new ArrayList<>());
+
+    private ChatSocketHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler = new ChatSocketHandler(
+                streamingChatService,
+                new AdmissionController(new AdmissionProperties(false, null, null, null, null, null, null, null, null),
+                        new SimpleMeterRegistry()),
+                new TokenUsageService(null, new UsageProperties(false, null, null, null, null, null, null, null), new SimpleMeterRegistry()),
+                pdfDocumentRepository,
+                new ChatSocketProperties(true, null, null, 4, 64, Duration.ofSeconds(1), null, Duration.ofMillis(10), null),
+                MAPPER,
+                new SimpleMeterRegistry());
+        when(session.getId()).thenReturn("session-1");
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        doAnswer(invocation -> {
+            sent.add(MAPPER.readTree(invocation.<TextMessage>getArgument(0).getPayload()));
+            return null;
+        }).when(session).sendMessage(any(TextMessage.class));
+        handler.afterConnectionEstablished(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+
+    @Test
+    @DisplayName("한 연결에서 여러 채팅 교환을 동시에 진행하고 응답 조각을 교환 id로 구분")
+    void shouldMultiplexExchangesOnOneConnection() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            StreamingChatService.Listener listener = invocation.getArgument(1);
+            listener.onDelta("배송은 ");
+            listener.onDelta("3일 걸립니다.");
+            return null;
+        }).when(streamingChatService).streamMessage(any(ChatRequest.class), any());
+        doAnswer(invocation -> {
+            StreamingChatService.Listener listener = invocation.getArgument(1);
+            listener.onError("요청 시간이 초과되었습니다. 다시 시도해주세요.");
+            return null;
+        }).when(streamingChatService).streamMessageWithPdf(any(PdfChatRequest.class), any());
+
+        // when
+        handler.handleMessage(session, new TextMessage("""
+                {"type":"chat","id":"a","message":"배송 기간은?"}"""));
+        handler.handleMessage(session, new TextMessage("""
+                {"type":"chat","id":"b","message":"요약해줘","pdfId":7}"""));
+
+        // then
+        await().until(() -> frames("done").size() == 2);
+        assertThat(frames("token"))
+                .filteredOn(frame -> frame.path("id").asText().equals("a"))
+                .extracting(frame -> frame.path("text").asText())
+                .containsExactly("배송은 ", "3일 걸립니다.");
+        assertThat(frames("error")).singleElement()
+                .satisfies(frame -> assertThat(frame.path("id").asText()).isEqualTo("b"));
+    }
+
+    @Test
+    @DisplayName("PDF 처리 상태가 바뀔 때만 밀어주고 완료되면 구독 종료")
+    void shouldPushPdfStatusChanges() throws Exception {
+        // given
+        var processing = info(PdfDocument.ProcessingStatus.PROCESSING);
+        var completed = info(PdfDocument.ProcessingStatus.COMPLETED);
+        when(pdfDocumentRepository.findInfoById(7L))
+                .thenReturn(Optional.of(processing), Optional.of(processing), Optional.of(completed));
+
+        // when
+        handler.handleMessage(session, new TextMessage("""
+                {"type":"subscribe-pdf","pdfId":7}"""));
+
+        // then
+        await().until(() -> frames("done").size() == 1);
+        assertThat(frames("pdf-status"))
+                .extracting(frame -> frame.path("status").asText())
+                .containsExactly("PROCESSING", "COMPLETED");
+        assertThat(frames("done").getFirst().path("id").asText()).isEqualTo("pdf-7");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 프레임과 id 없는 채팅은 연결을 유지한 채 오류 프레임으로 응답")
+    void shouldRejectInvalidFrames() throws Exception {
+        // when
+        handler.handleMessage(session, new TextMessage("not-json"));
+        handler.handleMessage(session, new TextMessage("""
+                {"type":"chat","message":"안녕"}"""));
+        handler.handleMessage(session, new TextMessage("""
+                {"type":"ping"}"""));
+
+        // then
+        await().until(() -> sent.size() == 3);
+        assertThat(frames("error")).hasSize(2);
+        assertThat(frames("pong")).hasSize(1);
+    }
+
+    private List<JsonNode> frames(String type) {
+        synchronized (sent) {
+            return sent.stream().filter(frame -> frame.path("type").asText().equals(type)).toList();
+        }
+    }
+
+    private static PdfDocumentInfo info(PdfDocument.ProcessingStatus status) {
+        var info = mock(PdfDocumentInfo.class);
+        when(info.getStatus()).thenReturn(status);
+        return info;
+    }
+}